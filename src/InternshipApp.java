@@ -2,14 +2,12 @@ import view.*;
 import controller.*;
 import model.*;
 import constant.*;
-import utils.factory.UserFactory;
+import utils.csv.UserCsvHandler;
 import utils.formatter.ViewFormatter;
+import utils.metrics.MetricsJsonDumper;
+import utils.schedule.DeadlineScheduler;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Scanner;
 
 /**
@@ -28,6 +26,9 @@ public class InternshipApp {
     /** Scanner for user input */
     private Scanner sc;
     
+    /** Periodic metrics JSON writer (null unless -Dmetrics.file is set) */
+    private MetricsJsonDumper metricsDumper;
+    
     /**
      * Constructs a new InternshipApp instance.
      * Initializes the login view, scanner, and loads all data from CSV files.
@@ -41,6 +42,8 @@ public class InternshipApp {
         loadUsers();
         loadInternships();
         loadApplications();
+        startDeadlines();
+        this.metricsDumper = MetricsJsonDumper.startFromSystemProperties();
     }
     
     /**
@@ -50,9 +53,9 @@ public class InternshipApp {
      */
     private void loadUsers() {
         showLoadingDots("Loading users from CSV files");
-        int total = loadUserType("sample_file/sample_student_list.csv", UserType.STUDENT, 6, "Students") +
-                    loadUserType("sample_file/sample_staff_list.csv", UserType.STAFF, 6, "Staff") +
-                    loadUserType("sample_file/sample_company_representative_list.csv", UserType.COMPANY_REPRESENTATIVE, 8, "Company Representatives");
+        int total = loadUserType(DataFiles.students(), UserType.STUDENT, 6, "Students") +
+                    loadUserType(DataFiles.staff(), UserType.STAFF, 6, "Staff") +
+                    loadUserType(DataFiles.companyRepresentatives(), UserType.COMPANY_REPRESENTATIVE, 8, "Company Representatives");
         System.out.println("\n═══ " + total + " users loaded successfully ═══\n");
     }
     
@@ -67,14 +70,8 @@ public class InternshipApp {
      * @return Number of users successfully loaded and registered
      */
     private int loadUserType(String file, UserType type, int minCols, String label) {
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            reader.readLine();
-            int count = reader.lines()
-                .filter(line -> !line.trim().isEmpty())
-                .map(this::parseCSVLine)
-                .filter(cols -> cols.length >= minCols)
-                .mapToInt(cols -> UserRegistry.getInstance().register(UserFactory.fromCsv(type, cols)) ? 1 : 0)
-                .sum();
+        try {
+            int count = UserCsvHandler.getInstance().loadUsersFromCsv(file, type, minCols);
             System.out.println("✓ " + label + ": " + count + " loaded");
             return count;
         } catch (IOException e) {
@@ -125,7 +122,12 @@ public class InternshipApp {
                     case 1 -> handleLogin();
                     case 2 -> handleChangePassword();
                     case 3 -> handleRegistration();
-                    case 4 -> { printGoodbye(); return; }
+                    case 4 -> {
+                        if (metricsDumper != null) metricsDumper.stop();
+                        DeadlineScheduler.getInstance().close();
+                        printGoodbye();
+                        return;
+                    }
                     default -> printError("Invalid choice! Please select a number between 1-4.");
                 }
             } catch (Exception e) {
@@ -237,6 +239,19 @@ public class InternshipApp {
         );
     }
     
+    /**
+     * Registers internship open/close deadlines and starts the scheduler applying them.
+     * Unaccepted offers are also released after closing if {@code -Dplacement.offerExpiryDays} is set.
+     */
+    private void startDeadlines() {
+        Integer offerExpiryDays = Integer.getInteger("placement.offerExpiryDays");
+        if (offerExpiryDays != null) {
+            InternshipDeadlines.getInstance().enableOfferExpiry(new ApplicationController(), new InternshipController(), offerExpiryDays);
+        }
+        InternshipDeadlines.getInstance().trackAll();
+        DeadlineScheduler.getInstance().start();
+    }
+    
     /**
      * Loads all applications from CSV file.
      * Must be called after both users and internships are loaded (applications reference both).
@@ -269,27 +284,5 @@ public class InternshipApp {
             System.out.println("✗ Error loading " + dataLabel.toLowerCase() + ": " + e.getMessage());
         }
     }
-    
-    /**
-     * Parses a CSV line into an array of strings.
-     * Handles quoted fields containing commas correctly.
-     * 
-     * @param line The CSV line to parse
-     * @return Array of strings representing the fields in the CSV line
-     */
-    private String[] parseCSVLine(String line) {
-        List<String> cols = new ArrayList<>();
-        boolean inQuotes = false;
-        StringBuilder current = new StringBuilder();
-        for (char c : line.toCharArray()) {
-            if (c == '"') inQuotes = !inQuotes;
-            else if (c == ',' && !inQuotes) {
-                cols.add(current.toString().trim());
-                current = new StringBuilder();
-            } else current.append(c);
-        }
-        cols.add(current.toString().trim());
-        return cols.toArray(new String[0]);
-    }
 }
 
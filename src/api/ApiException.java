@@ -0,0 +1,35 @@
+package api;
+
+/**
+ * Request failure carrying the HTTP status to answer with.
+ * Business-rule violations from the controllers (IllegalArgumentException, IllegalStateException)
+ * are mapped to statuses by {@link ApiServer}; this is for failures detected by the API layer itself.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class ApiException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /** HTTP status code */
+    private final int status;
+
+    /**
+     * Creates an exception.
+     * @param status HTTP status code
+     * @param message message returned to the client
+     */
+    public ApiException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    /**
+     * Gets the HTTP status code.
+     * @return the status code
+     */
+    public int getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,293 @@
+package api;
+
+import com.sun.net.httpserver.HttpExchange;
+import model.User;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One API call: the authenticated user, the parsed path, query and body, and the response.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class ApiRequest {
+    /** Largest accepted request body */
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+
+    /**
+     * Writes a JSON response body.
+     */
+    @FunctionalInterface
+    public interface Body {
+        /**
+         * Writes the body.
+         * @param json destination
+         * @throws IOException if writing fails
+         */
+        void write(JsonWriter json) throws IOException;
+    }
+
+    /**
+     * Writes a raw response body.
+     */
+    @FunctionalInterface
+    public interface RawBody {
+        /**
+         * Writes the body.
+         * @param out destination; closed by the caller
+         * @throws IOException if writing fails
+         */
+        void write(OutputStream out) throws IOException;
+    }
+
+    private final HttpExchange exchange;
+    private final User user;
+    private final List<String> segments;
+    private final Map<String, String> query;
+    private Map<String, String> body;
+
+    /**
+     * Creates a request.
+     * @param exchange the HTTP exchange
+     * @param user the authenticated caller
+     * @param segments path segments after {@code /api}
+     */
+    ApiRequest(HttpExchange exchange, User user, List<String> segments) {
+        this.exchange = exchange;
+        this.user = user;
+        this.segments = segments;
+        this.query = parseQuery(exchange.getRequestURI().getRawQuery());
+    }
+
+    /**
+     * Gets the authenticated caller.
+     * @return the user
+     */
+    public User getUser() {
+        return user;
+    }
+
+    /**
+     * Gets the caller as a specific role.
+     * @param role the required user class
+     * @return the caller
+     * @throws ApiException 403 if the caller has a different role
+     */
+    public <T extends User> T requireRole(Class<T> role) {
+        if (!role.isInstance(user)) {
+            throw new ApiException(403, "This operation requires a " + role.getSimpleName() + " account.");
+        }
+        return role.cast(user);
+    }
+
+    /**
+     * Gets the HTTP method.
+     * @return the method, e.g. GET
+     */
+    public String getMethod() {
+        return exchange.getRequestMethod();
+    }
+
+    /**
+     * Gets the path segments after {@code /api}.
+     * @return the segments
+     */
+    public List<String> getSegments() {
+        return segments;
+    }
+
+    /**
+     * Parses a numeric path segment.
+     * @param index segment index
+     * @return the number
+     * @throws ApiException 404 if the segment is not a number
+     */
+    public int intSegment(int index) {
+        try {
+            return Integer.parseInt(segments.get(index));
+        } catch (NumberFormatException e) {
+            throw new ApiException(404, "Unknown resource: " + segments.get(index));
+        }
+    }
+
+    /**
+     * Gets a query parameter.
+     * @param name parameter name
+     * @return the decoded value, or null if absent or blank
+     */
+    public String query(String name) {
+        String value = query.get(name);
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
+    /**
+     * Gets a required body field.
+     * @param name field name
+     * @return the value
+     * @throws IOException if the body cannot be read
+     * @throws ApiException 400 if the field is missing
+     */
+    public String bodyField(String name) throws IOException {
+        String value = body().get(name);
+        if (value == null) throw new ApiException(400, "Missing field: " + name);
+        return value;
+    }
+
+    /**
+     * Gets an optional body field.
+     * @param name field name
+     * @return the value, or null if absent
+     * @throws IOException if the body cannot be read
+     */
+    public String optionalBodyField(String name) throws IOException {
+        return body().get(name);
+    }
+
+    /**
+     * Gets a required numeric body field.
+     * @param name field name
+     * @return the value
+     * @throws IOException if the body cannot be read
+     * @throws ApiException 400 if the field is missing or not an integer
+     */
+    public int intBodyField(String name) throws IOException {
+        try {
+            return Integer.parseInt(bodyField(name));
+        } catch (NumberFormatException e) {
+            throw new ApiException(400, "Field " + name + " must be an integer.");
+        }
+    }
+
+    /**
+     * Gets a required boolean body field.
+     * @param name field name
+     * @return the value
+     * @throws IOException if the body cannot be read
+     * @throws ApiException 400 if the field is missing or not a boolean
+     */
+    public boolean booleanBodyField(String name) throws IOException {
+        String value = bodyField(name);
+        if (!value.equals("true") && !value.equals("false")) {
+            throw new ApiException(400, "Field " + name + " must be true or false.");
+        }
+        return Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Tags the response with a content version and answers 304 Not Modified if the client
+     * already holds that version ({@code If-None-Match}). Clients are asked to revalidate on every use.
+     * @param etag the entity tag of the current content
+     * @return true if a 304 was sent and the caller must not send a body
+     * @throws IOException if the response cannot be written
+     */
+    public boolean notModified(String etag) throws IOException {
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.getResponseHeaders().set("Cache-Control", "private, no-cache");
+        String match = exchange.getRequestHeaders().getFirst("If-None-Match");
+        if (match == null) return false;
+        for (String candidate : match.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || weak(tag).equals(weak(etag))) {
+                exchange.sendResponseHeaders(304, -1);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Strips the weak marker so tags compare with the weak comparison function.
+     */
+    private static String weak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    /**
+     * Sends a JSON response, streamed with chunked transfer encoding.
+     * @param status HTTP status code
+     * @param body writes the JSON body
+     * @throws IOException if the response cannot be written
+     */
+    public void send(int status, Body body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, 0);
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8))) {
+            JsonWriter json = new JsonWriter(out);
+            body.write(json);
+        }
+    }
+
+    /**
+     * Sends a non-JSON response, streamed with chunked transfer encoding.
+     * @param status HTTP status code
+     * @param contentType value of the Content-Type header
+     * @param contentEncoding value of the Content-Encoding header, or null to omit it
+     * @param body writes the body
+     * @throws IOException if the response cannot be written
+     */
+    public void sendStream(int status, String contentType, String contentEncoding, RawBody body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        if (contentEncoding != null) exchange.getResponseHeaders().set("Content-Encoding", contentEncoding);
+        exchange.sendResponseHeaders(status, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            body.write(out);
+        }
+    }
+
+    /**
+     * Reads and parses the body once.
+     */
+    private Map<String, String> body() throws IOException {
+        if (body == null) {
+            try (InputStream in = exchange.getRequestBody()) {
+                byte[] bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+                if (bytes.length > MAX_BODY_BYTES) throw new ApiException(413, "Request body too large.");
+                body = JsonBody.parse(new String(bytes, StandardCharsets.UTF_8));
+            }
+        }
+        return body;
+    }
+
+    /**
+     * Splits a request path into segments.
+     * @param path the path, e.g. {@code /api/applications/5/accept}
+     * @param prefix leading part to drop, e.g. {@code /api}
+     * @return the remaining non-empty segments
+     */
+    static List<String> segments(String path, String prefix) {
+        List<String> parts = new ArrayList<>();
+        for (String part : path.substring(Math.min(prefix.length(), path.length())).split("/")) {
+            if (!part.isEmpty()) parts.add(part);
+        }
+        return Collections.unmodifiableList(parts);
+    }
+
+    /**
+     * Decodes a raw query string.
+     */
+    private static Map<String, String> parseQuery(String raw) {
+        Map<String, String> params = new HashMap<>();
+        if (raw == null || raw.isEmpty()) return params;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            params.put(name, value);
+        }
+        return params;
+    }
+}
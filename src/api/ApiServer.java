@@ -0,0 +1,282 @@
+package api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import constant.DataFiles;
+import constant.UserType;
+import controller.ApplicationController;
+import controller.ApplicationIngestion;
+import controller.InternshipController;
+import controller.InternshipDeadlines;
+import controller.LoginController;
+import controller.interfaces.ApplicationControllerInterface;
+import controller.interfaces.InternshipControllerInterface;
+import controller.interfaces.LoginControllerInterface;
+import model.Staff;
+import model.User;
+import model.UserRegistry;
+import utils.csv.UserCsvHandler;
+import utils.metrics.MetricsRegistry;
+import utils.schedule.DeadlineScheduler;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Embedded HTTP/JSON API over the controller interfaces.
+ *
+ * <p>Every call authenticates with HTTP Basic credentials (user ID and password) through
+ * {@link LoginControllerInterface#verifyCredentials(String, String)}, which neither logs the user
+ * in nor records a login, and the caller's role decides
+ * what each endpoint returns or allows, exactly as in the console views. Routes:
+ * <ul>
+ *   <li>{@code /api/internships...} - see {@link InternshipResource}</li>
+ *   <li>{@code /api/applications...} - see {@link ApplicationResource}</li>
+ *   <li>{@code /api/notifications} - see {@link NotificationResource}</li>
+ *   <li>{@code /api/export/...} - see {@link ExportResource}</li>
+ *   <li>{@code GET /api/metrics} - the metrics registry as JSON (staff only)</li>
+ * </ul>
+ *
+ * <p>Errors are returned as {@code {"error": "..."}}: 400 for invalid input
+ * (IllegalArgumentException), 409 for conflicting state (IllegalStateException),
+ * the status of an {@link ApiException}, and 500 for anything else.
+ *
+ * <p>Requests run on a fixed pool of handler threads. Handlers block on CSV I/O and entity
+ * locks, so the pool is sized well above the processor count (default 16 per processor).
+ *
+ * <p>Usage: {@code java -Dapi.port=8080 -cp bin api.ApiServer}
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class ApiServer {
+    /** Registry receiving request metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    /** Context path of every endpoint */
+    private static final String PREFIX = "/api";
+    /** Routes and methods that get their own timer; anything else, authenticated or not, shares one */
+    private static final Set<String> ROUTES = Set.of("internships", "applications", "notifications", "export", "metrics");
+    private static final Set<String> METHODS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE");
+
+    private final InetSocketAddress address;
+    private final int threads;
+    private final LoginControllerInterface login;
+    private final InternshipResource internshipResource;
+    private final ApplicationResource applicationResource;
+    private final NotificationResource notificationResource = new NotificationResource();
+    private final ExportResource exportResource = new ExportResource();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Creates a server. Call {@link #start()} to begin accepting requests.
+     * @param address address to bind; port 0 picks a free port
+     * @param threads number of request handler threads
+     * @param login controller authenticating callers
+     * @param internships controller serving internship data
+     * @param applications controller performing application operations
+     * @param ingestion pipeline for application submissions, or null to submit through the controller directly
+     */
+    public ApiServer(InetSocketAddress address, int threads, LoginControllerInterface login,
+                     InternshipControllerInterface internships, ApplicationControllerInterface applications,
+                     ApplicationIngestion ingestion) {
+        if (threads <= 0) throw new IllegalArgumentException("Thread count must be positive.");
+        this.address = address;
+        this.threads = threads;
+        this.login = login;
+        this.internshipResource = new InternshipResource(internships);
+        this.applicationResource = new ApplicationResource(applications, internships, ingestion);
+    }
+
+    /**
+     * Binds the port and starts serving.
+     * Also starts the {@link DeadlineScheduler}, which moves listing ETags when internships open or close.
+     * @throws IOException if the port cannot be bound
+     * @throws IllegalStateException if the server is already running
+     */
+    public synchronized void start() throws IOException {
+        if (server != null) throw new IllegalStateException("Server is already running.");
+        AtomicInteger count = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "api-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        server = HttpServer.create(address, 1024);
+        server.createContext(PREFIX, this::handle);
+        server.setExecutor(executor);
+        server.start();
+        DeadlineScheduler.getInstance().start();
+    }
+
+    /**
+     * Stops accepting requests, waits briefly for requests in progress, and releases the port.
+     */
+    public synchronized void stop() {
+        if (server == null) return;
+        server.stop(1);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+        executor = null;
+    }
+
+    /**
+     * Gets the bound port.
+     * @return the port
+     * @throws IllegalStateException if the server is not running
+     */
+    public synchronized int getPort() {
+        if (server == null) throw new IllegalStateException("Server is not running.");
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Authenticates, routes and answers one exchange.
+     */
+    private void handle(HttpExchange exchange) {
+        List<String> segments = ApiRequest.segments(exchange.getRequestURI().getPath(), PREFIX);
+        String route = segments.isEmpty() ? "root" : segments.get(0);
+        // Metric names come from fixed sets, so unauthenticated callers cannot create new ones
+        String timer = "ApiServer." + (METHODS.contains(exchange.getRequestMethod()) ? exchange.getRequestMethod() : "OTHER")
+                + "." + (ROUTES.contains(route) ? route : "unknown");
+        metrics.counter("ApiServer.requests").increment();
+        try {
+            metrics.time(timer, () -> {
+                try {
+                    ApiRequest request = new ApiRequest(exchange, authenticate(exchange), segments);
+                    switch (route) {
+                        case "internships":
+                            internshipResource.handle(request);
+                            break;
+                        case "applications":
+                            applicationResource.handle(request);
+                            break;
+                        case "notifications":
+                            notificationResource.handle(request);
+                            break;
+                        case "export":
+                            exportResource.handle(request);
+                            break;
+                        case "metrics":
+                            if (segments.size() != 1 || !request.getMethod().equals("GET")) {
+                                throw new ApiException(404, "Unknown resource.");
+                            }
+                            request.requireRole(Staff.class);
+                            String json = metrics.toJson();
+                            request.send(200, out -> out.rawValue(json));
+                            break;
+                        default:
+                            throw new ApiException(404, "Unknown resource.");
+                    }
+                } catch (ApiException e) {
+                    fail(exchange, e.getStatus(), e.getMessage());
+                } catch (IllegalArgumentException e) {
+                    fail(exchange, 400, e.getMessage());
+                } catch (IllegalStateException e) {
+                    fail(exchange, 409, e.getMessage());
+                } catch (Exception e) {
+                    fail(exchange, 500, "Internal error: " + e.getClass().getSimpleName());
+                }
+            });
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Resolves the caller from the Basic authorization header.
+     * Rejected credentials get one generic message, whatever the reason.
+     * @throws ApiException 401 if the header is missing or the credentials are rejected
+     */
+    private User authenticate(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header == null || !header.regionMatches(true, 0, "Basic ", 0, 6)) {
+            throw new ApiException(401, "Authentication required.");
+        }
+        String credentials;
+        try {
+            credentials = new String(Base64.getDecoder().decode(header.substring(6).trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(401, "Malformed credentials.");
+        }
+        int colon = credentials.indexOf(':');
+        if (colon < 0) throw new ApiException(401, "Malformed credentials.");
+        try {
+            return login.verifyCredentials(credentials.substring(0, colon), credentials.substring(colon + 1));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(401, "Invalid credentials.");
+        }
+    }
+
+    /**
+     * Sends an error body, unless the response has already started.
+     */
+    private static void fail(HttpExchange exchange, int status, String message) {
+        metrics.counter("ApiServer.status." + status).increment();
+        if (exchange.getResponseCode() != -1) return;
+        try {
+            if (status == 401) exchange.getResponseHeaders().set("WWW-Authenticate", "Basic realm=\"internships\"");
+            StringWriter text = new StringWriter();
+            new JsonWriter(text).beginObject().name("error").value(message).endObject().flush();
+            byte[] body = text.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (IOException ignored) {
+            // Client went away
+        }
+    }
+
+    /**
+     * Loads the data files and serves the API until the process is stopped.
+     * Configuration (system properties): {@code api.port} (default 8080),
+     * {@code api.threads} (default 16 per processor), {@code api.ingestion} (default false),
+     * {@code placement.offerExpiryDays} (release unaccepted offers that many days after closing; default off).
+     *
+     * @param args ignored
+     * @throws IOException if the data cannot be loaded or the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = Integer.getInteger("api.port", 8080);
+        int threads = Integer.getInteger("api.threads", Runtime.getRuntime().availableProcessors() * 16);
+
+        UserCsvHandler users = UserCsvHandler.getInstance();
+        users.loadUsersFromCsv(DataFiles.students(), UserType.STUDENT, 6);
+        users.loadUsersFromCsv(DataFiles.staff(), UserType.STAFF, 6);
+        users.loadUsersFromCsv(DataFiles.companyRepresentatives(), UserType.COMPANY_REPRESENTATIVE, 8);
+        InternshipController internships = new InternshipController();
+        ApplicationController applications = new ApplicationController();
+        Integer offerExpiryDays = Integer.getInteger("placement.offerExpiryDays");
+        if (offerExpiryDays != null) {
+            InternshipDeadlines.getInstance().enableOfferExpiry(applications, internships, offerExpiryDays);
+        }
+        applications.loadApplicationsFromCsv(internships);
+        ApplicationIngestion ingestion = Boolean.getBoolean("api.ingestion") ? new ApplicationIngestion(applications) : null;
+
+        ApiServer server = new ApiServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), threads,
+                new LoginController(UserRegistry.getInstance()), internships, applications, ingestion);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            if (ingestion != null) ingestion.close();
+        }));
+        System.out.println("API listening on http://localhost:" + server.getPort() + PREFIX
+                + " with " + threads + " handler threads");
+    }
+}
@@ -0,0 +1,236 @@
+package api;
+
+import controller.ApplicationIngestion;
+import controller.interfaces.ApplicationControllerInterface;
+import controller.interfaces.InternshipControllerInterface;
+import model.Application;
+import model.CompanyRepresentative;
+import model.ModificationClock;
+import model.Staff;
+import model.Student;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Application endpoints.
+ * <ul>
+ *   <li>{@code GET /api/applications} - a student's own applications; a representative's applications
+ *       for {@code ?internshipId=}; the withdrawal requests for staff</li>
+ *   <li>{@code POST /api/applications} - student applies, body {@code {"internshipId": 100001}}</li>
+ *   <li>{@code POST /api/applications/{id}/{action}} - status transitions:
+ *       {@code accept}, {@code reject-placement}, {@code withdraw} (student, optional {@code reason});
+ *       {@code confirm}, {@code reject} (representative owning the internship);
+ *       {@code approve-withdrawal}, {@code reject-withdrawal} (staff)</li>
+ * </ul>
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class ApplicationResource {
+    /** Controller performing application operations */
+    private final ApplicationControllerInterface applications;
+    /** Controller serving internship data */
+    private final InternshipControllerInterface internships;
+    /** Pipeline for submissions, or null to submit through the controller directly */
+    private final ApplicationIngestion ingestion;
+
+    /**
+     * Creates the resource.
+     * @param applications controller performing application operations
+     * @param internships controller serving internship data
+     * @param ingestion pipeline for submissions, or null to submit through the controller directly
+     */
+    public ApplicationResource(ApplicationControllerInterface applications, InternshipControllerInterface internships,
+                               ApplicationIngestion ingestion) {
+        this.applications = applications;
+        this.internships = internships;
+        this.ingestion = ingestion;
+    }
+
+    /**
+     * Routes a request under {@code /api/applications}.
+     * @param request the request
+     * @throws IOException if the response cannot be written
+     */
+    public void handle(ApiRequest request) throws IOException {
+        List<String> path = request.getSegments();
+        String method = request.getMethod();
+        if (path.size() == 1 && method.equals("GET")) {
+            list(request);
+        } else if (path.size() == 1 && method.equals("POST")) {
+            Application app = submit(request.requireRole(Student.class), request.intBodyField("internshipId"));
+            request.send(201, json -> write(json, app));
+        } else if (path.size() == 3 && method.equals("POST")) {
+            Application app = transition(request, request.intSegment(1), path.get(2));
+            request.send(200, json -> write(json, app));
+        } else {
+            throw new ApiException(404, "Unknown resource.");
+        }
+    }
+
+    /**
+     * Streams the applications the caller may see.
+     * The list is tagged with the application, internship and user partition versions,
+     * and answered with 304 if the client's copy is current.
+     */
+    private void list(ApiRequest request) throws IOException {
+        List<Application> result;
+        if (request.getUser() instanceof Student) {
+            result = applications.getApplicationsForStudent((Student) request.getUser());
+        } else if (request.getUser() instanceof CompanyRepresentative) {
+            String internshipId = request.query("internshipId");
+            if (internshipId == null) throw new ApiException(400, "Query parameter internshipId is required.");
+            int id = parseId(internshipId);
+            requireOwner((CompanyRepresentative) request.getUser(), id);
+            result = applications.getApplicationsForInternship(id, internships);
+        } else {
+            result = applications.getWithdrawalRequests();
+        }
+        // The controller has just reloaded, so the partition versions cover any change on disk
+        String etag = "W/\"" + ModificationClock.version(ModificationClock.Partition.APPLICATIONS)
+                + "-" + ModificationClock.version(ModificationClock.Partition.INTERNSHIPS)
+                + "-" + ModificationClock.version(ModificationClock.Partition.USERS) + "\"";
+        if (request.notModified(etag)) return;
+        request.send(200, json -> {
+            json.beginObject().name("count").value(result.size()).name("applications").beginArray();
+            for (Application app : result) {
+                write(json, app);
+            }
+            json.endArray().endObject();
+        });
+    }
+
+    /**
+     * Submits an application through the pipeline when one is configured.
+     */
+    private Application submit(Student student, int internshipId) {
+        requireInternship(internshipId);
+        if (ingestion == null) {
+            return applications.createApplication(internshipId, student, internships);
+        }
+        try {
+            return ingestion.submit(internshipId, student).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(503, "Interrupted while waiting for the submission.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Applies a named status transition for the caller's role.
+     * @return the application after the transition
+     */
+    private Application transition(ApiRequest request, int applicationId, String action) throws IOException {
+        switch (action) {
+            case "accept":
+            case "reject-placement":
+            case "withdraw": {
+                Student student = request.requireRole(Student.class);
+                ownApplication(student, applicationId);
+                if (action.equals("accept")) applications.acceptApplication(applicationId, student);
+                else if (action.equals("withdraw")) applications.withdrawApplication(applicationId, student, request.optionalBodyField("reason"));
+                else applications.rejectPlacement(applicationId, student);
+                return ownApplication(student, applicationId);
+            }
+            case "confirm":
+            case "reject": {
+                CompanyRepresentative rep = request.requireRole(CompanyRepresentative.class);
+                int internshipId = anyApplication(applicationId).getInternship().getID();
+                requireOwner(rep, internshipId);
+                if (action.equals("confirm")) applications.confirmPlacement(internshipId, applicationId, internships);
+                else applications.rejectApplication(internshipId, applicationId, internships);
+                return anyApplication(applicationId);
+            }
+            case "approve-withdrawal":
+            case "reject-withdrawal":
+                request.requireRole(Staff.class);
+                anyApplication(applicationId);
+                if (action.equals("approve-withdrawal")) applications.approveWithdrawal(applicationId);
+                else applications.rejectWithdrawal(applicationId);
+                return anyApplication(applicationId);
+            default:
+                throw new ApiException(404, "Unknown action: " + action);
+        }
+    }
+
+    /**
+     * Finds one of a student's applications.
+     * @throws ApiException 404 if the student has no such application
+     */
+    private Application ownApplication(Student student, int applicationId) {
+        try {
+            return applications.findApplicationByID(applicationId, student);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(404, e.getMessage());
+        }
+    }
+
+    /**
+     * Finds any application.
+     * @throws ApiException 404 if it does not exist
+     */
+    private Application anyApplication(int applicationId) {
+        try {
+            return applications.findApplicationByID(applicationId);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(404, e.getMessage());
+        }
+    }
+
+    /**
+     * Checks that an internship exists.
+     * @throws ApiException 404 if it does not
+     */
+    private void requireInternship(int internshipId) {
+        try {
+            internships.findInternship(internshipId);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(404, e.getMessage());
+        }
+    }
+
+    /**
+     * Checks that a representative owns an internship.
+     * @throws ApiException 404 if it does not exist, 403 if owned by someone else
+     */
+    private void requireOwner(CompanyRepresentative rep, int internshipId) {
+        requireInternship(internshipId);
+        if (!internships.isInternshipOwnedBy(internshipId, rep)) {
+            throw new ApiException(403, "You can only manage applications for your own internships.");
+        }
+    }
+
+    private static int parseId(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ApiException(400, "Invalid ID: " + value);
+        }
+    }
+
+    /**
+     * Writes one application as a JSON object.
+     * @param json destination
+     * @param app the application
+     * @throws IOException if writing fails
+     */
+    static void write(JsonWriter json, Application app) throws IOException {
+        json.beginObject()
+                .name("id").value(app.getId())
+                .name("internshipId").value(app.getInternship().getID())
+                .name("internshipTitle").value(app.getInternship().getTitle())
+                .name("company").value(app.getInternship().getCompanyName())
+                .name("studentId").value(app.getApplicant().getUserID())
+                .name("studentName").value(app.getApplicant().getName())
+                .name("dateApplied").value(app.getDateApplied())
+                .name("status").value(app.getStatus())
+                .name("withdrawalReason").value(app.getWithdrawalReason())
+                .endObject();
+    }
+}
@@ -0,0 +1,60 @@
+package api;
+
+import model.Staff;
+import utils.export.StreamingExporter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Bulk export endpoint (staff only).
+ * <ul>
+ *   <li>{@code GET /api/export/applications} and {@code GET /api/export/internships} - every row of
+ *       the data file as {@code format=csv} (default) or {@code format=jsonl}, narrowed by
+ *       {@code status} (comma-separated), {@code from} and {@code to} (YYYY-MM-DD), and compressed
+ *       with {@code gzip=true}. Rows are streamed as they are read, so the response can be any size.</li>
+ * </ul>
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class ExportResource {
+
+    /**
+     * Routes a request under {@code /api/export}.
+     * @param request the request
+     * @throws IOException if the data cannot be read or the response cannot be written
+     */
+    public void handle(ApiRequest request) throws IOException {
+        if (request.getSegments().size() != 2 || !request.getMethod().equals("GET")) {
+            throw new ApiException(404, "Unknown resource.");
+        }
+        request.requireRole(Staff.class);
+        StreamingExporter.Entity entity;
+        try {
+            entity = StreamingExporter.Entity.parse(request.getSegments().get(1));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(404, "Unknown resource: " + request.getSegments().get(1));
+        }
+        StreamingExporter.Format format = request.query("format") == null
+                ? StreamingExporter.Format.CSV : StreamingExporter.Format.parse(request.query("format"));
+        boolean gzip = "true".equalsIgnoreCase(request.query("gzip"));
+
+        // Validate every parameter before the status line is sent
+        StreamingExporter exporter = new StreamingExporter(entity, format);
+        exporter.setStatuses(request.query("status"));
+        try {
+            if (request.query("from") != null) exporter.setFrom(LocalDate.parse(request.query("from")));
+            if (request.query("to") != null) exporter.setTo(LocalDate.parse(request.query("to")));
+        } catch (DateTimeParseException e) {
+            throw new ApiException(400, "Dates must be in YYYY-MM-DD format.");
+        }
+        exporter.setGzip(gzip);
+
+        String contentType = format == StreamingExporter.Format.CSV
+                ? "text/csv; charset=utf-8" : "application/x-ndjson; charset=utf-8";
+        request.sendStream(200, contentType, gzip ? "gzip" : null, exporter::export);
+    }
+}
@@ -0,0 +1,220 @@
+package api;
+
+import controller.interfaces.InternshipControllerInterface;
+import model.CompanyRepresentative;
+import model.Internship;
+import model.ModificationClock;
+import model.Staff;
+import model.Student;
+import model.User;
+import utils.cache.ResultCache;
+import utils.filter.FilterSettings;
+import utils.filter.InternshipBitmapIndex;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Internship endpoints.
+ * <ul>
+ *   <li>{@code GET /api/internships} - internships the caller may see, filtered by the
+ *       {@link FilterSettings} query parameters {@code status}, {@code major}, {@code level},
+ *       {@code company}, {@code keyword}, {@code openingDate}, {@code closingDate} and {@code sort}</li>
+ *   <li>{@code GET /api/internships/facets} - staff: for each status, major, level, company and
+ *       visibility option, the number of internships matching it and the other filters</li>
+ *   <li>{@code GET /api/internships/{id}} - one internship</li>
+ *   <li>{@code POST /api/internships/{id}/approval} - staff approve or reject, body {@code {"approved": true}}</li>
+ * </ul>
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class InternshipResource {
+    /** Query parameters that map to {@link FilterSettings} */
+    private static final String[] FILTER_PARAMETERS =
+            {"status", "major", "level", "company", "keyword", "openingDate", "closingDate", "sort"};
+
+    /** Controller serving internship data */
+    private final InternshipControllerInterface internships;
+
+    /**
+     * Creates the resource.
+     * @param internships controller serving internship data
+     */
+    public InternshipResource(InternshipControllerInterface internships) {
+        this.internships = internships;
+    }
+
+    /**
+     * Routes a request under {@code /api/internships}.
+     * @param request the request
+     * @throws IOException if the response cannot be written
+     */
+    public void handle(ApiRequest request) throws IOException {
+        List<String> path = request.getSegments();
+        String method = request.getMethod();
+        if (path.size() == 1 && method.equals("GET")) {
+            list(request);
+        } else if (path.size() == 2 && path.get(1).equals("facets") && method.equals("GET")) {
+            request.requireRole(Staff.class);
+            facets(request);
+        } else if (path.size() == 2 && method.equals("GET")) {
+            Internship internship = find(request.intSegment(1));
+            checkReadable(request, internship);
+            request.send(200, json -> write(json, internship));
+        } else if (path.size() == 3 && path.get(2).equals("approval") && method.equals("POST")) {
+            request.requireRole(Staff.class);
+            int id = request.intSegment(1);
+            boolean approved = request.booleanBodyField("approved");
+            find(id);
+            internships.updateInternshipApproval(id, approved);
+            Internship internship = find(id);
+            request.send(200, json -> write(json, internship));
+        } else {
+            throw new ApiException(404, "Unknown resource.");
+        }
+    }
+
+    /**
+     * Streams the internships visible to the caller.
+     * The listing is tagged with the internship partition version, which also moves when an open/close
+     * window passes (see {@link controller.InternshipDeadlines}), and the caller's profile version
+     * (students' eligibility depends on it). An unchanged listing
+     * is answered with 304 without filtering; otherwise the filtered result is shared through the
+     * {@link ResultCache} by every request with the same user, filters and version.
+     */
+    private void list(ApiRequest request) throws IOException {
+        FilterSettings settings = filterSettings(request);
+        User user = request.getUser();
+        String version = ModificationClock.version(ModificationClock.Partition.INTERNSHIPS)
+                + "-" + user.getVersion();
+        if (request.notModified("W/\"" + version + "\"")) return;
+        String key = user.getUserID() + "|internships|" + filterKey(request);
+        List<Internship> result = ResultCache.getInstance().getOrCompute(key, version, () -> {
+            if (user instanceof Student) {
+                return internships.getVisibleInternshipsForStudent((Student) user, settings);
+            } else if (user instanceof CompanyRepresentative) {
+                return internships.getInternshipsByCreator((CompanyRepresentative) user, settings);
+            }
+            return internships.getAllInternships(settings);
+        });
+        request.send(200, json -> {
+            json.beginObject().name("count").value(result.size()).name("internships").beginArray();
+            for (Internship internship : result) {
+                write(json, internship);
+            }
+            json.endArray().endObject();
+        });
+    }
+
+    /**
+     * Sends the option counts of every facet from the {@link InternshipBitmapIndex}, tagged like the listing.
+     */
+    private void facets(ApiRequest request) throws IOException {
+        FilterSettings settings = filterSettings(request);
+        if (request.notModified("W/\"" + ModificationClock.version(ModificationClock.Partition.INTERNSHIPS) + "\"")) return;
+        Map<InternshipBitmapIndex.Facet, Map<String, Integer>> counts =
+                InternshipBitmapIndex.current().facetCounts(settings);
+        request.send(200, json -> {
+            json.beginObject();
+            for (Map.Entry<InternshipBitmapIndex.Facet, Map<String, Integer>> facet : counts.entrySet()) {
+                json.name(facet.getKey().name().toLowerCase()).beginObject();
+                for (Map.Entry<String, Integer> option : facet.getValue().entrySet()) {
+                    json.name(option.getKey()).value(option.getValue());
+                }
+                json.endObject();
+            }
+            json.endObject();
+        });
+    }
+
+    /**
+     * Builds the cache key part identifying a listing's filter settings.
+     */
+    private static String filterKey(ApiRequest request) {
+        StringBuilder key = new StringBuilder();
+        for (String name : FILTER_PARAMETERS) {
+            String value = request.query(name);
+            key.append(value == null ? "" : value).append('\u0000');
+        }
+        return key.toString();
+    }
+
+    /**
+     * Builds filter settings from the query parameters.
+     * @throws ApiException 400 if a parameter is invalid
+     */
+    static FilterSettings filterSettings(ApiRequest request) {
+        FilterSettings settings = new FilterSettings();
+        try {
+            if (request.query("status") != null) settings.setStatusFilterStr(request.query("status").toUpperCase());
+            if (request.query("major") != null) settings.setMajorFilter(request.query("major"));
+            if (request.query("level") != null) settings.setLevelFilter(request.query("level").toUpperCase());
+            if (request.query("company") != null) settings.setCompanyFilter(request.query("company"));
+            if (request.query("keyword") != null) settings.setKeywordFilter(request.query("keyword"));
+            if (request.query("openingDate") != null) settings.setOpeningDateFilter(LocalDate.parse(request.query("openingDate")));
+            if (request.query("closingDate") != null) settings.setClosingDateFilter(LocalDate.parse(request.query("closingDate")));
+            if (request.query("sort") != null) settings.setSortOrder(request.query("sort").toUpperCase());
+        } catch (DateTimeParseException e) {
+            throw new ApiException(400, "Dates must be in YYYY-MM-DD format.");
+        }
+        return settings;
+    }
+
+    /**
+     * Finds an internship.
+     * @throws ApiException 404 if it does not exist
+     */
+    private Internship find(int id) {
+        try {
+            return internships.findInternship(id);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(404, e.getMessage());
+        }
+    }
+
+    /**
+     * Applies the same visibility rules as the console views.
+     * @throws ApiException 404 if the caller may not see the internship
+     */
+    private static void checkReadable(ApiRequest request, Internship internship) {
+        boolean readable;
+        if (request.getUser() instanceof Student) {
+            Student student = (Student) request.getUser();
+            readable = internship.isVisibleToStudent(student) || student.getApplications().stream()
+                    .anyMatch(a -> a.getInternship().getID() == internship.getID());
+        } else if (request.getUser() instanceof CompanyRepresentative) {
+            readable = internship.isOwnedBy((CompanyRepresentative) request.getUser());
+        } else {
+            readable = true;
+        }
+        if (!readable) throw new ApiException(404, "Internship not found!");
+    }
+
+    /**
+     * Writes one internship as a JSON object.
+     * @param json destination
+     * @param internship the internship
+     * @throws IOException if writing fails
+     */
+    static void write(JsonWriter json, Internship internship) throws IOException {
+        json.beginObject()
+                .name("id").value(internship.getID())
+                .name("title").value(internship.getTitle())
+                .name("description").value(internship.getDescription())
+                .name("level").value(internship.getLevel())
+                .name("preferredMajor").value(internship.getPreferredMajor())
+                .name("company").value(internship.getCompanyName())
+                .name("openDate").value(internship.getOpenDate())
+                .name("closeDate").value(internship.getCloseDate())
+                .name("status").value(internship.getStatus())
+                .name("visible").value(internship.isVisible())
+                .name("numSlots").value(internship.getNumSlots())
+                .name("filledSlots").value(internship.getFilledSlots())
+                .endObject();
+    }
+}
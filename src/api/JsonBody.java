@@ -0,0 +1,122 @@
+package api;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parser for request bodies.
+ * Requests only ever carry a flat object of scalar fields, e.g.
+ * {@code {"internshipId": 100001, "reason": "Accepted elsewhere"}}, so nested values are rejected.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class JsonBody {
+    /** Text being parsed */
+    private final String text;
+    /** Read position */
+    private int pos;
+
+    private JsonBody(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Parses a flat JSON object.
+     * Strings are unescaped; numbers, booleans and null are returned as their literal text
+     * (null as a Java null).
+     *
+     * @param text the request body; blank means an empty object
+     * @return member values by name, in body order
+     * @throws IllegalArgumentException if the body is not a flat JSON object
+     */
+    public static Map<String, String> parse(String text) {
+        Map<String, String> values = new LinkedHashMap<>();
+        if (text == null || text.trim().isEmpty()) return values;
+        JsonBody p = new JsonBody(text);
+        p.expect('{');
+        if (p.peek() == '}') {
+            p.pos++;
+        } else {
+            do {
+                String name = p.string();
+                p.expect(':');
+                values.put(name, p.scalar());
+            } while (p.next() == ',');
+            p.pos--;
+            p.expect('}');
+        }
+        p.skipWhitespace();
+        if (p.pos != text.length()) throw p.error();
+        return values;
+    }
+
+    private String scalar() {
+        char c = peek();
+        if (c == '"') return string();
+        if (c == '{' || c == '[') throw new IllegalArgumentException("Request body fields must be strings, numbers or booleans.");
+        int start = pos;
+        while (pos < text.length() && ",}] \t\r\n".indexOf(text.charAt(pos)) < 0) pos++;
+        String literal = text.substring(start, pos);
+        if (literal.isEmpty()) throw error();
+        return literal.equals("null") ? null : literal;
+    }
+
+    private String string() {
+        expect('"');
+        StringBuilder sb = new StringBuilder();
+        while (pos < text.length()) {
+            char c = text.charAt(pos++);
+            if (c == '"') return sb.toString();
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (pos >= text.length()) break;
+            char e = text.charAt(pos++);
+            switch (e) {
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'u':
+                    if (pos + 4 > text.length()) throw error();
+                    try {
+                        sb.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                    } catch (NumberFormatException ex) {
+                        throw error();
+                    }
+                    pos += 4;
+                    break;
+                default: sb.append(e);
+            }
+        }
+        throw error();
+    }
+
+    private void expect(char c) {
+        if (next() != c) throw error();
+    }
+
+    private char next() {
+        char c = peek();
+        pos++;
+        return c;
+    }
+
+    private char peek() {
+        skipWhitespace();
+        if (pos >= text.length()) throw error();
+        return text.charAt(pos);
+    }
+
+    private void skipWhitespace() {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) pos++;
+    }
+
+    private IllegalArgumentException error() {
+        return new IllegalArgumentException("Malformed JSON request body at position " + pos + ".");
+    }
+}
@@ -0,0 +1,215 @@
+package api;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Streaming JSON writer.
+ * Writes tokens straight to the underlying writer, so a response of any size is produced
+ * without building it in memory first. Commas and quoting are handled by the writer;
+ * callers only describe the structure.
+ *
+ * <pre>
+ * json.beginObject().name("id").value(42).name("tags").beginArray().value("a").endArray().endObject();
+ * </pre>
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class JsonWriter {
+    /** Maximum nesting depth */
+    private static final int MAX_DEPTH = 32;
+
+    /** Destination */
+    private final Writer out;
+    /** Whether the container at each depth already holds an element */
+    private final boolean[] hasElement = new boolean[MAX_DEPTH];
+    /** Current nesting depth */
+    private int depth;
+    /** True right after a member name, when the value needs no separator */
+    private boolean afterName;
+
+    /**
+     * Creates a writer.
+     * @param out destination; not closed by this writer
+     */
+    public JsonWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Starts an object.
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter beginObject() throws IOException {
+        return open('{');
+    }
+
+    /**
+     * Ends the current object.
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter endObject() throws IOException {
+        return close('}');
+    }
+
+    /**
+     * Starts an array.
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter beginArray() throws IOException {
+        return open('[');
+    }
+
+    /**
+     * Ends the current array.
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter endArray() throws IOException {
+        return close(']');
+    }
+
+    /**
+     * Writes an object member name; the next call writes its value.
+     * @param name the member name
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter name(String name) throws IOException {
+        separate();
+        string(name);
+        out.write(':');
+        afterName = true;
+        return this;
+    }
+
+    /**
+     * Writes a string value, or null.
+     * @param value the value
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter value(String value) throws IOException {
+        separate();
+        if (value == null) out.write("null");
+        else string(value);
+        return this;
+    }
+
+    /**
+     * Writes a number value.
+     * @param value the value
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter value(long value) throws IOException {
+        separate();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes a boolean value.
+     * @param value the value
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter value(boolean value) throws IOException {
+        separate();
+        out.write(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Writes any value using its string form, or null.
+     * Convenient for enums and dates.
+     * @param value the value
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter value(Object value) throws IOException {
+        return value(value == null ? null : value.toString());
+    }
+
+    /**
+     * Writes a pre-serialized JSON fragment as one value.
+     * @param json valid JSON
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter rawValue(String json) throws IOException {
+        separate();
+        out.write(json);
+        return this;
+    }
+
+    /**
+     * Flushes the underlying writer.
+     * @throws IOException if flushing fails
+     */
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private JsonWriter open(char bracket) throws IOException {
+        separate();
+        if (depth == MAX_DEPTH) throw new IllegalStateException("JSON nested too deeply.");
+        out.write(bracket);
+        hasElement[depth++] = false;
+        return this;
+    }
+
+    private JsonWriter close(char bracket) throws IOException {
+        if (depth == 0) throw new IllegalStateException("No open JSON container.");
+        depth--;
+        out.write(bracket);
+        return this;
+    }
+
+    /**
+     * Writes the comma before a new element where one is needed.
+     */
+    private void separate() throws IOException {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (depth > 0) {
+            if (hasElement[depth - 1]) out.write(',');
+            hasElement[depth - 1] = true;
+        }
+    }
+
+    /**
+     * Writes a quoted, escaped string.
+     */
+    private void string(String s) throws IOException {
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            String escape;
+            switch (c) {
+                case '"': escape = "\\\""; break;
+                case '\\': escape = "\\\\"; break;
+                case '\n': escape = "\\n"; break;
+                case '\r': escape = "\\r"; break;
+                case '\t': escape = "\\t"; break;
+                default:
+                    escape = c < 0x20 ? String.format("\\u%04x", (int) c) : null;
+            }
+            if (escape != null) {
+                out.write(s, start, i - start);
+                out.write(escape);
+                start = i + 1;
+            }
+        }
+        out.write(s, start, s.length() - start);
+        out.write('"');
+    }
+}
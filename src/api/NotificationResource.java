@@ -0,0 +1,68 @@
+package api;
+
+import utils.event.DomainEvent;
+import utils.event.Inbox;
+import utils.event.NotificationCenter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Notification endpoint.
+ * <ul>
+ *   <li>{@code GET /api/notifications?waitSeconds=25} - the caller's status-change notifications
+ *       that arrived since the last call, waiting up to {@code waitSeconds} (0-30, default 0) for
+ *       the first one (long polling)</li>
+ * </ul>
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class NotificationResource {
+    /** Longest accepted long-poll wait */
+    private static final int MAX_WAIT_SECONDS = 30;
+
+    /**
+     * Routes a request under {@code /api/notifications}.
+     * @param request the request
+     * @throws IOException if the response cannot be written
+     */
+    public void handle(ApiRequest request) throws IOException {
+        if (request.getSegments().size() != 1 || !request.getMethod().equals("GET")) {
+            throw new ApiException(404, "Unknown resource.");
+        }
+        int waitSeconds = waitSeconds(request.query("waitSeconds"));
+        List<DomainEvent> events;
+        try (Inbox inbox = NotificationCenter.getInstance().openInbox(request.getUser().getUserID())) {
+            events = waitSeconds == 0 ? inbox.drain() : inbox.await(waitSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(503, "Interrupted while waiting for notifications.");
+        }
+        request.send(200, json -> {
+            json.beginObject().name("count").value(events.size()).name("notifications").beginArray();
+            for (DomainEvent event : events) {
+                json.beginObject()
+                        .name("sequence").value(event.getSequence())
+                        .name("occurredAt").value(event.getOccurredAt())
+                        .name("type").value(event.getType())
+                        .name("message").value(event.describe())
+                        .endObject();
+            }
+            json.endArray().endObject();
+        });
+    }
+
+    private static int waitSeconds(String value) {
+        if (value == null) return 0;
+        try {
+            int seconds = Integer.parseInt(value);
+            if (seconds >= 0 && seconds <= MAX_WAIT_SECONDS) return seconds;
+        } catch (NumberFormatException ignored) {
+            // Reported below
+        }
+        throw new ApiException(400, "waitSeconds must be between 0 and " + MAX_WAIT_SECONDS + ".");
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * Embedded HTTP/JSON API exposing internship listing, application submission and status
+ * transitions, and staff approvals over the controller interfaces.
+ * Responses are streamed with a small JSON writer; no external libraries are required.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+package api;
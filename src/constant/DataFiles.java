@@ -0,0 +1,88 @@
+package constant;
+
+/**
+ * Locations of the CSV data files.
+ * All files live in one data directory, which defaults to {@code sample_file} and can be
+ * redirected with the {@code placement.dataDir} system property (used by the benchmark and
+ * load-test harnesses to run against generated datasets without touching the sample data).
+ * Paths are resolved on every call so the property may be changed between runs.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class DataFiles {
+    /** Private constructor to prevent instantiation */
+    private DataFiles() {}
+
+    /** System property that overrides the data directory */
+    public static final String DATA_DIR_PROPERTY = "placement.dataDir";
+
+    /** Data directory used when the property is not set */
+    public static final String DEFAULT_DATA_DIR = "sample_file";
+
+    /** File name of the student list */
+    public static final String STUDENTS = "sample_student_list.csv";
+
+    /** File name of the staff list */
+    public static final String STAFF = "sample_staff_list.csv";
+
+    /** File name of the company representative list */
+    public static final String COMPANY_REPRESENTATIVES = "sample_company_representative_list.csv";
+
+    /** File name of the internship list */
+    public static final String INTERNSHIPS = "sample_internships.csv";
+
+    /** File name of the application list */
+    public static final String APPLICATIONS = "sample_applications.csv";
+
+    /** File name of the outbox of placement events for downstream systems */
+    public static final String OUTBOX = "placement_outbox.csv";
+
+    /** File name of the outbox consumer offsets */
+    public static final String OUTBOX_OFFSETS = "placement_outbox_offsets.csv";
+
+    /** File name of the users' saved internship filters */
+    public static final String SAVED_FILTERS = "saved_filters.csv";
+
+    /**
+     * Gets the current data directory.
+     * @return the directory holding all CSV files
+     */
+    public static String dataDirectory() {
+        return System.getProperty(DATA_DIR_PROPERTY, DEFAULT_DATA_DIR);
+    }
+
+    /**
+     * Resolves a file name against the current data directory.
+     * @param fileName one of the file name constants
+     * @return the path of the file
+     */
+    public static String path(String fileName) {
+        return dataDirectory() + "/" + fileName;
+    }
+
+    /** @return path of the student CSV */
+    public static String students() { return path(STUDENTS); }
+
+    /** @return path of the staff CSV */
+    public static String staff() { return path(STAFF); }
+
+    /** @return path of the company representative CSV */
+    public static String companyRepresentatives() { return path(COMPANY_REPRESENTATIVES); }
+
+    /** @return path of the internship CSV */
+    public static String internships() { return path(INTERNSHIPS); }
+
+    /** @return path of the application CSV */
+    public static String applications() { return path(APPLICATIONS); }
+
+    /** @return path of the outbox CSV */
+    public static String outbox() { return path(OUTBOX); }
+
+    /** @return path of the outbox consumer offsets CSV */
+    public static String outboxOffsets() { return path(OUTBOX_OFFSETS); }
+
+    /** @return path of the saved filters CSV */
+    public static String savedFilters() { return path(SAVED_FILTERS); }
+}
@@ -9,6 +9,7 @@
  *   <li>{@link constant.UserType} - User role types (STUDENT, STAFF, COMPANY_REPRESENTATIVE)</li>
  *   <li>{@link constant.FilterConstants} - Filter option constants for internship searches</li>
  *   <li>{@link constant.MenuConstants} - Menu display and table configuration constants</li>
+ *   <li>{@link constant.DataFiles} - CSV data file locations (overridable data directory)</li>
  * </ul>
  * 
  * <p>All enums in this package provide:
@@ -4,8 +4,22 @@ import model.*;
 import constant.ApplicationStatus;
 import utils.csv.*;
 import controller.interfaces.*;
+import utils.metrics.MetricsRegistry;
+import utils.jfr.ApplicationReloadEvent;
+import utils.concurrent.StripedLocks;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -21,6 +35,21 @@ import java.util.stream.Collectors;
  * @since 2025-11-16
  */
 public class ApplicationController implements ApplicationControllerInterface {
+    /** Registry receiving per-operation latency metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    /**
+     * Per-entity locks for students and internships. Every status transition holds the locks of
+     * the student and of all internships it touches, so it is applied as one atomic step.
+     */
+    private static final StripedLocks entityLocks = new StripedLocks("entities", 256);
+    /**
+     * Guards the in-memory application lists against a reload rebuilding them mid-transition.
+     * Transitions share the read side, so distinct students are only ordered by their stripes;
+     * a reload takes the write side.
+     */
+    private static final ReentrantReadWriteLock reloadLock = new ReentrantReadWriteLock();
+    /** Hooks run before each reload */
+    private static final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
     /** CSV handler for persistence operations */
     private final CsvHandler<Application> csvHandler;
     /** Internship reader for reading internship data (ISP - only needs read operations) */
@@ -80,31 +109,106 @@ public class ApplicationController implements ApplicationControllerInterface {
      */
     @Override
     public Application createApplication(int internshipID, Student student, InternshipControllerInterface internshipControllerParam) {
-        loadApplicationsFromCsv(internshipControllerParam);
-        
-        Internship internship = internshipReader.findInternship(internshipID);
+        return metrics.time("ApplicationController.createApplication", () -> {
+            loadApplicationsFromCsv(internshipControllerParam);
         
+            // Checks and insertion must not interleave with another submission by the same student
+            return inTransaction(student, Collections.singletonList(internshipID), () -> {
+                Application app = admitApplication(internshipReader.findInternship(internshipID), student);
+                csvHandler.saveToCsv(app);
+                return app;
+            });
+        });
+    }
+    
+    /**
+     * Validates and records an application against the in-memory state only.
+     * Unlike {@link #createApplication}, it neither reloads the CSV files nor saves the new row;
+     * the caller persists it later with {@link #saveApplications}.
+     * {@code onRecorded} runs before the transaction ends, so no reload can discard the
+     * application before the caller has queued it.
+     * 
+     * @param internshipID The ID of the internship to apply to
+     * @param student The student submitting the application
+     * @param onRecorded Hook receiving the recorded application inside the transaction
+     * @return The created Application object
+     * @throws IllegalArgumentException if internship not found or student ineligible
+     */
+    @Override
+    public Application recordApplication(int internshipID, Student student, Consumer<Application> onRecorded) {
+        return metrics.time("ApplicationController.recordApplication", () -> {
+            return inTransaction(student, Collections.singletonList(internshipID), () -> {
+                Application app = admitApplication(internshipReader.findInternship(internshipID), student);
+                onRecorded.accept(app);
+                return app;
+            });
+        });
+    }
+    
+    /**
+     * Persists several applications with one rewrite of the applications file.
+     * 
+     * @param applications The applications to save
+     * @throws IllegalStateException if the file cannot be written
+     */
+    @Override
+    public void saveApplications(Collection<Application> applications) {
+        metrics.time("ApplicationController.saveApplications", () -> {
+            csvHandler.saveAllToCsv(applications);
+        });
+    }
+    
+    /**
+     * Registers a hook run at the start of every reload, while new transitions are blocked.
+     * Lets components holding recorded but unsaved applications write them out first,
+     * so the reload does not discard them.
+     * 
+     * @param listener The hook to run
+     */
+    public static void addReloadListener(Runnable listener) {
+        reloadListeners.add(listener);
+    }
+    
+    /**
+     * Removes a hook added with {@link #addReloadListener}.
+     * 
+     * @param listener The hook to remove
+     */
+    public static void removeReloadListener(Runnable listener) {
+        reloadListeners.remove(listener);
+    }
+    
+    /**
+     * Checks the submission rules and records the application in memory.
+     * Runs inside a transaction on the student and the internship.
+     * 
+     * @param internship The internship applied to
+     * @param student The student applying
+     * @return The created Application object
+     * @throws IllegalArgumentException if the student is ineligible
+     */
+    private Application admitApplication(Internship internship, Student student) {
         // Check if student has already accepted a placement
         boolean hasAcceptedPlacement = student.getApplications().stream()
                 .anyMatch(a -> a.getStatus() == ApplicationStatus.ACCEPTED);
-        
+    
         if (hasAcceptedPlacement) {
             throw new IllegalArgumentException("You have already accepted a placement and cannot apply to other internships.");
         }
-        
+    
         // Check if student has already applied to this internship
         boolean alreadyApplied = student.getApplications().stream()
                 .anyMatch(a -> a.getInternship().getID() == internship.getID());
-        
+    
         if (alreadyApplied) {
             throw new IllegalArgumentException("You have already applied to this internship.");
         }
-        
+    
         // Enforce per-student application limit (exclude only WITHDRAWN applications)
         long activeApplications = student.getApplications().stream()
                 .filter(a -> a.getStatus() != ApplicationStatus.WITHDRAWN)
                 .count();
-        
+    
         if (activeApplications >= Student.MAX_APPLICATIONS) {
             throw new IllegalArgumentException("Maximum of " + Student.MAX_APPLICATIONS + " applications allowed.");
         }
@@ -119,8 +223,6 @@ public class ApplicationController implements ApplicationControllerInterface {
 
         // Also store a reference locally
         student.getApplications().add(app);
-        
-        csvHandler.saveToCsv(app);
         return app;
     }
     
@@ -135,8 +237,10 @@ public class ApplicationController implements ApplicationControllerInterface {
      */
     @Override
     public List<Application> getApplicationsForInternship(int internshipID, InternshipControllerInterface internshipController) {
-        Internship internship = internshipReader.findInternship(internshipID);
-        return internship.getApplications();
+        return metrics.time("ApplicationController.getApplicationsForInternship", () -> {
+            Internship internship = internshipReader.findInternship(internshipID);
+            return read(internshipKey(internshipID), () -> new ArrayList<>(internship.getApplications()));
+        });
     }
     
     /**
@@ -149,9 +253,8 @@ public class ApplicationController implements ApplicationControllerInterface {
      * @throws IllegalArgumentException if internship not found
      */
     public List<Application> getApplicationsForInternship(int internshipID) {
-        internshipReader.loadInternshipsFromCsv();
-        loadApplicationsFromCsv((InternshipControllerInterface) internshipReader);
-        return getApplicationsForInternship(internshipID, (InternshipControllerInterface) internshipReader);
+        InternshipControllerInterface internships = (InternshipControllerInterface) internshipReader;
+        return reloadAndRead(internships, () -> getApplicationsForInternship(internshipID, internships));
     }
     
     /**
@@ -163,23 +266,28 @@ public class ApplicationController implements ApplicationControllerInterface {
      * @return true if student has applied, false otherwise
      */
     public boolean hasStudentAppliedForInternship(Student student, int internshipID) {
-        List<Application> studentApplications = getApplicationsForStudent(student);
-        return studentApplications.stream()
-                .anyMatch(app -> app.getInternship().getID() == internshipID);
+        return metrics.time("ApplicationController.hasStudentAppliedForInternship", () -> {
+            List<Application> studentApplications = getApplicationsForStudent(student);
+            return studentApplications.stream()
+                    .anyMatch(app -> app.getInternship().getID() == internshipID);
+        });
     }
     
     /**
      * Retrieves all applications submitted by a student.
      * Students can view all their applications, including those with WITHDRAWAL_REQUESTED status.
      * Always reloads from CSV to ensure fresh data.
+     * The list is a snapshot taken between transitions, never in the middle of one.
      * 
      * @param student The student whose applications to retrieve
-     * @return List of all applications submitted by the student
+     * @return Snapshot of all applications submitted by the student
      */
     @Override
     public List<Application> getApplicationsForStudent(Student student) {
-        loadApplicationsFromCsv((InternshipControllerInterface) internshipReader);
-        return student.getApplications();
+        return metrics.time("ApplicationController.getApplicationsForStudent", () -> {
+            return reloadAndRead((InternshipControllerInterface) internshipReader,
+                    () -> read(studentKey(student), () -> new ArrayList<>(student.getApplications())));
+        });
     }
     
     /**
@@ -192,7 +300,9 @@ public class ApplicationController implements ApplicationControllerInterface {
      */
     @Override
     public Application findApplicationByID(int applicationID, Student student) {
-        return student.findApplicationWithID(applicationID);
+        return metrics.time("ApplicationController.findApplicationByID", () -> {
+            return student.findApplicationWithID(applicationID);
+        });
     }
     
     /**
@@ -206,10 +316,12 @@ public class ApplicationController implements ApplicationControllerInterface {
      */
     @Override
     public Application findApplicationByID(int appID) {
-        return getAllApplications((InternshipControllerInterface) internshipReader).stream()
-                .filter(app -> app.getId() == appID)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Application not found!"));
+        return metrics.time("ApplicationController.findApplicationByID", () -> {
+            return getAllApplications((InternshipControllerInterface) internshipReader).stream()
+                    .filter(app -> app.getId() == appID)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Application not found!"));
+        });
     }
     
     /**
@@ -220,10 +332,12 @@ public class ApplicationController implements ApplicationControllerInterface {
      */
     @Override
     public List<Application> getWithdrawalRequests() {
-        loadApplicationsFromCsv((InternshipControllerInterface) internshipReader);
-        return Application.getAllApplications().stream()
-                .filter(app -> app.getStatus() == ApplicationStatus.WITHDRAWAL_REQUESTED)
-                .collect(Collectors.toList());
+        return metrics.time("ApplicationController.getWithdrawalRequests", () -> {
+            return reloadAndRead((InternshipControllerInterface) internshipReader,
+                    () -> Application.getAllApplications().stream()
+                            .filter(app -> app.getStatus() == ApplicationStatus.WITHDRAWAL_REQUESTED)
+                            .collect(Collectors.toList()));
+        });
     }
     
     /**
@@ -235,8 +349,7 @@ public class ApplicationController implements ApplicationControllerInterface {
      * @return List of all applications system-wide
      */
     private List<Application> getAllApplications(InternshipControllerInterface internshipControllerParam) {
-        loadApplicationsFromCsv(internshipControllerParam);
-        return Application.getAllApplications();
+        return reloadAndRead(internshipControllerParam, Application::getAllApplications);
     }
     
     /**
@@ -249,13 +362,18 @@ public class ApplicationController implements ApplicationControllerInterface {
      */
     @Override
     public void withdrawApplication(int applicationID, Student student, String reason) {
-        Application app = findApplicationByID(applicationID, student);
-        if (reason != null && !reason.trim().isEmpty()) {
-            app.requestWithdrawal(reason);
-        } else {
-            app.requestWithdrawal((String) null);
-        }
-        csvHandler.saveToCsv(app);
+        metrics.time("ApplicationController.withdrawApplication", () -> {
+            inTransaction(student, Collections.emptyList(), () -> {
+                Application app = student.findApplicationWithID(applicationID);
+                if (reason != null && !reason.trim().isEmpty()) {
+                    app.requestWithdrawal(reason);
+                } else {
+                    app.requestWithdrawal((String) null);
+                }
+                csvHandler.saveToCsv(app);
+                return app;
+            });
+        });
     }
     
     /**
@@ -268,26 +386,23 @@ public class ApplicationController implements ApplicationControllerInterface {
      */
     @Override
     public void acceptApplication(int applicationID, Student student) {
-        Application app = findApplicationByID(applicationID, student);
-        
-        // Check that chosen application is successful
-        if (app.getStatus() != ApplicationStatus.SUCCESSFUL) {
-            throw new IllegalArgumentException("Application is " + app.getStatus() + ", needs to be " + ApplicationStatus.SUCCESSFUL + " to be accepted.");
-        }
+        metrics.time("ApplicationController.acceptApplication", () -> {
+            inTransaction(student, Collections.emptyList(), () -> {
+                Application app = student.findApplicationWithID(applicationID);
+            
+                // Check that chosen application is successful
+                if (app.getStatus() != ApplicationStatus.SUCCESSFUL) {
+                    throw new IllegalArgumentException("Application is " + app.getStatus() + ", needs to be " + ApplicationStatus.SUCCESSFUL + " to be accepted.");
+                }
 
-        // Update status to ACCEPTED when student confirms placement
-        app.setStatus(ApplicationStatus.ACCEPTED);
-        
-        // Withdraw all other applications
-        student.getApplications().stream()
-                .filter(a -> a != app)
-                .forEach(a -> a.setStatus(ApplicationStatus.WITHDRAWN));
-        
-        // Update filled slots in internship
-        app.getInternship().confirmPlacement();
-        
-        csvHandler.saveToCsv(app);
-        internshipWriter.saveInternship(app.getInternship());
+                // Update status to ACCEPTED when student confirms placement; the slot was reserved with the offer
+                app.setStatus(ApplicationStatus.ACCEPTED);
+                withdrawOtherApplications(app);
+                csvHandler.saveToCsv(app);
+                internshipWriter.saveInternship(app.getInternship());
+                return app;
+            });
+        });
     }
     
     /**
@@ -298,13 +413,19 @@ public class ApplicationController implements ApplicationControllerInterface {
      */
     @Override
     public void approveWithdrawal(int applicationID) {
-        Application app = findApplicationByID(applicationID);
-        if (app.getStatus() != ApplicationStatus.WITHDRAWAL_REQUESTED) {
-            throw new IllegalArgumentException("Application is not in WITHDRAWAL_REQUESTED status.");
-        }
-        app.approveWithdrawal();
-        csvHandler.saveToCsv(app);
-        internshipWriter.saveInternship(app.getInternship());
+        metrics.time("ApplicationController.approveWithdrawal", () -> {
+            Student student = findApplicationByID(applicationID).getApplicant();
+            inTransaction(student, Collections.emptyList(), () -> {
+                Application app = student.findApplicationWithID(applicationID);
+                if (app.getStatus() != ApplicationStatus.WITHDRAWAL_REQUESTED) {
+                    throw new IllegalArgumentException("Application is not in WITHDRAWAL_REQUESTED status.");
+                }
+                app.approveWithdrawal();
+                csvHandler.saveToCsv(app);
+                internshipWriter.saveInternship(app.getInternship());
+                return app;
+            });
+        });
     }
     
     /**
@@ -316,19 +437,88 @@ public class ApplicationController implements ApplicationControllerInterface {
      */
     @Override
     public void rejectWithdrawal(int applicationID) {
-        Application app = findApplicationByID(applicationID);
-        if (app.getStatus() != ApplicationStatus.WITHDRAWAL_REQUESTED) {
-            throw new IllegalArgumentException("Application is not in WITHDRAWAL_REQUESTED status.");
-        }
-        ApplicationStatus previousStatus = app.getPreviousStatus();
-        app.rejectWithdrawal();
-        csvHandler.saveToCsv(app);
-        
-        // If restoring to SUCCESSFUL or ACCEPTED, update internship slots
-        if (previousStatus == ApplicationStatus.SUCCESSFUL || previousStatus == ApplicationStatus.ACCEPTED) {
-            app.getInternship().confirmPlacement();
-            internshipWriter.saveInternship(app.getInternship());
-        }
+        metrics.time("ApplicationController.rejectWithdrawal", () -> {
+            Student student = findApplicationByID(applicationID).getApplicant();
+            inTransaction(student, Collections.emptyList(), () -> {
+                Application app = student.findApplicationWithID(applicationID);
+                if (app.getStatus() != ApplicationStatus.WITHDRAWAL_REQUESTED) {
+                    throw new IllegalArgumentException("Application is not in WITHDRAWAL_REQUESTED status.");
+                }
+                ApplicationStatus previousStatus = app.getPreviousStatus();
+                app.rejectWithdrawal();
+                csvHandler.saveToCsv(app);
+            
+                // If restoring to SUCCESSFUL or ACCEPTED, update internship slots
+                if (previousStatus == ApplicationStatus.SUCCESSFUL || previousStatus == ApplicationStatus.ACCEPTED) {
+                    app.getInternship().confirmPlacement();
+                    internshipWriter.saveInternship(app.getInternship());
+                }
+                return app;
+            });
+        });
+    }
+    
+    /**
+     * Approves or rejects several withdrawal requests.
+     * Applications are reloaded once and the whole batch then runs under the read side of the
+     * reload lock, so no reload can replace the applications it changes. Each transition runs
+     * under the same entity locks as a single approval or rejection, and the changed applications
+     * and internships are saved with one rewrite of each file before the lock is released.
+     * Applications that do not exist or have no pending request are skipped and reported.
+     * 
+     * @param applicationIDs The IDs of the applications; duplicates are applied once
+     * @param approve true to approve the withdrawals, false to reject them
+     * @param internshipControllerParam Controller to load internships with
+     * @return The outcome for each application
+     */
+    @Override
+    public BatchResult approveRejectWithdrawals(Collection<Integer> applicationIDs, boolean approve,
+                                                InternshipControllerInterface internshipControllerParam) {
+        return metrics.time("ApplicationController.approveRejectWithdrawals", () -> {
+            return reloadAndRead(internshipControllerParam, () -> {
+                Map<Integer, Student> applicants = new HashMap<>();
+                for (Application app : Application.getAllApplicationsList()) applicants.put(app.getId(), app.getApplicant());
+
+                BatchResult result = new BatchResult(approve ? "Approve withdrawals" : "Reject withdrawals");
+                List<Application> changed = new ArrayList<>();
+                Set<Internship> changedInternships = new LinkedHashSet<>();
+                for (int id : new LinkedHashSet<>(applicationIDs)) {
+                    Student student = applicants.get(id);
+                    if (student == null) {
+                        result.failed(id, "Application not found.");
+                        continue;
+                    }
+                    try {
+                        Application app = inTransaction(student, Collections.emptyList(), () -> {
+                            Application found = student.findApplicationWithID(id);
+                            if (found.getStatus() != ApplicationStatus.WITHDRAWAL_REQUESTED) {
+                                throw new IllegalArgumentException("Application is " + found.getStatus()
+                                        + ", not WITHDRAWAL_REQUESTED.");
+                            }
+                            if (approve) {
+                                found.approveWithdrawal();
+                                changedInternships.add(found.getInternship());
+                            } else {
+                                ApplicationStatus previousStatus = found.getPreviousStatus();
+                                found.rejectWithdrawal();
+                                if (previousStatus == ApplicationStatus.SUCCESSFUL || previousStatus == ApplicationStatus.ACCEPTED) {
+                                    found.getInternship().confirmPlacement();
+                                    changedInternships.add(found.getInternship());
+                                }
+                            }
+                            return found;
+                        });
+                        changed.add(app);
+                        result.succeeded(id, app.getStatus().name());
+                    } catch (IllegalArgumentException | IllegalStateException e) {
+                        result.failed(id, e.getMessage());
+                    }
+                }
+                csvHandler.saveAllToCsv(changed);
+                internshipWriter.saveInternships(changedInternships);
+                return result;
+            });
+        });
     }
     
     /**
@@ -343,15 +533,23 @@ public class ApplicationController implements ApplicationControllerInterface {
      */
     @Override
     public void confirmPlacement(int internshipID, int applicationID, InternshipControllerInterface internshipController) {
-        loadApplicationsFromCsv(internshipController);
+        metrics.time("ApplicationController.confirmPlacement", () -> {
+            // Look the applicant up before another reload can clear the internship's applications
+            Student student = reloadAndRead(internshipController, () -> {
+                Internship internship = internshipController.findInternship(internshipID);
+                return read(internshipKey(internshipID), () -> internship.getApplications().stream()
+                        .filter(a -> a.getId() == applicationID)
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("Application not found!"))
+                        .getApplicant());
+            });
         
-        Internship internship = internshipController.findInternship(internshipID);
-        Application app = internship.getApplications().stream()
-                .filter(a -> a.getId() == applicationID)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Application not found!"));
-        
-        processPlacementConfirmation(app, internship);
+            inTransaction(student, Collections.singletonList(internshipID), () -> {
+                Application app = student.findApplicationWithID(applicationID);
+                processPlacementConfirmation(app, app.getInternship());
+                return app;
+            });
+        });
     }
     
     /**
@@ -363,27 +561,39 @@ public class ApplicationController implements ApplicationControllerInterface {
      */
     @Override
     public void confirmPlacement(int applicationID) {
-        Application app = findApplicationByID(applicationID);
-        processPlacementConfirmation(app, app.getInternship());
+        metrics.time("ApplicationController.confirmPlacement", () -> {
+            Student student = findApplicationByID(applicationID).getApplicant();
+            inTransaction(student, Collections.emptyList(), () -> {
+                Application app = student.findApplicationWithID(applicationID);
+                processPlacementConfirmation(app, app.getInternship());
+                return app;
+            });
+        });
     }
     
     /**
      * Processes the placement confirmation logic.
      * Handles both approving (PENDING → SUCCESSFUL) and confirming placement (SUCCESSFUL → ACCEPTED).
      * Extracted to eliminate code duplication.
+     * Runs inside a transaction on the applicant and their internships.
      * 
      * @param app The application to process
      * @param internship The internship associated with the application
-     * @throws IllegalArgumentException if application not in PENDING/SUCCESSFUL status
+     * @throws IllegalArgumentException if application not in PENDING/SUCCESSFUL status or no slot is free
      */
     private void processPlacementConfirmation(Application app, Internship internship) {
         if (app.getStatus() == ApplicationStatus.PENDING) {
+            // An offer takes a slot; claim it atomically so concurrent confirmations cannot overfill
+            if (!internship.tryReserveSlot()) {
+                throw new IllegalArgumentException("No slots available for this internship.");
+            }
             app.setStatus(ApplicationStatus.SUCCESSFUL);
             csvHandler.saveToCsv(app);
+            internshipWriter.saveInternship(internship);
         } else if (app.getStatus() == ApplicationStatus.SUCCESSFUL) {
+            // The slot was reserved when the offer was made, so no recount is needed
             app.setStatus(ApplicationStatus.ACCEPTED);
             withdrawOtherApplications(app);
-            internship.confirmPlacement();
             csvHandler.saveToCsv(app);
             internshipWriter.saveInternship(internship);
         } else {
@@ -393,16 +603,21 @@ public class ApplicationController implements ApplicationControllerInterface {
     
     /**
      * Withdraws all other applications from the same student when a placement is confirmed.
+     * Offers withdrawn this way give their internship slot back.
      * 
      * @param app The application that was accepted
      */
     private void withdrawOtherApplications(Application app) {
-        app.getApplicant().getApplications().stream()
-                .filter(a -> a != app && a.getStatus() != ApplicationStatus.WITHDRAWN)
-                .forEach(a -> {
-                    a.setStatus(ApplicationStatus.WITHDRAWN);
-                    csvHandler.saveToCsv(a);
-                });
+        for (Application other : app.getApplicant().getApplications()) {
+            if (other == app || other.getStatus() == ApplicationStatus.WITHDRAWN) continue;
+            boolean heldSlot = other.getStatus() == ApplicationStatus.SUCCESSFUL || other.getStatus() == ApplicationStatus.ACCEPTED;
+            other.setStatus(ApplicationStatus.WITHDRAWN);
+            csvHandler.saveToCsv(other);
+            if (heldSlot) {
+                other.getInternship().confirmPlacement();
+                internshipWriter.saveInternship(other.getInternship());
+            }
+        }
     }
     
     /**
@@ -416,19 +631,26 @@ public class ApplicationController implements ApplicationControllerInterface {
      */
     @Override
     public void rejectApplication(int internshipID, int applicationID, InternshipControllerInterface internshipController) {
-        Internship internship = internshipReader.findInternship(internshipID);
-        Application app = internship.getApplications().stream()
-                .filter(a -> a.getId() == applicationID)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Application not found!"));
+        metrics.time("ApplicationController.rejectApplication", () -> {
+            Internship internship = internshipReader.findInternship(internshipID);
+            Student student = read(internshipKey(internshipID), () -> internship.getApplications().stream()
+                    .filter(a -> a.getId() == applicationID)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Application not found!"))
+                    .getApplicant());
         
-        if (app.getStatus() != ApplicationStatus.PENDING) {
-            throw new IllegalArgumentException("Application is " + app.getStatus() + ", can only reject PENDING applications.");
-        }
-        
-        // Reject application - mark as UNSUCCESSFUL
-        app.setStatus(ApplicationStatus.UNSUCCESSFUL);
-        csvHandler.saveToCsv(app);
+            inTransaction(student, Collections.singletonList(internshipID), () -> {
+                Application app = student.findApplicationWithID(applicationID);
+                if (app.getStatus() != ApplicationStatus.PENDING) {
+                    throw new IllegalArgumentException("Application is " + app.getStatus() + ", can only reject PENDING applications.");
+                }
+            
+                // Reject application - mark as UNSUCCESSFUL
+                app.setStatus(ApplicationStatus.UNSUCCESSFUL);
+                csvHandler.saveToCsv(app);
+                return app;
+            });
+        });
     }
     
     /**
@@ -440,19 +662,24 @@ public class ApplicationController implements ApplicationControllerInterface {
      */
     @Override
     public void rejectApplication(int applicationID) {
-        Application app = findApplicationByID(applicationID);
-        
-        if (app.getStatus() != ApplicationStatus.PENDING) {
-            throw new IllegalArgumentException("Application is " + app.getStatus() + ", can only reject PENDING applications.");
-        }
-        app.setStatus(ApplicationStatus.UNSUCCESSFUL);
-        csvHandler.saveToCsv(app);
+        metrics.time("ApplicationController.rejectApplication", () -> {
+            Student student = findApplicationByID(applicationID).getApplicant();
+            inTransaction(student, Collections.emptyList(), () -> {
+                Application app = student.findApplicationWithID(applicationID);
+                if (app.getStatus() != ApplicationStatus.PENDING) {
+                    throw new IllegalArgumentException("Application is " + app.getStatus() + ", can only reject PENDING applications.");
+                }
+                app.setStatus(ApplicationStatus.UNSUCCESSFUL);
+                csvHandler.saveToCsv(app);
+                return app;
+            });
+        });
     }
     
     /**
      * Rejects a placement offer.
      * Students can reject SUCCESSFUL or ACCEPTED applications, setting status to UNSUCCESSFUL.
-     * Updates internship filled slots if application was previously ACCEPTED.
+     * Frees the internship slot held by the offer.
      * 
      * @param applicationID The ID of the application
      * @param student The student rejecting the placement
@@ -460,33 +687,156 @@ public class ApplicationController implements ApplicationControllerInterface {
      */
     @Override
     public void rejectPlacement(int applicationID, Student student) {
-        Application app = findApplicationByID(applicationID, student);
-        
-        if (app.getStatus() != ApplicationStatus.SUCCESSFUL && app.getStatus() != ApplicationStatus.ACCEPTED) {
-            throw new IllegalArgumentException("Application is " + app.getStatus() + ", can only reject placement for SUCCESSFUL or ACCEPTED applications.");
-        }
-        boolean wasAccepted = app.getStatus() == ApplicationStatus.ACCEPTED;
-        app.setStatus(ApplicationStatus.UNSUCCESSFUL);
-        csvHandler.saveToCsv(app);
-        if (wasAccepted) {
-            app.getInternship().confirmPlacement();
-            internshipWriter.saveInternship(app.getInternship());
-        }
+        metrics.time("ApplicationController.rejectPlacement", () -> {
+            inTransaction(student, Collections.emptyList(), () -> {
+                Application app = student.findApplicationWithID(applicationID);
+                if (app.getStatus() != ApplicationStatus.SUCCESSFUL && app.getStatus() != ApplicationStatus.ACCEPTED) {
+                    throw new IllegalArgumentException("Application is " + app.getStatus() + ", can only reject placement for SUCCESSFUL or ACCEPTED applications.");
+                }
+                // Both SUCCESSFUL and ACCEPTED hold a slot, so either way it is given back
+                app.setStatus(ApplicationStatus.UNSUCCESSFUL);
+                csvHandler.saveToCsv(app);
+                app.getInternship().confirmPlacement();
+                internshipWriter.saveInternship(app.getInternship());
+                return app;
+            });
+        });
     }
     
     /**
      * Loads all applications from CSV file.
      * Clears existing data and reloads from disk.
      * Ensures internships are loaded first (applications depend on them).
+     * Both registries are rebuilt under the write side of the reload lock, so this is also the
+     * way for controllers to refresh internships without racing a transition.
      * 
      * @param internshipControllerParam Controller to ensure internships are loaded
      */
     @Override
     public void loadApplicationsFromCsv(InternshipControllerInterface internshipControllerParam) {
+        metrics.time("ApplicationController.loadApplicationsFromCsv", () -> {
+            reloadLock.writeLock().lock();
+            try {
+                reload(internshipControllerParam);
+            } finally {
+                reloadLock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Reloads internships and applications from CSV, then runs a read against the reloaded data
+     * before any other reload can replace it. The write lock is downgraded to the read lock for
+     * the read, so transitions may run alongside it but reloads wait until it returns.
+     * 
+     * @param internshipControllerParam Controller to load internships with
+     * @param read The read to run on the reloaded data
+     * @return The read's result
+     */
+    @Override
+    public <T> T reloadAndRead(InternshipControllerInterface internshipControllerParam, Supplier<T> read) {
+        reloadLock.writeLock().lock();
+        try {
+            metrics.time("ApplicationController.loadApplicationsFromCsv", () -> reload(internshipControllerParam));
+            reloadLock.readLock().lock();
+        } finally {
+            reloadLock.writeLock().unlock();
+        }
+        try {
+            return read.get();
+        } finally {
+            reloadLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds both registries from CSV. Caller must hold the write side of the reload lock.
+     */
+    private void reload(InternshipControllerInterface internshipControllerParam) {
+        ApplicationReloadEvent event = new ApplicationReloadEvent();
+        event.begin();
+        reloadListeners.forEach(Runnable::run);
         internshipControllerParam.loadInternshipsFromCsv();
         Application.clearAll();
         csvHandler.loadFromCsv();
+        event.internshipsLoaded = Internship.getInternshipsList().size();
+        event.applicationsLoaded = Application.getAllApplicationsList().size();
+        event.commit();
+    }
+
+    /**
+     * Runs a multi-entity transition as one atomic step.
+     * Locks the student, the given internships and the internships of all the student's
+     * applications, in stripe order so concurrent transitions cannot deadlock. If an application
+     * to another internship appeared while the locks were being taken, the locks are released and
+     * taken again with the larger set.
+     * 
+     * @param student The student whose applications change
+     * @param internshipIDs Further internships touched by the transition
+     * @param transition The transition to run while the locks are held
+     * @return The transition's result
+     */
+    private static <T> T inTransaction(Student student, Collection<Integer> internshipIDs, Supplier<T> transition) {
+        reloadLock.readLock().lock();
+        try {
+            while (true) {
+                List<Object> keys = new ArrayList<>();
+                keys.add(studentKey(student));
+                for (int id : internshipIDs) keys.add(internshipKey(id));
+                StripedLocks.Held studentLock = entityLocks.lock(studentKey(student));
+                try {
+                    for (Application a : student.getApplications()) keys.add(internshipKey(a.getInternship().getID()));
+                } finally {
+                    studentLock.close();
+                }
+                try (StripedLocks.Held held = entityLocks.lockAll(keys)) {
+                    boolean complete = student.getApplications().stream()
+                            .allMatch(a -> held.covers(internshipKey(a.getInternship().getID())));
+                    if (complete) {
+                        return transition.get();
+                    }
+                }
+                metrics.counter("ApplicationController.transactionRetries").increment();
+            }
+        } finally {
+            reloadLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Reads state guarded by one entity lock, so the read never observes a transition half-way.
+     * 
+     * @param key The entity lock key
+     * @param reader The read to perform
+     * @return The read's result
+     */
+    private static <T> T read(String key, Supplier<T> reader) {
+        reloadLock.readLock().lock();
+        StripedLocks.Held entityLock = entityLocks.lock(key);
+        try {
+            return reader.get();
+        } finally {
+            entityLock.close();
+            reloadLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Gets the entity lock key of a student.
+     * @param student The student
+     * @return The lock key
+     */
+    private static String studentKey(Student student) {
+        return "student:" + student.getUserID();
+    }
+    
+    /**
+     * Gets the entity lock key of an internship.
+     * @param internshipID The internship ID
+     * @return The lock key
+     */
+    private static String internshipKey(int internshipID) {
+        return "internship:" + internshipID;
     }
     
 }
-
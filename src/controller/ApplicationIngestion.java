@@ -0,0 +1,316 @@
+package controller;
+
+import controller.interfaces.ApplicationControllerInterface;
+import model.Application;
+import model.Student;
+import utils.metrics.LatencyHistogram;
+import utils.metrics.MetricsRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ingestion pipeline for application submissions during opening spikes.
+ *
+ * <p>Submissions are queued instead of being processed on the caller's thread:
+ * <ol>
+ *   <li>{@link #submit(int, Student)} places the submission on one of several bounded lanes,
+ *       chosen by internship ID, and returns a future. When the lane stays full for the offer
+ *       timeout the future fails immediately (backpressure).</li>
+ *   <li>One worker per lane validates and records submissions in memory with
+ *       {@link ApplicationControllerInterface#recordApplication(int, Student, java.util.function.Consumer)}. Lanes run in parallel,
+ *       and submissions for the same internship are handled in arrival order.</li>
+ *   <li>A writer persists recorded applications in batches with one file rewrite per batch,
+ *       then completes their futures.</li>
+ * </ol>
+ *
+ * <p>Unsaved applications are written out before any CSV reload, so a reload never drops them.
+ *
+ * <p>Metrics: {@code ApplicationIngestion.queueDepth} (gauge), {@code .submitted}, {@code .backpressured},
+ * {@code .recorded}, {@code .refused}, {@code .batches}, {@code .persisted} (counters),
+ * {@code .queueWait} and {@code .latency} (histograms).
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class ApplicationIngestion implements AutoCloseable {
+    /** Registry receiving pipeline metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    /** How long idle threads wait before re-checking for shutdown */
+    private static final long POLL_MILLIS = 50;
+
+    /**
+     * Queued submission.
+     */
+    private static final class Submission {
+        final int internshipID;
+        final Student student;
+        final CompletableFuture<Application> result = new CompletableFuture<>();
+        final long enqueuedAt = System.nanoTime();
+
+        Submission(int internshipID, Student student) {
+            this.internshipID = internshipID;
+            this.student = student;
+        }
+    }
+
+    /**
+     * Application recorded in memory and waiting to be persisted.
+     */
+    private static final class Recorded {
+        final Application application;
+        final Submission submission;
+
+        Recorded(Application application, Submission submission) {
+            this.application = application;
+            this.submission = submission;
+        }
+    }
+
+    /** Controller validating, recording and saving applications */
+    private final ApplicationControllerInterface applications;
+    /** Bounded per-lane submission queues */
+    private final List<BlockingQueue<Submission>> lanes = new ArrayList<>();
+    /** One worker thread per lane */
+    private final List<Thread> workers = new ArrayList<>();
+    /** Recorded applications waiting for the writer */
+    private final BlockingQueue<Recorded> recorded = new LinkedBlockingQueue<>();
+    /** Held while a batch is being gathered and written */
+    private final ReentrantLock persistLock = new ReentrantLock();
+    /** Batch writer thread */
+    private final Thread writer;
+    /** Maximum applications per batch */
+    private final int batchSize;
+    /** How long the writer waits for a batch to fill */
+    private final long lingerMillis;
+    /** How long {@link #submit} waits for room in a full lane */
+    private final long offerTimeoutMillis;
+    /** Hook persisting pending applications before a reload */
+    private final Runnable flushBeforeReload = this::flush;
+    /** Set when no more submissions are accepted */
+    private volatile boolean closed;
+    /** Set once the workers have finished */
+    private volatile boolean workersDone;
+
+    /**
+     * Creates and starts a pipeline with default settings: one lane per processor,
+     * 1024 queued submissions, batches of up to 256 with 20ms linger, and a 100ms offer timeout.
+     *
+     * @param applications Controller validating, recording and saving applications
+     */
+    public ApplicationIngestion(ApplicationControllerInterface applications) {
+        this(applications, Runtime.getRuntime().availableProcessors(), 1024, 256, 20, 100);
+    }
+
+    /**
+     * Creates and starts a pipeline.
+     *
+     * @param applications Controller validating, recording and saving applications
+     * @param laneCount Number of parallel validation lanes
+     * @param capacity Total queued submissions across all lanes
+     * @param batchSize Maximum applications persisted per file rewrite
+     * @param lingerMillis How long the writer waits for a batch to fill
+     * @param offerTimeoutMillis How long a submission waits for room in a full lane
+     * @throws IllegalArgumentException if a size is not positive
+     */
+    public ApplicationIngestion(ApplicationControllerInterface applications, int laneCount, int capacity,
+                                int batchSize, long lingerMillis, long offerTimeoutMillis) {
+        if (laneCount <= 0 || capacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Lane count, capacity and batch size must be positive.");
+        }
+        this.applications = applications;
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        int laneCapacity = Math.max(1, capacity / laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            BlockingQueue<Submission> lane = new ArrayBlockingQueue<>(laneCapacity);
+            lanes.add(lane);
+            Thread worker = new Thread(() -> validate(lane), "ingestion-lane-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+        }
+        writer = new Thread(this::persistLoop, "ingestion-writer");
+        writer.setDaemon(true);
+        metrics.registerGauge("ApplicationIngestion.queueDepth", this::getQueueDepth);
+        ApplicationController.addReloadListener(flushBeforeReload);
+        workers.forEach(Thread::start);
+        writer.start();
+    }
+
+    /**
+     * Queues a submission.
+     * The future completes with the saved application, or exceptionally with an
+     * IllegalArgumentException if the student is ineligible, or an IllegalStateException if
+     * the pipeline is overloaded or closed.
+     *
+     * @param internshipID The ID of the internship to apply to
+     * @param student The student submitting the application
+     * @return Future completed once the application is persisted or refused
+     */
+    public CompletableFuture<Application> submit(int internshipID, Student student) {
+        Submission submission = new Submission(internshipID, student);
+        if (closed) {
+            submission.result.completeExceptionally(new IllegalStateException("Submissions are closed."));
+            return submission.result;
+        }
+        metrics.counter("ApplicationIngestion.submitted").increment();
+        try {
+            BlockingQueue<Submission> lane = lanes.get(Math.floorMod(internshipID, lanes.size()));
+            if (!lane.offer(submission, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                metrics.counter("ApplicationIngestion.backpressured").increment();
+                submission.result.completeExceptionally(
+                        new IllegalStateException("Too many submissions in progress, please try again."));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            submission.result.completeExceptionally(e);
+        }
+        return submission.result;
+    }
+
+    /**
+     * Gets the number of submissions waiting for validation.
+     * @return the total across all lanes
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (BlockingQueue<Submission> lane : lanes) depth += lane.size();
+        return depth;
+    }
+
+    /**
+     * Persists every recorded application that has not been written yet.
+     * Runs before each CSV reload and on close.
+     */
+    public void flush() {
+        persistLock.lock();
+        try {
+            List<Recorded> batch = new ArrayList<>();
+            recorded.drainTo(batch);
+            persist(batch);
+        } finally {
+            persistLock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting submissions, finishes the queued ones and persists everything recorded.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            for (Thread worker : workers) worker.join();
+            workersDone = true;
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Submissions that raced with closing
+        for (BlockingQueue<Submission> lane : lanes) {
+            for (Submission s = lane.poll(); s != null; s = lane.poll()) {
+                s.result.completeExceptionally(new IllegalStateException("Submissions are closed."));
+            }
+        }
+        flush();
+        ApplicationController.removeReloadListener(flushBeforeReload);
+    }
+
+    /**
+     * Lane worker: validates and records submissions in arrival order.
+     */
+    private void validate(BlockingQueue<Submission> lane) {
+        LatencyHistogram queueWait = metrics.histogram("ApplicationIngestion.queueWait");
+        while (true) {
+            Submission s;
+            try {
+                s = lane.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (s == null) {
+                if (closed) return;
+                continue;
+            }
+            queueWait.record(System.nanoTime() - s.enqueuedAt);
+            try {
+                // Queued inside the transaction, so a reload's flush cannot miss it
+                applications.recordApplication(s.internshipID, s.student, app -> recorded.add(new Recorded(app, s)));
+                metrics.counter("ApplicationIngestion.recorded").increment();
+            } catch (RuntimeException e) {
+                metrics.counter("ApplicationIngestion.refused").increment();
+                s.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Writer: gathers recorded applications into batches and persists them.
+     */
+    private void persistLoop() {
+        while (true) {
+            Recorded first;
+            try {
+                first = recorded.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (first == null) {
+                if (workersDone) return;
+                continue;
+            }
+            persistLock.lock();
+            try {
+                List<Recorded> batch = new ArrayList<>();
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < batchSize) {
+                    recorded.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) break;
+                    Recorded next = recorded.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                persist(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                persistLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Saves a batch with one file rewrite and completes its futures,
+     * exceptionally if the write fails. Caller must hold the persist lock.
+     */
+    private void persist(List<Recorded> batch) {
+        if (batch.isEmpty()) return;
+        List<Application> apps = new ArrayList<>(batch.size());
+        for (Recorded r : batch) apps.add(r.application);
+        try {
+            metrics.time("ApplicationIngestion.persistBatch", () -> applications.saveApplications(apps));
+        } catch (RuntimeException e) {
+            for (Recorded r : batch) r.submission.result.completeExceptionally(e);
+            return;
+        }
+        metrics.counter("ApplicationIngestion.batches").increment();
+        metrics.counter("ApplicationIngestion.persisted").add(batch.size());
+        LatencyHistogram latency = metrics.histogram("ApplicationIngestion.latency");
+        long now = System.nanoTime();
+        for (Recorded r : batch) {
+            latency.record(now - r.submission.enqueuedAt);
+            r.submission.result.complete(r.application);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package controller;
 
 import model.*;
+import utils.filter.SavedFilterProvider;
+import utils.filter.SavedFilters;
 import utils.formatter.InternshipFormatter;
 import utils.formatter.ApplicationFormatter;
 import controller.interfaces.*;
@@ -18,7 +20,7 @@ import java.util.stream.Collectors;
  * @version 1.0
  * @since 2025-11-16
  */
-public class CompanyRepresentativeController extends BaseUserController {
+public class CompanyRepresentativeController extends BaseUserController implements SavedFilterProvider {
     /** The company representative user associated with this controller */
     private final CompanyRepresentative companyRep;
 
@@ -38,10 +40,10 @@ public class CompanyRepresentativeController extends BaseUserController {
      * @return List of formatted internship strings with status information
      */
     public List<String> listMyInternships() {
-        internshipController.loadInternshipsFromCsv();
-        return internshipController.getInternshipsByCreator(companyRep, filterSettings).stream()
-                .map(i -> InternshipFormatter.formatAsRow(i, true))
-                .collect(Collectors.toList());
+        return applicationController.reloadAndRead(internshipController, () ->
+                internshipController.getInternshipsByCreator(companyRep, filterSettings).stream()
+                        .map(i -> InternshipFormatter.formatAsRow(i, true))
+                        .collect(Collectors.toList()));
     }
     
     /**
@@ -63,6 +65,23 @@ public class CompanyRepresentativeController extends BaseUserController {
         return InternshipFormatter.formatDetails(created, "✓ INTERNSHIP CREATED SUCCESSFULLY", true);
     }
 
+    /**
+     * Creates internships from a CSV file of postings in one batch.
+     * 
+     * @param path Path of the CSV file ({@code Title,Description,Level,Major,OpenDate,CloseDate,Slots})
+     * @return A summary line, then one line per rejected posting and one row per created internship
+     * @throws IllegalStateException if the file cannot be read
+     */
+    public List<String> importInternships(String path) {
+        applicationController.loadApplicationsFromCsv(internshipController);
+        InternshipImport result = internshipController.importInternships(java.nio.file.Paths.get(path), companyRep);
+        List<String> lines = new java.util.ArrayList<>();
+        lines.add(result.summary());
+        lines.addAll(result.getErrors());
+        result.getImported().forEach(i -> lines.add(InternshipFormatter.formatAsRow(i, true)));
+        return lines;
+    }
+
     /**
      * Views all applications for a specific internship.
      * Only the owner can view applications.
@@ -89,11 +108,10 @@ public class CompanyRepresentativeController extends BaseUserController {
     public List<Application> getApplicationsForInternship(int internshipID) {
         validateOwnership(internshipID, companyRep, (InternshipValidator) internshipController, "view applications for this internship");
         // Ensure applications are loaded and linked to internships (reload from CSV)
-        applicationController.loadApplicationsFromCsv(internshipController);
-        List<Application> applications = applicationController.getApplicationsForInternship(internshipID, internshipController);
-        return applications.stream()
-                .sorted((a1, a2) -> a2.getDateApplied().toLocalDate().compareTo(a1.getDateApplied().toLocalDate())) // Descending by date
-                .collect(Collectors.toList());
+        return applicationController.reloadAndRead(internshipController, () ->
+                applicationController.getApplicationsForInternship(internshipID, internshipController).stream()
+                        .sorted((a1, a2) -> a2.getDateApplied().toLocalDate().compareTo(a1.getDateApplied().toLocalDate())) // Descending by date
+                        .collect(Collectors.toList()));
     }
     
     /**
@@ -114,6 +132,45 @@ public class CompanyRepresentativeController extends BaseUserController {
         return ApplicationFormatter.formatDetails(application, "APPLICATION DETAILS", true);
     }
     
+    /**
+     * Gets the names of this company representative's saved filters.
+     * @return sorted filter names
+     */
+    @Override
+    public List<String> getSavedFilterNames() {
+        return SavedFilters.getInstance().getNames(user.getUserID());
+    }
+
+    /**
+     * Saves the current filter settings under a name, scoped to this rep's own internships.
+     * @param name filter name
+     */
+    @Override
+    public void saveFilter(String name) {
+        SavedFilters.getInstance().save(user.getUserID(), name, filterSettings, companyRep.getUserID());
+    }
+
+    /**
+     * Opens a saved filter after refreshing internships from CSV.
+     * Only internships whose rows changed since the last load are re-checked.
+     * @param name filter name
+     * @return matching internships in the filter's sort order
+     */
+    @Override
+    public List<Internship> openSavedFilter(String name) {
+        return applicationController.reloadAndRead(internshipController,
+                () -> SavedFilters.getInstance().open(user.getUserID(), name));
+    }
+
+    /**
+     * Deletes a saved filter.
+     * @param name filter name
+     */
+    @Override
+    public void deleteSavedFilter(String name) {
+        SavedFilters.getInstance().delete(user.getUserID(), name);
+    }
+
     /**
      * Gets status filter options for company representatives.
      * Company Reps see: "All", "PENDING", "APPROVED", "REJECTED", "Available", "Filled"
@@ -245,13 +302,13 @@ public class CompanyRepresentativeController extends BaseUserController {
      * @return List of Internship objects sorted by status and ID
      */
     public List<Internship> getInternships() {
-        internshipController.loadInternshipsFromCsv();
-        return internshipController.getInternshipsByCreator(companyRep, filterSettings).stream()
-                .sorted((i1, i2) -> {
-                    int statusCompare = i1.getStatus().compareTo(i2.getStatus());
-                    return statusCompare != 0 ? statusCompare : Integer.compare(i1.getID(), i2.getID());
-                })
-                .collect(Collectors.toList());
+        return applicationController.reloadAndRead(internshipController, () ->
+                internshipController.getInternshipsByCreator(companyRep, filterSettings).stream()
+                        .sorted((i1, i2) -> {
+                            int statusCompare = i1.getStatus().compareTo(i2.getStatus());
+                            return statusCompare != 0 ? statusCompare : Integer.compare(i1.getID(), i2.getID());
+                        })
+                        .collect(Collectors.toList()));
     }
     
     /**
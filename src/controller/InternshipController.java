@@ -6,9 +6,18 @@ import utils.filter.*;
 import utils.csv.*;
 import utils.validation.ValidationHelper;
 import controller.interfaces.*;
+import utils.metrics.MetricsRegistry;
+import utils.schedule.DeadlineScheduler;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +32,10 @@ import java.util.stream.Collectors;
  * @since 2025-11-16
  */
 public class InternshipController implements InternshipControllerInterface {
+    /** Registry receiving per-operation latency metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    /** Serializes the per-representative posting limit check with the creation it guards */
+    private static final ReentrantLock creationLock = new ReentrantLock();
     /** CSV handler for persistence operations */
     private final CsvHandler<Internship> csvHandler;
     
@@ -56,18 +69,21 @@ public class InternshipController implements InternshipControllerInterface {
      * 4. Date range (must be within open and close dates)
      * 5. User-applied filters (Status, Major, Level, Closing Date)
      * Default sort: alphabetical by title
+     * Only internships open today, taken from the date index, are checked against the other criteria.
      * 
      * @param student The student for visibility filtering
      * @param filterSettings Additional filter settings to apply
      * @return List of visible internships matching all criteria
      */
     public List<Internship> getVisibleInternshipsForStudent(Student student, FilterSettings filterSettings) {
-        List<Internship> visible = Internship.getAllInternships().stream()
-                .filter(i -> i.isVisibleToStudent(student))
-                .collect(Collectors.toList());
-        @SuppressWarnings("unchecked")
-        List<Internship> result = (List<Internship>) (List<?>) InternshipFilter.applyFilters(visible, filterSettings);
-        return result;
+        return metrics.time("InternshipController.getVisibleInternshipsForStudent", () -> {
+            List<Internship> visible = Internship.getOpenOn(DeadlineScheduler.getInstance().today()).stream()
+                    .filter(i -> i.isVisibleToStudent(student))
+                    .collect(Collectors.toList());
+            @SuppressWarnings("unchecked")
+            List<Internship> result = (List<Internship>) (List<?>) InternshipFilter.applyFilters(visible, filterSettings);
+            return result;
+        });
     }
     
     /**
@@ -91,13 +107,15 @@ public class InternshipController implements InternshipControllerInterface {
      * @return List of internships created by the representative
      */
     public List<Internship> getInternshipsByCreator(CompanyRepresentative creator, FilterSettings filterSettings) {
-        model.Application.getAllApplications();
-        List<Internship> internships = model.Internship.getInternshipsList().stream()
-                .filter(i -> i.getCreator().equals(creator))
-                .collect(Collectors.toList());
-        @SuppressWarnings("unchecked")
-        List<Internship> result = (List<Internship>) (List<?>) InternshipFilter.applyFilters(internships, filterSettings);
-        return result;
+        return metrics.time("InternshipController.getInternshipsByCreator", () -> {
+            model.Application.getAllApplications();
+            List<Internship> internships = model.Internship.getInternshipsList().stream()
+                    .filter(i -> i.getCreator().equals(creator))
+                    .collect(Collectors.toList());
+            @SuppressWarnings("unchecked")
+            List<Internship> result = (List<Internship>) (List<?>) InternshipFilter.applyFilters(internships, filterSettings);
+            return result;
+        });
     }
     
     /**
@@ -120,10 +138,12 @@ public class InternshipController implements InternshipControllerInterface {
      * @return List of approved internships
      */
     public List<Internship> getApprovedInternshipsByCreator(CompanyRepresentative creator) {
-        return Internship.getAllInternships().stream()
-                .filter(i -> i.getCreator().equals(creator))
-                .filter(i -> i.getStatus() == InternshipStatus.APPROVED)
-                .collect(Collectors.toList());
+        return metrics.time("InternshipController.getApprovedInternshipsByCreator", () -> {
+            return Internship.getAllInternships().stream()
+                    .filter(i -> i.getCreator().equals(creator))
+                    .filter(i -> i.getStatus() == InternshipStatus.APPROVED)
+                    .collect(Collectors.toList());
+        });
     }
     
     /**
@@ -132,9 +152,11 @@ public class InternshipController implements InternshipControllerInterface {
      * @return List of internships with PENDING status
      */
     public List<Internship> getPendingInternships() {
-        return Internship.getAllInternships().stream()
-                .filter(i -> i.getStatus() == InternshipStatus.PENDING)
-                .collect(Collectors.toList());
+        return metrics.time("InternshipController.getPendingInternships", () -> {
+            return Internship.getAllInternships().stream()
+                    .filter(i -> i.getStatus() == InternshipStatus.PENDING)
+                    .collect(Collectors.toList());
+        });
     }
     
     
@@ -155,34 +177,134 @@ public class InternshipController implements InternshipControllerInterface {
      */
     public Internship createInternship(String title, String description, String level, String major,
                                        LocalDate openDate, LocalDate closeDate, CompanyRepresentative creator, int slots) {
-        // Validate company representative is approved
-        if (!creator.isApproved()) {
-            throw new IllegalArgumentException("Company representative must be approved to create internships.");
-        }
-        
-        // Validate maximum limit per company representative
-        long existingCount = getInternshipsByCreator(creator).size();
-        if (existingCount >= CompanyRepresentative.MAX_INTERNSHIPS) {
-            throw new IllegalArgumentException("Maximum of " + CompanyRepresentative.MAX_INTERNSHIPS + 
-                " internships allowed per company representative.");
-        }
+        return metrics.time("InternshipController.createInternship", () -> {
+            // Validate company representative is approved
+            if (!creator.isApproved()) {
+                throw new IllegalArgumentException("Company representative must be approved to create internships.");
+            }
         
-        // Validate input data
-        validateInternshipData(title, description, level, major, openDate, closeDate, slots);
+            // Validate input data
+            validateInternshipData(title, description, level, major, openDate, closeDate, slots);
         
-        Internship internship = new Internship(
-            title, 
-            description, 
-            level, 
-            major, 
-            openDate, 
-            closeDate, 
-            creator.getCompanyName(), 
-            creator, 
-            slots
-        );
-        csvHandler.saveToCsv(internship);
-        return internship;
+            Internship internship;
+            creationLock.lock();
+            try {
+                // Validate maximum limit per company representative
+                long existingCount = getInternshipsByCreator(creator).size();
+                if (existingCount >= CompanyRepresentative.MAX_INTERNSHIPS) {
+                    throw new IllegalArgumentException(limitMessage());
+                }
+                internship = new Internship(
+                    title, 
+                    description, 
+                    level, 
+                    major, 
+                    openDate, 
+                    closeDate, 
+                    creator.getCompanyName(), 
+                    creator, 
+                    slots
+                );
+                csvHandler.saveToCsv(internship);
+            } finally {
+                creationLock.unlock();
+            }
+            InternshipDeadlines.getInstance().track(internship);
+            return internship;
+        });
+    }
+
+    /**
+     * Creates internships from a CSV file of postings (see {@link InternshipImport} for the format).
+     * Every posting is validated with the same rules as {@link #createInternship}, in parallel, and
+     * rejected postings are reported with their line number. The valid postings are then created in
+     * file order and saved in one rewrite of the internships file. The per-representative limit is
+     * checked and the postings created under the same lock as single creations, so concurrent
+     * imports and creations never exceed it; postings beyond the limit are rejected.
+     * If the internships file cannot be written, the new internships are removed again,
+     * so none of them is kept in memory or counted towards the limit.
+     *
+     * @param file The CSV file of postings
+     * @param creator The company representative creating the internships
+     * @return The outcome of every posting
+     * @throws IllegalArgumentException if the representative is not approved
+     * @throws IllegalStateException if the postings file cannot be read or the internships file written
+     */
+    public InternshipImport importInternships(Path file, CompanyRepresentative creator) {
+        return metrics.time("InternshipController.importInternships", () -> {
+            if (!creator.isApproved()) {
+                throw new IllegalArgumentException("Company representative must be approved to create internships.");
+            }
+            InternshipImport result;
+            try {
+                result = InternshipImport.read(file);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot read postings from " + file + ": " + e.getMessage());
+            }
+            result.getRows().parallelStream().forEach(this::validateRow);
+
+            List<Internship> created = new ArrayList<>();
+            creationLock.lock();
+            try {
+                long existingCount = getInternshipsByCreator(creator).size();
+                for (InternshipImport.Row row : result.getRows()) {
+                    if (row.getError() != null) continue;
+                    if (existingCount + created.size() >= CompanyRepresentative.MAX_INTERNSHIPS) {
+                        row.reject(limitMessage());
+                        continue;
+                    }
+                    Internship internship = new Internship(row.getTitle(), row.getDescription(), row.getLevel(),
+                            row.getMajor(), row.getOpenDate(), row.getCloseDate(), creator.getCompanyName(),
+                            creator, row.getSlots());
+                    row.created(internship);
+                    created.add(internship);
+                }
+                try {
+                    csvHandler.saveAllToCsv(created);
+                } catch (RuntimeException e) {
+                    created.forEach(Internship::delete);
+                    throw e;
+                }
+            } finally {
+                creationLock.unlock();
+            }
+            created.forEach(InternshipDeadlines.getInstance()::track);
+            metrics.counter("InternshipController.importedPostings").add(created.size());
+            metrics.counter("InternshipController.rejectedPostings").add(result.getRows().size() - created.size());
+            return result;
+        });
+    }
+
+    /**
+     * Parses and validates one imported posting, recording the first problem found.
+     */
+    private void validateRow(InternshipImport.Row row) {
+        String[] fields = row.getFields();
+        if (fields.length != 7) {
+            row.reject("Expected 7 columns (" + InternshipImport.COLUMNS + "), found " + fields.length + ".");
+            return;
+        }
+        try {
+            LocalDate openDate = LocalDate.parse(fields[4].trim());
+            LocalDate closeDate = LocalDate.parse(fields[5].trim());
+            int slots = Integer.parseInt(fields[6].trim());
+            validateInternshipData(fields[0], fields[1], fields[2], fields[3], openDate, closeDate, slots);
+            row.parsed(fields[0].trim(), fields[1].trim(), fields[2].trim(), fields[3].trim(), openDate, closeDate, slots);
+        } catch (DateTimeParseException e) {
+            row.reject("Dates must be in YYYY-MM-DD format.");
+        } catch (NumberFormatException e) {
+            row.reject("Number of slots must be an integer.");
+        } catch (IllegalArgumentException e) {
+            row.reject(e.getMessage());
+        }
+    }
+
+    /**
+     * Message for a creation beyond the per-representative limit.
+     */
+    private static String limitMessage() {
+        return "Maximum of " + CompanyRepresentative.MAX_INTERNSHIPS + 
+            " internships allowed per company representative.";
     }
 
     /**
@@ -224,9 +346,11 @@ public class InternshipController implements InternshipControllerInterface {
      * @throws IllegalArgumentException if internship not found
      */
     public Internship findInternship(int internshipID) {
-        Internship internship = Internship.findWithID(internshipID);
-        if (internship == null) throw new IllegalArgumentException("Internship not found!");
-        return internship;
+        return metrics.time("InternshipController.findInternship", () -> {
+            Internship internship = Internship.findWithID(internshipID);
+            if (internship == null) throw new IllegalArgumentException("Internship not found!");
+            return internship;
+        });
     }
     
     /**
@@ -245,17 +369,20 @@ public class InternshipController implements InternshipControllerInterface {
      */
     public void updateInternship(int internshipID, String title, String description, String level, 
                                  String major, LocalDate openDate, LocalDate closeDate, Integer slots) {
-        Internship i = findInternship(internshipID);
-        // If editing a REJECTED internship, reset to PENDING for resubmission
-        if (i.getStatus() == InternshipStatus.REJECTED) {
-            i.setStatus(InternshipStatus.PENDING);
+        metrics.time("InternshipController.updateInternship", () -> {
+            Internship i = findInternship(internshipID);
+            // If editing a REJECTED internship, reset to PENDING for resubmission
+            if (i.getStatus() == InternshipStatus.REJECTED) {
+                i.setStatus(InternshipStatus.PENDING);
+                csvHandler.saveToCsv(i);
+            }
+            i.updateDetails(title != null ? title : i.getTitle(), description != null ? description : i.getDescription(),
+                level != null ? level : i.getLevel(), major != null ? major : i.getPreferredMajor(),
+                openDate != null ? openDate : i.getOpenDate(), closeDate != null ? closeDate : i.getCloseDate(),
+                slots != null ? slots : i.getNumSlots());
             csvHandler.saveToCsv(i);
-        }
-        i.updateDetails(title != null ? title : i.getTitle(), description != null ? description : i.getDescription(),
-            level != null ? level : i.getLevel(), major != null ? major : i.getPreferredMajor(),
-            openDate != null ? openDate : i.getOpenDate(), closeDate != null ? closeDate : i.getCloseDate(),
-            slots != null ? slots : i.getNumSlots());
-        csvHandler.saveToCsv(i);
+            InternshipDeadlines.getInstance().track(i);
+        });
     }
     
     /**
@@ -265,12 +392,15 @@ public class InternshipController implements InternshipControllerInterface {
      * @throws IllegalArgumentException if internship not found or cannot be deleted
      */
     public void deleteInternship(int internshipID) {
-        Internship internship = findInternship(internshipID);
-        internship.delete();
-        // deleteFromCsv is only available if handler implements CsvDeletable
-        if (csvHandler instanceof CsvDeletable) {
-            ((CsvDeletable<?>) csvHandler).deleteFromCsv(internshipID);
-        }
+        metrics.time("InternshipController.deleteInternship", () -> {
+            Internship internship = findInternship(internshipID);
+            internship.delete();
+            // deleteFromCsv is only available if handler implements CsvDeletable
+            if (csvHandler instanceof CsvDeletable) {
+                ((CsvDeletable<?>) csvHandler).deleteFromCsv(internshipID);
+            }
+            InternshipDeadlines.getInstance().untrack(internshipID);
+        });
     }
     /**
      * Toggles the visibility of an internship.
@@ -280,10 +410,12 @@ public class InternshipController implements InternshipControllerInterface {
      * @throws IllegalArgumentException if internship not found
      */
     public boolean toggleInternshipVisibility(int internshipID) {
-        Internship internship = findInternship(internshipID);
-        boolean result = internship.toggleVisibility();
-        csvHandler.saveToCsv(internship);
-        return result;
+        return metrics.time("InternshipController.toggleInternshipVisibility", () -> {
+            Internship internship = findInternship(internshipID);
+            boolean result = internship.toggleVisibility();
+            csvHandler.saveToCsv(internship);
+            return result;
+        });
     }
     /**
      * Updates internship approval status.
@@ -293,18 +425,55 @@ public class InternshipController implements InternshipControllerInterface {
      * @throws IllegalArgumentException if internship not found
      */
     public void updateInternshipApproval(int internshipID, boolean approve) {
-        Internship internship = findInternship(internshipID);
-        internship.setStatus(approve ? InternshipStatus.APPROVED : InternshipStatus.REJECTED);
-        csvHandler.saveToCsv(internship);
+        metrics.time("InternshipController.updateInternshipApproval", () -> {
+            Internship internship = findInternship(internshipID);
+            internship.setStatus(approve ? InternshipStatus.APPROVED : InternshipStatus.REJECTED);
+            csvHandler.saveToCsv(internship);
+        });
+    }
+    
+    /**
+     * Approves or rejects several pending internships, saving them in one rewrite of the internships file.
+     * Internships that do not exist or are no longer pending are skipped and reported.
+     * 
+     * @param internshipIDs The IDs of the internships; duplicates are applied once
+     * @param approve true to approve, false to reject
+     * @return The outcome for each internship
+     */
+    public BatchResult updateInternshipApprovals(Collection<Integer> internshipIDs, boolean approve) {
+        return metrics.time("InternshipController.updateInternshipApprovals", () -> {
+            InternshipStatus target = approve ? InternshipStatus.APPROVED : InternshipStatus.REJECTED;
+            BatchResult result = new BatchResult(approve ? "Approve internships" : "Reject internships");
+            List<Internship> changed = new ArrayList<>();
+            for (int id : new LinkedHashSet<>(internshipIDs)) {
+                Internship internship = Internship.findWithID(id);
+                if (internship == null) {
+                    result.failed(id, "Internship not found.");
+                } else if (internship.getStatus() != InternshipStatus.PENDING) {
+                    result.failed(id, "Internship is " + internship.getStatus() + ", not PENDING.");
+                } else {
+                    internship.setStatus(target);
+                    changed.add(internship);
+                    result.succeeded(id, target.name());
+                }
+            }
+            csvHandler.saveAllToCsv(changed);
+            return result;
+        });
     }
     
     /**
      * Loads all internships from CSV file.
-     * Clears existing data and reloads from disk.
+     * Clears existing data and reloads from disk, then registers their open/close deadlines.
+     * This does not wait for application transitions in progress; controllers refresh through
+     * {@link ApplicationController#loadApplicationsFromCsv}, which calls this under the reload lock.
      */
     public void loadInternshipsFromCsv() {
-        Internship.clearAll();
-        csvHandler.loadFromCsv();
+        metrics.time("InternshipController.loadInternshipsFromCsv", () -> {
+            Internship.clearAll();
+            csvHandler.loadFromCsv();
+            InternshipDeadlines.getInstance().trackAll();
+        });
     }
     
     /**
@@ -314,7 +483,22 @@ public class InternshipController implements InternshipControllerInterface {
      * @param internship The internship to save
      */
     public void saveInternship(Internship internship) {
-        csvHandler.saveToCsv(internship);
+        metrics.time("InternshipController.saveInternship", () -> {
+            csvHandler.saveToCsv(internship);
+        });
+    }
+    
+    /**
+     * Saves several internships with one rewrite of the CSV file.
+     * Helper method for other controllers that change internships in batches.
+     * 
+     * @param internships The internships to save
+     * @throws IllegalStateException if the file cannot be written
+     */
+    public void saveInternships(Collection<Internship> internships) {
+        metrics.time("InternshipController.saveInternships", () -> {
+            csvHandler.saveAllToCsv(internships);
+        });
     }
     /**
      * Checks if an internship is owned by a company representative.
@@ -325,7 +509,9 @@ public class InternshipController implements InternshipControllerInterface {
      * @throws IllegalArgumentException if internship not found
      */
     public boolean isInternshipOwnedBy(int internshipID, CompanyRepresentative companyRep) {
-        return findInternship(internshipID).isOwnedBy(companyRep);
+        return metrics.time("InternshipController.isInternshipOwnedBy", () -> {
+            return findInternship(internshipID).isOwnedBy(companyRep);
+        });
     }
     /**
      * Checks if an internship can be edited.
@@ -334,7 +520,11 @@ public class InternshipController implements InternshipControllerInterface {
      * @return true if editable, false otherwise
      * @throws IllegalArgumentException if internship not found
      */
-    public boolean canEditInternship(int internshipID) { return findInternship(internshipID).canEdit(); }
+    public boolean canEditInternship(int internshipID) {
+        return metrics.time("InternshipController.canEditInternship", () -> {
+            return findInternship(internshipID).canEdit();
+        });
+    }
     /**
      * Gets the status of an internship.
      * 
@@ -342,7 +532,11 @@ public class InternshipController implements InternshipControllerInterface {
      * @return The InternshipStatus
      * @throws IllegalArgumentException if internship not found
      */
-    public InternshipStatus getInternshipStatus(int internshipID) { return findInternship(internshipID).getStatus(); }
+    public InternshipStatus getInternshipStatus(int internshipID) {
+        return metrics.time("InternshipController.getInternshipStatus", () -> {
+            return findInternship(internshipID).getStatus();
+        });
+    }
     
     /**
      * Retrieves all internships with filtering (for staff/admin views).
@@ -351,10 +545,34 @@ public class InternshipController implements InternshipControllerInterface {
      * @return List of filtered internships
      */
     public List<Internship> getAllInternships(FilterSettings filterSettings) {
-        List<Internship> all = Internship.getAllInternships();
-        @SuppressWarnings("unchecked")
-        List<Internship> result = (List<Internship>) (List<?>) InternshipFilter.applyFilters(all, filterSettings);
-        return result;
+        return metrics.time("InternshipController.getAllInternships", () -> {
+            List<Internship> candidates = candidates(filterSettings);
+            @SuppressWarnings("unchecked")
+            List<Internship> result = (List<Internship>) (List<?>) InternshipFilter.applyFilters(candidates, filterSettings);
+            return result;
+        });
+    }
+
+    /**
+     * Narrows the internships to filter using the date index when a date filter is set, else the
+     * bitmap index when status, major, level or company is filtered.
+     * The filter still applies every criterion, so this only skips internships that cannot match.
+     *
+     * @param filterSettings the filters about to be applied
+     * @return internships opening on/after the opening date filter, else closing on/before the
+     *         closing date filter, else matching the indexed criteria, else all internships
+     */
+    private static List<Internship> candidates(FilterSettings filterSettings) {
+        if (filterSettings.getOpeningDateFilter() != null) {
+            return Internship.getOpeningOnOrAfter(filterSettings.getOpeningDateFilter());
+        }
+        if (filterSettings.getClosingDateFilter() != null) {
+            return Internship.getClosingOnOrBefore(filterSettings.getClosingDateFilter());
+        }
+        if (InternshipBitmapIndex.isIndexed(filterSettings)) {
+            return InternshipBitmapIndex.current().select(filterSettings);
+        }
+        return Internship.getAllInternships();
     }
     
     /**
@@ -363,7 +581,9 @@ public class InternshipController implements InternshipControllerInterface {
      * @return List of all internships in the system
      */
     public List<Internship> getAllInternships() {
-        return Internship.getAllInternships();
+        return metrics.time("InternshipController.getAllInternships", () -> {
+            return Internship.getAllInternships();
+        });
     }
 }
 
@@ -0,0 +1,206 @@
+package controller;
+
+import constant.ApplicationStatus;
+import controller.interfaces.ApplicationControllerInterface;
+import controller.interfaces.InternshipControllerInterface;
+import model.Application;
+import model.Internship;
+import model.ModificationClock;
+import utils.metrics.MetricsRegistry;
+import utils.schedule.DeadlineScheduler;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registers internship deadlines with the {@link DeadlineScheduler} and applies them when they pass.
+ *
+ * <p>Each internship gets up to three deadlines:
+ * <ul>
+ *   <li>opening - start of the open date; the internship enters student listings</li>
+ *   <li>closing - start of the day after the close date; it leaves them</li>
+ *   <li>offer expiry - a configured number of days after closing; SUCCESSFUL offers the student
+ *       has not accepted are released as if the student had rejected the placement
+ *       (off unless {@link #enableOfferExpiry} is called)</li>
+ * </ul>
+ * Opening and closing stamp the internship partition of the {@link ModificationClock}, so
+ * listing ETags and cached results change exactly when a window does, instead of every day.
+ *
+ * <p>Deadlines are keyed by internship ID and re-registered after every reload in which the
+ * internships changed; tasks look the internship up again when they fire. Opening and closing
+ * deadlines already in the past are dropped, since listings are computed from the current date.
+ * Offer expiries already in the past (e.g. after a restart, or once expiry is enabled) are
+ * gathered into one task due at the start of today, so the scheduler releases them all on its next
+ * pass with a single reload; each internship's offers expire once per {@link #enableOfferExpiry} call.
+ *
+ * <p>Metrics: {@code InternshipDeadlines.opened}, {@code .closed}, {@code .offersExpired} (counters).
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class InternshipDeadlines {
+    /** Registry receiving deadline metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+
+    /** Singleton instance on the application scheduler */
+    private static final InternshipDeadlines INSTANCE = new InternshipDeadlines(DeadlineScheduler.getInstance());
+
+    private final DeadlineScheduler scheduler;
+    /** Internship partition version at the last {@link #trackAll()} */
+    private long trackedVersion = -1;
+    private volatile ApplicationControllerInterface applications;
+    private volatile InternshipControllerInterface internships;
+    /** Days after closing until unaccepted offers are released, or -1 when disabled */
+    private volatile int offerExpiryDays = -1;
+    /** Internships whose offers have expired, so overdue expiries are not run again */
+    private final Set<Integer> offersExpired = ConcurrentHashMap.newKeySet();
+    /** Internships whose expiry passed before it was tracked, released together by one task */
+    private final Set<Integer> overdue = ConcurrentHashMap.newKeySet();
+
+    private InternshipDeadlines(DeadlineScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Get singleton instance.
+     * @return the singleton instance
+     */
+    public static InternshipDeadlines getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the deadlines of every loaded internship, unless the internships have not
+     * changed since the last call.
+     */
+    public synchronized void trackAll() {
+        long version = ModificationClock.version(ModificationClock.Partition.INTERNSHIPS);
+        if (version == trackedVersion) return;
+        for (Internship internship : Internship.getAllInternships()) {
+            track(internship);
+        }
+        trackedVersion = version;
+    }
+
+    /**
+     * Registers (or moves) the deadlines of one internship.
+     * @param internship the internship
+     */
+    public void track(Internship internship) {
+        int id = internship.getID();
+        LocalDate today = scheduler.today();
+        LocalDate closedFrom = internship.getCloseDate().plusDays(1);
+        schedule("internship-open:" + id, internship.getOpenDate(), today, () -> windowChanged("opened"));
+        schedule("internship-close:" + id, closedFrom, today, () -> windowChanged("closed"));
+        int expiryDays = offerExpiryDays;
+        if (expiryDays >= 0) {
+            LocalDate expiry = closedFrom.plusDays(expiryDays);
+            if (expiry.isAfter(today) || offersExpired.contains(id)) {
+                schedule("offer-expiry:" + id, expiry, today, () -> expireOffers(List.of(id)));
+            } else {
+                // Overdue: already due, so it runs on the scheduler's next pass
+                scheduler.cancel("offer-expiry:" + id);
+                overdue.add(id);
+                scheduler.schedule("offer-expiry:overdue", scheduler.startOf(today), this::expireOverdue);
+            }
+        } else {
+            scheduler.cancel("offer-expiry:" + id);
+        }
+    }
+
+    /**
+     * Removes the deadlines of a deleted internship.
+     * @param internshipID the internship ID
+     */
+    public void untrack(int internshipID) {
+        scheduler.cancel("internship-open:" + internshipID);
+        scheduler.cancel("internship-close:" + internshipID);
+        scheduler.cancel("offer-expiry:" + internshipID);
+        overdue.remove(internshipID);
+    }
+
+    /**
+     * Releases unaccepted offers a number of days after each internship closes.
+     * @param applications controller releasing the offers
+     * @param internships controller reloading internships before offers are checked
+     * @param days days after the close date's end; 0 releases them as soon as the internship closes
+     * @throws IllegalArgumentException if days is negative
+     */
+    public synchronized void enableOfferExpiry(ApplicationControllerInterface applications,
+                                               InternshipControllerInterface internships, int days) {
+        if (days < 0) throw new IllegalArgumentException("Offer expiry days cannot be negative.");
+        this.applications = applications;
+        this.internships = internships;
+        this.offerExpiryDays = days;
+        offersExpired.clear();
+        overdue.clear();
+        trackedVersion = -1;
+    }
+
+    /**
+     * Stops releasing offers; expiry deadlines already registered do nothing when they fire.
+     */
+    public synchronized void disableOfferExpiry() {
+        offerExpiryDays = -1;
+        overdue.clear();
+        trackedVersion = -1;
+    }
+
+    /**
+     * Schedules a deadline at the start of a date, or cancels it if the date is not in the future.
+     */
+    private void schedule(String key, LocalDate date, LocalDate today, Runnable action) {
+        if (date.isAfter(today)) {
+            scheduler.schedule(key, scheduler.startOf(date), action);
+        } else {
+            scheduler.cancel(key);
+        }
+    }
+
+    /**
+     * An open/close window passed: listings computed before are out of date.
+     */
+    private void windowChanged(String transition) {
+        ModificationClock.stamp(ModificationClock.Partition.INTERNSHIPS);
+        metrics.counter("InternshipDeadlines." + transition).increment();
+    }
+
+    /**
+     * Releases the offers of every internship found overdue since the last run.
+     */
+    private void expireOverdue() {
+        List<Integer> ids = new ArrayList<>(overdue);
+        overdue.removeAll(ids);
+        expireOffers(ids);
+    }
+
+    /**
+     * Releases the SUCCESSFUL offers of closed internships, after one reload.
+     */
+    private void expireOffers(List<Integer> internshipIDs) {
+        ApplicationControllerInterface apps = applications;
+        if (offerExpiryDays < 0 || apps == null || internshipIDs.isEmpty()) return;
+        offersExpired.addAll(internshipIDs);
+        apps.loadApplicationsFromCsv(internships);
+        List<Application> offers = new ArrayList<>();
+        for (int internshipID : internshipIDs) {
+            Internship internship = Internship.findWithID(internshipID);
+            if (internship == null) continue;
+            for (Application application : internship.getApplications()) {
+                if (application.getStatus() == ApplicationStatus.SUCCESSFUL) offers.add(application);
+            }
+        }
+        for (Application application : offers) {
+            try {
+                apps.rejectPlacement(application.getId(), application.getApplicant());
+                metrics.counter("InternshipDeadlines.offersExpired").increment();
+            } catch (IllegalArgumentException e) {
+                // Accepted or withdrawn in the meantime
+            }
+        }
+    }
+}
@@ -6,8 +6,13 @@ import utils.formatter.UserFormatter;
 import utils.csv.UserCsvHandler;
 import utils.csv.UserCsvHandlerInterface;
 import controller.interfaces.*;
+import utils.metrics.MetricsRegistry;
+import utils.jfr.LoginEvent;
 import constant.StaffApprovalStatus;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -23,6 +28,8 @@ import java.util.List;
  * @since 2025-11-16
  */
 public class LoginController implements LoginControllerInterface {
+    /** Registry receiving per-operation latency metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
     /** The user registry containing all registered users */
     private final UserRegistry userRegistry;
     /** CSV handler for user persistence operations */
@@ -56,7 +63,9 @@ public class LoginController implements LoginControllerInterface {
      * @return formatted profile string
      */
     public String getFormattedProfile(User user) {
-        return UserFormatter.formatProfile(user);
+        return metrics.time("LoginController.getFormattedProfile", () -> {
+            return UserFormatter.formatProfile(user);
+        });
     }
     
     /**
@@ -66,8 +75,10 @@ public class LoginController implements LoginControllerInterface {
      * @return Formatted profile string
      */
     public String authenticateAndGetProfile(String userID, String password) {
-        User user = authenticate(userID, password);
-        return getFormattedProfile(user);
+        return metrics.time("LoginController.authenticateAndGetProfile", () -> {
+            User user = authenticate(userID, password);
+            return getFormattedProfile(user);
+        });
     }
     
     /**
@@ -80,21 +91,56 @@ public class LoginController implements LoginControllerInterface {
      */
     @Override
     public User authenticate(String userID, String password) {
-        User user = userRegistry.findById(userID);
-        if (user == null) throw new IllegalArgumentException("Invalid user ID. Please try again.");
-        if (!user.verifyPassword(password)) throw new IllegalArgumentException("Incorrect password. Please try again.");
-        
-        if (user instanceof CompanyRepresentative) {
-            CompanyRepresentative compRep = (CompanyRepresentative) user;
-            if (compRep.getApprovalStatus() == constant.StaffApprovalStatus.REJECTED) {
-                throw new IllegalArgumentException("Your account has been rejected. Please contact Career Center Staff for assistance.");
-            }
-            if (!compRep.isApproved()) {
-                throw new IllegalArgumentException("Your account is pending approval. Please wait for Career Center Staff approval.");
-            }
+        LoginEvent event = new LoginEvent();
+        event.begin();
+        event.userId = userID;
+        try {
+            return metrics.time("LoginController.authenticate", () -> {
+                User user = userRegistry.findById(userID);
+                if (user == null) throw new IllegalArgumentException("Invalid user ID. Please try again.");
+                event.userType = user.getUserType();
+                if (!user.verifyPassword(password)) throw new IllegalArgumentException("Incorrect password. Please try again.");
+            
+                if (user instanceof CompanyRepresentative) {
+                    CompanyRepresentative compRep = (CompanyRepresentative) user;
+                    if (compRep.getApprovalStatus() == constant.StaffApprovalStatus.REJECTED) {
+                        throw new IllegalArgumentException("Your account has been rejected. Please contact Career Center Staff for assistance.");
+                    }
+                    if (!compRep.isApproved()) {
+                        throw new IllegalArgumentException("Your account is pending approval. Please wait for Career Center Staff approval.");
+                    }
+                }
+                user.setLoggedIn(true);
+                event.success = true;
+                return user;
+            });
+        } catch (IllegalArgumentException e) {
+            event.failureReason = e.getMessage();
+            throw e;
+        } finally {
+            event.commit();
         }
-        user.setLoggedIn(true);
-        return user;
+    }
+    
+    /**
+     * Checks credentials for a stateless caller such as the HTTP API.
+     * Unlike {@link #authenticate}, it does not mark the user as logged in or emit a login event.
+     * 
+     * @param userID the user's unique identifier
+     * @param password the user's password
+     * @return the User the credentials belong to
+     * @throws IllegalArgumentException if the credentials are not valid for an active account
+     */
+    @Override
+    public User verifyCredentials(String userID, String password) {
+        return metrics.time("LoginController.verifyCredentials", () -> {
+            User user = userRegistry.findById(userID);
+            boolean active = !(user instanceof CompanyRepresentative) || ((CompanyRepresentative) user).isApproved();
+            if (user == null || !user.verifyPassword(password) || !active) {
+                throw new IllegalArgumentException("Invalid credentials.");
+            }
+            return user;
+        });
     }
     
     /**
@@ -107,11 +153,13 @@ public class LoginController implements LoginControllerInterface {
      */
     @Override
     public boolean changePassword(String userID, String oldPassword, String newPassword) {
-        User user = userRegistry.findById(userID);
-        if (user == null) throw new IllegalArgumentException("Invalid user ID.");
-        user.changePassword(oldPassword, newPassword);
-        userCsvHandler.savePasswordChangeToCsv(user);
-        return true;
+        return metrics.time("LoginController.changePassword", () -> {
+            User user = userRegistry.findById(userID);
+            if (user == null) throw new IllegalArgumentException("Invalid user ID.");
+            user.changePassword(oldPassword, newPassword);
+            userCsvHandler.savePasswordChangeToCsv(user);
+            return true;
+        });
     }
 
     /**
@@ -128,19 +176,21 @@ public class LoginController implements LoginControllerInterface {
     @Override
     public boolean registerCompanyRepresentative(String email, String name, String password, 
                                                  String companyName, String department, String position) {
-        ValidationHelper.validateEmail(email);
-        if (userRegistry.findById(email) != null) {
-            throw new IllegalArgumentException("An account with this email already exists. Please login instead.");
-        }
+        return metrics.time("LoginController.registerCompanyRepresentative", () -> {
+            ValidationHelper.validateEmail(email);
+            if (userRegistry.findById(email) != null) {
+                throw new IllegalArgumentException("An account with this email already exists. Please login instead.");
+            }
         
-        CompanyRepresentative compRep = new CompanyRepresentative(
-            email, name, password, email, companyName, department, position, "Pending");
+            CompanyRepresentative compRep = new CompanyRepresentative(
+                email, name, password, email, companyName, department, position, "Pending");
         
-        if (userRegistry.register(compRep)) {
-            userCsvHandler.saveCompanyRepToCsv(compRep);
-            return true;
-        }
-        throw new IllegalArgumentException("Registration failed. Please try again.");
+            if (userRegistry.register(compRep)) {
+                userCsvHandler.saveCompanyRepToCsv(compRep);
+                return true;
+            }
+            throw new IllegalArgumentException("Registration failed. Please try again.");
+        });
     }
     
     /**
@@ -149,7 +199,9 @@ public class LoginController implements LoginControllerInterface {
      * @return true if user exists, false otherwise
      */
     public boolean userExists(String userID) {
-        return userRegistry.findById(userID) != null;
+        return metrics.time("LoginController.userExists", () -> {
+            return userRegistry.findById(userID) != null;
+        });
     }
     
     /**
@@ -158,7 +210,9 @@ public class LoginController implements LoginControllerInterface {
      * @return the User object if found, null otherwise
      */
     public User findUserById(String userID) {
-        return userRegistry.findById(userID);
+        return metrics.time("LoginController.findUserById", () -> {
+            return userRegistry.findById(userID);
+        });
     }
     
     /**
@@ -167,7 +221,9 @@ public class LoginController implements LoginControllerInterface {
      */
     @Override
     public List<CompanyRepresentative> getAllCompanyReps() {
-        return userRegistry.getAllCompanyReps();
+        return metrics.time("LoginController.getAllCompanyReps", () -> {
+            return userRegistry.getAllCompanyReps();
+        });
     }
     
     /**
@@ -177,14 +233,50 @@ public class LoginController implements LoginControllerInterface {
      */
     @Override
     public void approveRejectCompanyRep(String repID, boolean approve) {
-        User rep = userRegistry.findById(repID);
-        if (rep == null || !(rep instanceof CompanyRepresentative)) {
-            throw new IllegalArgumentException("Company representative not found.");
-        }
+        metrics.time("LoginController.approveRejectCompanyRep", () -> {
+            User rep = userRegistry.findById(repID);
+            if (rep == null || !(rep instanceof CompanyRepresentative)) {
+                throw new IllegalArgumentException("Company representative not found.");
+            }
         
-        CompanyRepresentative compRep = (CompanyRepresentative) rep;
-        compRep.setApprovalStatus(approve ? StaffApprovalStatus.APPROVED : StaffApprovalStatus.REJECTED);
-        userCsvHandler.updateCompanyRepStatusInCsv(compRep);
+            CompanyRepresentative compRep = (CompanyRepresentative) rep;
+            compRep.setApprovalStatus(approve ? StaffApprovalStatus.APPROVED : StaffApprovalStatus.REJECTED);
+            userCsvHandler.updateCompanyRepStatusInCsv(compRep);
+        });
+    }
+    
+    /**
+     * Approves or rejects several pending company representative accounts,
+     * saving them in one rewrite of the representatives file.
+     * Accounts that do not exist or are no longer pending are skipped and reported.
+     * 
+     * @param repIDs The IDs of the company representatives; duplicates are applied once
+     * @param approve true to approve, false to reject
+     * @return The outcome for each account
+     */
+    public BatchResult approveRejectCompanyReps(Collection<String> repIDs, boolean approve) {
+        return metrics.time("LoginController.approveRejectCompanyReps", () -> {
+            StaffApprovalStatus target = approve ? StaffApprovalStatus.APPROVED : StaffApprovalStatus.REJECTED;
+            BatchResult result = new BatchResult(approve ? "Approve company representatives" : "Reject company representatives");
+            List<CompanyRepresentative> changed = new ArrayList<>();
+            for (String repID : new LinkedHashSet<>(repIDs)) {
+                User rep = userRegistry.findById(repID);
+                if (!(rep instanceof CompanyRepresentative)) {
+                    result.failed(repID, "Company representative not found.");
+                    continue;
+                }
+                CompanyRepresentative compRep = (CompanyRepresentative) rep;
+                if (compRep.getApprovalStatus() != StaffApprovalStatus.PENDING) {
+                    result.failed(repID, "Account is " + compRep.getApprovalStatus() + ", not PENDING.");
+                    continue;
+                }
+                compRep.setApprovalStatus(target);
+                changed.add(compRep);
+                result.succeeded(repID, target.name());
+            }
+            userCsvHandler.updateCompanyRepStatusesInCsv(changed);
+            return result;
+        });
     }
 }
 
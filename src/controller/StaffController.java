@@ -1,8 +1,21 @@
 package controller;
 
 import model.*;
+import utils.filter.SavedFilterProvider;
+import utils.filter.SavedFilters;
+import utils.allocation.AllocationEngine;
+import utils.allocation.AllocationResult;
+import utils.analytics.CompanyReportGenerator;
+import utils.analytics.PlacementAnalytics;
 import utils.formatter.ApplicationFormatter;
 import utils.formatter.InternshipFormatter;
+import controller.interfaces.BatchResult;
+import utils.metrics.MetricsRegistry;
+import utils.query.Query;
+import utils.query.QueryEngine;
+import utils.query.QueryParser;
+import utils.query.QueryResult;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -15,7 +28,7 @@ import java.util.stream.Collectors;
  * @version 1.0
  * @since 2025-11-16
  */
-public class StaffController extends BaseUserController {
+public class StaffController extends BaseUserController implements SavedFilterProvider {
     /** The staff user associated with this controller */
     private final Staff staff;
     
@@ -62,6 +75,127 @@ public class StaffController extends BaseUserController {
         else applicationController.rejectWithdrawal(appID);
     }
     
+
+    /**
+     * Approves or rejects several pending internships at once.
+     * 
+     * @param selection Comma-separated internship IDs, {@code all} for every pending internship,
+     *                  or {@code company=<name>} for the pending internships of one company
+     * @param approve true to approve, false to reject
+     * @return The outcome for each selected internship
+     * @throws IllegalArgumentException if the selection is empty or an ID is not a number
+     */
+    public BatchResult updateInternshipApprovals(String selection, boolean approve) {
+        List<Integer> ids;
+        if (selectsPending(selection)) {
+            String company = selectedCompany(selection);
+            ids = internshipController.getPendingInternships().stream()
+                    .filter(i -> company == null || company.equalsIgnoreCase(i.getCompanyName()))
+                    .map(Internship::getID)
+                    .collect(Collectors.toList());
+        } else {
+            ids = parseIds(selection);
+        }
+        return internshipController.updateInternshipApprovals(ids, approve);
+    }
+
+    /**
+     * Approves or rejects several pending company representative accounts at once.
+     * 
+     * @param selection Comma-separated representative IDs, {@code all} for every pending account,
+     *                  or {@code company=<name>} for the pending accounts of one company
+     * @param approve true to approve, false to reject
+     * @return The outcome for each selected account
+     * @throws IllegalArgumentException if the selection is empty
+     */
+    public BatchResult approveRejectCompanyReps(String selection, boolean approve) {
+        List<String> ids;
+        if (selectsPending(selection)) {
+            String company = selectedCompany(selection);
+            ids = loginController.getAllCompanyReps().stream()
+                    .filter(rep -> rep.getApprovalStatus() == constant.StaffApprovalStatus.PENDING)
+                    .filter(rep -> company == null || company.equalsIgnoreCase(rep.getCompanyName()))
+                    .map(CompanyRepresentative::getUserID)
+                    .collect(Collectors.toList());
+        } else {
+            ids = new ArrayList<>();
+            for (String id : splitSelection(selection)) ids.add(id);
+        }
+        return loginController.approveRejectCompanyReps(ids, approve);
+    }
+
+    /**
+     * Approves or rejects several withdrawal requests at once.
+     * 
+     * @param selection Comma-separated application IDs, {@code all} for every pending request,
+     *                  or {@code company=<name>} for the requests to one company's internships
+     * @param approve true to approve the withdrawals, false to reject them
+     * @return The outcome for each selected application
+     * @throws IllegalArgumentException if the selection is empty or an ID is not a number
+     */
+    public BatchResult approveRejectWithdrawals(String selection, boolean approve) {
+        List<Integer> ids;
+        if (selectsPending(selection)) {
+            // Selected from the loaded applications; the batch reloads once before applying
+            String company = selectedCompany(selection);
+            ids = Application.getAllApplications().stream()
+                    .filter(a -> a.getStatus() == constant.ApplicationStatus.WITHDRAWAL_REQUESTED)
+                    .filter(a -> company == null || company.equalsIgnoreCase(a.getInternship().getCompanyName()))
+                    .map(Application::getId)
+                    .collect(Collectors.toList());
+        } else {
+            ids = parseIds(selection);
+        }
+        return applicationController.approveRejectWithdrawals(ids, approve, internshipController);
+    }
+
+    /**
+     * Checks whether a batch selection is a filter over pending items rather than a list of IDs.
+     */
+    private static boolean selectsPending(String selection) {
+        String s = selection == null ? "" : selection.trim();
+        return s.equalsIgnoreCase("all") || s.regionMatches(true, 0, "company=", 0, 8);
+    }
+
+    /**
+     * Gets the company of a {@code company=<name>} selection, or null for {@code all}.
+     */
+    private static String selectedCompany(String selection) {
+        String s = selection.trim();
+        if (s.equalsIgnoreCase("all")) return null;
+        String company = s.substring(8).trim();
+        if (company.isEmpty()) throw new IllegalArgumentException("Company name cannot be empty.");
+        return company;
+    }
+
+    /**
+     * Splits a comma-separated list of IDs.
+     */
+    private static List<String> splitSelection(String selection) {
+        List<String> ids = new ArrayList<>();
+        if (selection != null) {
+            for (String id : selection.split(",")) {
+                if (!id.trim().isEmpty()) ids.add(id.trim());
+            }
+        }
+        if (ids.isEmpty()) throw new IllegalArgumentException("Nothing selected.");
+        return ids;
+    }
+
+    /**
+     * Parses a comma-separated list of numeric IDs.
+     */
+    private static List<Integer> parseIds(String selection) {
+        List<Integer> ids = new ArrayList<>();
+        for (String id : splitSelection(selection)) {
+            try {
+                ids.add(Integer.parseInt(id));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid ID: " + id);
+            }
+        }
+        return ids;
+    }
     
     /**
      * Gets all pending internships awaiting approval.
@@ -128,6 +262,142 @@ public class StaffController extends BaseUserController {
         return InternshipFormatter.formatDetails(internship, "INTERNSHIP DETAILS", true);
     }
     
+    /**
+     * Gets a report of operation latencies, counters and gauges collected since startup.
+     * 
+     * @return Formatted metrics report
+     */
+    public String getMetricsReport() {
+        return MetricsRegistry.getInstance().formatReport();
+    }
+    
+    /**
+     * Gets the placement report for one grouping. Applications are reloaded first; only rows that
+     * changed since the last load update the report's running totals.
+     * 
+     * @param dimension COMPANY, MAJOR, LEVEL or INTERNSHIP (case-insensitive)
+     * @return Formatted report table
+     * @throws IllegalArgumentException if the dimension is unknown
+     */
+    public String getPlacementReport(String dimension) {
+        PlacementAnalytics.Dimension grouping;
+        try {
+            grouping = PlacementAnalytics.Dimension.valueOf(dimension.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown report grouping: " + dimension);
+        }
+        applicationController.loadApplicationsFromCsv(internshipController);
+        return PlacementAnalytics.getInstance().formatReport(grouping);
+    }
+
+    /**
+     * Exports the placement report for every grouping as CSV.
+     * 
+     * @param path File to write
+     * @return Message with the number of rows written
+     * @throws IllegalStateException if the file cannot be written
+     */
+    public String exportPlacementReport(String path) {
+        applicationController.loadApplicationsFromCsv(internshipController);
+        try {
+            int rows = PlacementAnalytics.getInstance().exportCsv(path);
+            return "Exported " + rows + " report rows to " + path;
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException("Cannot write " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes an end-of-cycle report for every company, one file each, in parallel.
+     * Applications are reloaded first.
+     * 
+     * @param directory Directory to write the reports to
+     * @param progress Called with (reports done, total) as reports complete; may be null
+     * @return Summary with the number of reports and the wall time
+     * @throws IllegalStateException if a report cannot be written
+     */
+    public String generateCompanyReports(String directory, java.util.function.BiConsumer<Integer, Integer> progress) {
+        applicationController.loadApplicationsFromCsv(internshipController);
+        try {
+            return new CompanyReportGenerator(java.nio.file.Paths.get(directory)).generate(progress).summary()
+                    + " -> " + directory;
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException("Cannot write reports to " + directory + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Computes a stable allocation of the unplaced students over their open applications and
+     * writes the proposed status changes to a file for review; nothing is applied.
+     * Applications are reloaded first.
+     * 
+     * @param preferencesPath CSV of StudentID,InternshipID,Rank, or blank for application order
+     * @param rankingsPath CSV of InternshipID,StudentID,Rank, or blank for application order
+     * @param outputPath File to write the proposed transitions to
+     * @return The run's metrics followed by where the proposals were written
+     * @throws IllegalArgumentException if a preference or ranking row is malformed
+     * @throws IllegalStateException if a file cannot be read or written
+     */
+    public List<String> runAllocation(String preferencesPath, String rankingsPath, String outputPath) {
+        applicationController.loadApplicationsFromCsv(internshipController);
+        AllocationEngine engine = new AllocationEngine();
+        String current = null;
+        try {
+            if (!preferencesPath.isBlank()) {
+                current = preferencesPath;
+                engine.setPreferences(AllocationEngine.readPreferences(java.nio.file.Paths.get(preferencesPath)));
+            }
+            if (!rankingsPath.isBlank()) {
+                current = rankingsPath;
+                engine.setRankings(AllocationEngine.readRankings(java.nio.file.Paths.get(rankingsPath)));
+            }
+            AllocationResult result = engine.allocate(Application.getAllApplications());
+            current = outputPath;
+            result.writeTransitions(java.nio.file.Paths.get(outputPath));
+            List<String> lines = new ArrayList<>(result.report());
+            lines.add("Proposals written to " + outputPath + " for review; no application was changed.");
+            return lines;
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException("Cannot access " + current + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Runs an ad-hoc query over internships or applications (see {@link QueryParser} for the syntax).
+     * Applications are reloaded first, as in the other staff listings.
+     *
+     * @param text the query text
+     * @return one formatted row per result followed by a summary line, or the plan and statistics for EXPLAIN
+     * @throws IllegalArgumentException if the query is invalid
+     */
+    public List<String> runQuery(String text) {
+        Query query = QueryParser.parse(text);
+        if (query.getEntity() == Query.Entity.APPLICATIONS) {
+            applicationController.loadApplicationsFromCsv(internshipController);
+        }
+        QueryResult result = QueryEngine.execute(query);
+        if (query.isExplain()) return result.explain();
+        List<String> lines = new ArrayList<>();
+        for (Object row : result.getRows()) {
+            lines.add(row instanceof Internship ? InternshipFormatter.formatAsRow((Internship) row, true)
+                    : ApplicationFormatter.formatAsRow((Application) row));
+        }
+        lines.add(result.summary());
+        return lines;
+    }
+
+    /**
+     * Gets the fields staff queries can use, for the query prompt.
+     * @return one line per entity listing its fields
+     */
+    public List<String> getQueryFields() {
+        List<String> lines = new ArrayList<>();
+        for (Query.Entity entity : Query.Entity.values()) {
+            lines.add(entity.name().toLowerCase() + ": " + String.join(", ", QueryEngine.getFieldNames(entity)));
+        }
+        return lines;
+    }
+
     /**
      * Edits staff profile fields (null values skipped, in-memory only).
      * 
@@ -141,6 +411,45 @@ public class StaffController extends BaseUserController {
         if (department != null && !department.trim().isEmpty()) staff.setStaffDepartment(department);
     }
     
+    /**
+     * Gets the names of this staff member's saved filters.
+     * @return sorted filter names
+     */
+    @Override
+    public List<String> getSavedFilterNames() {
+        return SavedFilters.getInstance().getNames(user.getUserID());
+    }
+
+    /**
+     * Saves the current filter settings under a name.
+     * @param name filter name
+     */
+    @Override
+    public void saveFilter(String name) {
+        SavedFilters.getInstance().save(user.getUserID(), name, filterSettings, null);
+    }
+
+    /**
+     * Opens a saved filter after refreshing internships from CSV.
+     * Only internships whose rows changed since the last load are re-checked.
+     * @param name filter name
+     * @return matching internships in the filter's sort order
+     */
+    @Override
+    public List<Internship> openSavedFilter(String name) {
+        return applicationController.reloadAndRead(internshipController,
+                () -> SavedFilters.getInstance().open(user.getUserID(), name));
+    }
+
+    /**
+     * Deletes a saved filter.
+     * @param name filter name
+     */
+    @Override
+    public void deleteSavedFilter(String name) {
+        SavedFilters.getInstance().delete(user.getUserID(), name);
+    }
+
     /**
      * Gets status filter options for staff.
      * Staff see: "All", "PENDING", "APPROVED", "REJECTED"
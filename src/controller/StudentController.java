@@ -3,6 +3,9 @@ package controller;
 import model.*;
 import utils.formatter.ApplicationFormatter;
 import utils.formatter.InternshipFormatter;
+import utils.event.DomainEvent;
+import utils.event.Inbox;
+import utils.event.NotificationCenter;
 
 import java.util.List;
 
@@ -17,6 +20,8 @@ import java.util.List;
 public class StudentController extends BaseUserController {
     /** The student user associated with this controller */
     private final Student student;
+    /** Status-change notifications for this session, opened on first use */
+    private Inbox inbox;
 
     /**
      * Constructs a StudentController for the specified student.
@@ -96,6 +101,32 @@ public class StudentController extends BaseUserController {
         applicationController.rejectPlacement(applicationID, student);
     }
     
+    /**
+     * Takes the notifications received since the last call, e.g. offers and rejections.
+     * The first call subscribes this session; changes made while the student had no session
+     * are included.
+     * 
+     * @return Notification messages, oldest first
+     */
+    public List<String> takeNotifications() {
+        if (inbox == null) inbox = NotificationCenter.getInstance().openInbox(student.getUserID());
+        return inbox.drain().stream()
+                .map(DomainEvent::describe)
+                .collect(java.util.stream.Collectors.toList());
+    }
+
+    /**
+     * Logs out and ends this session's notification subscription.
+     */
+    @Override
+    public void logout() {
+        if (inbox != null) {
+            inbox.close();
+            inbox = null;
+        }
+        super.logout();
+    }
+    
     /**
      * Views all applications submitted by student, sorted by ID.
      * 
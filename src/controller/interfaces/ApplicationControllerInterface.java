@@ -2,6 +2,7 @@ package controller.interfaces;
 
 import model.*;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -24,6 +25,26 @@ public interface ApplicationControllerInterface {
      */
     Application createApplication(int internshipID, Student student, controller.interfaces.InternshipControllerInterface internshipController);
     
+    /**
+     * Validates and records an application in memory without reloading or persisting.
+     * 
+     * @param internshipID The ID of the internship to apply to
+     * @param student The student submitting the application
+     * @param onRecorded Hook receiving the recorded application before the transaction ends
+     * @return The created Application object
+     * @throws IllegalArgumentException if internship not found or student ineligible
+     */
+    Application recordApplication(int internshipID, Student student,
+                                  java.util.function.Consumer<Application> onRecorded);
+    
+    /**
+     * Persists several applications in one write.
+     * 
+     * @param applications The applications to save
+     * @throws IllegalStateException if the file cannot be written
+     */
+    void saveApplications(Collection<Application> applications);
+    
     /**
      * Retrieves all applications for a specific internship.
      * 
@@ -96,6 +117,17 @@ public interface ApplicationControllerInterface {
      */
     void rejectWithdrawal(int applicationID);
     
+    /**
+     * Approves or rejects several withdrawal requests, persisting them together.
+     * 
+     * @param applicationIDs The IDs of the applications
+     * @param approve true to approve the withdrawals, false to reject them
+     * @param internshipController Controller to load internships with
+     * @return The outcome for each application
+     */
+    BatchResult approveRejectWithdrawals(Collection<Integer> applicationIDs, boolean approve,
+                                         controller.interfaces.InternshipControllerInterface internshipController);
+    
     /**
      * Confirms student placement for an internship.
      * 
@@ -147,6 +179,18 @@ public interface ApplicationControllerInterface {
      * @param internshipController Controller to ensure internships are loaded
      */
     void loadApplicationsFromCsv(controller.interfaces.InternshipControllerInterface internshipController);
+
+    /**
+     * Reloads internships and applications from CSV and runs a read against the reloaded data
+     * before another reload can replace it.
+     * 
+     * @param <T> The read's result type
+     * @param internshipController Controller to load internships with
+     * @param read The read to run on the reloaded data
+     * @return The read's result
+     */
+    <T> T reloadAndRead(controller.interfaces.InternshipControllerInterface internshipController,
+                        java.util.function.Supplier<T> read);
     
     /**
      * Retrieves all withdrawal requests pending staff approval.
@@ -0,0 +1,114 @@
+package controller.interfaces;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a batch operation: for every selected item, whether its transition was applied
+ * and either its new state or the reason it was skipped.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class BatchResult {
+
+    /**
+     * Outcome for one item.
+     */
+    public static final class Item {
+        private final String id;
+        private final boolean succeeded;
+        private final String message;
+
+        Item(String id, boolean succeeded, String message) {
+            this.id = id;
+            this.succeeded = succeeded;
+            this.message = message;
+        }
+
+        /** @return ID of the internship, representative or application */
+        public String getId() { return id; }
+
+        /** @return true if the transition was applied */
+        public boolean isSucceeded() { return succeeded; }
+
+        /** @return the new state if applied, otherwise the reason it was skipped */
+        public String getMessage() { return message; }
+    }
+
+    private final String operation;
+    private final List<Item> items = new ArrayList<>();
+
+    /**
+     * Creates an empty result.
+     * @param operation description of the operation, e.g. "Approve internships"
+     */
+    public BatchResult(String operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Records an applied transition.
+     * @param id the item's ID
+     * @param state the item's new state
+     */
+    public void succeeded(Object id, String state) {
+        items.add(new Item(String.valueOf(id), true, state));
+    }
+
+    /**
+     * Records a skipped item.
+     * @param id the item's ID
+     * @param reason why the transition was not applied
+     */
+    public void failed(Object id, String reason) {
+        items.add(new Item(String.valueOf(id), false, reason));
+    }
+
+    /**
+     * Gets the outcome of every selected item in selection order.
+     * @return the items
+     */
+    public List<Item> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    /**
+     * Gets the number of items whose transition was applied.
+     * @return the count
+     */
+    public int getSucceeded() {
+        return (int) items.stream().filter(Item::isSucceeded).count();
+    }
+
+    /**
+     * Gets the number of items that were skipped.
+     * @return the count
+     */
+    public int getFailed() {
+        return items.size() - getSucceeded();
+    }
+
+    /**
+     * Gets a one-line summary.
+     * @return the operation with its succeeded and failed counts
+     */
+    public String summary() {
+        return String.format("%s: %d of %d succeeded, %d failed", operation, getSucceeded(), items.size(), getFailed());
+    }
+
+    /**
+     * Formats the result for display.
+     * @return the summary followed by one line per item
+     */
+    public List<String> format() {
+        List<String> lines = new ArrayList<>();
+        lines.add(summary());
+        for (Item item : items) {
+            lines.add((item.isSucceeded() ? "✓ " : "✗ ") + item.getId() + ": " + item.getMessage());
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,190 @@
+package controller.interfaces;
+
+import model.Internship;
+import utils.csv.CsvHandler;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk internship import: for every posting in the file, either the internship
+ * created from it or the reason it was rejected.
+ *
+ * <p>The file is CSV with one posting per line in the columns
+ * {@code Title,Description,Level,Major,OpenDate,CloseDate,Slots}; a header row starting with
+ * {@code Title} and blank lines are skipped, and fields containing commas may be double-quoted.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class InternshipImport {
+    /** Expected columns, in order */
+    public static final String COLUMNS = "Title,Description,Level,Major,OpenDate,CloseDate,Slots";
+
+    /**
+     * One posting of the file.
+     */
+    public static final class Row {
+        private final int line;
+        private final String[] fields;
+        private String title;
+        private String description;
+        private String level;
+        private String major;
+        private LocalDate openDate;
+        private LocalDate closeDate;
+        private int slots;
+        private volatile String error;
+        private Internship created;
+
+        Row(int line, String[] fields) {
+            this.line = line;
+            this.fields = fields;
+        }
+
+        /** @return line number of the posting in the file, from 1 */
+        public int getLine() { return line; }
+
+        /** @return the reason the posting was rejected, or null if it was imported */
+        public String getError() { return error; }
+
+        /** @return the internship created from the posting, or null if it was rejected */
+        public Internship getCreated() { return created; }
+
+        /** @return true if the posting was imported */
+        public boolean isImported() { return created != null; }
+
+        /** @return the raw fields of the posting */
+        public String[] getFields() { return fields; }
+
+        /** @return the parsed title */
+        public String getTitle() { return title; }
+
+        /** @return the parsed description */
+        public String getDescription() { return description; }
+
+        /** @return the parsed level */
+        public String getLevel() { return level; }
+
+        /** @return the parsed preferred major */
+        public String getMajor() { return major; }
+
+        /** @return the parsed open date */
+        public LocalDate getOpenDate() { return openDate; }
+
+        /** @return the parsed close date */
+        public LocalDate getCloseDate() { return closeDate; }
+
+        /** @return the parsed number of slots */
+        public int getSlots() { return slots; }
+
+        /**
+         * Records the validated values of the posting.
+         * @param title the title
+         * @param description the description
+         * @param level the level
+         * @param major the preferred major
+         * @param openDate the open date
+         * @param closeDate the close date
+         * @param slots the number of slots
+         */
+        public void parsed(String title, String description, String level, String major,
+                           LocalDate openDate, LocalDate closeDate, int slots) {
+            this.title = title;
+            this.description = description;
+            this.level = level;
+            this.major = major;
+            this.openDate = openDate;
+            this.closeDate = closeDate;
+            this.slots = slots;
+        }
+
+        /**
+         * Marks the posting as rejected.
+         * @param error the reason
+         */
+        public void reject(String error) { this.error = error; }
+
+        /**
+         * Marks the posting as imported.
+         * @param created the internship created from it
+         */
+        public void created(Internship created) { this.created = created; }
+    }
+
+    private final List<Row> rows;
+
+    private InternshipImport(List<Row> rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * Reads the postings of a file without validating them.
+     * @param file the CSV file
+     * @return an import with one row per posting
+     * @throws IOException if the file cannot be read
+     */
+    public static InternshipImport read(Path file) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                if (line.trim().isEmpty()) continue;
+                if (rows.isEmpty() && line.trim().regionMatches(true, 0, "Title", 0, 5)) continue;
+                rows.add(new Row(number, CsvHandler.splitCsvLine(line)));
+            }
+        }
+        return new InternshipImport(rows);
+    }
+
+    /**
+     * Gets every posting of the file in file order.
+     * @return the rows
+     */
+    public List<Row> getRows() {
+        return Collections.unmodifiableList(rows);
+    }
+
+    /**
+     * Gets the internships created, in file order.
+     * @return the created internships
+     */
+    public List<Internship> getImported() {
+        List<Internship> imported = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.isImported()) imported.add(row.getCreated());
+        }
+        return imported;
+    }
+
+    /**
+     * Gets the rejected postings as messages.
+     * @return one "Line n: reason" message per rejected posting, in file order
+     */
+    public List<String> getErrors() {
+        List<String> errors = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.getError() != null) errors.add("Line " + row.getLine() + ": " + row.getError());
+        }
+        return errors;
+    }
+
+    /**
+     * Gets a one-line summary.
+     * @return the number of postings imported and rejected
+     */
+    public String summary() {
+        int imported = getImported().size();
+        return String.format("Imported %d of %d postings, %d rejected", imported, rows.size(), rows.size() - imported);
+    }
+}
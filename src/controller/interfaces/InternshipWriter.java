@@ -2,7 +2,9 @@ package controller.interfaces;
 
 import model.*;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.Collection;
 
 /**
  * Interface for writing/modifying internship data.
@@ -32,6 +34,17 @@ public interface InternshipWriter {
                                LocalDate openDate, LocalDate closeDate, 
                                CompanyRepresentative creator, int slots);
     
+    /**
+     * Creates internships from a CSV file of postings, reporting the outcome of each.
+     * 
+     * @param file The CSV file of postings
+     * @param creator The company representative creating the internships
+     * @return The outcome of every posting
+     * @throws IllegalArgumentException if the representative is not approved
+     * @throws IllegalStateException if the file cannot be read
+     */
+    InternshipImport importInternships(Path file, CompanyRepresentative creator);
+    
     /**
      * Updates an existing internship's details.
      * 
@@ -80,5 +93,22 @@ public interface InternshipWriter {
      * @param internship The internship to save
      */
     void saveInternship(Internship internship);
+    
+    /**
+     * Approves or rejects several pending internships, persisting them together.
+     * 
+     * @param internshipIDs The IDs of the internships
+     * @param approve true to approve, false to reject
+     * @return The outcome for each internship
+     */
+    BatchResult updateInternshipApprovals(Collection<Integer> internshipIDs, boolean approve);
+    
+    /**
+     * Saves several internships to CSV together.
+     * 
+     * @param internships The internships to save
+     * @throws IllegalStateException if the file cannot be written
+     */
+    void saveInternships(Collection<Internship> internships);
 }
 
@@ -2,6 +2,7 @@ package controller.interfaces;
 
 import model.*;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -23,6 +24,18 @@ public interface LoginControllerInterface {
      */
     User authenticate(String userID, String password);
     
+    /**
+     * Checks a user's credentials without logging the user in or recording a login.
+     * Unknown IDs, wrong passwords and unapproved accounts are rejected alike,
+     * so the result does not reveal which user IDs exist.
+     * 
+     * @param userID The user ID
+     * @param password The password
+     * @return The User the credentials belong to
+     * @throws IllegalArgumentException if the credentials are not valid for an active account
+     */
+    User verifyCredentials(String userID, String password);
+    
     /**
      * Changes a user's password.
      * 
@@ -58,6 +71,15 @@ public interface LoginControllerInterface {
      */
     void approveRejectCompanyRep(String repID, boolean approve);
     
+    /**
+     * Approves or rejects several pending company representative accounts, persisting them together.
+     * 
+     * @param repIDs The IDs of the company representatives
+     * @param approve true to approve, false to reject
+     * @return The outcome for each account
+     */
+    BatchResult approveRejectCompanyReps(Collection<String> repIDs, boolean approve);
+    
     /**
      * Gets all company representatives in the system.
      * 
@@ -17,7 +17,9 @@
  *   <li>{@link controller.CompanyRepresentativeController} - Manages company rep operations (create/edit internships)</li>
  *   <li>{@link controller.LoginController} - Handles authentication and registration</li>
  *   <li>{@link controller.ApplicationController} - Manages application CRUD operations</li>
+ *   <li>{@link controller.ApplicationIngestion} - Queued, batched application submission for opening spikes</li>
  *   <li>{@link controller.InternshipController} - Manages internship CRUD operations</li>
+ *   <li>{@link controller.InternshipDeadlines} - Applies internship open/close dates and offer expiry on schedule</li>
  * </ul>
  * 
  * <p>Design principles:
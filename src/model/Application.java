@@ -1,6 +1,9 @@
 package model;
 
 import constant.ApplicationStatus;
+import utils.event.ApplicationChanged;
+import utils.event.ApplicationStatusChanged;
+import utils.event.EventBus;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -64,6 +67,9 @@ public class Application {
     
     /** Reason provided for withdrawal request */
     private String withdrawalReason;
+    
+    /** Modification stamp from {@link ModificationClock}, advanced on every status change */
+    private volatile long version;
 
     /**
      * Constructs a new Application with the specified details.
@@ -75,8 +81,12 @@ public class Application {
      * @param dateApplied The date and time of application submission
      */
     public Application(Internship internship, Student applicant, LocalDateTime dateApplied) {
-        this(nextID++, internship, applicant, dateApplied, ApplicationStatus.PENDING, null, null);
-        allApplications.add(this);
+        this(nextApplicationID(), internship, applicant, dateApplied, ApplicationStatus.PENDING, null, null);
+        synchronized (allApplications) {
+            allApplications.add(this);
+        }
+        version = ModificationClock.stamp(ModificationClock.Partition.APPLICATIONS);
+        EventBus.getInstance().publish(new ApplicationChanged(id, internship.getID(), status));
     }
 
     /**
@@ -108,15 +118,46 @@ public class Application {
      * @return the date and time of application
      */
     public LocalDateTime getDateApplied() { return dateApplied; }
+    
+    /**
+     * Gets the modification version of this application.
+     * @return the current modification stamp
+     */
+    public long getVersion() { return version; }
+    
+    /**
+     * Gets the version of everything shown when this application is rendered:
+     * the application itself, its internship and its applicant.
+     * Since all stamps share one clock, the maximum changes whenever any of them changes.
+     * @return the combined modification stamp
+     */
+    public long getRenderVersion() {
+        return Math.max(version, Math.max(internship.getVersion(), applicant.getVersion()));
+    }
+    
+    /**
+     * Stamps this application and its internship, and their partitions, as modified, and publishes
+     * an {@link ApplicationChanged} event. The internship is touched because its rows show
+     * pending-application counts.
+     */
+    private void touch() {
+        version = ModificationClock.stamp(ModificationClock.Partition.APPLICATIONS);
+        internship.touch();
+        EventBus.getInstance().publish(new ApplicationChanged(id, internship.getID(), status));
+    }
 
     /**
      * Sets the status of this application.
+     * Publishes an {@link ApplicationStatusChanged} event if the status actually changes.
      * Note: CSV persistence is handled by controllers (MVC compliance).
      * 
      * @param status The new status to set
      */
     public void setStatus(ApplicationStatus status) { 
+        ApplicationStatus from = this.status;
         this.status = status;
+        touch();
+        if (from != status) EventBus.getInstance().publish(new ApplicationStatusChanged(this, from));
     }
 
     /**
@@ -134,6 +175,7 @@ public class Application {
             this.previousStatus = this.status; // Store the previous status
             this.status = ApplicationStatus.WITHDRAWAL_REQUESTED;
             this.withdrawalReason = reason != null ? reason : ""; // Store withdrawal reason (optional)
+            touch();
         } else {
             throw new IllegalStateException("Cannot request withdrawal for application with status: " + status);
         }
@@ -159,6 +201,7 @@ public class Application {
     /**
      * Approves a withdrawal request.
      * Sets status to WITHDRAWN and updates internship filled slots if necessary.
+     * The withdrawal reason is kept.
      * Note: CSV persistence is handled by controllers (MVC compliance).
      * 
      * @throws IllegalStateException if application is not in WITHDRAWAL_REQUESTED status
@@ -173,7 +216,9 @@ public class Application {
             }
             
             this.previousStatus = null;
-            this.withdrawalReason = null; // Clear withdrawal reason after approval
+            // The reason is kept with the withdrawn application for end-of-cycle reports
+            touch();
+            EventBus.getInstance().publish(new ApplicationStatusChanged(this, ApplicationStatus.WITHDRAWAL_REQUESTED));
         } else {
             throw new IllegalStateException("Application is not in WITHDRAWAL_REQUESTED status.");
         }
@@ -193,6 +238,8 @@ public class Application {
                 this.status = previousStatus;
                 this.previousStatus = null;
                 this.withdrawalReason = null; // Clear withdrawal reason after rejection
+                touch();
+                EventBus.getInstance().publish(new ApplicationStatusChanged(this, ApplicationStatus.WITHDRAWAL_REQUESTED));
             }
         }
     }
@@ -224,7 +271,7 @@ public class Application {
      * 
      * @return The next ID to be assigned
      */
-    public static int getNextID() {
+    public static synchronized int getNextID() {
         return nextID;
     }
     
@@ -234,10 +281,20 @@ public class Application {
      * 
      * @param id The new next ID value
      */
-    public static void setNextID(int id) {
+    public static synchronized void setNextID(int id) {
         nextID = id;
     }
     
+    /**
+     * Takes the next ID for a new application.
+     * Synchronized so that concurrent submissions never share an ID.
+     * 
+     * @return The assigned ID
+     */
+    private static synchronized int nextApplicationID() {
+        return nextID++;
+    }
+    
     // Public factory method for CSV loading
     /**
      * Factory method for creating applications from CSV data.
@@ -278,6 +335,7 @@ public class Application {
         this.status = status;
         this.previousStatus = previousStatus;
         this.withdrawalReason = withdrawalReason;
+        this.version = ModificationClock.next();
     }
     
     // Public getter for CSV handler
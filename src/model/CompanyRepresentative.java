@@ -1,5 +1,6 @@
 package model;
 
+import constant.DataFiles;
 import constant.StaffApprovalStatus;
 import utils.validation.ValidationHelper;
 
@@ -157,7 +158,7 @@ public class CompanyRepresentative extends User {
      */
     @Override
     public String getCsvFilename() {
-        return "sample_file/sample_company_representative_list.csv";
+        return DataFiles.companyRepresentatives();
     }
     
     /**
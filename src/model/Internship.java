@@ -2,9 +2,20 @@ package model;
 
 import constant.*;
 import utils.formatter.InternshipFormatter;
+import utils.event.EventBus;
+import utils.event.InternshipChanged;
+import utils.event.InternshipStatusChanged;
+import utils.index.DateIntervalIndex;
+import utils.schedule.DeadlineScheduler;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Predicate;
 
 /**
  * Represents an internship opportunity in the system.
@@ -18,12 +29,121 @@ import java.util.List;
  * @since 2025-11-16
  */
 public class Internship {
+    /** Index of all internships by open/close window, kept in step with {@link #internships} */
+    private static final DateIntervalIndex<Internship> dateIndex = new DateIntervalIndex<>();
+
     /** Static list of all internships in the system */
-    private static final List<Internship> internships = new ArrayList<>();
+    private static final List<Internship> internships = new IndexedList();
+
+    /** Internships by ID, kept in step with {@link #internships} */
+    private static final Map<Integer, Internship> byId = new ConcurrentHashMap<>();
+
+    /** Incremented whenever an internship is added to or removed from {@link #internships} */
+    private static volatile long listGeneration;
+
+    /**
+     * Internship list that keeps {@link #dateIndex}, {@link #byId} and {@link #listGeneration} up to date as internships
+     * are added and removed, including by the CSV handler through {@link #getInternshipsList()}.
+     */
+    private static final class IndexedList extends ArrayList<Internship> {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public boolean add(Internship internship) {
+            super.add(internship);
+            index(internship);
+            return true;
+        }
+
+        @Override
+        public void add(int position, Internship internship) {
+            super.add(position, internship);
+            index(internship);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends Internship> added) {
+            for (Internship internship : added) add(internship);
+            return !added.isEmpty();
+        }
+
+        @Override
+        public boolean addAll(int position, Collection<? extends Internship> added) {
+            boolean changed = super.addAll(position, added);
+            for (Internship internship : added) index(internship);
+            return changed;
+        }
+
+        @Override
+        public Internship set(int position, Internship internship) {
+            Internship replaced = super.set(position, internship);
+            if (replaced != null) unindex(replaced);
+            index(internship);
+            return replaced;
+        }
+
+        @Override
+        public Internship remove(int position) {
+            Internship removed = super.remove(position);
+            unindex(removed);
+            return removed;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!super.remove(o)) return false;
+            Internship removed = (Internship) o;
+            unindex(removed);
+            return true;
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super Internship> filter) {
+            return super.removeIf(i -> {
+                if (!filter.test(i)) return false;
+                unindex(i);
+                return true;
+            });
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> removed) {
+            return removeIf(removed::contains);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> kept) {
+            return removeIf(i -> !kept.contains(i));
+        }
+
+        @Override
+        public void clear() {
+            super.clear();
+            dateIndex.clear();
+            byId.clear();
+            listGeneration++;
+        }
+
+        private static void index(Internship internship) {
+            dateIndex.add(internship.id, internship.openDate, internship.closeDate, internship);
+            byId.putIfAbsent(internship.id, internship);
+            listGeneration++;
+        }
+
+        private static void unindex(Internship internship) {
+            dateIndex.remove(internship.id, internship);
+            byId.remove(internship.id, internship);
+            listGeneration++;
+        }
+    }
     
     /** Next available internship ID (auto-incrementing) */
     private static int nextID = 100000;
 
+    /** Atomic access to {@link #status}, used for the one-time APPROVED to FILLED transition */
+    private static final AtomicReferenceFieldUpdater<Internship, InternshipStatus> STATUS =
+            AtomicReferenceFieldUpdater.newUpdater(Internship.class, InternshipStatus.class, "status");
+
     /**
      * Get all internships from in-memory list.
      * Note: Loading from CSV is handled by controllers/repositories (MVC compliance).
@@ -33,6 +153,61 @@ public class Internship {
         return new ArrayList<>(internships);
     }
     
+    /**
+     * Gets the generation of the internship list, which changes whenever an internship is added or removed.
+     * Reloading unchanged data keeps {@link ModificationClock} versions but replaces the objects, so
+     * snapshots of the list must check both.
+     * @return the list generation
+     */
+    public static long getListGeneration() {
+        return listGeneration;
+    }
+
+    /**
+     * Gets the internships open on a date (open date &lt;= date &lt;= close date), from the date index.
+     * @param date the date
+     * @return the internships, in opening date order
+     */
+    public static List<Internship> getOpenOn(LocalDate date) {
+        return dateIndex.containing(date);
+    }
+
+    /**
+     * Gets the internships opening on or after a date, from the date index.
+     * @param date the earliest opening date
+     * @return the internships, in opening date order
+     */
+    public static List<Internship> getOpeningOnOrAfter(LocalDate date) {
+        return dateIndex.startingOnOrAfter(date);
+    }
+
+    /**
+     * Counts the internships opening on or after a date, from the date index.
+     * @param date the earliest opening date
+     * @return the number of internships
+     */
+    public static int countOpeningOnOrAfter(LocalDate date) {
+        return dateIndex.countStartingOnOrAfter(date);
+    }
+
+    /**
+     * Counts the internships closing on or before a date, from the date index.
+     * @param date the latest closing date
+     * @return the number of internships
+     */
+    public static int countClosingOnOrBefore(LocalDate date) {
+        return dateIndex.countEndingOnOrBefore(date);
+    }
+
+    /**
+     * Gets the internships closing on or before a date, from the date index.
+     * @param date the latest closing date
+     * @return the internships, in closing date order
+     */
+    public static List<Internship> getClosingOnOrBefore(LocalDate date) {
+        return dateIndex.endingOnOrBefore(date);
+    }
+
     /**
      * Clears all internships from memory.
      * Used by CSV handlers when reloading data.
@@ -77,14 +252,17 @@ public class Internship {
     /** Total number of available slots */
     private int numSlots;
     
-    /** Number of filled/confirmed slots */
-    private int filledSlots;
+    /** Number of filled/confirmed slots, reserved by compare-and-set in {@link #tryReserveSlot()} */
+    private final AtomicInteger filledSlots;
     
     /** Current status of the internship */
-    private InternshipStatus status;
+    private volatile InternshipStatus status;
     
     /** List of applications submitted for this internship */
     private ArrayList<Application> applications;
+    
+    /** Modification stamp from {@link ModificationClock}, advanced on every change that affects display */
+    private volatile long version;
 
     /**
      * Constructs a new Internship with the specified details.
@@ -106,6 +284,7 @@ public class Internship {
         this(nextID++, title, description, level, major, open, close, company, creator, slots,
              false, InternshipStatus.PENDING, 0);
         internships.add(this);
+        touch();
     }
 
     // Getters
@@ -214,7 +393,7 @@ public class Internship {
         }
         
         // Check if internship is open (within date range)
-        LocalDate now = LocalDate.now();
+        LocalDate now = DeadlineScheduler.getInstance().today();
         return !now.isBefore(openDate) && !now.isAfter(closeDate);
     }
     
@@ -267,6 +446,7 @@ public class Internship {
     public boolean toggleVisibility() {
         if (status == InternshipStatus.APPROVED) {
             visible = !visible;
+            touch();
         }
         return visible;
     }
@@ -286,7 +466,7 @@ public class Internship {
      * @return true if all slots are filled, false otherwise
      */
     public boolean isFilled() {
-        return status == InternshipStatus.FILLED || (status == InternshipStatus.APPROVED && filledSlots >= numSlots);
+        return status == InternshipStatus.FILLED || (status == InternshipStatus.APPROVED && filledSlots.get() >= numSlots);
     }
 
     /**
@@ -299,7 +479,7 @@ public class Internship {
      * Gets the number of filled slots.
      * @return the number of filled slots
      */
-    public int getFilledSlots() { return filledSlots; }
+    public int getFilledSlots() { return filledSlots.get(); }
     
     /**
      * Gets the list of applications for this internship.
@@ -322,44 +502,103 @@ public class Internship {
      * @return the unique internship ID
      */
     public int getID() { return id; }
+    
+    /**
+     * Gets the modification version of this internship.
+     * Changes whenever details, status, visibility, slots or application statuses change,
+     * so it can be used as a cache key for rendered output.
+     * @return the current modification stamp
+     */
+    public long getVersion() { return version; }
+    
+    /**
+     * Marks this internship, and with it the internship partition, as modified, and publishes an
+     * {@link InternshipChanged} event. Also called by Application when one of this internship's
+     * applications changes status.
+     */
+    void touch() {
+        version = ModificationClock.stamp(ModificationClock.Partition.INTERNSHIPS);
+        EventBus.getInstance().publish(new InternshipChanged(id));
+    }
 
     // Status and visibility control
     /**
      * Sets the status of this internship.
      * Automatically updates visibility based on status.
+     * Publishes an {@link InternshipStatusChanged} event if the status actually changes.
      * Note: CSV persistence is handled by controllers (MVC compliance).
      * 
      * @param status The new status to set
      */
     public void setStatus(InternshipStatus status) {
+        InternshipStatus from = this.status;
         this.status = status;
         if (status == InternshipStatus.APPROVED) visible = true;
         if (status == InternshipStatus.REJECTED) visible = false;
+        touch();
+        if (from != status) EventBus.getInstance().publish(new InternshipStatusChanged(this, from));
     }
 
     /**
      * Adds an application to this internship.
      * Automatically updates filled slots count.
+     * Synchronized so that submissions from different students to the same internship do not race.
      * 
      * @param app The application to add
      */
-    public void addApplication(Application app) {
+    public synchronized void addApplication(Application app) {
         applications.add(app);
         updateFilledSlots();
     }
 
     /**
      * Updates the filled slots count based on successful/accepted applications.
-     * Automatically sets status to FILLED if all slots are taken.
+     * Automatically sets an approved internship to FILLED if all slots are taken.
      */
     private void updateFilledSlots() {
         // Count both SUCCESSFUL and ACCEPTED applications as filled slots
         long successfulCount = applications.stream()
                 .filter(app -> app.getStatus() == ApplicationStatus.SUCCESSFUL || app.getStatus() == ApplicationStatus.ACCEPTED)
                 .count();
-        filledSlots = (int) successfulCount;
-        if (filledSlots >= numSlots) {
-            status = InternshipStatus.FILLED;
+        filledSlots.set((int) successfulCount);
+        if (successfulCount >= numSlots) {
+            markFilled();
+        }
+        touch();
+    }
+
+    /**
+     * Moves the internship from APPROVED to FILLED with compare-and-set, so the transition
+     * happens once however many callers race to it, and publishes an
+     * {@link InternshipStatusChanged} event from the caller that made it.
+     */
+    private void markFilled() {
+        if (STATUS.compareAndSet(this, InternshipStatus.APPROVED, InternshipStatus.FILLED)) {
+            EventBus.getInstance().publish(new InternshipStatusChanged(this, InternshipStatus.APPROVED));
+        }
+    }
+
+    /**
+     * Atomically claims one slot for a placement offer.
+     * Lock-free: concurrent callers race with compare-and-set on the slot counter, so at most
+     * {@code numSlots} reservations ever succeed. The caller that takes the last slot moves the
+     * internship from APPROVED to FILLED; that transition happens exactly once.
+     * 
+     * @return true if a slot was reserved, false if the internship is already full
+     */
+    public boolean tryReserveSlot() {
+        while (true) {
+            int current = filledSlots.get();
+            if (current >= numSlots) {
+                return false;
+            }
+            if (filledSlots.compareAndSet(current, current + 1)) {
+                if (current + 1 >= numSlots) {
+                    markFilled();
+                }
+                touch();
+                return true;
+            }
         }
     }
 
@@ -370,7 +609,7 @@ public class Internship {
      * @return The internship with the given ID, or null if not found
      */
     public static Internship findWithID(int id) {
-        return internships.stream().filter(i -> i.id == id).findFirst().orElse(null);
+        return byId.get(id);
     }
 
     /**
@@ -399,6 +638,8 @@ public class Internship {
         this.openDate = openDate;
         this.closeDate = closeDate;
         this.numSlots = slots;
+        dateIndex.update(id, openDate, closeDate, this);
+        touch();
     }
     
     /**
@@ -418,6 +659,7 @@ public class Internship {
             app.setStatus(constant.ApplicationStatus.WITHDRAWN);
         }
         internships.remove(this);
+        touch();
     }
     
     /**
@@ -545,8 +787,9 @@ public class Internship {
         this.numSlots = slots;
         this.visible = visible;
         this.status = status;
-        this.filledSlots = filledSlots;
+        this.filledSlots = new AtomicInteger(filledSlots);
         this.applications = new ArrayList<>();
+        this.version = ModificationClock.next();
     }
     
     // Public getter for CSV handler
@@ -0,0 +1,99 @@
+package model;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Global modification clock shared by all versioned model entities.
+ * Every mutation of an Internship, Application or User stamps the entity with the next tick,
+ * so a version is unique across the whole model (even across CSV reloads).
+ * Because all stamps come from one clock, the maximum of several entity versions changes
+ * whenever any one of them is mutated.
+ *
+ * <p>The clock also keeps one stamp per {@link Partition}: the tick of the latest change to any
+ * entity of that kind. A partition stamp is a content version for whole listings; unlike entity
+ * versions it does not move when a CSV reload produces the same data again.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class ModificationClock {
+    /** Monotonic tick counter */
+    private static final AtomicLong clock = new AtomicLong();
+
+    /** Latest change per partition, indexed by ordinal */
+    private static final AtomicLongArray partitions = new AtomicLongArray(Partition.values().length);
+    /** Content digest of each partition's file at the last reload */
+    private static final long[] syncedDigests = new long[Partition.values().length];
+    /** Partition stamp right after the last reload */
+    private static final long[] syncedStamps = new long[Partition.values().length];
+
+    /**
+     * Groups of entities with a shared content version.
+     */
+    public enum Partition {
+        /** Internships, including their slot counts and statuses */
+        INTERNSHIPS,
+        /** Applications */
+        APPLICATIONS,
+        /** User profiles */
+        USERS
+    }
+
+    /** Private constructor to prevent instantiation */
+    private ModificationClock() {}
+
+    /**
+     * Advances the clock and returns the new tick.
+     * @return the next modification stamp
+     */
+    public static long next() {
+        return clock.incrementAndGet();
+    }
+
+    /**
+     * Gets the most recently issued tick without advancing the clock.
+     * @return the current modification stamp
+     */
+    public static long current() {
+        return clock.get();
+    }
+
+    /**
+     * Records a change to an entity of a partition.
+     * @param partition the partition that changed
+     * @return the new partition stamp
+     */
+    public static long stamp(Partition partition) {
+        long tick = next();
+        partitions.accumulateAndGet(partition.ordinal(), tick, Math::max);
+        return tick;
+    }
+
+    /**
+     * Gets the content version of a partition.
+     * @param partition the partition
+     * @return the tick of the latest change to the partition
+     */
+    public static long version(Partition partition) {
+        return partitions.get(partition.ordinal());
+    }
+
+    /**
+     * Records that a partition was reloaded from a file with the given content digest.
+     * The partition is stamped if the file differs from the previous reload, or if entities were
+     * changed in memory since then (the reload may have replaced those changes).
+     *
+     * @param partition the reloaded partition
+     * @param digest digest of the file content that was loaded
+     */
+    public static synchronized void reloaded(Partition partition, long digest) {
+        int i = partition.ordinal();
+        if (digest != syncedDigests[i] || partitions.get(i) != syncedStamps[i]) {
+            stamp(partition);
+        }
+        syncedDigests[i] = digest;
+        syncedStamps[i] = partitions.get(i);
+    }
+}
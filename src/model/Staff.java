@@ -1,5 +1,6 @@
 package model;
 
+import constant.DataFiles;
 import utils.validation.ValidationHelper;
 
 /**
@@ -62,7 +63,7 @@ public class Staff extends User {
      */
     @Override
     public String getCsvFilename() {
-        return "sample_file/sample_staff_list.csv";
+        return DataFiles.staff();
     }
     
     /**
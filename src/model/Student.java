@@ -1,5 +1,6 @@
 package model;
 
+import constant.DataFiles;
 import utils.validation.ValidationHelper;
 
 import java.util.ArrayList;
@@ -76,7 +77,7 @@ public class Student extends User {
      */
     @Override
     public String getCsvFilename() {
-        return "sample_file/sample_student_list.csv";
+        return DataFiles.students();
     }
     
     /**
@@ -110,6 +111,7 @@ public class Student extends User {
     public void setYearOfStudy(int yearOfStudy) {
         ValidationHelper.validateRange(yearOfStudy, 1, 5, "Year of study");
         this.yearOfStudy = yearOfStudy;
+        touch();
     }
     
     /**
@@ -120,5 +122,6 @@ public class Student extends User {
     public void setMajor(String major) {
         ValidationHelper.validateNotEmpty(major, "Major");
         this.major = major;
+        touch();
     }
 }
\ No newline at end of file
@@ -22,6 +22,8 @@ public abstract class User {
     private String email;
     /** Current login status */
     private boolean loggedIn = false;
+    /** Modification stamp from {@link ModificationClock}, advanced on every profile change */
+    private volatile long version = ModificationClock.next();
 
     /**
      * Constructs a new User with the specified credentials.
@@ -83,6 +85,7 @@ public abstract class User {
     public void setName(String name) {
         ValidationHelper.validateNotEmpty(name, "Name");
         this.name = name;
+        touch();
     }
     
     /**
@@ -93,6 +96,7 @@ public abstract class User {
     public void setEmail(String email) {
         ValidationHelper.validateEmail(email);
         this.email = email;
+        touch();
     }
 
     /**
@@ -100,6 +104,19 @@ public abstract class User {
      * @param loggedIn true to mark as logged in, false otherwise
      */
     public void setLoggedIn(boolean loggedIn) { this.loggedIn = loggedIn; }
+
+    /**
+     * Gets the modification version of this user's profile.
+     * Changes whenever a displayed profile field is updated.
+     * @return the current modification stamp
+     */
+    public long getVersion() { return version; }
+
+    /**
+     * Marks this user's profile as modified.
+     * Called by setters so that cached renderings of the profile, and listings showing it, become stale.
+     */
+    protected void touch() { version = ModificationClock.stamp(ModificationClock.Partition.USERS); }
     
     /**
      * Verifies if the provided password matches the user's password.
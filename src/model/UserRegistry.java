@@ -48,6 +48,14 @@ public class UserRegistry {
         return true;
     }
 
+    /**
+     * Remove every registered user.
+     * Used by the performance harnesses when switching to a different dataset.
+     */
+    public void clear() {
+        users.clear();
+    }
+
     /**
      * Find a user by their ID.
      * Called from LoginController during login and password changes.
@@ -0,0 +1,163 @@
+package perf;
+
+import api.ApiServer;
+import controller.LoginController;
+import model.Student;
+import model.UserRegistry;
+import utils.metrics.LatencyHistogram;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Requests-per-second benchmark of the HTTP API.
+ * Starts an {@link ApiServer} on a generated dataset and drives it from closed-loop client
+ * threads, each logged in as a different student, mixing internship listings with application
+ * submissions. Reports throughput, latency percentiles and response status counts.
+ *
+ * <p>Configuration (system properties):
+ * <ul>
+ *   <li>{@code api.datasetSize} - generated dataset size (default 1000)</li>
+ *   <li>{@code api.clients} - concurrent client threads (default 32)</li>
+ *   <li>{@code api.threads} - server handler threads (default 16 per processor)</li>
+ *   <li>{@code api.durationSeconds} - measured duration (default 10)</li>
+ *   <li>{@code api.warmupSeconds} - unmeasured warmup (default 3)</li>
+ *   <li>{@code api.applyPercent} - share of requests that submit an application (default 10)</li>
+ * </ul>
+ *
+ * <p>Usage: {@code java -Dapi.clients=64 -cp bin perf.ApiBenchmark}
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class ApiBenchmark {
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Entry point.
+     * @param args ignored; configuration comes from system properties
+     * @throws Exception if the dataset or server cannot be prepared
+     */
+    public static void main(String[] args) throws Exception {
+        int datasetSize = Integer.getInteger("api.datasetSize", 1000);
+        int clients = Integer.getInteger("api.clients", 32);
+        int threads = Integer.getInteger("api.threads", Runtime.getRuntime().availableProcessors() * 16);
+        int durationSeconds = Integer.getInteger("api.durationSeconds", 10);
+        int warmupSeconds = Integer.getInteger("api.warmupSeconds", 3);
+        int applyPercent = Integer.getInteger("api.applyPercent", 10);
+
+        System.out.println("Preparing dataset of " + datasetSize + "...");
+        BenchmarkFixture fixture = new BenchmarkFixture(datasetSize);
+        ApiServer server = null;
+        try {
+            fixture.reset();
+            server = new ApiServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), threads,
+                    new LoginController(UserRegistry.getInstance()), fixture.getInternshipController(),
+                    fixture.getApplicationController(), null);
+            server.start();
+            URI base = URI.create("http://localhost:" + server.getPort() + "/api/");
+            System.out.printf("Running %d clients against %d handler threads for %ds (+%ds warmup)...%n",
+                    clients, threads, durationSeconds, warmupSeconds);
+
+            new ApiBenchmark().run(base, fixture, clients, warmupSeconds, applyPercent);
+            ApiBenchmark measured = new ApiBenchmark();
+            long elapsed = measured.run(base, fixture, clients, durationSeconds, applyPercent);
+            System.out.println();
+            System.out.print(measured.format(elapsed / 1e9));
+        } finally {
+            if (server != null) server.stop();
+            fixture.delete();
+        }
+    }
+
+    /**
+     * Drives the server from closed-loop clients for a fixed duration.
+     * @return measured wall-clock nanoseconds
+     */
+    long run(URI base, BenchmarkFixture fixture, int clients, int seconds, int applyPercent) throws InterruptedException {
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+        List<Thread> threads = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            Student student = fixture.getStudent(c % fixture.getSize());
+            String auth = "Basic " + Base64.getEncoder().encodeToString(
+                    (student.getUserID() + ":password").getBytes(StandardCharsets.UTF_8));
+            SplittableRandom random = new SplittableRandom(BenchmarkFixture.SEED + c);
+            Thread t = new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    if (random.nextInt(100) < applyPercent) {
+                        int internship = fixture.getInternshipId(random.nextInt(fixture.getSize()));
+                        call(http, "apply", HttpRequest.newBuilder(base.resolve("applications"))
+                                .header("Authorization", auth)
+                                .POST(HttpRequest.BodyPublishers.ofString("{\"internshipId\":" + internship + "}")));
+                    } else {
+                        call(http, "list", HttpRequest.newBuilder(base.resolve("internships"))
+                                .header("Authorization", auth).GET());
+                    }
+                }
+            }, "api-client-" + c);
+            threads.add(t);
+            t.start();
+        }
+        for (Thread t : threads) t.join();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Sends one request and records its latency and status.
+     */
+    private void call(HttpClient http, String operation, HttpRequest.Builder request) {
+        long begin = System.nanoTime();
+        try {
+            HttpResponse<Void> response = http.send(request.timeout(Duration.ofSeconds(30)).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            statuses.computeIfAbsent(response.statusCode(), k -> new LongAdder()).increment();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+            failures.increment();
+        } finally {
+            latencies.computeIfAbsent(operation, k -> new LatencyHistogram()).record(System.nanoTime() - begin);
+        }
+    }
+
+    /**
+     * Formats the report.
+     */
+    private String format(double elapsedSeconds) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-10s %9s %10s %10s %10s %10s %10s%n",
+                "Request", "Count", "Req/s", "p50(ms)", "p95(ms)", "p99(ms)", "Max(ms)"));
+        long total = 0;
+        for (Map.Entry<String, LatencyHistogram> e : new TreeMap<>(latencies).entrySet()) {
+            LatencyHistogram.Snapshot s = e.getValue().snapshot();
+            total += s.getCount();
+            sb.append(String.format("%-10s %9d %10.1f %10.2f %10.2f %10.2f %10.2f%n", e.getKey(), s.getCount(),
+                    s.getCount() / elapsedSeconds, s.getP50() / 1e6, s.getP95() / 1e6, s.getP99() / 1e6, s.getMax() / 1e6));
+        }
+        sb.append(String.format("Total: %d requests, %.1f req/s, %d transport failures%n",
+                total, total / elapsedSeconds, failures.sum()));
+        sb.append("Status codes:");
+        new TreeMap<>(statuses).forEach((status, n) -> sb.append(' ').append(status).append('=').append(n.sum()));
+        sb.append('\n');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,158 @@
+package perf;
+
+import constant.ApplicationStatus;
+import constant.DataFiles;
+import constant.UserType;
+import controller.ApplicationController;
+import controller.InternshipController;
+import model.*;
+import utils.csv.UserCsvHandler;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Dataset of a given size for the benchmarks.
+ * Generates a pristine copy of every CSV file into a temporary directory once with
+ * {@link DatasetGenerator}, then {@link #reset()} restores the working copy and reloads all users,
+ * internships and applications through the normal handlers with {@code placement.dataDir}
+ * pointing at that directory.
+ *
+ * <p>The dataset has {@code size} internships and students and one staff member per thousand students.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class BenchmarkFixture {
+    /** Seed used for every benchmark dataset, so runs are comparable */
+    public static final long SEED = 42L;
+
+    /** Number of internships and students */
+    private final int size;
+    /** Working data directory */
+    private final Path directory;
+    /** Pristine copy restored by {@link #reset()} */
+    private final Path pristine;
+    /** Internship controller bound to the working directory */
+    private final InternshipController internshipController = new InternshipController();
+    /** Application controller bound to the working directory */
+    private final ApplicationController applicationController = new ApplicationController();
+
+    /**
+     * Creates and writes a dataset.
+     * @param size number of internships and students (at least 100)
+     * @throws IOException if the files cannot be written
+     */
+    public BenchmarkFixture(int size) throws IOException {
+        if (size < 100) {
+            throw new IllegalArgumentException("Dataset size must be at least 100.");
+        }
+        this.size = size;
+        this.directory = Files.createTempDirectory("placement-bench-" + size + "-");
+        this.pristine = Files.createDirectory(directory.resolve("pristine"));
+        new DatasetGenerator(SEED, size, size, Math.max(1, size / 1000)).write(pristine);
+    }
+
+    /** @return number of internships and students */
+    public int getSize() { return size; }
+
+    /** @return the working data directory */
+    public Path getDirectory() { return directory; }
+
+    /** @return internship controller for this dataset */
+    public InternshipController getInternshipController() { return internshipController; }
+
+    /** @return application controller for this dataset */
+    public ApplicationController getApplicationController() { return applicationController; }
+
+    /**
+     * Restores the pristine files and reloads every entity from them.
+     * @throws IOException if the files cannot be copied
+     */
+    public void reset() throws IOException {
+        for (String file : new String[]{DataFiles.STUDENTS, DataFiles.STAFF, DataFiles.COMPANY_REPRESENTATIVES,
+                DataFiles.INTERNSHIPS, DataFiles.APPLICATIONS}) {
+            Files.copy(pristine.resolve(file), directory.resolve(file), StandardCopyOption.REPLACE_EXISTING);
+        }
+        activate();
+        UserRegistry.getInstance().clear();
+        UserCsvHandler users = UserCsvHandler.getInstance();
+        users.loadUsersFromCsv(DataFiles.students(), UserType.STUDENT, 6);
+        users.loadUsersFromCsv(DataFiles.staff(), UserType.STAFF, 6);
+        users.loadUsersFromCsv(DataFiles.companyRepresentatives(), UserType.COMPANY_REPRESENTATIVE, 8);
+        applicationController.loadApplicationsFromCsv(internshipController);
+    }
+
+    /**
+     * Points the CSV handlers at this dataset without reloading.
+     */
+    public void activate() {
+        System.setProperty(DataFiles.DATA_DIR_PROPERTY, directory.toString());
+    }
+
+    /**
+     * Gets students that have not applied anywhere, in ID order.
+     * @return students eligible for new applications
+     */
+    public List<Student> getStudentsWithoutApplications() {
+        List<Student> result = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            User user = UserRegistry.getInstance().findById(DatasetGenerator.studentId(i));
+            if (user instanceof Student && ((Student) user).getApplications().isEmpty()) {
+                result.add((Student) user);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the PENDING applications currently loaded whose internship still has a free slot, in ID order.
+     * Applications to filled internships are left out because they can no longer be offered a place.
+     * @return pending applications that can still be confirmed
+     */
+    public List<Application> getPendingApplications() {
+        return Application.getAllApplicationsList().stream()
+                .filter(a -> a.getStatus() == ApplicationStatus.PENDING && !a.getInternship().isFilled())
+                .sorted(Comparator.comparingInt(Application::getId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets a loaded student by index.
+     * @param index student index in [0, size)
+     * @return the student
+     */
+    public Student getStudent(int index) {
+        return (Student) UserRegistry.getInstance().findById(DatasetGenerator.studentId(index));
+    }
+
+    /**
+     * Gets the ID of an internship by index.
+     * @param index internship index in [0, size)
+     * @return the internship ID
+     */
+    public int getInternshipId(int index) {
+        return DatasetGenerator.FIRST_INTERNSHIP_ID + index;
+    }
+
+    /**
+     * Deletes the dataset directory and restores the default data directory.
+     * @throws IOException if files cannot be deleted
+     */
+    public void delete() throws IOException {
+        System.clearProperty(DataFiles.DATA_DIR_PROPERTY);
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path p : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(p);
+            }
+        }
+    }
+}
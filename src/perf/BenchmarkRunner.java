@@ -0,0 +1,201 @@
+package perf;
+
+import utils.metrics.LatencyHistogram;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal benchmark harness.
+ * Each benchmark runs a number of warmup iterations (discarded) followed by measured iterations.
+ * An iteration calls the benchmark's setup (untimed) and then invokes the operation a fixed
+ * number of times, timing every invocation into a {@link LatencyHistogram}.
+ * Results are passed through {@link Blackhole} so the JIT cannot drop the measured work.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Work performed before each iteration (not measured).
+     */
+    @FunctionalInterface
+    public interface Setup {
+        /**
+         * Prepares state for the next iteration.
+         * @throws Exception if the setup fails
+         */
+        void run() throws Exception;
+    }
+
+    /**
+     * A single measured invocation.
+     */
+    @FunctionalInterface
+    public interface Operation {
+        /**
+         * Performs the measured work.
+         * @param index invocation number within the current iteration, starting at 0
+         * @return a result to be consumed by the blackhole
+         * @throws Exception if the operation fails
+         */
+        Object invoke(int index) throws Exception;
+    }
+
+    /**
+     * A named benchmark definition.
+     */
+    public static final class Benchmark {
+        private final String name;
+        private final Setup setup;
+        private final Operation operation;
+        private final int invocationsPerIteration;
+
+        /**
+         * Creates a benchmark.
+         * @param name unique name, used for filtering and reporting
+         * @param setup per-iteration setup (may be null)
+         * @param operation the measured operation
+         * @param invocationsPerIteration number of invocations per iteration
+         */
+        public Benchmark(String name, Setup setup, Operation operation, int invocationsPerIteration) {
+            if (invocationsPerIteration <= 0) {
+                throw new IllegalArgumentException("Invocations per iteration must be positive.");
+            }
+            this.name = name;
+            this.setup = setup;
+            this.operation = operation;
+            this.invocationsPerIteration = invocationsPerIteration;
+        }
+
+        /** @return the benchmark name */
+        public String getName() { return name; }
+    }
+
+    /**
+     * Measured outcome of one benchmark at one dataset size.
+     */
+    public static final class Result {
+        private final String name;
+        private final int datasetSize;
+        private final LatencyHistogram.Snapshot latency;
+        private final long totalNanos;
+
+        Result(String name, int datasetSize, LatencyHistogram.Snapshot latency, long totalNanos) {
+            this.name = name;
+            this.datasetSize = datasetSize;
+            this.latency = latency;
+            this.totalNanos = totalNanos;
+        }
+
+        /** @return the benchmark name */
+        public String getName() { return name; }
+        /** @return the dataset size the benchmark ran against */
+        public int getDatasetSize() { return datasetSize; }
+        /** @return latency distribution of the measured invocations */
+        public LatencyHistogram.Snapshot getLatency() { return latency; }
+
+        /**
+         * Gets the measured throughput.
+         * @return invocations per second over all measured iterations
+         */
+        public double getOpsPerSecond() {
+            return totalNanos == 0 ? 0 : latency.getCount() * 1_000_000_000.0 / totalNanos;
+        }
+    }
+
+    /** Number of discarded warmup iterations */
+    private final int warmupIterations;
+    /** Number of measured iterations */
+    private final int measurementIterations;
+    /** Only benchmarks whose name matches are run */
+    private final Pattern filter;
+
+    /**
+     * Creates a runner.
+     * @param warmupIterations discarded iterations before measuring
+     * @param measurementIterations measured iterations
+     * @param filter regular expression selecting benchmarks by name
+     */
+    public BenchmarkRunner(int warmupIterations, int measurementIterations, String filter) {
+        if (warmupIterations < 0 || measurementIterations <= 0) {
+            throw new IllegalArgumentException("Iteration counts must be positive.");
+        }
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.filter = Pattern.compile(filter);
+    }
+
+    /**
+     * Checks whether a benchmark is selected by the name filter.
+     * @param benchmark the benchmark to check
+     * @return true if it should run
+     */
+    public boolean isSelected(Benchmark benchmark) {
+        return filter.matcher(benchmark.name).find();
+    }
+
+    /**
+     * Runs one benchmark.
+     * @param benchmark the benchmark to run
+     * @param datasetSize size of the loaded dataset (for reporting)
+     * @return the measured result
+     * @throws Exception if setup or the operation fails
+     */
+    public Result run(Benchmark benchmark, int datasetSize) throws Exception {
+        for (int i = 0; i < warmupIterations; i++) {
+            iterate(benchmark, null);
+        }
+        LatencyHistogram histogram = new LatencyHistogram();
+        long total = 0;
+        for (int i = 0; i < measurementIterations; i++) {
+            total += iterate(benchmark, histogram);
+        }
+        return new Result(benchmark.name, datasetSize, histogram.snapshot(), total);
+    }
+
+    /**
+     * Runs a single iteration.
+     * @param benchmark the benchmark
+     * @param histogram where to record latencies, or null for warmup
+     * @return total measured nanoseconds
+     */
+    private long iterate(Benchmark benchmark, LatencyHistogram histogram) throws Exception {
+        if (benchmark.setup != null) {
+            benchmark.setup.run();
+        }
+        long total = 0;
+        for (int i = 0; i < benchmark.invocationsPerIteration; i++) {
+            long start = System.nanoTime();
+            Object result = benchmark.operation.invoke(i);
+            long elapsed = System.nanoTime() - start;
+            Blackhole.consume(result);
+            total += elapsed;
+            if (histogram != null) {
+                histogram.record(elapsed);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Formats results as a fixed-width table (latencies in microseconds).
+     * @param results the results to format
+     * @return the formatted table
+     */
+    public static String formatResults(List<Result> results) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-40s %9s %9s %12s %12s %12s %12s %14s%n",
+                "Benchmark", "Size", "Samples", "Mean(us)", "p50(us)", "p99(us)", "Max(us)", "Ops/s"));
+        for (Result r : results) {
+            LatencyHistogram.Snapshot s = r.latency;
+            sb.append(String.format("%-40s %9d %9d %12.2f %12.2f %12.2f %12.2f %14.1f%n",
+                    r.name, r.datasetSize, s.getCount(),
+                    s.getMean() / 1000.0, s.getP50() / 1000.0, s.getP99() / 1000.0, s.getMax() / 1000.0,
+                    r.getOpsPerSecond()));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,42 @@
+package perf;
+
+/**
+ * Sink for benchmark results.
+ * Every value returned by a measured operation is folded into a volatile field so the JIT
+ * cannot prove the result unused and eliminate the work being measured.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class Blackhole {
+    /** Accumulated hash of everything consumed */
+    private static volatile int sink;
+
+    /** Private constructor to prevent instantiation */
+    private Blackhole() {}
+
+    /**
+     * Consumes an object result.
+     * @param value the value to keep alive
+     */
+    public static void consume(Object value) {
+        sink += value == null ? 0 : System.identityHashCode(value);
+    }
+
+    /**
+     * Consumes a primitive result.
+     * @param value the value to keep alive
+     */
+    public static void consume(long value) {
+        sink += (int) (value ^ (value >>> 32));
+    }
+
+    /**
+     * Gets the current sink value (only useful to keep the field observable).
+     * @return the accumulated value
+     */
+    public static int value() {
+        return sink;
+    }
+}
@@ -0,0 +1,465 @@
+package perf;
+
+import constant.ApplicationStatus;
+import constant.DataFiles;
+import constant.InternshipStatus;
+import constant.StaffApprovalStatus;
+import model.CompanyRepresentative;
+import model.Student;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator for large synthetic datasets in the CSV formats read by the application.
+ *
+ * <p>Every attribute of every entity is derived from {@code (seed, entity, index)}, so the same
+ * seed and opening date always produce byte-identical files and rows can be regenerated instead of kept in memory.
+ * Rows are streamed straight to disk; the only state held is one slot counter per internship,
+ * which lets the generator write millions of rows in bounded memory.
+ *
+ * <p>Distributions:
+ * <ul>
+ *   <li>Student majors and years follow a fixed mix (Computer Science heaviest)</li>
+ *   <li>Representatives are mostly approved; each approved representative creates 1 to
+ *       {@link CompanyRepresentative#MAX_INTERNSHIPS} internships</li>
+ *   <li>Internships are mostly APPROVED and visible, with PENDING and REJECTED tails</li>
+ *   <li>Application targets follow a power-law popularity, preferring internships the student is eligible for</li>
+ *   <li>Each student has 0 to {@link Student#MAX_APPLICATIONS} applications with a status mix;
+ *       at most one is ACCEPTED, in which case the others are WITHDRAWN</li>
+ * </ul>
+ *
+ * <p>Invariants: SUCCESSFUL and ACCEPTED applications never exceed an internship's slots,
+ * {@code FilledSlots} matches them, and a full APPROVED internship is written as FILLED.
+ *
+ * <p>Usage: {@code java -cp bin perf.DatasetGenerator <outputDir> <students> <internships> [staff] [seed]}
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class DatasetGenerator {
+    /** ID of the first generated internship */
+    public static final int FIRST_INTERNSHIP_ID = 100000;
+    /** ID of the first generated application */
+    public static final int FIRST_APPLICATION_ID = 500000;
+
+    /** Majors shared by students and internships */
+    private static final String[] MAJORS = {"Computer Science", "Data Science & AI", "Computer Engineering",
+            "Information Engineering & Media", "Business Analytics"};
+    /** Relative frequency of each major */
+    private static final double[] MAJOR_WEIGHTS = {0.35, 0.20, 0.20, 0.10, 0.15};
+    /** Internship levels */
+    private static final String[] LEVELS = {"BASIC", "INTERMEDIATE", "ADVANCED"};
+    /** Relative frequency of each level */
+    private static final double[] LEVEL_WEIGHTS = {0.45, 0.35, 0.20};
+    /** Relative frequency of years 1 to 4 */
+    private static final double[] YEAR_WEIGHTS = {0.25, 0.30, 0.25, 0.20};
+    /** Relative frequency of 0 to 3 applications per student */
+    private static final double[] APPLICATION_COUNT_WEIGHTS = {0.20, 0.30, 0.25, 0.25};
+    /** Internship role titles */
+    private static final String[] ROLES = {"Software Engineer Intern", "Data Analyst Intern", "Backend Developer Intern",
+            "Frontend Developer Intern", "Machine Learning Intern", "DevOps Intern", "Product Analyst Intern",
+            "Security Analyst Intern", "QA Engineer Intern", "Business Analyst Intern"};
+    /** Base company names */
+    private static final String[] COMPANIES = {"Facebook", "Google", "Grab", "Shopee", "DBS", "Sea", "ByteDance",
+            "Micron", "GovTech", "Singtel"};
+    /** Given names for generated people */
+    private static final String[] FIRST_NAMES = {"Wei Ling", "Jia Hao", "Hui Min", "Zhi Wei", "Mei Xuan", "Jun Jie",
+            "Priya", "Arjun", "Siti", "Farhan", "Rachel", "Daniel"};
+    /** Family names for generated people */
+    private static final String[] LAST_NAMES = {"Tan", "Ng", "Lim", "Lee", "Wong", "Chua", "Goh", "Koh", "Kumar", "Rahman"};
+    /** Range of opening dates in days */
+    private static final int OPEN_SPAN_DAYS = 180;
+    /** Days before today that default opening dates start, so many internships are open today */
+    private static final int DEFAULT_OPEN_LEAD_DAYS = 120;
+    /** Exponent shaping target popularity; higher is more skewed */
+    private static final double POPULARITY_SKEW = 2.5;
+    /** Samples drawn when looking for an eligible internship */
+    private static final int TARGET_ATTEMPTS = 8;
+
+    /** Entity kinds mixed into per-entity seeds */
+    private static final int KIND_STUDENT = 1, KIND_STAFF = 2, KIND_REP = 3, KIND_INTERNSHIP = 4, KIND_APPLICATIONS = 5;
+
+    /** Base seed */
+    private final long seed;
+    /** Number of students */
+    private final int studentCount;
+    /** Number of internships */
+    private final int internshipCount;
+    /** Number of staff */
+    private final int staffCount;
+    /** Earliest internship opening date */
+    private final LocalDate openFrom;
+    /** Multiplier mapping popularity rank to internship index (coprime with the internship count) */
+    private final long rankStride;
+
+    /**
+     * Creates a generator whose internship windows are spread around today.
+     * @param seed base seed
+     * @param studentCount number of students
+     * @param internshipCount number of internships
+     * @param staffCount number of staff
+     */
+    public DatasetGenerator(long seed, int studentCount, int internshipCount, int staffCount) {
+        this(seed, studentCount, internshipCount, staffCount, LocalDate.now().minusDays(DEFAULT_OPEN_LEAD_DAYS));
+    }
+
+    /**
+     * Creates a generator.
+     * @param seed base seed; equal seeds, sizes and dates give identical output
+     * @param studentCount number of students
+     * @param internshipCount number of internships
+     * @param staffCount number of staff
+     * @param openFrom earliest internship opening date
+     */
+    public DatasetGenerator(long seed, int studentCount, int internshipCount, int staffCount, LocalDate openFrom) {
+        if (studentCount < 1 || internshipCount < 1 || staffCount < 1) {
+            throw new IllegalArgumentException("Dataset sizes must be positive.");
+        }
+        this.seed = seed;
+        this.studentCount = studentCount;
+        this.internshipCount = internshipCount;
+        this.staffCount = staffCount;
+        this.openFrom = openFrom;
+        long stride = 7919;
+        while (gcd(stride, internshipCount) != 1) stride++;
+        this.rankStride = stride;
+    }
+
+    /**
+     * Counts of the rows written by {@link #write(Path)}.
+     */
+    public static final class Summary {
+        private final int students, staff, representatives, internships, applications, filledInternships;
+
+        Summary(int students, int staff, int representatives, int internships, int applications, int filledInternships) {
+            this.students = students;
+            this.staff = staff;
+            this.representatives = representatives;
+            this.internships = internships;
+            this.applications = applications;
+            this.filledInternships = filledInternships;
+        }
+
+        /** @return students written */
+        public int getStudents() { return students; }
+        /** @return staff written */
+        public int getStaff() { return staff; }
+        /** @return company representatives written */
+        public int getRepresentatives() { return representatives; }
+        /** @return internships written */
+        public int getInternships() { return internships; }
+        /** @return applications written */
+        public int getApplications() { return applications; }
+        /** @return internships written as FILLED */
+        public int getFilledInternships() { return filledInternships; }
+
+        @Override
+        public String toString() {
+            return String.format("%d students, %d staff, %d representatives, %d internships (%d filled), %d applications",
+                    students, staff, representatives, internships, filledInternships, applications);
+        }
+    }
+
+    /**
+     * Entry point.
+     * @param args output directory, students, internships, optional staff and seed
+     * @throws IOException if the files cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.out.println("Usage: java perf.DatasetGenerator <outputDir> <students> <internships> [staff] [seed]");
+            return;
+        }
+        int students = Integer.parseInt(args[1]);
+        int internships = Integer.parseInt(args[2]);
+        int staff = args.length > 3 ? Integer.parseInt(args[3]) : Math.max(1, students / 1000);
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42L;
+        Path dir = Files.createDirectories(Paths.get(args[0]));
+        Summary summary = new DatasetGenerator(seed, students, internships, staff).write(dir);
+        System.out.println("Wrote " + summary + " to " + dir.toAbsolutePath());
+    }
+
+    /**
+     * Writes all five CSV files into a directory, using the file names from {@link DataFiles}.
+     * @param dir target directory (must exist)
+     * @return counts of the rows written
+     * @throws IOException if a file cannot be written
+     */
+    public Summary write(Path dir) throws IOException {
+        int[] filled = new int[internshipCount];
+        generateApplications(filled, null);
+
+        int students = writeStudents(dir);
+        int staff = writeStaff(dir);
+        int[] repsAndFilled = writeRepresentativesAndInternships(dir, filled);
+        int applications;
+        try (BufferedWriter w = open(dir, DataFiles.APPLICATIONS)) {
+            w.write("ApplicationID,InternshipID,StudentID,DateApplied,Status,PreviousStatus,WithdrawalReason\n");
+            applications = generateApplications(new int[internshipCount], w);
+        }
+        return new Summary(students, staff, repsAndFilled[0], internshipCount, applications, repsAndFilled[1]);
+    }
+
+    /**
+     * Builds the student ID for an index.
+     * @param index student index
+     * @return a valid student ID
+     */
+    public static String studentId(int index) {
+        return String.format("U%07d%c", index, (char) ('A' + index % 26));
+    }
+
+    /**
+     * Writes the student list.
+     */
+    private int writeStudents(Path dir) throws IOException {
+        try (BufferedWriter w = open(dir, DataFiles.STUDENTS)) {
+            w.write("StudentID,Name,Major,Year,Email,Password\n");
+            for (int i = 0; i < studentCount; i++) {
+                SplittableRandom r = random(KIND_STUDENT, i);
+                String major = MAJORS[pick(r, MAJOR_WEIGHTS)];
+                int year = 1 + pick(r, YEAR_WEIGHTS);
+                String last = LAST_NAMES[r.nextInt(LAST_NAMES.length)];
+                String first = FIRST_NAMES[r.nextInt(FIRST_NAMES.length)];
+                w.write(studentId(i) + "," + last + " " + first + "," + major + "," + year + ","
+                        + last.toLowerCase() + i + "@e.ntu.edu.sg,password\n");
+            }
+        }
+        return studentCount;
+    }
+
+    /**
+     * Writes the staff list.
+     */
+    private int writeStaff(Path dir) throws IOException {
+        try (BufferedWriter w = open(dir, DataFiles.STAFF)) {
+            w.write("StaffID,Name,Role,Department,Email,Password\n");
+            for (int i = 0; i < staffCount; i++) {
+                SplittableRandom r = random(KIND_STAFF, i);
+                String last = LAST_NAMES[r.nextInt(LAST_NAMES.length)];
+                String id = last.toLowerCase() + String.format("%03d", i);
+                w.write(id + ",Dr. " + last + " " + FIRST_NAMES[r.nextInt(FIRST_NAMES.length)]
+                        + ",Career Center Staff,CCDS," + id + "@ntu.edu.sg,password\n");
+            }
+        }
+        return staffCount;
+    }
+
+    /**
+     * Writes representatives and their internships in one pass, since each internship row
+     * names its creator. Only approved representatives create internships.
+     * @return number of representatives and number of FILLED internships
+     */
+    private int[] writeRepresentativesAndInternships(Path dir, int[] filled) throws IOException {
+        int reps = 0;
+        int filledInternships = 0;
+        try (BufferedWriter repWriter = open(dir, DataFiles.COMPANY_REPRESENTATIVES);
+             BufferedWriter internshipWriter = open(dir, DataFiles.INTERNSHIPS)) {
+            repWriter.write("CompanyRepID,Name,CompanyName,Department,Position,Email,Password,Status\n");
+            internshipWriter.write("InternshipID,Title,Description,Level,Major,OpenDate,CloseDate,Company,CreatorID,Visible,NumSlots,FilledSlots,Status\n");
+            int next = 0;
+            while (next < internshipCount) {
+                SplittableRandom r = random(KIND_REP, reps);
+                double roll = r.nextDouble();
+                StaffApprovalStatus status = roll < 0.90 ? StaffApprovalStatus.APPROVED
+                        : roll < 0.97 ? StaffApprovalStatus.PENDING : StaffApprovalStatus.REJECTED;
+                String company = COMPANIES[(reps / 3) % COMPANIES.length] + " " + (reps / 3);
+                String id = "rep" + reps + "@" + COMPANIES[(reps / 3) % COMPANIES.length].toLowerCase() + (reps / 3) + ".com";
+                repWriter.write(id + "," + LAST_NAMES[r.nextInt(LAST_NAMES.length)] + " " + FIRST_NAMES[r.nextInt(FIRST_NAMES.length)]
+                        + "," + company + ",Talent Acquisition,Recruiter," + id + ",password," + status.toCsvString() + "\n");
+                reps++;
+                if (status != StaffApprovalStatus.APPROVED) continue;
+
+                int created = Math.min(1 + r.nextInt(CompanyRepresentative.MAX_INTERNSHIPS), internshipCount - next);
+                for (int k = 0; k < created; k++, next++) {
+                    InternshipSpec spec = internshipSpec(next);
+                    InternshipStatus internshipStatus = spec.status;
+                    if (internshipStatus == InternshipStatus.APPROVED && filled[next] >= spec.slots) {
+                        internshipStatus = InternshipStatus.FILLED;
+                        filledInternships++;
+                    }
+                    internshipWriter.write((FIRST_INTERNSHIP_ID + next) + "," + spec.role + "," + spec.role + " programme at " + company
+                            + "," + LEVELS[spec.level] + "," + MAJORS[spec.major] + "," + spec.openDate + "," + spec.closeDate
+                            + "," + company + "," + id + "," + spec.visible + "," + spec.slots + "," + filled[next]
+                            + "," + internshipStatus + "\n");
+                }
+            }
+        }
+        return new int[]{reps, filledInternships};
+    }
+
+    /**
+     * Generates every student's applications in order, claiming slots in {@code filled}.
+     * Called once to count slots and again to write rows; both runs make identical decisions.
+     * @param filled per-internship count of SUCCESSFUL and ACCEPTED applications (updated)
+     * @param out writer for rows, or null to only count
+     * @return number of applications generated
+     */
+    private int generateApplications(int[] filled, BufferedWriter out) throws IOException {
+        int id = FIRST_APPLICATION_ID;
+        int[] targets = new int[Student.MAX_APPLICATIONS];
+        for (int s = 0; s < studentCount; s++) {
+            SplittableRandom student = random(KIND_STUDENT, s);
+            int major = pick(student, MAJOR_WEIGHTS);
+            int year = 1 + pick(student, YEAR_WEIGHTS);
+
+            SplittableRandom r = random(KIND_APPLICATIONS, s);
+            int wanted = pick(r, APPLICATION_COUNT_WEIGHTS);
+            int count = 0;
+            for (int a = 0; a < wanted; a++) {
+                int target = chooseTarget(r, major, year, targets, count);
+                if (target >= 0) targets[count++] = target;
+            }
+            if (count == 0) continue;
+
+            int accepted = -1;
+            if (r.nextDouble() < 0.12) {
+                int candidate = r.nextInt(count);
+                if (filled[targets[candidate]] < internshipSpec(targets[candidate]).slots) {
+                    accepted = candidate;
+                    filled[targets[candidate]]++;
+                }
+            }
+            for (int a = 0; a < count; a++) {
+                InternshipSpec spec = internshipSpec(targets[a]);
+                ApplicationStatus status;
+                ApplicationStatus previous = null;
+                String reason = null;
+                if (a == accepted) {
+                    status = ApplicationStatus.ACCEPTED;
+                } else if (accepted >= 0) {
+                    status = ApplicationStatus.WITHDRAWN;
+                } else {
+                    double roll = r.nextDouble();
+                    if (roll < 0.52) {
+                        status = ApplicationStatus.PENDING;
+                    } else if (roll < 0.67 && filled[targets[a]] < spec.slots) {
+                        status = ApplicationStatus.SUCCESSFUL;
+                        filled[targets[a]]++;
+                    } else if (roll < 0.89) {
+                        status = ApplicationStatus.UNSUCCESSFUL;
+                    } else if (roll < 0.97) {
+                        status = ApplicationStatus.WITHDRAWN;
+                    } else {
+                        status = ApplicationStatus.WITHDRAWAL_REQUESTED;
+                        previous = ApplicationStatus.PENDING;
+                        reason = "Changed plans";
+                    }
+                }
+                long window = Math.max(1, ChronoUnit.DAYS.between(spec.openDate, spec.closeDate));
+                LocalDateTime applied = spec.openDate.atStartOfDay()
+                        .plusDays(r.nextLong(window))
+                        .plusSeconds(r.nextInt(86_400));
+                if (out != null) {
+                    out.write(id + "," + (FIRST_INTERNSHIP_ID + targets[a]) + "," + studentId(s) + "," + applied + ","
+                            + status + "," + (previous != null ? previous : "") + "," + (reason != null ? reason : "") + "\n");
+                }
+                id++;
+            }
+        }
+        return id - FIRST_APPLICATION_ID;
+    }
+
+    /**
+     * Picks an internship by popularity, preferring ones the student is eligible for.
+     * Only approved and visible internships not already chosen by this student qualify.
+     * @return internship index, or -1 if none qualified
+     */
+    private int chooseTarget(SplittableRandom r, int major, int year, int[] chosen, int chosenCount) {
+        int fallback = -1;
+        for (int attempt = 0; attempt < TARGET_ATTEMPTS; attempt++) {
+            int rank = (int) (internshipCount * Math.pow(r.nextDouble(), POPULARITY_SKEW));
+            int index = (int) ((rank * rankStride) % internshipCount);
+            InternshipSpec spec = internshipSpec(index);
+            if (spec.status != InternshipStatus.APPROVED || !spec.visible || contains(chosen, chosenCount, index)) continue;
+            if (spec.major == major && (spec.level == 0 || year >= 3)) return index;
+            if (fallback < 0) fallback = index;
+        }
+        return fallback;
+    }
+
+    /**
+     * Attributes of one internship derived from its index.
+     */
+    private static final class InternshipSpec {
+        int major;
+        int level;
+        InternshipStatus status;
+        boolean visible;
+        int slots;
+        LocalDate openDate;
+        LocalDate closeDate;
+        String role;
+    }
+
+    /**
+     * Derives the attributes of an internship.
+     */
+    private InternshipSpec internshipSpec(int index) {
+        SplittableRandom r = random(KIND_INTERNSHIP, index);
+        InternshipSpec spec = new InternshipSpec();
+        spec.major = pick(r, MAJOR_WEIGHTS);
+        spec.level = pick(r, LEVEL_WEIGHTS);
+        double roll = r.nextDouble();
+        spec.status = roll < 0.80 ? InternshipStatus.APPROVED : roll < 0.92 ? InternshipStatus.PENDING : InternshipStatus.REJECTED;
+        spec.visible = spec.status == InternshipStatus.APPROVED && r.nextDouble() < 0.90;
+        spec.slots = 1 + r.nextInt(10);
+        spec.openDate = openFrom.plusDays(r.nextInt(OPEN_SPAN_DAYS));
+        spec.closeDate = spec.openDate.plusDays(30 + r.nextInt(91));
+        spec.role = ROLES[r.nextInt(ROLES.length)];
+        return spec;
+    }
+
+    /**
+     * Creates the random source for one entity.
+     */
+    private SplittableRandom random(int kind, long index) {
+        return new SplittableRandom(seed ^ (kind * 0x9E3779B97F4A7C15L) ^ (index * 0xBF58476D1CE4E5B9L));
+    }
+
+    /**
+     * Picks an index according to relative weights.
+     */
+    private static int pick(SplittableRandom r, double[] weights) {
+        double roll = r.nextDouble();
+        for (int i = 0; i < weights.length - 1; i++) {
+            roll -= weights[i];
+            if (roll < 0) return i;
+        }
+        return weights.length - 1;
+    }
+
+    /**
+     * Checks whether a value occurs in the first {@code count} slots of an array.
+     */
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Greatest common divisor.
+     */
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * Opens a file in the target directory for writing.
+     */
+    private static BufferedWriter open(Path dir, String file) throws IOException {
+        return Files.newBufferedWriter(dir.resolve(file), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,78 @@
+package perf;
+
+import constant.ApplicationStatus;
+import constant.InternshipStatus;
+import model.Application;
+import model.Internship;
+import model.Student;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Checks the business invariants of a set of internships and applications.
+ * Used after load runs to detect lost updates and overbooking.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class InvariantChecker {
+    /** More SUCCESSFUL/ACCEPTED applications than slots */
+    public static final String OVERFILLED = "internship.overfilled";
+    /** Filled slot count differs from the SUCCESSFUL/ACCEPTED applications */
+    public static final String FILLED_MISMATCH = "internship.filledSlotsMismatch";
+    /** Approved internship with no free slots that is not marked FILLED */
+    public static final String FULL_NOT_FILLED = "internship.fullButNotFilled";
+    /** Student with more active applications than allowed */
+    public static final String TOO_MANY_APPLICATIONS = "student.tooManyApplications";
+    /** Student with more than one accepted placement */
+    public static final String MULTIPLE_ACCEPTED = "student.multipleAccepted";
+    /** Student applied to the same internship twice */
+    public static final String DUPLICATE_APPLICATION = "application.duplicate";
+
+    /** Private constructor to prevent instantiation */
+    private InvariantChecker() {}
+
+    /**
+     * Counts invariant violations.
+     * @param internships internships to check
+     * @param applications applications to check
+     * @return violation counts by invariant name (only non-zero entries)
+     */
+    public static Map<String, Integer> check(Collection<Internship> internships, Collection<Application> applications) {
+        Map<String, Integer> violations = new TreeMap<>();
+        Map<Integer, Integer> claimed = new HashMap<>();
+        Map<String, Integer> active = new HashMap<>();
+        Map<String, Integer> accepted = new HashMap<>();
+        Set<String> pairs = new HashSet<>();
+        for (Application a : applications) {
+            String student = a.getApplicant().getUserID();
+            if (a.getStatus() == ApplicationStatus.SUCCESSFUL || a.getStatus() == ApplicationStatus.ACCEPTED) {
+                claimed.merge(a.getInternship().getID(), 1, Integer::sum);
+            }
+            if (a.getStatus() != ApplicationStatus.WITHDRAWN) active.merge(student, 1, Integer::sum);
+            if (a.getStatus() == ApplicationStatus.ACCEPTED) accepted.merge(student, 1, Integer::sum);
+            if (!pairs.add(student + "#" + a.getInternship().getID())) violations.merge(DUPLICATE_APPLICATION, 1, Integer::sum);
+        }
+        for (Internship i : internships) {
+            int filled = i.getFilledSlots();
+            if (filled > i.getNumSlots()) violations.merge(OVERFILLED, 1, Integer::sum);
+            if (filled != claimed.getOrDefault(i.getID(), 0)) violations.merge(FILLED_MISMATCH, 1, Integer::sum);
+            if (i.getStatus() == InternshipStatus.APPROVED && filled >= i.getNumSlots()) {
+                violations.merge(FULL_NOT_FILLED, 1, Integer::sum);
+            }
+        }
+        for (int count : active.values()) {
+            if (count > Student.MAX_APPLICATIONS) violations.merge(TOO_MANY_APPLICATIONS, 1, Integer::sum);
+        }
+        for (int count : accepted.values()) {
+            if (count > 1) violations.merge(MULTIPLE_ACCEPTED, 1, Integer::sum);
+        }
+        return violations;
+    }
+}
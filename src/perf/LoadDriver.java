@@ -0,0 +1,259 @@
+package perf;
+
+import controller.ApplicationIngestion;
+import model.*;
+import utils.metrics.LatencyHistogram;
+import utils.metrics.MetricsRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Headless load driver simulating concurrent students, representatives and staff.
+ * Sessions call the controller layer directly, pausing for an exponentially distributed
+ * think time between operations. At the end it reports throughput, latency percentiles,
+ * business-rule rejections, unexpected errors, entity lock contention, and invariant violations
+ * in the persisted data.
+ *
+ * <p>Sessions are not bound to threads: each step is a task on a shared scheduled pool and
+ * think time is a scheduling delay, so a small pool of platform threads can drive tens of
+ * thousands of mostly-idle simulated users.
+ *
+ * <p>Configuration (system properties):
+ * <ul>
+ *   <li>{@code load.datasetSize} - generated dataset size (default 1000)</li>
+ *   <li>{@code load.students}, {@code load.reps}, {@code load.staff} - simulated users per role (default 200, 20, 5)</li>
+ *   <li>{@code load.durationSeconds} - measured duration (default 30)</li>
+ *   <li>{@code load.rampSeconds} - period over which sessions start (default 5)</li>
+ *   <li>{@code load.thinkMillis} - mean think time between operations (default 200)</li>
+ *   <li>{@code load.workers} - worker threads (default 4 per processor)</li>
+ *   <li>{@code load.ingestion} - submit student applications through {@link ApplicationIngestion}
+ *       instead of calling the controller directly (default false)</li>
+ *   <li>{@code load.studentMix}, {@code load.repMix}, {@code load.staffMix} - operation weights,
+ *       e.g. {@code apply:50,browse:50}</li>
+ * </ul>
+ *
+ * <p>Usage: {@code java -Dload.students=10000 -cp bin perf.LoadDriver}
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class LoadDriver {
+
+    /**
+     * Controller call performed by a session.
+     */
+    @FunctionalInterface
+    public interface Action {
+        /**
+         * Performs the call.
+         * @throws Exception if the call fails
+         */
+        void run() throws Exception;
+    }
+
+    /**
+     * Thread-safe collector of per-operation latencies and outcomes.
+     */
+    public static class Recorder {
+        private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> rejections = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> errorTypes = new ConcurrentHashMap<>();
+
+        /**
+         * Runs and records one operation.
+         * IllegalArgumentException and IllegalStateException are business-rule rejections
+         * (e.g. applying twice); anything else is an unexpected error.
+         * @param operation operation name
+         * @param action the call to make
+         */
+        public void run(String operation, Action action) {
+            long start = System.nanoTime();
+            try {
+                action.run();
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                rejections.computeIfAbsent(operation, k -> new LongAdder()).increment();
+            } catch (Exception | Error e) {
+                errors.computeIfAbsent(operation, k -> new LongAdder()).increment();
+                errorTypes.computeIfAbsent(e.getClass().getSimpleName(), k -> new LongAdder()).increment();
+            } finally {
+                latencies.computeIfAbsent(operation, k -> new LatencyHistogram()).record(System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * Gets the number of unexpected errors.
+         * @return total errors over all operations
+         */
+        public long getErrorCount() {
+            return errors.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+
+        /**
+         * Formats the per-operation report.
+         * @param elapsedSeconds measured duration
+         * @return the report
+         */
+        public String format(double elapsedSeconds) {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%-28s %9s %9s %9s %10s %10s %10s %10s %10s%n",
+                    "Operation", "Count", "Rejected", "Errors", "Ops/s", "p50(ms)", "p95(ms)", "p99(ms)", "Max(ms)"));
+            long total = 0;
+            for (Map.Entry<String, LatencyHistogram> e : new TreeMap<>(latencies).entrySet()) {
+                LatencyHistogram.Snapshot s = e.getValue().snapshot();
+                total += s.getCount();
+                sb.append(String.format("%-28s %9d %9d %9d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                        e.getKey(), s.getCount(), sum(rejections, e.getKey()), sum(errors, e.getKey()),
+                        s.getCount() / elapsedSeconds, s.getP50() / 1e6, s.getP95() / 1e6, s.getP99() / 1e6, s.getMax() / 1e6));
+            }
+            sb.append(String.format("Total: %d operations, %.1f ops/s%n", total, total / elapsedSeconds));
+            if (!errorTypes.isEmpty()) {
+                sb.append("Errors by type:");
+                new TreeMap<>(errorTypes).forEach((type, n) -> sb.append(' ').append(type).append('=').append(n.sum()));
+                sb.append('\n');
+            }
+            return sb.toString();
+        }
+
+        /**
+         * Reads a counter, treating a missing entry as zero.
+         */
+        private static long sum(Map<String, LongAdder> map, String key) {
+            LongAdder adder = map.get(key);
+            return adder == null ? 0 : adder.sum();
+        }
+    }
+
+    /**
+     * Entry point.
+     * @param args ignored; configuration comes from system properties
+     * @throws Exception if the dataset cannot be prepared
+     */
+    public static void main(String[] args) throws Exception {
+        int datasetSize = Integer.getInteger("load.datasetSize", 1000);
+        int students = Integer.getInteger("load.students", 200);
+        int reps = Integer.getInteger("load.reps", 20);
+        int staff = Integer.getInteger("load.staff", 5);
+        int durationSeconds = Integer.getInteger("load.durationSeconds", 30);
+        int rampSeconds = Integer.getInteger("load.rampSeconds", 5);
+        long thinkMillis = Long.getLong("load.thinkMillis", 200L);
+        int workers = Integer.getInteger("load.workers", Runtime.getRuntime().availableProcessors() * 4);
+
+        System.out.println("Preparing dataset of " + datasetSize + "...");
+        BenchmarkFixture fixture = new BenchmarkFixture(datasetSize);
+        try {
+            fixture.reset();
+            ApplicationIngestion ingestion = Boolean.getBoolean("load.ingestion")
+                    ? new ApplicationIngestion(fixture.getApplicationController()) : null;
+            List<UserSession> sessions = createSessions(fixture, students, reps, staff, ingestion);
+            System.out.printf("Running %d sessions on %d workers for %ds (think time %dms)...%n",
+                    sessions.size(), workers, durationSeconds, thinkMillis);
+
+            Recorder recorder = new Recorder();
+            long elapsed = run(sessions, recorder, workers, durationSeconds, rampSeconds, thinkMillis);
+            if (ingestion != null) ingestion.close();
+
+            System.out.println();
+            System.out.print(recorder.format(elapsed / 1e9));
+            System.out.print(formatLockContention());
+
+            fixture.getApplicationController().loadApplicationsFromCsv(fixture.getInternshipController());
+            Map<String, Integer> violations = InvariantChecker.check(
+                    Internship.getAllInternships(), new ArrayList<>(Application.getAllApplicationsList()));
+            System.out.println("Invariant violations (persisted data): " + (violations.isEmpty() ? "none" : violations));
+        } finally {
+            fixture.delete();
+        }
+    }
+
+    /**
+     * Drives the sessions until the duration has elapsed.
+     * @return measured wall-clock nanoseconds
+     */
+    static long run(List<UserSession> sessions, Recorder recorder, int workers,
+                    int durationSeconds, int rampSeconds, long thinkMillis) throws InterruptedException {
+        ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(workers);
+        pool.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        SplittableRandom ramp = new SplittableRandom(1);
+        for (UserSession session : sessions) {
+            long initialDelay = rampSeconds <= 0 ? 0 : ramp.nextLong(TimeUnit.SECONDS.toMillis(rampSeconds));
+            pool.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (System.nanoTime() >= deadline) return;
+                    session.step(recorder);
+                    long think = thinkMillis <= 0 ? 0 : (long) (-thinkMillis * Math.log(1 - session.random.nextDouble()));
+                    if (!pool.isShutdown()) pool.schedule(this, think, TimeUnit.MILLISECONDS);
+                }
+            }, initialDelay, TimeUnit.MILLISECONDS);
+        }
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, deadline - System.nanoTime()));
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.MINUTES);
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Formats the entity lock counters recorded by {@link utils.concurrent.StripedLocks}.
+     * @return one line per lock pool
+     */
+    static String formatLockContention() {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        Map<String, Long> counters = metrics.getCounterValues();
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Long> e : counters.entrySet()) {
+            if (!e.getKey().startsWith("StripedLocks.") || !e.getKey().endsWith(".acquired")) continue;
+            String pool = e.getKey().substring(0, e.getKey().length() - ".acquired".length());
+            long contended = counters.getOrDefault(pool + ".contended", 0L);
+            LatencyHistogram.Snapshot wait = metrics.histogram(pool + ".wait").snapshot();
+            sb.append(String.format("Lock %s: %d acquisitions, %d contended (%.2f%%), wait p99 %.2fms max %.2fms%n",
+                    pool.substring("StripedLocks.".length()), e.getValue(), contended,
+                    e.getValue() == 0 ? 0.0 : 100.0 * contended / e.getValue(), wait.getP99() / 1e6, wait.getMax() / 1e6));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Creates sessions for the first approved users of each role in the dataset.
+     */
+    private static List<UserSession> createSessions(BenchmarkFixture fixture, int students, int reps, int staff,
+                                                    ApplicationIngestion ingestion) {
+        double[] studentMix = UserSession.parseMix(System.getProperty("load.studentMix"),
+                UserSession.StudentSession.OPERATIONS, UserSession.StudentSession.DEFAULT_MIX);
+        double[] repMix = UserSession.parseMix(System.getProperty("load.repMix"),
+                UserSession.RepresentativeSession.OPERATIONS, UserSession.RepresentativeSession.DEFAULT_MIX);
+        double[] staffMix = UserSession.parseMix(System.getProperty("load.staffMix"),
+                UserSession.StaffSession.OPERATIONS, UserSession.StaffSession.DEFAULT_MIX);
+
+        List<UserSession> sessions = new ArrayList<>();
+        long seed = 0;
+        for (int i = 0; i < students && i < fixture.getSize(); i++) {
+            sessions.add(new UserSession.StudentSession(fixture.getStudent(i), seed++, studentMix, ingestion));
+        }
+        List<User> users = new ArrayList<>(UserRegistry.getInstance().getAllUsers());
+        users.sort((a, b) -> a.getUserID().compareTo(b.getUserID()));
+        int repCount = 0;
+        int staffCount = 0;
+        for (User user : users) {
+            if (user instanceof CompanyRepresentative && ((CompanyRepresentative) user).isApproved() && repCount < reps) {
+                sessions.add(new UserSession.RepresentativeSession((CompanyRepresentative) user, seed++, repMix));
+                repCount++;
+            } else if (user instanceof Staff && staffCount < staff) {
+                sessions.add(new UserSession.StaffSession((Staff) user, seed++, staffMix));
+                staffCount++;
+            }
+        }
+        return sessions;
+    }
+}
@@ -0,0 +1,393 @@
+package perf;
+
+import constant.DataFiles;
+import constant.InternshipStatus;
+import constant.UserType;
+import controller.ApplicationController;
+import controller.InternshipController;
+import model.*;
+import perf.BenchmarkRunner.Benchmark;
+import utils.cache.RenderCache;
+import utils.csv.ApplicationCsvHandler;
+import utils.csv.InternshipCsvHandler;
+import utils.csv.UserCsvHandler;
+import utils.allocation.AllocationEngine;
+import utils.analytics.CompanyReportGenerator;
+import utils.analytics.PlacementAnalytics;
+import utils.export.StreamingExporter;
+import utils.filter.FilterSettings;
+import utils.filter.InternshipBitmapIndex;
+import utils.filter.InternshipFilter;
+import utils.filter.SavedFilter;
+import utils.filter.SavedFilters;
+import utils.formatter.InternshipFormatter;
+import utils.formatter.TableFormatter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark suite for the load, filter, apply, persist and render paths.
+ * Every benchmark runs against generated datasets of each configured size.
+ *
+ * <p>Configuration (system properties):
+ * <ul>
+ *   <li>{@code bench.sizes} - comma-separated dataset sizes (default {@code 1000}; use
+ *       {@code 1000,100000,1000000} for the full matrix)</li>
+ *   <li>{@code bench.filter} - regular expression selecting benchmarks by name (default: all)</li>
+ *   <li>{@code bench.warmup} - warmup iterations per benchmark (default 3)</li>
+ *   <li>{@code bench.iterations} - measured iterations per benchmark (default 5)</li>
+ *   <li>{@code bench.invocations} - invocations per iteration (default 10)</li>
+ * </ul>
+ *
+ * <p>Usage: {@code java -Dbench.sizes=1000,100000 -cp bin perf.PlacementBenchmarks}
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class PlacementBenchmarks {
+    /** Dataset under test */
+    private final BenchmarkFixture fixture;
+    /** Invocations per iteration */
+    private final int invocations;
+
+    /**
+     * Creates the suite for one dataset.
+     * @param fixture the dataset to run against
+     * @param invocations invocations per iteration
+     */
+    public PlacementBenchmarks(BenchmarkFixture fixture, int invocations) {
+        this.fixture = fixture;
+        this.invocations = invocations;
+    }
+
+    /**
+     * Entry point.
+     * @param args ignored; configuration comes from system properties
+     * @throws Exception if a benchmark fails
+     */
+    public static void main(String[] args) throws Exception {
+        BenchmarkRunner runner = new BenchmarkRunner(
+                Integer.getInteger("bench.warmup", 3),
+                Integer.getInteger("bench.iterations", 5),
+                System.getProperty("bench.filter", ""));
+        int invocations = Integer.getInteger("bench.invocations", 10);
+
+        List<BenchmarkRunner.Result> results = new ArrayList<>();
+        for (String sizeStr : System.getProperty("bench.sizes", "1000").split(",")) {
+            int size = Integer.parseInt(sizeStr.trim());
+            System.out.println("Preparing dataset of " + size + "...");
+            BenchmarkFixture fixture = new BenchmarkFixture(size);
+            try {
+                for (Benchmark benchmark : new PlacementBenchmarks(fixture, invocations).benchmarks()) {
+                    if (!runner.isSelected(benchmark)) continue;
+                    fixture.reset();
+                    System.out.println("  " + benchmark.getName());
+                    results.add(runner.run(benchmark, size));
+                }
+            } finally {
+                fixture.delete();
+            }
+        }
+        System.out.println();
+        System.out.print(BenchmarkRunner.formatResults(results));
+    }
+
+    /**
+     * Builds all benchmarks for this dataset.
+     * @return the benchmark definitions
+     */
+    public List<Benchmark> benchmarks() {
+        List<Benchmark> list = new ArrayList<>();
+        InternshipController internships = fixture.getInternshipController();
+        ApplicationController applications = fixture.getApplicationController();
+        UserCsvHandler users = UserCsvHandler.getInstance();
+
+        // CSV load per entity
+        list.add(new Benchmark("load.students", null, i -> {
+            UserRegistry.getInstance().clear();
+            return users.loadUsersFromCsv(DataFiles.students(), UserType.STUDENT, 6);
+        }, invocations));
+        list.add(new Benchmark("load.staff", null, i -> {
+            UserRegistry.getInstance().clear();
+            return users.loadUsersFromCsv(DataFiles.staff(), UserType.STAFF, 6);
+        }, invocations));
+        list.add(new Benchmark("load.companyRepresentatives", null, i -> {
+            UserRegistry.getInstance().clear();
+            return users.loadUsersFromCsv(DataFiles.companyRepresentatives(), UserType.COMPANY_REPRESENTATIVE, 8);
+        }, invocations));
+        list.add(new Benchmark("load.internships", null, i -> {
+            internships.loadInternshipsFromCsv();
+            return Internship.getInternshipsList().size();
+        }, invocations));
+        list.add(new Benchmark("load.applications", null, i -> {
+            applications.loadApplicationsFromCsv(internships);
+            return Application.getAllApplicationsList().size();
+        }, invocations));
+
+        // Filtering, one benchmark per criterion plus all combined, and each sort order
+        for (Map.Entry<String, Consumer<FilterSettings>> entry : filterVariants().entrySet()) {
+            FilterSettings settings = new FilterSettings();
+            entry.getValue().accept(settings);
+            list.add(new Benchmark("filter." + entry.getKey(), null,
+                    i -> InternshipFilter.applyFilters(Internship.getAllInternships(), settings), invocations));
+        }
+
+        // Bitmap index, against the stream pipeline in filter.* for the same equality criteria
+        for (Map.Entry<String, Consumer<FilterSettings>> entry : filterVariants().entrySet()) {
+            FilterSettings settings = new FilterSettings();
+            entry.getValue().accept(settings);
+            if (!InternshipBitmapIndex.isIndexed(settings) || settings.getOpeningDateFilter() != null
+                    || settings.getClosingDateFilter() != null) {
+                continue;
+            }
+            list.add(new Benchmark("bitmap." + entry.getKey(), null, i -> InternshipFilter.applyFilters(
+                    InternshipBitmapIndex.current().select(settings), settings), invocations));
+        }
+        // Saved filters: opening a maintained result set, against filter.* for the same criteria
+        for (Map.Entry<String, Consumer<FilterSettings>> entry : filterVariants().entrySet()) {
+            FilterSettings settings = new FilterSettings();
+            entry.getValue().accept(settings);
+            list.add(new Benchmark("savedFilter.open." + entry.getKey(), null,
+                    i -> savedFilter(entry.getKey(), settings).open(), invocations));
+        }
+        list.add(new Benchmark("bitmap.build", null,
+                i -> InternshipBitmapIndex.build(Internship.getAllInternships()).size(), invocations));
+        FilterSettings facetSettings = new FilterSettings();
+        facetSettings.setStatusFilterStr("AVAILABLE");
+        list.add(new Benchmark("bitmap.facetCounts", null,
+                i -> InternshipBitmapIndex.current().facetCounts(facetSettings), invocations));
+        list.add(new Benchmark("scan.facetCounts", null, i -> {
+            List<Internship> available = Internship.getAllInternships().stream()
+                    .filter(internship -> !internship.isFilled()).collect(Collectors.toList());
+            Map<String, Map<?, Long>> counts = new LinkedHashMap<>();
+            counts.put("status", Internship.getAllInternships().stream()
+                    .collect(Collectors.groupingBy(Internship::getStatus, Collectors.counting())));
+            counts.put("major", available.stream()
+                    .collect(Collectors.groupingBy(Internship::getPreferredMajor, Collectors.counting())));
+            counts.put("level", available.stream()
+                    .collect(Collectors.groupingBy(Internship::getLevel, Collectors.counting())));
+            counts.put("company", available.stream()
+                    .collect(Collectors.groupingBy(Internship::getCompanyName, Collectors.counting())));
+            counts.put("visibility", available.stream()
+                    .collect(Collectors.groupingBy(Internship::isVisible, Collectors.counting())));
+            return counts;
+        }, invocations));
+
+        // Placement report: maintained aggregates against a recount of every application
+        list.add(new Benchmark("analytics.report", null,
+                i -> PlacementAnalytics.getInstance().report(PlacementAnalytics.Dimension.COMPANY), invocations));
+        list.add(new Benchmark("analytics.reportAfterReload", null, i -> {
+            applications.loadApplicationsFromCsv(internships);
+            return PlacementAnalytics.getInstance().report(PlacementAnalytics.Dimension.COMPANY);
+        }, invocations));
+        list.add(new Benchmark("scan.placementReport", null, i -> Application.getAllApplications().stream()
+                .collect(Collectors.groupingBy(a -> a.getInternship().getCompanyName(),
+                        Collectors.groupingBy(Application::getStatus, Collectors.counting()))), invocations));
+
+        // End-of-cycle company reports, single-threaded and on every processor
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads : processors > 1 ? new int[]{1, processors} : new int[]{1}) {
+            list.add(new Benchmark("reports.companies.threads" + threads, null, i -> {
+                try {
+                    return new CompanyReportGenerator(fixture.getDirectory().resolve("reports"), threads)
+                            .generate(null).getCompanies();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, 1));
+        }
+
+        // Stable allocation over the open applications, single-threaded and on every processor
+        for (int threads : processors > 1 ? new int[]{1, processors} : new int[]{1}) {
+            list.add(new Benchmark("allocation.stableMatching.threads" + threads, null,
+                    i -> new AllocationEngine(threads).allocate(Application.getAllApplications()).getMatched(), 1));
+        }
+
+        // Streaming export of every application, against rendering the loaded applications
+        for (StreamingExporter.Format format : StreamingExporter.Format.values()) {
+            for (boolean gzip : new boolean[]{false, true}) {
+                String name = "export.applications." + format.name().toLowerCase() + (gzip ? ".gzip" : "");
+                list.add(new Benchmark(name, null, i -> {
+                    StreamingExporter exporter = new StreamingExporter(StreamingExporter.Entity.APPLICATIONS, format);
+                    exporter.setGzip(gzip);
+                    try {
+                        return exporter.export(OutputStream.nullOutputStream()).getRowsWritten();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, 1));
+            }
+        }
+        list.add(new Benchmark("scan.export.applications.csv", null, i -> {
+            ApplicationCsvHandler handler = ApplicationCsvHandler.getInstance();
+            long bytes = 0;
+            for (Application application : Application.getAllApplications()) {
+                bytes += handler.formatCsvLine(application).length() + 1;
+            }
+            return bytes;
+        }, 1));
+
+        // Approving 50 internships one save at a time, against one batch; the setup puts them back to PENDING
+        List<Integer> approvalIds = new ArrayList<>();
+        BenchmarkRunner.Setup pendingAgain = () -> {
+            if (approvalIds.isEmpty()) {
+                Internship.getAllInternships().stream().filter(x -> x.getStatus() == InternshipStatus.APPROVED)
+                        .limit(50).forEach(x -> approvalIds.add(x.getID()));
+            }
+            for (int id : approvalIds) Internship.findWithID(id).setStatus(InternshipStatus.PENDING);
+        };
+        list.add(new Benchmark("approvals.internships.single50", pendingAgain, i -> {
+            for (int id : approvalIds) fixture.getInternshipController().updateInternshipApproval(id, true);
+            return approvalIds.size();
+        }, 1));
+        list.add(new Benchmark("approvals.internships.batch50", pendingAgain,
+                i -> fixture.getInternshipController().updateInternshipApprovals(approvalIds, true).getSucceeded(), 1));
+
+        // Student eligibility across every internship
+        list.add(new Benchmark("visibility.isVisibleToStudent", null, i -> {
+            Student student = fixture.getStudent(i % fixture.getSize());
+            int visible = 0;
+            for (Internship internship : Internship.getInternshipsList()) {
+                if (internship.isVisibleToStudent(student)) visible++;
+            }
+            return visible;
+        }, invocations));
+
+        // Date index queries, against the equivalent scans in filter.openingDate/closingDate and above
+        LocalDate today = LocalDate.now();
+        list.add(new Benchmark("index.openOn", null, i -> Internship.getOpenOn(today).size(), invocations));
+        list.add(new Benchmark("index.openingOnOrAfter", null,
+                i -> Internship.getOpeningOnOrAfter(today.plusDays(30)).size(), invocations));
+        list.add(new Benchmark("index.closingOnOrBefore", null,
+                i -> Internship.getClosingOnOrBefore(today.plusDays(7)).size(), invocations));
+        list.add(new Benchmark("visibility.studentListing", null,
+                i -> internships.getVisibleInternshipsForStudent(fixture.getStudent(i % fixture.getSize())).size(),
+                invocations));
+
+        // Controller write paths; each iteration starts from the pristine dataset
+        List<Student> applicants = new ArrayList<>();
+        list.add(new Benchmark("apply.createApplication", () -> {
+            fixture.reset();
+            applicants.clear();
+            applicants.addAll(fixture.getStudentsWithoutApplications());
+        }, i -> applications.createApplication(
+                fixture.getInternshipId((int) ((i * 31L) % fixture.getSize())),
+                applicants.get(i % applicants.size()), internships), invocations));
+
+        // At most one confirmation per free slot, so every offer normally succeeds; a refusal
+        // (e.g. a slot taken meanwhile) is returned as the result rather than ending the run
+        List<Application> pending = new ArrayList<>();
+        list.add(new Benchmark("apply.confirmPlacement", () -> {
+            fixture.reset();
+            pending.clear();
+            Map<Internship, Integer> freeSlots = new HashMap<>();
+            for (Application app : fixture.getPendingApplications()) {
+                Internship internship = app.getInternship();
+                int free = freeSlots.computeIfAbsent(internship, k -> k.getNumSlots() - k.getFilledSlots());
+                if (free > 0) {
+                    pending.add(app);
+                    freeSlots.put(internship, free - 1);
+                }
+            }
+        }, i -> {
+            Application app = pending.get(i % pending.size());
+            try {
+                applications.confirmPlacement(app.getInternship().getID(), app.getId(), internships);
+                return app;
+            } catch (IllegalArgumentException e) {
+                return e.getMessage();
+            }
+        }, Math.min(invocations, fixture.getSize() / 4)));
+
+        // Single-record persistence (rewrites the whole file)
+        list.add(new Benchmark("persist.saveInternship", null, i -> {
+            List<Internship> all = Internship.getInternshipsList();
+            Internship internship = all.get(i % all.size());
+            InternshipCsvHandler.getInstance().saveToCsv(internship);
+            return internship;
+        }, invocations));
+        list.add(new Benchmark("persist.saveApplication", null, i -> {
+            List<Application> all = Application.getAllApplicationsList();
+            Application application = all.get(i % all.size());
+            ApplicationCsvHandler.getInstance().saveToCsv(application);
+            return application;
+        }, invocations));
+
+        // Table rendering of every internship, with and without the render cache populated
+        list.add(new Benchmark("render.internshipTable.cold", null, i -> {
+            RenderCache.getInstance().clear();
+            return renderTable();
+        }, invocations));
+        list.add(new Benchmark("render.internshipTable.warm", null, i -> renderTable(), invocations));
+        return list;
+    }
+
+    /**
+     * Renders all loaded internships as one table, as the paginated views do per page.
+     * @return the rendered table
+     */
+    private static String renderTable() {
+        List<Internship> all = Internship.getInternshipsList();
+        List<String[]> rows = new ArrayList<>(all.size());
+        for (int i = 0; i < all.size(); i++) {
+            rows.add(InternshipFormatter.formatTableRowFromObject(all.get(i), i + 1, true));
+        }
+        return TableFormatter.formatTable(InternshipFormatter.HEADERS_WITH_STATUS, rows);
+    }
+
+    /**
+     * Gets the benchmark user's saved filter for a variant, saving it in the active dataset on first use.
+     * The first open materializes it (during warmup); later opens only apply changes.
+     */
+    private static SavedFilter savedFilter(String name, FilterSettings settings) {
+        SavedFilters filters = SavedFilters.getInstance();
+        if (!filters.getNames("benchmark").contains(name)) filters.save("benchmark", name, settings, null);
+        return filters.get("benchmark", name);
+    }
+
+    /**
+     * Filter settings exercised by the filter benchmarks.
+     * @return settings initialisers keyed by benchmark suffix
+     */
+    private static Map<String, Consumer<FilterSettings>> filterVariants() {
+        Map<String, Consumer<FilterSettings>> variants = new LinkedHashMap<>();
+        variants.put("none", s -> {});
+        variants.put("status", s -> s.setStatusFilter(InternshipStatus.APPROVED));
+        variants.put("available", s -> s.setStatusFilterStr("AVAILABLE"));
+        variants.put("major", s -> s.setMajorFilter("Computer Science"));
+        variants.put("level", s -> s.setLevelFilter("INTERMEDIATE"));
+        variants.put("openingDate", s -> s.setOpeningDateFilter(LocalDate.of(2025, 9, 1)));
+        variants.put("closingDate", s -> s.setClosingDateFilter(LocalDate.of(2027, 1, 1)));
+        variants.put("company", s -> s.setCompanyFilter("Company 1"));
+        variants.put("keyword", s -> s.setKeywordFilter("Role 9"));
+        variants.put("combined", s -> {
+            s.setStatusFilterStr("AVAILABLE");
+            s.setMajorFilter("Computer Science");
+            s.setLevelFilter("BASIC");
+            s.setOpeningDateFilter(LocalDate.of(2025, 9, 1));
+            s.setClosingDateFilter(LocalDate.of(2027, 1, 1));
+            s.setKeywordFilter("Role");
+        });
+        variants.put("equality", s -> {
+            s.setStatusFilterStr("AVAILABLE");
+            s.setMajorFilter("Computer Science");
+            s.setLevelFilter("BASIC");
+            s.setCompanyFilter("Company 1");
+        });
+        for (String order : new String[]{"ID", "CLOSING_DATE", "OPENING_DATE", "COMPANY", "LEVEL"}) {
+            variants.put("sort." + order, s -> s.setSortOrder(order));
+        }
+        return variants;
+    }
+}
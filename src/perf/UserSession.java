@@ -0,0 +1,334 @@
+package perf;
+
+import constant.ApplicationStatus;
+import constant.InternshipStatus;
+import controller.ApplicationIngestion;
+import controller.CompanyRepresentativeController;
+import controller.StaffController;
+import controller.StudentController;
+import model.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Scripted session of one simulated user for the {@link LoadDriver}.
+ * Each call to {@link #step(LoadDriver.Recorder)} picks one operation according to the
+ * session's operation mix and calls the matching controller method directly.
+ * A session is only ever stepped by one thread at a time.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public abstract class UserSession {
+    /** Random source for this session (not shared between threads) */
+    protected final SplittableRandom random;
+    /** Operation names, in the same order as {@link #weights} */
+    private final String[] operations;
+    /** Relative weight of each operation */
+    private final double[] weights;
+
+    /**
+     * Creates a session.
+     * @param seed random seed for this session
+     * @param operations operation names
+     * @param weights relative weight of each operation
+     */
+    protected UserSession(long seed, String[] operations, double[] weights) {
+        if (operations.length != weights.length) {
+            throw new IllegalArgumentException("Each operation needs exactly one weight.");
+        }
+        this.random = new SplittableRandom(seed);
+        this.operations = operations;
+        this.weights = weights;
+    }
+
+    /**
+     * Gets the role label used in reports.
+     * @return the role name
+     */
+    public abstract String getRole();
+
+    /**
+     * Runs one operation chosen from the mix.
+     * @param recorder where to record the latency and outcome
+     */
+    public void step(LoadDriver.Recorder recorder) {
+        String operation = operations[pick()];
+        recorder.run(getRole() + "." + operation, () -> perform(operation));
+    }
+
+    /**
+     * Performs a named operation.
+     * @param operation the operation name
+     * @throws Exception if the controller call fails
+     */
+    protected abstract void perform(String operation) throws Exception;
+
+    /**
+     * Picks a random element of a list.
+     * @param items the candidates
+     * @return a random element, or null if the list is empty
+     */
+    protected <T> T any(List<T> items) {
+        return items.isEmpty() ? null : items.get(random.nextInt(items.size()));
+    }
+
+    /**
+     * Picks an operation index by weight.
+     */
+    private int pick() {
+        double total = 0;
+        for (double w : weights) total += w;
+        double roll = random.nextDouble() * total;
+        for (int i = 0; i < weights.length - 1; i++) {
+            roll -= weights[i];
+            if (roll < 0) return i;
+        }
+        return weights.length - 1;
+    }
+
+    /**
+     * Parses an operation mix of the form {@code name:weight,name:weight}.
+     * Operations missing from the specification keep their default weight.
+     * @param spec the specification, or null for defaults
+     * @param operations operation names
+     * @param defaults default weights
+     * @return the weights
+     */
+    static double[] parseMix(String spec, String[] operations, double[] defaults) {
+        double[] weights = defaults.clone();
+        if (spec == null || spec.trim().isEmpty()) return weights;
+        for (String part : spec.split(",")) {
+            String[] kv = part.split(":");
+            if (kv.length != 2) throw new IllegalArgumentException("Invalid operation mix entry: " + part);
+            int index = Arrays.asList(operations).indexOf(kv[0].trim());
+            if (index < 0) throw new IllegalArgumentException("Unknown operation in mix: " + kv[0]);
+            weights[index] = Double.parseDouble(kv[1].trim());
+        }
+        return weights;
+    }
+
+    /**
+     * Student browsing, applying, checking and withdrawing applications.
+     */
+    public static class StudentSession extends UserSession {
+        /** Operation names */
+        public static final String[] OPERATIONS = {"browse", "apply", "viewApplications", "accept", "withdraw"};
+        /** Default operation weights */
+        public static final double[] DEFAULT_MIX = {50, 25, 15, 5, 5};
+
+        private final StudentController controller;
+        private final Student student;
+        private final ApplicationIngestion ingestion;
+        private List<Internship> lastBrowsed = new ArrayList<>();
+
+        /**
+         * Creates a student session that applies through the controller directly.
+         * @param student the simulated student
+         * @param seed random seed
+         * @param weights operation weights matching {@link #OPERATIONS}
+         */
+        public StudentSession(Student student, long seed, double[] weights) {
+            this(student, seed, weights, null);
+        }
+
+        /**
+         * Creates a student session.
+         * @param student the simulated student
+         * @param seed random seed
+         * @param weights operation weights matching {@link #OPERATIONS}
+         * @param ingestion pipeline to submit applications through, or null to call the controller directly
+         */
+        public StudentSession(Student student, long seed, double[] weights, ApplicationIngestion ingestion) {
+            super(seed, OPERATIONS, weights);
+            this.controller = new StudentController(student);
+            this.student = student;
+            this.ingestion = ingestion;
+        }
+
+        @Override
+        public String getRole() { return "student"; }
+
+        @Override
+        protected void perform(String operation) {
+            switch (operation) {
+                case "browse":
+                    lastBrowsed = controller.getInternships();
+                    break;
+                case "apply":
+                    if (lastBrowsed.isEmpty()) lastBrowsed = controller.getInternships();
+                    Internship target = any(lastBrowsed);
+                    if (target == null) break;
+                    if (ingestion == null) {
+                        controller.createApplication(target.getID());
+                        break;
+                    }
+                    try {
+                        ingestion.submit(target.getID(), student).join();
+                    } catch (CompletionException e) {
+                        // Surface rejections as the controller would have thrown them
+                        if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+                        throw e;
+                    }
+                    break;
+                case "viewApplications":
+                    controller.viewApplications();
+                    break;
+                case "accept":
+                    Application offer = own(ApplicationStatus.SUCCESSFUL);
+                    if (offer != null) controller.acceptApplication(offer.getId());
+                    break;
+                case "withdraw":
+                    Application pending = own(ApplicationStatus.PENDING);
+                    if (pending != null) controller.withdrawApplication(pending.getId(), "Load test");
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown operation: " + operation);
+            }
+        }
+
+        /**
+         * Picks one of the student's applications with the given status.
+         */
+        private Application own(ApplicationStatus status) {
+            List<Application> matches = new ArrayList<>();
+            for (Application a : controller.viewApplications()) {
+                if (a.getStatus() == status) matches.add(a);
+            }
+            return any(matches);
+        }
+    }
+
+    /**
+     * Company representative reviewing and confirming applications.
+     */
+    public static class RepresentativeSession extends UserSession {
+        /** Operation names */
+        public static final String[] OPERATIONS = {"listInternships", "viewApplications", "confirm", "reject"};
+        /** Default operation weights */
+        public static final double[] DEFAULT_MIX = {30, 30, 30, 10};
+
+        private final CompanyRepresentativeController controller;
+
+        /**
+         * Creates a representative session.
+         * @param rep the simulated representative
+         * @param seed random seed
+         * @param weights operation weights matching {@link #OPERATIONS}
+         */
+        public RepresentativeSession(CompanyRepresentative rep, long seed, double[] weights) {
+            super(seed, OPERATIONS, weights);
+            this.controller = new CompanyRepresentativeController(rep);
+        }
+
+        @Override
+        public String getRole() { return "rep"; }
+
+        @Override
+        protected void perform(String operation) {
+            switch (operation) {
+                case "listInternships":
+                    controller.listMyInternships();
+                    break;
+                case "viewApplications": {
+                    Internship internship = anyApproved();
+                    if (internship != null) controller.viewApplications(internship.getID());
+                    break;
+                }
+                case "confirm":
+                case "reject": {
+                    Internship internship = anyApproved();
+                    if (internship == null) break;
+                    List<Application> candidates = new ArrayList<>();
+                    for (Application a : controller.getApplicationsForInternship(internship.getID())) {
+                        if (a.getStatus() == ApplicationStatus.PENDING
+                                || (operation.equals("confirm") && a.getStatus() == ApplicationStatus.SUCCESSFUL)) {
+                            candidates.add(a);
+                        }
+                    }
+                    Application app = any(candidates);
+                    if (app == null) break;
+                    if (operation.equals("confirm")) controller.confirmPlacement(internship.getID(), app.getId());
+                    else controller.rejectApplication(internship.getID(), app.getId());
+                    break;
+                }
+                default:
+                    throw new IllegalArgumentException("Unknown operation: " + operation);
+            }
+        }
+
+        /**
+         * Picks one of the representative's approved internships.
+         */
+        private Internship anyApproved() {
+            List<Internship> approved = new ArrayList<>();
+            for (Internship i : controller.getInternships()) {
+                if (i.getStatus() == InternshipStatus.APPROVED) approved.add(i);
+            }
+            return any(approved);
+        }
+    }
+
+    /**
+     * Career centre staff approving internships and withdrawal requests.
+     */
+    public static class StaffSession extends UserSession {
+        /** Operation names */
+        public static final String[] OPERATIONS = {"listPending", "approveInternship", "withdrawalRequests", "decideWithdrawal"};
+        /** Default operation weights */
+        public static final double[] DEFAULT_MIX = {30, 30, 20, 20};
+
+        private final StaffController controller;
+
+        /**
+         * Creates a staff session.
+         * @param staff the simulated staff member
+         * @param seed random seed
+         * @param weights operation weights matching {@link #OPERATIONS}
+         */
+        public StaffSession(Staff staff, long seed, double[] weights) {
+            super(seed, OPERATIONS, weights);
+            this.controller = new StaffController(staff);
+        }
+
+        @Override
+        public String getRole() { return "staff"; }
+
+        @Override
+        protected void perform(String operation) {
+            switch (operation) {
+                case "listPending":
+                    controller.getPendingInternships();
+                    break;
+                case "approveInternship": {
+                    List<Internship> pending = new ArrayList<>();
+                    for (Internship i : Internship.getAllInternships()) {
+                        if (i.getStatus() == InternshipStatus.PENDING) pending.add(i);
+                    }
+                    Internship target = any(pending);
+                    if (target != null) controller.updateInternshipApproval(target.getID(), random.nextDouble() < 0.85);
+                    break;
+                }
+                case "withdrawalRequests":
+                    controller.getWithdrawalRequests();
+                    break;
+                case "decideWithdrawal": {
+                    List<Application> requests = new ArrayList<>();
+                    for (Application a : new ArrayList<>(Application.getAllApplicationsList())) {
+                        if (a.getStatus() == ApplicationStatus.WITHDRAWAL_REQUESTED) requests.add(a);
+                    }
+                    Application request = any(requests);
+                    if (request != null) controller.approveRejectWithdrawal(request.getId(), random.nextDouble() < 0.8);
+                    break;
+                }
+                default:
+                    throw new IllegalArgumentException("Unknown operation: " + operation);
+            }
+        }
+    }
+}
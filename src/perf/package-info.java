@@ -0,0 +1,22 @@
+/**
+ * Performance benchmarks for the placement system.
+ * 
+ * <p>A small self-contained harness (no external benchmark framework is required):
+ * <ul>
+ *   <li>{@link perf.BenchmarkRunner} - Warmup/measurement iterations with per-invocation latency histograms</li>
+ *   <li>{@link perf.DatasetGenerator} - Deterministic, streaming generator for large synthetic CSV datasets</li>
+ *   <li>{@link perf.BenchmarkFixture} - Generated datasets of a configurable size in a temporary data directory</li>
+ *   <li>{@link perf.PlacementBenchmarks} - Load, filter, visibility, apply, persist and render benchmarks</li>
+ *   <li>{@link perf.LoadDriver} - Concurrent load test driving scripted {@link perf.UserSession}s through the controllers</li>
+ *   <li>{@link perf.InvariantChecker} - Slot, application-limit and placement invariants checked after load runs</li>
+ *   <li>{@link perf.Blackhole} - Result sink preventing dead-code elimination</li>
+ * </ul>
+ * 
+ * <p>Run with {@code java -cp bin perf.PlacementBenchmarks}; see {@link perf.PlacementBenchmarks}
+ * for the system properties selecting dataset sizes and benchmarks.
+ * 
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+package perf;
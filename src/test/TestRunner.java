@@ -2,12 +2,51 @@ package test;
 
 import model.*;
 import controller.*;
+import controller.interfaces.BatchResult;
+import controller.interfaces.InternshipImport;
 import utils.factory.*;
 import utils.validation.*;
 import utils.filter.*;
+import utils.cache.RenderCache;
+import utils.csv.CsvHandler;
+import utils.csv.UserCsvHandler;
+import utils.metrics.LatencyHistogram;
+import utils.metrics.MetricsRegistry;
+import utils.formatter.InternshipFormatter;
+import api.ApiServer;
+import perf.BenchmarkFixture;
+import utils.event.DomainEvent;
+import utils.event.Inbox;
+import utils.event.NotificationCenter;
+import utils.outbox.OutboxRecord;
+import utils.outbox.OutboxRelay;
+import utils.schedule.DeadlineScheduler;
+import utils.schedule.SimulatedClock;
+import utils.index.CompressedBitmap;
+import utils.index.DateIntervalIndex;
+import perf.DatasetGenerator;
 import constant.*;
 
 import java.io.File;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -85,6 +124,28 @@ public class TestRunner {
         testCase20_CRUDOperations();
         testCase21_StaffApproval();
         testCase22_VisibilityToggle();
+        testCase23_RenderCacheVersioning();
+        testCase24_LatencyHistogram();
+        testCase25_DatasetGenerator();
+        testCase26_ConcurrentSlotReservation();
+        testCase27_ConcurrentSubmissions();
+        testCase28_ConcurrentAcceptance();
+        testCase29_IngestionPipeline();
+        testCase30_HttpApi();
+        testCase31_ConditionalListing();
+        testCase32_StatusNotifications();
+        testCase33_PlacementOutbox();
+        testCase34_InternshipDeadlines();
+        testCase35_DateIntervalIndex();
+        testCase36_BitmapIndex();
+        testCase37_QueryPlanner();
+        testCase38_SavedFilters();
+        testCase39_PlacementAnalytics();
+        testCase40_CompanyReports();
+        testCase41_StreamingExport();
+        testCase42_BulkInternshipImport();
+        testCase43_BatchApprovals();
+        testCase44_StableAllocation();
     }
     
     // Tests CSV file loading mechanism
@@ -681,6 +742,132 @@ public class TestRunner {
         System.out.println("\n═══════════════════════════════════════════════════════════════════════════════\n");
     }
     
+    // Tests that formatted rows are served from the render cache until the entity is mutated
+    private static void testCase23_RenderCacheVersioning() {
+        System.out.println("\nTest Case 23: Versioned Render Cache");
+        try {
+            RenderCache cache = RenderCache.getInstance();
+            CompanyRepresentative rep = new CompanyRepresentative("cache@test.com", "Rep", "password",
+                "cache@test.com", "CacheCo", "Dept", "Position", "Approved");
+            Internship internship = new Internship("Cache Test", "Desc", "Basic", "CSC",
+                LocalDate.now(), LocalDate.now().plusDays(30), "CacheCo", rep, 2);
+            String first = InternshipFormatter.formatAsRow(internship, true);
+            long hitsBefore = cache.getHits();
+            String second = InternshipFormatter.formatAsRow(internship, true);
+            if (first == second && cache.getHits() == hitsBefore + 1) {
+                passed("Unchanged internship row served from render cache");
+            } else {
+                failed("Unchanged internship row was re-rendered");
+            }
+            long versionBefore = internship.getVersion();
+            internship.setStatus(InternshipStatus.APPROVED);
+            String third = InternshipFormatter.formatAsRow(internship, true);
+            if (internship.getVersion() > versionBefore && third.contains("APPROVED")) {
+                passed("Mutation bumps version and invalidates cached row");
+            } else {
+                failed("Cached row not invalidated after status change");
+            }
+        } catch (Exception e) {
+            failed("Error testing render cache: " + e.getMessage());
+        }
+    }
+    
+    // Tests histogram percentile accuracy and controller operation timing
+    private static void testCase24_LatencyHistogram() {
+        System.out.println("\nTest Case 24: Metrics Latency Histogram");
+        try {
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (int i = 1; i <= 1000; i++) histogram.record(i * 1000L);
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            boolean p50Ok = Math.abs(snapshot.getP50() - 500_000) <= 500_000 / 8;
+            boolean p99Ok = Math.abs(snapshot.getP99() - 990_000) <= 990_000 / 8;
+            if (snapshot.getCount() == 1000 && snapshot.getMax() == 1_000_000 && p50Ok && p99Ok) {
+                passed("Histogram percentiles within bucket precision");
+            } else {
+                failed("Histogram percentiles inaccurate: p50=" + snapshot.getP50() + " p99=" + snapshot.getP99());
+            }
+            MetricsRegistry metrics = MetricsRegistry.getInstance();
+            long before = metrics.histogram("InternshipController.getPendingInternships").snapshot().getCount();
+            new InternshipController().getPendingInternships();
+            if (metrics.histogram("InternshipController.getPendingInternships").snapshot().getCount() == before + 1
+                    && metrics.toJson().contains("InternshipController.getPendingInternships")) {
+                passed("Controller operations are timed and exported as JSON");
+            } else {
+                failed("Controller operation not recorded in metrics registry");
+            }
+            long loadsBefore = metrics.histogram("UserCsvHandler.loadUsersFromCsv").snapshot().getCount();
+            long rowsBefore = metrics.counter("UserCsvHandler.rowsParsed").get();
+            long bytesBefore = metrics.counter("UserCsvHandler.bytesRead").get();
+            UserCsvHandler.getInstance().loadUsersFromCsv(DataFiles.staff(), UserType.STAFF, 6);
+            if (metrics.histogram("UserCsvHandler.loadUsersFromCsv").snapshot().getCount() == loadsBefore + 1
+                    && metrics.counter("UserCsvHandler.rowsParsed").get() > rowsBefore
+                    && metrics.counter("UserCsvHandler.bytesRead").get() > bytesBefore) {
+                passed("User CSV loads are timed with row and byte counts");
+            } else {
+                failed("User CSV load not recorded in metrics registry");
+            }
+        } catch (Exception e) {
+            failed("Error testing metrics: " + e.getMessage());
+        }
+    }
+    
+    // Tests that generated datasets are reproducible and respect application and slot limits
+    private static void testCase25_DatasetGenerator() {
+        System.out.println("\nTest Case 25: Synthetic Dataset Generator");
+        try {
+            Path first = Files.createTempDirectory("gen-a");
+            Path second = Files.createTempDirectory("gen-b");
+            new DatasetGenerator(7L, 500, 300, 2, LocalDate.of(2025, 9, 1)).write(first);
+            new DatasetGenerator(7L, 500, 300, 2, LocalDate.of(2025, 9, 1)).write(second);
+            boolean identical = true;
+            for (String file : new String[]{DataFiles.STUDENTS, DataFiles.STAFF, DataFiles.COMPANY_REPRESENTATIVES,
+                    DataFiles.INTERNSHIPS, DataFiles.APPLICATIONS}) {
+                identical &= Arrays.equals(Files.readAllBytes(first.resolve(file)), Files.readAllBytes(second.resolve(file)));
+            }
+            if (identical) {
+                passed("Same seed produces identical files");
+            } else {
+                failed("Generator output differs for the same seed");
+            }
+
+            Map<String, Integer> activePerStudent = new HashMap<>();
+            Map<String, Integer> acceptedPerStudent = new HashMap<>();
+            Map<String, Integer> claimedPerInternship = new HashMap<>();
+            List<String> applications = Files.readAllLines(first.resolve(DataFiles.APPLICATIONS));
+            for (String line : applications.subList(1, applications.size())) {
+                String[] cols = line.split(",", -1);
+                if (!cols[4].equals("WITHDRAWN")) activePerStudent.merge(cols[2], 1, Integer::sum);
+                if (cols[4].equals("ACCEPTED")) acceptedPerStudent.merge(cols[2], 1, Integer::sum);
+                if (cols[4].equals("ACCEPTED") || cols[4].equals("SUCCESSFUL")) claimedPerInternship.merge(cols[1], 1, Integer::sum);
+            }
+            Map<String, Integer> internshipsPerRep = new HashMap<>();
+            boolean slotsOk = true;
+            List<String> internships = Files.readAllLines(first.resolve(DataFiles.INTERNSHIPS));
+            for (String line : internships.subList(1, internships.size())) {
+                String[] cols = line.split(",");
+                internshipsPerRep.merge(cols[8], 1, Integer::sum);
+                int slots = Integer.parseInt(cols[10]);
+                int filled = Integer.parseInt(cols[11]);
+                slotsOk &= filled == claimedPerInternship.getOrDefault(cols[0], 0) && filled <= slots
+                        && (filled < slots || !cols[12].equals("APPROVED"));
+            }
+            boolean limitsOk = activePerStudent.values().stream().allMatch(n -> n <= Student.MAX_APPLICATIONS)
+                    && acceptedPerStudent.values().stream().allMatch(n -> n == 1)
+                    && internshipsPerRep.values().stream().allMatch(n -> n <= CompanyRepresentative.MAX_INTERNSHIPS);
+            if (limitsOk && slotsOk && internships.size() == 301 && applications.size() > 1) {
+                passed("Application, internship and slot limits respected");
+            } else {
+                failed("Generated data violates limits (limits=" + limitsOk + ", slots=" + slotsOk + ")");
+            }
+            for (Path dir : new Path[]{first, second}) {
+                for (File f : dir.toFile().listFiles()) f.delete();
+                Files.delete(dir);
+            }
+        } catch (Exception e) {
+            failed("Error testing dataset generator: " + e.getMessage());
+        }
+    }
+    
     // Records a passed test
     private static void passed(String message) {
         System.out.println("  ✅ PASS: " + message);
@@ -692,4 +879,1489 @@ public class TestRunner {
         System.out.println("  ❌ FAIL: " + message);
         failedTests++;
     }
+
+    // Body of a test run against a generated dataset
+    private interface FixtureTest {
+        void run(BenchmarkFixture fixture) throws Exception;
+    }
+
+    // Runs a test against a freshly generated dataset of the given size, records any exception
+    // as a failure and deletes the dataset afterwards
+    private static void withFixture(int size, String description, FixtureTest body) {
+        BenchmarkFixture fixture = null;
+        try {
+            fixture = new BenchmarkFixture(size);
+            fixture.reset();
+            body.run(fixture);
+        } catch (Exception e) {
+            failed("Error testing " + description + ": " + e.getMessage());
+        } finally {
+            try {
+                if (fixture != null) fixture.delete();
+            } catch (Exception e) {
+                System.out.println("Could not delete test dataset: " + e.getMessage());
+            }
+        }
+    }
+
+    // Tests that many threads confirming on one internship never claim more slots than it has
+    private static void testCase26_ConcurrentSlotReservation() {
+        System.out.println("\nTest Case 26: Concurrent Slot Reservation");
+        Internship internship = null;
+        try {
+            CompanyRepresentative rep = new CompanyRepresentative("slots@test.com", "Rep", "password",
+                "slots@test.com", "SlotCo", "Dept", "Position", "Approved");
+            internship = new Internship("Slot Test", "Desc", "Basic", "CSC",
+                LocalDate.now(), LocalDate.now().plusDays(30), "SlotCo", rep, 7);
+            internship.setStatus(InternshipStatus.APPROVED);
+            Internship target = internship;
+            AtomicInteger filledEvents = new AtomicInteger();
+            utils.event.EventBus.Subscription subscription = utils.event.EventBus.getInstance().subscribe(
+                    utils.event.InternshipStatusChanged.class, e -> {
+                        if (e.getInternshipId() == target.getID() && e.getTo() == InternshipStatus.FILLED) {
+                            filledEvents.incrementAndGet();
+                        }
+                    });
+
+            int threads = 32;
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger reserved = new AtomicInteger();
+            AtomicInteger refused = new AtomicInteger();
+            for (int t = 0; t < threads; t++) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < 1000; i++) {
+                            if (target.tryReserveSlot()) reserved.incrementAndGet();
+                            else refused.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            start.countDown();
+            pool.shutdown();
+            boolean finished = pool.awaitTermination(30, TimeUnit.SECONDS);
+            subscription.close();
+            if (!finished) {
+                failed("Slot reservation threads did not finish");
+                return;
+            }
+            if (reserved.get() == 7 && internship.getFilledSlots() == 7 && refused.get() == threads * 1000 - 7) {
+                passed("Exactly numSlots reservations succeed under contention");
+            } else {
+                failed("Reserved " + reserved.get() + " slots, filled count " + internship.getFilledSlots() + " of 7");
+            }
+            if (internship.getStatus() == InternshipStatus.FILLED && !internship.tryReserveSlot() && filledEvents.get() == 1) {
+                passed("Internship marked FILLED once the last slot is taken, with one status event");
+            } else {
+                failed("Full internship not marked FILLED: " + internship.getStatus() + ", " + filledEvents.get() + " events");
+            }
+        } catch (Exception e) {
+            failed("Error testing slot reservation: " + e.getMessage());
+        } finally {
+            if (internship != null) Internship.getInternshipsList().remove(internship);
+        }
+    }
+
+    // Tests that simultaneous submissions by one student cannot exceed the quota or duplicate an application
+    private static void testCase27_ConcurrentSubmissions() {
+        System.out.println("\nTest Case 27: Concurrent Application Submissions");
+        withFixture(100, "concurrent submissions", fixture -> {
+            ApplicationController applications = fixture.getApplicationController();
+            InternshipController internships = fixture.getInternshipController();
+            Student student = fixture.getStudentsWithoutApplications().get(0);
+
+            int threads = 16;
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger admitted = new AtomicInteger();
+            AtomicInteger rejected = new AtomicInteger();
+            for (int t = 0; t < threads; t++) {
+                // Two threads per internship, like a double click
+                int internshipId = fixture.getInternshipId(t / 2);
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                        applications.createApplication(internshipId, student, internships);
+                        admitted.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        rejected.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            start.countDown();
+            pool.shutdown();
+            if (!pool.awaitTermination(60, TimeUnit.SECONDS)) {
+                failed("Submission threads did not finish");
+                return;
+            }
+            long distinct = student.getApplications().stream().map(a -> a.getInternship().getID()).distinct().count();
+            if (admitted.get() == Student.MAX_APPLICATIONS && rejected.get() == threads - Student.MAX_APPLICATIONS
+                    && student.getApplications().size() == Student.MAX_APPLICATIONS && distinct == Student.MAX_APPLICATIONS) {
+                passed("Concurrent submissions admitted exactly up to the quota without duplicates");
+            } else {
+                failed("Admitted " + admitted.get() + ", student holds " + student.getApplications().size()
+                        + " applications to " + distinct + " internships");
+            }
+        });
+    }
+
+    // Tests that racing acceptances of different offers leave each student with exactly one placement
+    private static void testCase28_ConcurrentAcceptance() {
+        System.out.println("\nTest Case 28: Concurrent Offer Acceptance");
+        withFixture(100, "concurrent acceptance", fixture -> {
+            ApplicationController applications = fixture.getApplicationController();
+            InternshipController internships = fixture.getInternshipController();
+            List<Integer> open = new java.util.ArrayList<>();
+            for (Internship i : Internship.getAllInternships()) {
+                if (i.getStatus() == InternshipStatus.APPROVED && i.getNumSlots() - i.getFilledSlots() >= 2) open.add(i.getID());
+            }
+            List<Student> students = fixture.getStudentsWithoutApplications().subList(0, 4);
+            List<Application> offers = new java.util.ArrayList<>();
+            for (int s = 0; s < students.size(); s++) {
+                for (int k = 0; k < Student.MAX_APPLICATIONS; k++) {
+                    // Pairs of students share internships, so slot counts see concurrent changes too
+                    int internshipId = open.get((s / 2) * Student.MAX_APPLICATIONS + k);
+                    Application app = applications.createApplication(internshipId, students.get(s), internships);
+                    applications.confirmPlacement(app.getId());
+                    offers.add(app);
+                }
+            }
+
+            long acquiredBefore = MetricsRegistry.getInstance().counter("StripedLocks.entities.acquired").get();
+            ExecutorService pool = Executors.newFixedThreadPool(offers.size());
+            CountDownLatch start = new CountDownLatch(1);
+            for (Application offer : offers) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                        applications.acceptApplication(offer.getId(), offer.getApplicant());
+                    } catch (IllegalArgumentException e) {
+                        // Another offer of the same student won
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            start.countDown();
+            pool.shutdown();
+            if (!pool.awaitTermination(60, TimeUnit.SECONDS)) {
+                failed("Acceptance threads did not finish");
+                return;
+            }
+            boolean consistent = true;
+            for (Student student : students) {
+                List<Application> apps = applications.getApplicationsForStudent(student);
+                long accepted = apps.stream().filter(a -> a.getStatus() == ApplicationStatus.ACCEPTED).count();
+                long withdrawn = apps.stream().filter(a -> a.getStatus() == ApplicationStatus.WITHDRAWN).count();
+                if (accepted != 1 || withdrawn != apps.size() - 1) consistent = false;
+            }
+            if (consistent) {
+                passed("Each student ends with one ACCEPTED offer and all siblings WITHDRAWN");
+            } else {
+                failed("Racing acceptances left a student without exactly one placement");
+            }
+            if (MetricsRegistry.getInstance().counter("StripedLocks.entities.acquired").get() > acquiredBefore
+                    && MetricsRegistry.getInstance().toJson().contains("StripedLocks.entities.contended")) {
+                passed("Entity lock acquisitions and contention exported as metrics");
+            } else {
+                failed("Entity lock metrics not recorded");
+            }
+        });
+    }
+
+    // Tests that queued submissions keep per-internship order, refuse ineligible ones and are saved in batches
+    private static void testCase29_IngestionPipeline() {
+        System.out.println("\nTest Case 29: Application Ingestion Pipeline");
+        withFixture(100, "ingestion pipeline", fixture -> {
+            ApplicationController applications = fixture.getApplicationController();
+            List<Student> students = fixture.getStudentsWithoutApplications();
+            int internshipId = fixture.getInternshipId(0);
+            int count = Math.min(30, students.size() - 1);
+            long batchesBefore = MetricsRegistry.getInstance().counter("ApplicationIngestion.batches").get();
+
+            List<CompletableFuture<Application>> futures = new java.util.ArrayList<>();
+            CompletableFuture<Application> duplicate;
+            try (ApplicationIngestion ingestion = new ApplicationIngestion(applications, 4, 64, 16, 50, 1000)) {
+                for (int i = 0; i < count; i++) {
+                    futures.add(ingestion.submit(internshipId, students.get(i)));
+                }
+                duplicate = ingestion.submit(internshipId, students.get(0));
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+            }
+
+            boolean ordered = true;
+            for (int i = 1; i < count; i++) {
+                if (futures.get(i).get().getId() <= futures.get(i - 1).get().getId()) ordered = false;
+            }
+            if (ordered && duplicate.isCompletedExceptionally()) {
+                passed("Submissions recorded in arrival order and duplicates refused");
+            } else {
+                failed("Submission order not preserved or duplicate accepted");
+            }
+
+            applications.loadApplicationsFromCsv(fixture.getInternshipController());
+            long saved = Application.getAllApplicationsList().stream()
+                    .filter(a -> a.getInternship().getID() == internshipId
+                            && students.subList(0, count).contains(a.getApplicant()))
+                    .count();
+            long batches = MetricsRegistry.getInstance().counter("ApplicationIngestion.batches").get() - batchesBefore;
+            if (saved == count && batches < count) {
+                passed("All " + count + " applications persisted in " + batches + " batch writes");
+            } else {
+                failed("Persisted " + saved + " of " + count + " applications in " + batches + " batches");
+            }
+
+            CsvHandler<Application> unwritable = new CsvHandler<Application>() {
+                @Override
+                public void loadFromCsv() {}
+                @Override
+                public void saveToCsv(Application application) {}
+                @Override
+                public void saveAllToCsv(Collection<Application> batch) {
+                    throw new IllegalStateException("Error saving applications to CSV: disk full");
+                }
+                @Override
+                public String formatCsvLine(Application application) { return ""; }
+            };
+            ApplicationController failing = new ApplicationController(unwritable, fixture.getInternshipController());
+            CompletableFuture<Application> lost;
+            try (ApplicationIngestion ingestion = new ApplicationIngestion(failing, 1, 8, 8, 10, 1000)) {
+                lost = ingestion.submit(fixture.getInternshipId(1), students.get(count));
+            }
+            if (lost.isCompletedExceptionally()) {
+                passed("Failed batch write completes its futures exceptionally");
+            } else {
+                failed("Failed batch write reported the application as saved");
+            }
+        });
+    }
+
+    // Tests the HTTP API end to end: authentication, listing and submission
+    private static void testCase30_HttpApi() {
+        System.out.println("\nTest Case 30: HTTP/JSON API");
+        withFixture(100, "HTTP API", fixture -> {
+            ApiServer server = null;
+            try {
+                server = new ApiServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4,
+                        new LoginController(UserRegistry.getInstance()), fixture.getInternshipController(),
+                        fixture.getApplicationController(), null);
+                server.start();
+                String base = "http://localhost:" + server.getPort() + "/api/";
+                HttpClient http = HttpClient.newHttpClient();
+                Student student = fixture.getStudentsWithoutApplications().get(0);
+                String auth = "Basic " + java.util.Base64.getEncoder()
+                        .encodeToString((student.getUserID() + ":password").getBytes());
+
+                HttpResponse<String> anonymous = http.send(HttpRequest.newBuilder(URI.create(base + "internships")).build(),
+                        HttpResponse.BodyHandlers.ofString());
+                HttpResponse<String> listing = http.send(HttpRequest.newBuilder(URI.create(base + "internships"))
+                        .header("Authorization", auth).build(), HttpResponse.BodyHandlers.ofString());
+                int expected = fixture.getInternshipController().getVisibleInternshipsForStudent(student, new FilterSettings()).size();
+                if (anonymous.statusCode() == 401 && listing.statusCode() == 200
+                        && listing.body().startsWith("{\"count\":" + expected + ",")) {
+                    passed("Listing requires authentication and returns the student's " + expected + " visible internships");
+                } else {
+                    failed("Unexpected listing responses: " + anonymous.statusCode() + ", " + listing.statusCode());
+                }
+
+                // Wrong passwords and unknown IDs look the same, and API calls are not logins
+                student.setLoggedIn(false);
+                String wrongPassword = "Basic " + java.util.Base64.getEncoder()
+                        .encodeToString((student.getUserID() + ":wrong").getBytes());
+                String unknownUser = "Basic " + java.util.Base64.getEncoder().encodeToString("nobody:password".getBytes());
+                HttpResponse<String> badPassword = http.send(HttpRequest.newBuilder(URI.create(base + "internships"))
+                        .header("Authorization", wrongPassword).build(), HttpResponse.BodyHandlers.ofString());
+                HttpResponse<String> badUser = http.send(HttpRequest.newBuilder(URI.create(base + "internships"))
+                        .header("Authorization", unknownUser).build(), HttpResponse.BodyHandlers.ofString());
+                http.send(HttpRequest.newBuilder(URI.create(base + "internships")).header("Authorization", auth).build(),
+                        HttpResponse.BodyHandlers.ofString());
+                if (badPassword.statusCode() == 401 && badUser.statusCode() == 401
+                        && badPassword.body().equals(badUser.body()) && !student.isLoggedIn()) {
+                    passed("Rejected credentials share one 401 message; API calls do not log the user in");
+                } else {
+                    failed("Credential responses differ or user logged in: " + badPassword.body() + " / " + badUser.body());
+                }
+
+                int internshipId = fixture.getInternshipController().getVisibleInternshipsForStudent(student, new FilterSettings()).get(0).getID();
+                HttpRequest apply = HttpRequest.newBuilder(URI.create(base + "applications")).header("Authorization", auth)
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"internshipId\": " + internshipId + "}")).build();
+                HttpResponse<String> created = http.send(apply, HttpResponse.BodyHandlers.ofString());
+                HttpResponse<String> again = http.send(apply, HttpResponse.BodyHandlers.ofString());
+                boolean recorded = student.getApplications().stream().anyMatch(a -> a.getInternship().getID() == internshipId);
+                if (created.statusCode() == 201 && created.body().contains("\"status\":\"PENDING\"")
+                        && again.statusCode() == 400 && again.body().startsWith("{\"error\":") && recorded) {
+                    passed("Application submitted over HTTP; duplicate rejected with 400");
+                } else {
+                    failed("Unexpected submission responses: " + created.statusCode() + " " + created.body()
+                            + ", " + again.statusCode() + " " + again.body());
+                }
+            } finally {
+                if (server != null) server.stop();
+            }
+        });
+    }
+
+    // Tests ETags on listings: unchanged data (even across a CSV reload) answers 304, a change does not
+    private static void testCase31_ConditionalListing() {
+        System.out.println("\nTest Case 31: Conditional GET for Listings");
+        withFixture(100, "conditional listings", fixture -> {
+            ApiServer server = null;
+            try {
+                InternshipController internships = fixture.getInternshipController();
+                server = new ApiServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2,
+                        new LoginController(UserRegistry.getInstance()), internships,
+                        fixture.getApplicationController(), null);
+                server.start();
+                URI listing = URI.create("http://localhost:" + server.getPort() + "/api/internships?status=PENDING");
+                Staff staff = (Staff) UserRegistry.getInstance().getAllUsers().stream()
+                        .filter(u -> u instanceof Staff).findFirst().orElseThrow();
+                String auth = "Basic " + java.util.Base64.getEncoder()
+                        .encodeToString((staff.getUserID() + ":password").getBytes());
+                HttpClient http = HttpClient.newHttpClient();
+
+                HttpResponse<String> first = http.send(HttpRequest.newBuilder(listing).header("Authorization", auth).build(),
+                        HttpResponse.BodyHandlers.ofString());
+                String etag = first.headers().firstValue("ETag").orElse("");
+                HttpRequest conditional = HttpRequest.newBuilder(listing).header("Authorization", auth)
+                        .header("If-None-Match", etag).build();
+                int unchanged = http.send(conditional, HttpResponse.BodyHandlers.ofString()).statusCode();
+                fixture.getApplicationController().loadApplicationsFromCsv(internships);
+                int afterReload = http.send(conditional, HttpResponse.BodyHandlers.ofString()).statusCode();
+                if (first.statusCode() == 200 && !etag.isEmpty() && unchanged == 304 && afterReload == 304) {
+                    passed("Unchanged listing answered with 304, also after reloading identical CSV data");
+                } else {
+                    failed("Expected 200/304/304, got " + first.statusCode() + "/" + unchanged + "/" + afterReload);
+                }
+
+                Internship pending = internships.getAllInternships().stream()
+                        .filter(i -> i.getStatus() == InternshipStatus.PENDING).findFirst().orElseThrow();
+                internships.updateInternshipApproval(pending.getID(), true);
+                HttpResponse<String> changed = http.send(conditional, HttpResponse.BodyHandlers.ofString());
+                if (changed.statusCode() == 200 && !changed.headers().firstValue("ETag").orElse("").equals(etag)
+                        && !changed.body().contains("\"id\":" + pending.getID() + ",")) {
+                    passed("Approving an internship changed the ETag and the listing was recomputed");
+                } else {
+                    failed("Stale listing after approval: " + changed.statusCode());
+                }
+            } finally {
+                if (server != null) server.stop();
+            }
+        });
+    }
+
+    // Tests that status changes are pushed to the student's session in one batch
+    private static void testCase32_StatusNotifications() {
+        System.out.println("\nTest Case 32: Status Change Notifications");
+        withFixture(100, "notifications", fixture -> {
+            ApplicationController applications = fixture.getApplicationController();
+            InternshipController internships = fixture.getInternshipController();
+            Map<Student, List<Application>> byStudent = new HashMap<>();
+            for (Application a : fixture.getPendingApplications()) {
+                byStudent.computeIfAbsent(a.getApplicant(), k -> new java.util.ArrayList<>()).add(a);
+            }
+            Map.Entry<Student, List<Application>> target = byStudent.entrySet().stream()
+                    .filter(e -> e.getValue().size() >= 2 && !e.getValue().get(0).getInternship().isFilled())
+                    .findFirst().orElseThrow();
+            Application offered = target.getValue().get(0);
+            Application rejected = target.getValue().get(1);
+
+            List<List<DomainEvent>> batches = new java.util.concurrent.CopyOnWriteArrayList<>();
+            // Long batch window so both changes fall into the same batch; flushed explicitly below
+            try (NotificationCenter center = new NotificationCenter(utils.event.EventBus.getInstance(), 60_000)) {
+                center.subscribe(target.getKey().getUserID(), batches::add);
+                applications.confirmPlacement(offered.getInternship().getID(), offered.getId(), internships);
+                applications.rejectApplication(rejected.getInternship().getID(), rejected.getId(), internships);
+                center.flush();
+            }
+            List<DomainEvent> batch = batches.size() == 1 ? batches.get(0) : java.util.Collections.emptyList();
+            boolean offerSeen = batch.stream().anyMatch(e -> e.describe().contains(offered.getId() + " ")
+                    && e.describe().contains("SUCCESSFUL"));
+            boolean rejectionSeen = batch.stream().anyMatch(e -> e.describe().contains(rejected.getId() + " ")
+                    && e.describe().contains("UNSUCCESSFUL"));
+            if (batch.size() == 2 && offerSeen && rejectionSeen) {
+                passed("Offer and rejection delivered to the student's session in one batch");
+            } else {
+                failed("Expected one batch of 2 notifications, got " + batches);
+            }
+
+            Application later = byStudent.entrySet().stream().filter(e -> e.getKey() != target.getKey())
+                    .findFirst().orElseThrow().getValue().get(0);
+            applications.rejectApplication(later.getInternship().getID(), later.getId(), internships);
+            NotificationCenter.getInstance().flush();
+            try (Inbox inbox = NotificationCenter.getInstance().openInbox(later.getApplicant().getUserID())) {
+                List<DomainEvent> backlog = inbox.drain();
+                if (backlog.stream().anyMatch(e -> e.describe().contains(later.getId() + " "))) {
+                    passed("Change made while the student had no session is shown at the next subscription");
+                } else {
+                    failed("Notification was not kept for a student without a session: " + backlog);
+                }
+            }
+        });
+    }
+
+    // Tests that accepting a placement exports its events in order, at least once, through the outbox
+    private static void testCase33_PlacementOutbox() {
+        System.out.println("\nTest Case 33: Placement Outbox");
+        withFixture(100, "outbox", fixture -> {
+            ApplicationController applications = fixture.getApplicationController();
+            Map<Student, List<Application>> byStudent = new HashMap<>();
+            for (Application a : fixture.getPendingApplications()) {
+                byStudent.computeIfAbsent(a.getApplicant(), k -> new java.util.ArrayList<>()).add(a);
+            }
+            List<Application> own = byStudent.values().stream().filter(l -> l.size() >= 2 && !l.get(0).getInternship().isFilled())
+                    .findFirst().orElseThrow();
+            Application offer = own.get(0);
+            long siblings = offer.getApplicant().getApplications().stream()
+                    .filter(a -> a != offer && a.getStatus() != ApplicationStatus.WITHDRAWN).count();
+            applications.confirmPlacement(offer.getInternship().getID(), offer.getId(), fixture.getInternshipController());
+            applications.acceptApplication(offer.getId(), offer.getApplicant());
+
+            List<OutboxRecord> delivered = new java.util.ArrayList<>();
+            AtomicInteger attempts = new AtomicInteger();
+            OutboxRelay relay = new OutboxRelay("test", batch -> {
+                if (attempts.incrementAndGet() == 1) throw new java.io.IOException("Downstream unavailable");
+                delivered.addAll(batch);
+            });
+            boolean firstFailed = false;
+            try {
+                relay.relayOnce();
+            } catch (java.io.IOException e) {
+                firstFailed = true;
+            }
+            relay.relayOnce();
+
+            boolean ordered = delivered.size() == siblings + 1;
+            for (int i = 0; ordered && i < delivered.size(); i++) {
+                OutboxRecord r = delivered.get(i);
+                boolean last = i == delivered.size() - 1;
+                ordered = r.getOffset() == i + 1
+                        && r.getType().equals(last ? OutboxRecord.PLACEMENT_ACCEPTED : OutboxRecord.APPLICATION_WITHDRAWN)
+                        && (!last || r.getApplicationId() == offer.getId());
+            }
+            if (firstFailed && ordered && relay.getCommittedOffset() == delivered.size()) {
+                passed("Acceptance and " + siblings + " withdrawal(s) delivered in order after a failed attempt");
+            } else {
+                failed("Unexpected outbox delivery: failed first=" + firstFailed + ", delivered " + delivered);
+            }
+
+            int redelivered = new OutboxRelay("test", batch -> delivered.addAll(batch)).relayOnce();
+            int other = new OutboxRelay("other", batch -> { }).relayOnce();
+            if (redelivered == 0 && other == delivered.size()) {
+                passed("Committed offset is kept per consumer across relays");
+            } else {
+                failed("Expected no redelivery and a full replay for a new consumer, got " + redelivered + " and " + other);
+            }
+        });
+    }
+
+    // Tests that internships open, close and release unaccepted offers on a simulated clock
+    private static void testCase34_InternshipDeadlines() {
+        System.out.println("\nTest Case 34: Internship Deadlines");
+        DeadlineScheduler scheduler = DeadlineScheduler.getInstance();
+        InternshipDeadlines deadlines = InternshipDeadlines.getInstance();
+        withFixture(100, "deadlines", fixture -> {
+            try {
+                ApplicationController applications = fixture.getApplicationController();
+                InternshipController internships = fixture.getInternshipController();
+                java.time.ZoneId zone = java.time.ZoneId.systemDefault();
+                LocalDate today = LocalDate.now();
+                SimulatedClock clock = new SimulatedClock(today.atTime(12, 0).atZone(zone).toInstant(), zone);
+                // Deadlines are run with runDue below; stop the thread the API test started
+                scheduler.close();
+                scheduler.setClock(clock);
+                java.time.Duration day = java.time.Duration.ofDays(1);
+
+                Student student = fixture.getStudentsWithoutApplications().get(0);
+                CompanyRepresentative rep = (CompanyRepresentative) UserRegistry.getInstance().getAllUsers().stream()
+                        .filter(u -> u instanceof CompanyRepresentative && ((CompanyRepresentative) u).isApproved())
+                        .findFirst().orElseThrow();
+                Internship internship = new Internship("Deadline Test", "Opens tomorrow", "Basic", student.getMajor(),
+                        today.plusDays(1), today.plusDays(2), rep.getCompanyName(), rep, 2);
+                internship.setStatus(InternshipStatus.APPROVED);
+                internships.saveInternship(internship);
+                deadlines.enableOfferExpiry(applications, internships, 1);
+                deadlines.track(internship);
+                int id = internship.getID();
+                java.util.function.BooleanSupplier listed = () -> internships.getVisibleInternshipsForStudent(student)
+                        .stream().anyMatch(i -> i.getID() == id);
+
+                boolean hiddenBefore = !listed.getAsBoolean();
+                long versionBefore = ModificationClock.version(ModificationClock.Partition.INTERNSHIPS);
+                clock.advance(day);
+                scheduler.runDue();
+                boolean stamped = ModificationClock.version(ModificationClock.Partition.INTERNSHIPS) > versionBefore;
+                if (hiddenBefore && listed.getAsBoolean() && stamped) {
+                    passed("Internship appears on its open date and listing versions move with it");
+                } else {
+                    failed("Opening not applied: hidden before=" + hiddenBefore + ", stamped=" + stamped);
+                }
+
+                Application offer = applications.createApplication(id, student, internships);
+                applications.confirmPlacement(id, offer.getId(), internships);
+                clock.advance(day.multipliedBy(2));
+                scheduler.runDue();
+                boolean closed = !listed.getAsBoolean();
+                boolean heldAfterClose = student.findApplicationWithID(offer.getId()).getStatus() == ApplicationStatus.SUCCESSFUL;
+                clock.advance(day);
+                scheduler.runDue();
+                Application expired = student.findApplicationWithID(offer.getId());
+                if (closed && heldAfterClose && expired.getStatus() == ApplicationStatus.UNSUCCESSFUL
+                        && Internship.findWithID(id).getFilledSlots() == 0) {
+                    passed("Internship closes after its close date and the unaccepted offer expires a day later");
+                } else {
+                    failed("Closing/expiry not applied: closed=" + closed + ", held=" + heldAfterClose
+                            + ", status=" + expired.getStatus());
+                }
+
+                // An offer whose expiry passed while nothing was tracking it, as after a restart
+                deadlines.disableOfferExpiry();
+                Student late = fixture.getStudentsWithoutApplications().get(1);
+                LocalDate now = scheduler.today();
+                Internship lastDay = new Internship("Overdue Expiry Test", "Closes today", "Basic", late.getMajor(),
+                        now, now, rep.getCompanyName(), rep, 1);
+                lastDay.setStatus(InternshipStatus.APPROVED);
+                internships.saveInternship(lastDay);
+                Application overdue = applications.createApplication(lastDay.getID(), late, internships);
+                applications.confirmPlacement(lastDay.getID(), overdue.getId(), internships);
+                clock.advance(day.multipliedBy(3));
+                deadlines.enableOfferExpiry(applications, internships, 1);
+                deadlines.track(lastDay);
+                scheduler.runDue();
+                if (late.findApplicationWithID(overdue.getId()).getStatus() == ApplicationStatus.UNSUCCESSFUL) {
+                    passed("Offer already past its expiry when tracked is released on the next scheduler pass");
+                } else {
+                    failed("Overdue offer not released: " + late.findApplicationWithID(overdue.getId()).getStatus());
+                }
+            } finally {
+                deadlines.disableOfferExpiry();
+                scheduler.setClock(java.time.Clock.systemDefaultZone());
+            }
+        });
+    }
+
+    // Tests the date interval index against a full scan, and that edited dates are re-indexed
+    private static void testCase35_DateIntervalIndex() {
+        System.out.println("\nTest Case 35: Date Interval Index");
+        try {
+            DateIntervalIndex<Integer> index = new DateIntervalIndex<>();
+            Map<Integer, LocalDate[]> intervals = new HashMap<>();
+            // Removal is by identity, so keep the instance each ID was indexed with
+            Map<Integer, Integer> values = new HashMap<>();
+            java.util.SplittableRandom random = new java.util.SplittableRandom(35);
+            LocalDate base = LocalDate.of(2025, 1, 1);
+            for (int op = 0; op < 5000; op++) {
+                int id = random.nextInt(1000);
+                if (random.nextInt(4) == 0) {
+                    index.remove(id, values.remove(id));
+                    intervals.remove(id);
+                } else {
+                    LocalDate open = base.plusDays(random.nextInt(365));
+                    LocalDate close = open.plusDays(random.nextInt(60));
+                    Integer value = values.computeIfAbsent(id, k -> k);
+                    index.add(id, open, close, value);
+                    intervals.put(id, new LocalDate[]{open, close});
+                }
+            }
+            boolean matches = index.size() == intervals.size();
+            for (int d = -5; matches && d < 430; d += 3) {
+                LocalDate day = base.plusDays(d);
+                java.util.Set<Integer> open = new java.util.HashSet<>(), after = new java.util.HashSet<>(), before = new java.util.HashSet<>();
+                intervals.forEach((id, w) -> {
+                    if (!day.isBefore(w[0]) && !day.isAfter(w[1])) open.add(id);
+                    if (!w[0].isBefore(day)) after.add(id);
+                    if (!w[1].isAfter(day)) before.add(id);
+                });
+                matches = open.equals(new java.util.HashSet<>(index.containing(day)))
+                        && after.equals(new java.util.HashSet<>(index.startingOnOrAfter(day)))
+                        && before.equals(new java.util.HashSet<>(index.endingOnOrBefore(day)))
+                        && index.countStartingOnOrAfter(day) == after.size()
+                        && index.countEndingOnOrBefore(day) == before.size();
+            }
+            if (matches) {
+                passed("Open-on, opens-after and closes-before queries and counts match a full scan after 5000 updates");
+            } else {
+                failed("Date interval index disagrees with a full scan");
+            }
+
+            LocalDate far = LocalDate.of(2099, 1, 1);
+            Internship internship = new Internship("Index Test", "Date index", "Basic", "Computer Science",
+                    far, far.plusDays(10), "Index Co", null, 1);
+            try {
+                boolean indexed = Internship.getOpenOn(far.plusDays(5)).contains(internship);
+                internship.updateDetails("Index Test", "Date index", "Basic", "Computer Science",
+                        far.plusDays(20), far.plusDays(30), 1);
+                boolean moved = !Internship.getOpenOn(far.plusDays(5)).contains(internship)
+                        && Internship.getOpenOn(far.plusDays(25)).contains(internship)
+                        && Internship.getClosingOnOrBefore(far.plusDays(30)).contains(internship);
+                Internship.getInternshipsList().remove(internship);
+                boolean removed = !Internship.getOpeningOnOrAfter(far).contains(internship);
+                if (indexed && moved && removed) {
+                    passed("Internship is re-indexed when its dates change and dropped when removed");
+                } else {
+                    failed("Index not maintained: indexed=" + indexed + ", moved=" + moved + ", removed=" + removed);
+                }
+            } finally {
+                Internship.getInternshipsList().remove(internship);
+            }
+        } catch (Exception e) {
+            failed("Error testing date index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Test Case 36: Compressed bitmap index.
+     * Checks bitmap set operations against BitSet across sparse and dense chunks, and that indexed
+     * filtering and facet counts agree with the stream filter.
+     */
+    private static void testCase36_BitmapIndex() {
+        System.out.println("\nTest Case 36: Compressed Bitmap Index");
+        try {
+            java.util.SplittableRandom random = new java.util.SplittableRandom(36);
+            boolean matches = true;
+            for (int round = 0; matches && round < 20; round++) {
+                CompressedBitmap a = new CompressedBitmap(), b = new CompressedBitmap();
+                java.util.BitSet x = new java.util.BitSet(), y = new java.util.BitSet();
+                // Dense in the first chunk, sparse beyond it, so both container kinds meet
+                for (int n = 0; n < 12000; n++) {
+                    int v = random.nextInt(4) == 0 ? random.nextInt(300000) : random.nextInt(round % 2 == 0 ? 65536 : 9000);
+                    if (random.nextBoolean()) { a.add(v); x.set(v); } else { b.add(v); y.set(v); }
+                }
+                java.util.BitSet and = (java.util.BitSet) x.clone(); and.and(y);
+                java.util.BitSet or = (java.util.BitSet) x.clone(); or.or(y);
+                java.util.BitSet andNot = (java.util.BitSet) x.clone(); andNot.andNot(y);
+                matches = java.util.Arrays.equals(CompressedBitmap.and(a, b).toArray(), and.stream().toArray())
+                        && java.util.Arrays.equals(CompressedBitmap.or(a, b).toArray(), or.stream().toArray())
+                        && java.util.Arrays.equals(CompressedBitmap.andNot(a, b).toArray(), andNot.stream().toArray())
+                        && CompressedBitmap.andCardinality(a, b) == and.cardinality()
+                        && a.getCardinality() == x.cardinality() && a.contains(x.nextSetBit(0)) && !a.contains(x.nextClearBit(0));
+            }
+            if (matches) {
+                passed("AND, OR, AND-NOT and intersection counts match BitSet");
+            } else {
+                failed("Compressed bitmap disagrees with BitSet");
+            }
+
+            List<Internship> all = Internship.getAllInternships();
+            InternshipBitmapIndex index = InternshipBitmapIndex.build(all);
+            List<String> majors = InternshipFilter.getAvailableMajors(all);
+            String[] statuses = {null, "AVAILABLE", "FILLED", "APPROVED", "PENDING"};
+            String[] levels = {null, "BASIC", "Intermediate", "advanced"};
+            boolean agrees = true;
+            for (String status : statuses) {
+                for (String level : levels) {
+                    for (int m = -1; agrees && m < majors.size(); m++) {
+                        FilterSettings settings = new FilterSettings();
+                        if (status != null) settings.setStatusFilterStr(status);
+                        if (level != null) settings.setLevelFilter(level);
+                        if (m >= 0) settings.setMajorFilter(majors.get(m).toUpperCase());
+                        agrees = InternshipFilter.applyFilters(all, settings)
+                                .equals(InternshipFilter.applyFilters(index.select(settings), settings));
+                    }
+                }
+            }
+            FilterSettings available = new FilterSettings();
+            available.setStatusFilterStr("AVAILABLE");
+            Map<String, Integer> majorCounts = index.facetCounts(available, InternshipBitmapIndex.Facet.MAJOR);
+            for (String major : majors) {
+                long expected = all.stream().filter(i -> !i.isFilled() && major.equals(i.getPreferredMajor())).count();
+                agrees &= majorCounts.get(major) == expected;
+            }
+            Internship full = new Internship("Facet Full Test", "Desc", "Basic", "CSC",
+                    LocalDate.now(), LocalDate.now().plusDays(30), "FacetCo", null, 1);
+            try {
+                // Approved with every slot taken: counted and matched as FILLED, not AVAILABLE
+                full.setStatus(InternshipStatus.APPROVED);
+                full.tryReserveSlot();
+                full.setStatus(InternshipStatus.APPROVED);
+                InternshipBitmapIndex withFull = InternshipBitmapIndex.build(Internship.getAllInternships());
+                Map<String, Integer> statusCounts = withFull.facetCounts(new FilterSettings(), InternshipBitmapIndex.Facet.STATUS);
+                for (String status : new String[]{"FILLED", "AVAILABLE"}) {
+                    FilterSettings settings = new FilterSettings();
+                    settings.setStatusFilterStr(status);
+                    agrees &= statusCounts.get(status) == withFull.count(settings);
+                }
+            } finally {
+                Internship.getInternshipsList().remove(full);
+            }
+            if (agrees) {
+                passed("Indexed filtering and facet counts match the stream filter");
+            } else {
+                failed("Bitmap index disagrees with the stream filter");
+            }
+
+            Internship internship = new Internship("Bitmap Test", "Bitmap index", "Basic", "Computer Science",
+                    LocalDate.now(), LocalDate.now().plusDays(10), "Bitmap Co", null, 1);
+            FilterSettings company = new FilterSettings();
+            company.setCompanyFilter("bitmap co");
+            try {
+                int added = InternshipBitmapIndex.current().count(company);
+                Internship.getInternshipsList().remove(internship);
+                int removed = InternshipBitmapIndex.current().count(company);
+                if (added == 1 && removed == 0) {
+                    passed("Shared index is rebuilt when internships are added or removed");
+                } else {
+                    failed("Shared index stale: added=" + added + ", removed=" + removed);
+                }
+            } finally {
+                Internship.getInternshipsList().remove(internship);
+            }
+        } catch (Exception e) {
+            failed("Error testing bitmap index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Test Case 37: Staff query planner.
+     * Checks query results against direct filtering, the access path the planner picks, and rejection
+     * of invalid queries.
+     */
+    private static void testCase37_QueryPlanner() {
+        System.out.println("\nTest Case 37: Query Planner");
+        try {
+            List<Internship> all = Internship.getAllInternships();
+            LocalDate cutoff = LocalDate.now().plusMonths(6);
+            boolean agrees = true;
+            for (InternshipStatus status : InternshipStatus.values()) {
+                List<Integer> expected = all.stream()
+                        .filter(i -> i.getStatus() == status && i.getCloseDate().isBefore(cutoff))
+                        .sorted(java.util.Comparator.comparing(Internship::getCloseDate).reversed())
+                        .map(Internship::getID).collect(java.util.stream.Collectors.toList());
+                List<?> rows = utils.query.QueryEngine.execute("internships where status=" + status.name().toLowerCase()
+                        + " and closes<" + cutoff + " order by closeDate desc").getRows();
+                List<Integer> actual = new java.util.ArrayList<>();
+                for (Object row : rows) actual.add(((Internship) row).getID());
+                // Ties on the close date may come back in any order
+                agrees &= expected.size() == actual.size() && new java.util.HashSet<>(expected).equals(new java.util.HashSet<>(actual));
+                for (int k = 1; agrees && k < rows.size(); k++) {
+                    agrees = !((Internship) rows.get(k)).getCloseDate().isAfter(((Internship) rows.get(k - 1)).getCloseDate());
+                }
+            }
+            if (agrees) {
+                passed("Query results match direct filtering and ordering");
+            } else {
+                failed("Query results differ from direct filtering");
+            }
+
+            Internship first = all.get(0);
+            utils.query.QueryResult byId = utils.query.QueryEngine.execute("explain id=" + first.getID() + " and title~''");
+            utils.query.QueryResult byCompany = utils.query.QueryEngine.execute(
+                    "status=" + first.getStatus() + " and company='" + first.getCompanyName() + "' limit 1");
+            utils.query.QueryResult byDate = utils.query.QueryEngine.execute("opens>=2199-01-01 and title~a");
+            if (byId.getPlan().getAccess().startsWith("id lookup") && byId.getRowsExamined() == 1
+                    && byId.getPlan().getFilter().size() == 1
+                    && byCompany.getPlan().getAccess().startsWith("bitmap index")
+                    && byCompany.getRows().size() == 1 && byCompany.getRows().get(0) instanceof Internship
+                    && byDate.getPlan().getAccess().startsWith("date index") && byDate.getRowsExamined() == 0) {
+                passed("Planner picks the ID lookup, bitmap index and date index when they are most selective");
+            } else {
+                failed("Unexpected plans: " + byId.getPlan().getAccess() + ", " + byCompany.getPlan().getAccess()
+                        + ", " + byDate.getPlan().getAccess());
+            }
+
+            // Approved with every slot taken: filled for the index, but its status is still APPROVED
+            Internship full = new Internship("Query Full Test", "Desc", "Basic", "CSC",
+                    LocalDate.now(), LocalDate.now().plusDays(30), "QueryCo", null, 1);
+            try {
+                full.setStatus(InternshipStatus.APPROVED);
+                full.tryReserveSlot();
+                full.setStatus(InternshipStatus.APPROVED);
+                utils.query.QueryResult filled = utils.query.QueryEngine.execute("status=filled and company=QueryCo");
+                if (full.isFilled() && filled.getRows().isEmpty() && filled.getPlan().getFilter().size() == 1) {
+                    passed("status = FILLED keeps its status meaning when answered from the filled bitmap");
+                } else {
+                    failed("status = FILLED returned " + filled.getRows().size() + " rows with filter "
+                            + filled.getPlan().getFilter());
+                }
+            } finally {
+                Internship.getInternshipsList().remove(full);
+            }
+
+            List<Application> applications = Application.getAllApplications();
+            if (!applications.isEmpty()) {
+                Application application = applications.get(0);
+                String studentId = application.getApplicant().getUserID();
+                utils.query.QueryResult result = utils.query.QueryEngine.execute(
+                        "applications where student=" + studentId + " order by id");
+                long expected = applications.stream()
+                        .filter(a -> a.getApplicant().getUserID().equalsIgnoreCase(studentId)).count();
+                if (result.getPlan().getAccess().startsWith("student's applications") && result.getRows().size() == expected) {
+                    passed("Application query uses the student's applications and matches a full scan");
+                } else {
+                    failed("Application query: " + result.getPlan().getAccess() + ", " + result.getRows().size()
+                            + " rows, expected " + expected);
+                }
+            }
+
+            String[] invalid = {"colour=red", "closes<tomorrow", "slots~2", "status=PENDING or level=BASIC",
+                    "title='unterminated", "order closes", "limit 0"};
+            int rejected = 0;
+            for (String query : invalid) {
+                try {
+                    utils.query.QueryEngine.execute(query);
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                }
+            }
+            if (rejected == invalid.length) {
+                passed("Invalid queries are rejected with IllegalArgumentException");
+            } else {
+                failed("Only " + rejected + " of " + invalid.length + " invalid queries were rejected");
+            }
+        } catch (Exception e) {
+            failed("Error testing query planner: " + e.getMessage());
+        }
+    }
+
+    // Tests that saved filter result sets stay equal to a fresh filter run as internships change
+    private static void testCase38_SavedFilters() {
+        System.out.println("\nTest Case 38: Saved Filters");
+        withFixture(300, "saved filters", fixture -> {
+            InternshipController internships = fixture.getInternshipController();
+            SavedFilters saved = SavedFilters.getInstance();
+            List<Internship> pendings = Internship.getAllInternships().stream()
+                    .filter(i -> i.getStatus() == InternshipStatus.PENDING).collect(java.util.stream.Collectors.toList());
+            Internship moved = pendings.get(0);
+            String major = moved.getPreferredMajor();
+            Internship joined = pendings.stream().filter(i -> !i.getPreferredMajor().equals(major)).findFirst().orElseThrow();
+            FilterSettings settings = new FilterSettings();
+            settings.setMajorFilter(major);
+            settings.setSortOrder("CLOSING_DATE");
+            saved.save("sng001", "Major by close", settings, null);
+            // Ties on the close date are ordered by ID in a saved filter
+            java.util.function.Supplier<List<Integer>> expected = () -> InternshipFilter.applyFilters(Internship.getAllInternships(), settings)
+                    .stream().map(o -> (Internship) o)
+                    .sorted(java.util.Comparator.comparing(Internship::getCloseDate).thenComparing(Internship::getID))
+                    .map(Internship::getID).collect(java.util.stream.Collectors.toList());
+            java.util.function.Supplier<List<Integer>> opened = () -> saved.open("sng001", "major by close")
+                    .stream().map(Internship::getID).collect(java.util.stream.Collectors.toList());
+            boolean initial = opened.get().equals(expected.get());
+
+            utils.metrics.Counter rechecked = MetricsRegistry.getInstance().counter("SavedFilter.rechecked");
+            long before = rechecked.get();
+            internships.updateInternship(moved.getID(), null, null, null, null, null, moved.getCloseDate().plusYears(5), null);
+            internships.updateInternship(joined.getID(), null, null, null, major, null, null, null);
+            Internship deleted = Internship.getAllInternships().stream()
+                    .filter(i -> i.getStatus() == InternshipStatus.PENDING && i.getPreferredMajor().equals(major)
+                            && i.getID() != moved.getID()
+                            && i.getID() != joined.getID()).findFirst().orElseThrow();
+            internships.deleteInternship(deleted.getID());
+            List<Integer> afterChanges = opened.get();
+            long checks = rechecked.get() - before;
+            if (initial && afterChanges.equals(expected.get()) && afterChanges.get(afterChanges.size() - 1) == moved.getID()
+                    && afterChanges.contains(joined.getID())
+                    && !afterChanges.contains(deleted.getID()) && checks <= 3) {
+                passed("Date edit, major edit and deletion are applied by re-checking only the changed internships");
+            } else {
+                failed("Saved filter differs from a fresh run: initial=" + initial + ", rechecked=" + checks);
+            }
+
+            // A changed internship briefly missing, as during a reload, must not drop out for good
+            Internship reloading = Internship.findWithID(joined.getID());
+            Internship.getInternshipsList().remove(reloading);
+            utils.event.EventBus.getInstance().publish(new utils.event.InternshipChanged(reloading.getID()));
+            boolean hidden = !opened.get().contains(reloading.getID());
+            Internship.getInternshipsList().add(reloading);
+            if (hidden && opened.get().equals(expected.get())) {
+                passed("Internship missing mid-reload is re-checked on the next open instead of dropped");
+            } else {
+                failed("Internship missing mid-reload was dropped from the saved filter");
+            }
+
+            // The first reload reports the rows saved above; the second finds nothing changed.
+            // The deleted row is missing at the first open after the reload and dropped at the second
+            internships.loadInternshipsFromCsv();
+            opened.get();
+            opened.get();
+            before = rechecked.get();
+            internships.loadInternshipsFromCsv();
+            boolean reloadFree = opened.get().equals(expected.get()) && rechecked.get() == before;
+            CompanyRepresentative rep = moved.getCreator();
+            saved.save(rep.getUserID(), "Mine", new FilterSettings(), rep.getUserID());
+            boolean scoped = saved.open(rep.getUserID(), "mine").stream()
+                    .allMatch(i -> i.getCreator().getUserID().equals(rep.getUserID()))
+                    && saved.getNames("sng001").equals(java.util.Arrays.asList("Major by close"));
+            if (reloadFree && scoped) {
+                passed("Reloading unchanged data re-checks nothing and creator-scoped filters stay in scope");
+            } else {
+                failed("Reload re-checked internships or scope leaked: reloadFree=" + reloadFree + ", scoped=" + scoped);
+            }
+
+            boolean rejected = false;
+            try {
+                saved.save("sng001", "a,b", settings, null);
+            } catch (IllegalArgumentException e) {
+                rejected = true;
+            }
+            saved.delete(rep.getUserID(), "Mine");
+            if (rejected && saved.getNames(rep.getUserID()).isEmpty()) {
+                passed("Invalid names are rejected and deleted filters disappear");
+            } else {
+                failed("Saved filter validation or deletion failed");
+            }
+        });
+    }
+
+    // Tests that incrementally maintained placement figures match a full recount after transitions
+    private static void testCase39_PlacementAnalytics() {
+        System.out.println("\nTest Case 39: Placement Analytics");
+        withFixture(300, "placement analytics", fixture -> {
+            ApplicationController applications = fixture.getApplicationController();
+            InternshipController internships = fixture.getInternshipController();
+            utils.analytics.PlacementAnalytics analytics = utils.analytics.PlacementAnalytics.getInstance();
+            utils.analytics.PlacementAnalytics.Dimension byCompany = utils.analytics.PlacementAnalytics.Dimension.COMPANY;
+            // Recount by company: applications, accepted, withdrawn, slots and filled slots
+            java.util.function.Supplier<Map<String, List<Long>>> recount = () -> {
+                Map<String, List<Long>> expected = new java.util.TreeMap<>();
+                for (Internship i : Internship.getAllInternships()) {
+                    List<Long> row = expected.computeIfAbsent(i.getCompanyName(), k -> new java.util.ArrayList<>(java.util.Arrays.asList(0L, 0L, 0L, 0L, 0L)));
+                    row.set(3, row.get(3) + i.getNumSlots());
+                    row.set(4, row.get(4) + i.getFilledSlots());
+                    for (Application a : i.getApplications()) {
+                        row.set(0, row.get(0) + 1);
+                        if (a.getStatus() == ApplicationStatus.ACCEPTED) row.set(1, row.get(1) + 1);
+                        if (a.getStatus() == ApplicationStatus.WITHDRAWN) row.set(2, row.get(2) + 1);
+                    }
+                }
+                return expected;
+            };
+            java.util.function.Supplier<Map<String, List<Long>>> reported = () -> {
+                Map<String, List<Long>> actual = new java.util.TreeMap<>();
+                for (utils.analytics.PlacementStats row : analytics.report(byCompany)) {
+                    actual.put(row.getGroup(), java.util.Arrays.asList(row.getApplications(), row.getAccepted(),
+                            row.getWithdrawn(), row.getSlots(), row.getFilledSlots()));
+                }
+                return actual;
+            };
+            boolean initial = reported.get().equals(recount.get());
+
+            utils.metrics.Counter rebuilds = MetricsRegistry.getInstance().counter("PlacementAnalytics.rebuilds");
+            long rebuildsBefore = rebuilds.get();
+            Student student = fixture.getStudentsWithoutApplications().get(0);
+            Internship target = internships.getVisibleInternshipsForStudent(student).get(0);
+            Application offer = applications.createApplication(target.getID(), student, internships);
+            applications.confirmPlacement(target.getID(), offer.getId(), internships);
+            applications.acceptApplication(offer.getId(), student);
+            Application pending = fixture.getPendingApplications().get(0);
+            applications.withdrawApplication(pending.getId(), pending.getApplicant(), "test");
+            applications.approveWithdrawal(pending.getId());
+            boolean afterTransitions = reported.get().equals(recount.get());
+            applications.loadApplicationsFromCsv(internships);
+            boolean afterReload = reported.get().equals(recount.get());
+            if (initial && afterTransitions && afterReload && rebuilds.get() == rebuildsBefore) {
+                passed("Figures match a full recount after apply, offer, accept, withdrawal and reload without rebuilding");
+            } else {
+                failed("Figures differ from a recount: initial=" + initial + ", transitions=" + afterTransitions
+                        + ", reload=" + afterReload + ", rebuilds=" + (rebuilds.get() - rebuildsBefore));
+            }
+
+            utils.metrics.Counter rowsChanged = MetricsRegistry.getInstance().counter("ApplicationCsvHandler.rowsChanged");
+            long changedBefore = rowsChanged.get();
+            applications.loadApplicationsFromCsv(internships);
+            java.io.StringWriter csv = new java.io.StringWriter();
+            int rows = analytics.exportCsv(csv);
+            long groups = 0;
+            for (utils.analytics.PlacementAnalytics.Dimension d : utils.analytics.PlacementAnalytics.Dimension.values()) {
+                groups += analytics.report(d).size();
+            }
+            if (rowsChanged.get() == changedBefore && rows == groups
+                    && csv.toString().split("\n").length == rows + 1
+                    && analytics.report(utils.analytics.PlacementAnalytics.Dimension.INTERNSHIP).size() == Internship.getAllInternships().size()) {
+                passed("Reloading unchanged applications publishes nothing and the export has one row per group");
+            } else {
+                failed("Unexpected reload changes or export rows: changed=" + (rowsChanged.get() - changedBefore)
+                        + ", rows=" + rows + ", groups=" + groups);
+            }
+        });
+    }
+
+    // Tests that parallel company reports cover every company and match a single-threaded run
+    private static void testCase40_CompanyReports() {
+        System.out.println("\nTest Case 40: Company Reports");
+        withFixture(300, "company reports", fixture -> {
+            ApplicationController applications = fixture.getApplicationController();
+            Application withdrawn = fixture.getPendingApplications().get(0);
+            applications.withdrawApplication(withdrawn.getId(), withdrawn.getApplicant(), "Accepted elsewhere");
+            applications.approveWithdrawal(withdrawn.getId());
+
+            java.nio.file.Path parallelDir = fixture.getDirectory().resolve("reports-parallel");
+            java.nio.file.Path serialDir = fixture.getDirectory().resolve("reports-serial");
+            java.util.concurrent.atomic.AtomicInteger lastProgress = new java.util.concurrent.atomic.AtomicInteger();
+            utils.analytics.CompanyReportGenerator.Result parallel = new utils.analytics.CompanyReportGenerator(parallelDir, 4)
+                    .generate((done, total) -> lastProgress.accumulateAndGet(done, Math::max));
+            new utils.analytics.CompanyReportGenerator(serialDir, 1).generate(null);
+
+            long companies = Internship.getAllInternships().stream().map(Internship::getCompanyName).distinct().count();
+            boolean identical = true;
+            try (java.util.stream.Stream<java.nio.file.Path> files = Files.list(serialDir)) {
+                for (java.nio.file.Path file : (Iterable<java.nio.file.Path>) files::iterator) {
+                    List<String> serialLines = Files.readAllLines(file);
+                    List<String> parallelLines = Files.readAllLines(parallelDir.resolve(file.getFileName()));
+                    // Line 2 is the generation time
+                    serialLines.remove(1);
+                    parallelLines.remove(1);
+                    identical &= serialLines.equals(parallelLines);
+                }
+            }
+            long written;
+            try (java.util.stream.Stream<java.nio.file.Path> files = Files.list(parallelDir)) {
+                written = files.count();
+            }
+            if (parallel.getCompanies() == companies && written == companies && lastProgress.get() == companies && identical) {
+                passed("One report per company, progress reaches the total, and parallel output matches serial");
+            } else {
+                failed("Reports: " + parallel.getCompanies() + " of " + companies + ", files " + written
+                        + ", progress " + lastProgress.get() + ", identical " + identical);
+            }
+
+            String company = withdrawn.getInternship().getCompanyName();
+            String report;
+            try (java.util.stream.Stream<java.nio.file.Path> files = Files.list(parallelDir)) {
+                report = files.map(f -> {
+                    try {
+                        return new String(Files.readAllBytes(f), java.nio.charset.StandardCharsets.UTF_8);
+                    } catch (java.io.IOException e) {
+                        throw new java.io.UncheckedIOException(e);
+                    }
+                }).filter(text -> text.startsWith("END-OF-CYCLE REPORT: " + company + "\n")).findFirst().orElse("");
+            }
+            long postings = Internship.getAllInternships().stream().filter(i -> i.getCompanyName().equals(company)).count();
+            if (report.contains("POSTINGS (" + postings + ")") && report.contains("ID: " + withdrawn.getId() + " ")
+                    && report.contains("Reason: Accepted elsewhere")) {
+                passed("Company report lists its postings and the withdrawal with its reason");
+            } else {
+                failed("Company report for " + company + " is missing postings or the withdrawal");
+            }
+        });
+    }
+
+    // Tests streaming exports: filters match the loaded data, JSON lines and gzip, and the API endpoint
+    private static void testCase41_StreamingExport() {
+        System.out.println("\nTest Case 41: Streaming Export");
+        withFixture(300, "streaming export", fixture -> {
+            ApiServer server = null;
+            try {
+                ApplicationController applications = fixture.getApplicationController();
+                Application withdrawn = fixture.getPendingApplications().get(0);
+                applications.withdrawApplication(withdrawn.getId(), withdrawn.getApplicant(), "Offer \"elsewhere\"");
+                applications.approveWithdrawal(withdrawn.getId());
+
+                utils.export.StreamingExporter pending = new utils.export.StreamingExporter(
+                        utils.export.StreamingExporter.Entity.APPLICATIONS, utils.export.StreamingExporter.Format.CSV);
+                pending.setStatuses("pending");
+                java.io.ByteArrayOutputStream csv = new java.io.ByteArrayOutputStream();
+                utils.export.StreamingExporter.Result result = pending.export(csv);
+                List<String> csvLines = Arrays.asList(csv.toString("UTF-8").split("\n"));
+                long expectedPending = Application.getAllApplications().stream()
+                        .filter(a -> a.getStatus() == ApplicationStatus.PENDING).count();
+                boolean allPending = csvLines.subList(1, csvLines.size()).stream().allMatch(l -> l.split(",")[4].equals("PENDING"));
+                if (result.getRowsWritten() == expectedPending && csvLines.size() == expectedPending + 1
+                        && csvLines.get(0).equals(Files.readAllLines(new File(DataFiles.applications()).toPath()).get(0))
+                        && allPending
+                        && result.getRowsRead() == Application.getAllApplications().size()) {
+                    passed("CSV export keeps the header and exactly the " + expectedPending + " pending applications");
+                } else {
+                    failed("CSV export wrote " + result.getRowsWritten() + " rows of " + result.getRowsRead()
+                            + ", expected " + expectedPending);
+                }
+
+                utils.export.StreamingExporter everything = new utils.export.StreamingExporter(
+                        utils.export.StreamingExporter.Entity.APPLICATIONS, utils.export.StreamingExporter.Format.JSONL);
+                everything.setGzip(true);
+                Path jsonFile = fixture.getDirectory().resolve("applications.jsonl.gz");
+                everything.export(jsonFile);
+                List<String> jsonLines = new java.util.ArrayList<>();
+                try (java.io.BufferedReader reader = new java.io.BufferedReader(new java.io.InputStreamReader(
+                        new java.util.zip.GZIPInputStream(Files.newInputStream(jsonFile)), java.nio.charset.StandardCharsets.UTF_8))) {
+                    reader.lines().forEach(jsonLines::add);
+                }
+                String withdrawnLine = jsonLines.stream().filter(l -> l.startsWith("{\"id\":" + withdrawn.getId() + ","))
+                        .findFirst().orElse("");
+                if (jsonLines.size() == Application.getAllApplications().size()
+                        && withdrawnLine.contains("\"internshipId\":" + withdrawn.getInternship().getID() + ",")
+                        && withdrawnLine.contains("\"status\":\"WITHDRAWN\"")
+                        && withdrawnLine.endsWith("\"withdrawalReason\":\"Offer \\\"elsewhere\\\"\"}")) {
+                    passed("Gzipped JSON lines export has one typed object per application, reason escaped");
+                } else {
+                    failed("JSON lines export: " + jsonLines.size() + " lines, withdrawn row " + withdrawnLine);
+                }
+
+                List<Internship> all = Internship.getAllInternships();
+                java.time.LocalDate from = all.get(all.size() / 2).getOpenDate();
+                java.time.LocalDate to = from.plusDays(60);
+                utils.export.StreamingExporter window = new utils.export.StreamingExporter(
+                        utils.export.StreamingExporter.Entity.INTERNSHIPS, utils.export.StreamingExporter.Format.JSONL);
+                window.setFrom(from);
+                window.setTo(to);
+                long expectedWindow = all.stream()
+                        .filter(i -> !i.getOpenDate().isBefore(from) && !i.getCloseDate().isAfter(to)).count();
+                long written = window.export(new java.io.ByteArrayOutputStream()).getRowsWritten();
+                boolean rejected = false;
+                try {
+                    window.setStatuses("PENDING,ACCEPTED");
+                } catch (IllegalArgumentException e) {
+                    rejected = true;
+                }
+                if (written == expectedWindow && rejected) {
+                    passed("Internship date window selects " + expectedWindow + " internships; unknown statuses are rejected");
+                } else {
+                    failed("Internship window wrote " + written + ", expected " + expectedWindow + ", rejected " + rejected);
+                }
+
+                server = new ApiServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2,
+                        new LoginController(UserRegistry.getInstance()), fixture.getInternshipController(), applications, null);
+                server.start();
+                Staff staff = (Staff) UserRegistry.getInstance().getAllUsers().stream()
+                        .filter(u -> u instanceof Staff).findFirst().orElseThrow();
+                String auth = "Basic " + java.util.Base64.getEncoder()
+                        .encodeToString((staff.getUserID() + ":password").getBytes());
+                String studentAuth = "Basic " + java.util.Base64.getEncoder()
+                        .encodeToString((withdrawn.getApplicant().getUserID() + ":password").getBytes());
+                String base = "http://localhost:" + server.getPort() + "/api/export/";
+                HttpClient http = HttpClient.newHttpClient();
+                HttpResponse<byte[]> response = http.send(HttpRequest.newBuilder(URI.create(base + "applications?status=WITHDRAWN&gzip=true"))
+                        .header("Authorization", auth).build(), HttpResponse.BodyHandlers.ofByteArray());
+                String body = new String(new java.util.zip.GZIPInputStream(new java.io.ByteArrayInputStream(response.body()))
+                        .readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
+                int forbidden = http.send(HttpRequest.newBuilder(URI.create(base + "applications"))
+                        .header("Authorization", studentAuth).build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+                int badStatus = http.send(HttpRequest.newBuilder(URI.create(base + "internships?status=NOPE"))
+                        .header("Authorization", auth).build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+                long withdrawnCount = Application.getAllApplications().stream()
+                        .filter(a -> a.getStatus() == ApplicationStatus.WITHDRAWN).count();
+                if (response.statusCode() == 200 && "gzip".equals(response.headers().firstValue("Content-Encoding").orElse(""))
+                        && body.split("\n").length == withdrawnCount + 1 && forbidden == 403 && badStatus == 400) {
+                    passed("API export streams gzipped CSV to staff and refuses students and unknown statuses");
+                } else {
+                    failed("API export: status " + response.statusCode() + ", " + body.split("\n").length + " lines, student "
+                            + forbidden + ", bad status " + badStatus);
+                }
+
+                // Hand-edited numeric columns must still give valid JSON
+                Path applicationsFile = Path.of(DataFiles.applications());
+                byte[] original = Files.readAllBytes(applicationsFile);
+                try {
+                    Files.writeString(applicationsFile, "007,-,x,2025-01-01T10:00,PENDING,,\n",
+                            java.nio.file.StandardOpenOption.APPEND);
+                    java.io.ByteArrayOutputStream json = new java.io.ByteArrayOutputStream();
+                    new utils.export.StreamingExporter(utils.export.StreamingExporter.Entity.APPLICATIONS,
+                            utils.export.StreamingExporter.Format.JSONL).export(json);
+                    String edited = Arrays.stream(json.toString("UTF-8").split("\n"))
+                            .filter(l -> l.contains("\"studentId\":\"x\"")).findFirst().orElse("");
+                    if (edited.startsWith("{\"id\":7,\"internshipId\":\"-\",")) {
+                        passed("Numeric columns are parsed before being written; invalid numbers become strings");
+                    } else {
+                        failed("Edited numeric columns exported as " + edited);
+                    }
+                } finally {
+                    Files.write(applicationsFile, original);
+                }
+            } finally {
+                if (server != null) server.stop();
+            }
+        });
+    }
+
+    // Tests bulk internship import: per-row errors, one batched save, and the posting limit under concurrent imports
+    private static void testCase42_BulkInternshipImport() {
+        System.out.println("\nTest Case 42: Bulk Internship Import");
+        withFixture(300, "bulk internship import", fixture -> {
+            InternshipController internships = fixture.getInternshipController();
+            List<CompanyRepresentative> reps = UserRegistry.getInstance().getAllUsers().stream()
+                    .filter(u -> u instanceof CompanyRepresentative).map(u -> (CompanyRepresentative) u)
+                    .filter(CompanyRepresentative::isApproved)
+                    .filter(r -> internships.getInternshipsByCreator(r).size() < CompanyRepresentative.MAX_INTERNSHIPS)
+                    .collect(java.util.stream.Collectors.toList());
+            CompanyRepresentative rep = reps.get(0);
+            int room = CompanyRepresentative.MAX_INTERNSHIPS - internships.getInternshipsByCreator(rep).size();
+            java.time.LocalDate open = java.time.LocalDate.now().plusDays(1);
+            StringBuilder file = new StringBuilder("Title,Description,Level,Major,OpenDate,CloseDate,Slots\n");
+            file.append("Bad Level,Desc,Expert,CSC,").append(open).append(",").append(open.plusDays(30)).append(",2\n");
+            file.append("Bad Date,Desc,Basic,CSC,tomorrow,").append(open.plusDays(30)).append(",2\n");
+            file.append("Too Few Columns,Desc,Basic\n");
+            for (int i = 0; i <= room; i++) {
+                file.append("Imported Role ").append(i).append(",\"Builds tools, tests them\",Basic,CSC,")
+                        .append(open).append(",").append(open.plusDays(30)).append(",3\n");
+            }
+            Path postings = fixture.getDirectory().resolve("postings.csv");
+            Files.write(postings, file.toString().getBytes(java.nio.charset.StandardCharsets.UTF_8));
+            long batchedBefore = MetricsRegistry.getInstance().counter("InternshipCsvHandler.rowsBatched").get();
+            long linesBefore = Files.readAllLines(new File(DataFiles.internships()).toPath()).size();
+
+            InternshipImport result = internships.importInternships(postings, rep);
+            List<String> errors = result.getErrors();
+            long linesAfter = Files.readAllLines(new File(DataFiles.internships()).toPath()).size();
+            boolean descriptionKept = result.getImported().stream()
+                    .allMatch(i -> i.getDescription().equals("Builds tools, tests them") && i.getCreator() == rep);
+            if (result.getImported().size() == room && errors.size() == 4
+                    && errors.get(0).startsWith("Line 2: Level must be") && errors.get(1).startsWith("Line 3: Dates")
+                    && errors.get(2).startsWith("Line 4: Expected 7 columns") && errors.get(3).contains("Maximum of")
+                    && descriptionKept && linesAfter == linesBefore + room
+                    && MetricsRegistry.getInstance().counter("InternshipCsvHandler.rowsBatched").get() == batchedBefore + room) {
+                passed("Imported " + room + " postings in one save; bad rows and rows over the limit reported by line");
+            } else {
+                failed("Import: " + result.summary() + ", errors " + errors + ", file rows +" + (linesAfter - linesBefore));
+            }
+
+            CompanyRepresentative other = reps.get(1);
+            int otherRoom = CompanyRepresentative.MAX_INTERNSHIPS - internships.getInternshipsByCreator(other).size();
+            StringBuilder five = new StringBuilder();
+            for (int i = 0; i < CompanyRepresentative.MAX_INTERNSHIPS; i++) {
+                five.append("Concurrent Role ").append(i).append(",Desc,Intermediate,CSC,")
+                        .append(open).append(",").append(open.plusDays(10)).append(",1\n");
+            }
+            Path batch = fixture.getDirectory().resolve("batch.csv");
+            Files.write(batch, five.toString().getBytes(java.nio.charset.StandardCharsets.UTF_8));
+            List<CompletableFuture<InternshipImport>> imports = new java.util.ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                imports.add(CompletableFuture.supplyAsync(() -> internships.importInternships(batch, other)));
+            }
+            int created = 0;
+            for (CompletableFuture<InternshipImport> future : imports) created += future.get().getImported().size();
+            if (created == otherRoom
+                    && internships.getInternshipsByCreator(other).size() == CompanyRepresentative.MAX_INTERNSHIPS) {
+                passed("Concurrent imports create exactly the " + otherRoom + " postings the limit allows");
+            } else {
+                failed("Concurrent imports created " + created + ", room was " + otherRoom + ", now "
+                        + internships.getInternshipsByCreator(other).size());
+            }
+
+            CsvHandler<Internship> unwritable = new CsvHandler<Internship>() {
+                @Override
+                public void loadFromCsv() {}
+                @Override
+                public void saveToCsv(Internship internship) {}
+                @Override
+                public void saveAllToCsv(Collection<Internship> batch) {
+                    throw new IllegalStateException("Error saving internships to CSV: disk full");
+                }
+                @Override
+                public String formatCsvLine(Internship internship) { return ""; }
+            };
+            CompanyRepresentative third = reps.get(2);
+            int thirdCount = internships.getInternshipsByCreator(third).size();
+            int total = Internship.getAllInternships().size();
+            boolean thrown = false;
+            try {
+                new InternshipController(unwritable).importInternships(batch, third);
+            } catch (IllegalStateException e) {
+                thrown = true;
+            }
+            if (thrown && Internship.getAllInternships().size() == total
+                    && internships.getInternshipsByCreator(third).size() == thirdCount) {
+                passed("Failed import save leaves no imported internships in memory");
+            } else {
+                failed("Failed import save kept " + (Internship.getAllInternships().size() - total) + " internships");
+            }
+        });
+    }
+
+    // Tests staff batch approvals: filter and ID selections, per-item results, and one save per file
+    private static void testCase43_BatchApprovals() {
+        System.out.println("\nTest Case 43: Batch Approvals");
+        withFixture(300, "batch approvals", fixture -> {
+            MetricsRegistry metrics = MetricsRegistry.getInstance();
+            Staff staff = (Staff) UserRegistry.getInstance().getAllUsers().stream()
+                    .filter(u -> u instanceof Staff).findFirst().orElseThrow();
+            StaffController controller = new StaffController(staff);
+
+            Map<String, Long> pendingByCompany = Internship.getAllInternships().stream()
+                    .filter(i -> i.getStatus() == InternshipStatus.PENDING)
+                    .collect(java.util.stream.Collectors.groupingBy(Internship::getCompanyName, java.util.stream.Collectors.counting()));
+            String company = pendingByCompany.entrySet().stream().max(Map.Entry.comparingByValue()).orElseThrow().getKey();
+            long pending = pendingByCompany.get(company);
+            long batchedBefore = metrics.counter("InternshipCsvHandler.rowsBatched").get();
+            BatchResult byCompany = controller.updateInternshipApprovals("company=" + company.toUpperCase(), true);
+            boolean allApproved = Internship.getAllInternships().stream().filter(i -> i.getCompanyName().equals(company))
+                    .noneMatch(i -> i.getStatus() == InternshipStatus.PENDING);
+            int approvedId = Integer.parseInt(byCompany.getItems().get(0).getId());
+            int otherPending = Internship.getAllInternships().stream()
+                    .filter(i -> i.getStatus() == InternshipStatus.PENDING).findFirst().orElseThrow().getID();
+            BatchResult explicit = controller.updateInternshipApprovals(approvedId + ", 999999, " + otherPending, false);
+            if (byCompany.getSucceeded() == pending && byCompany.getFailed() == 0 && allApproved
+                    && metrics.counter("InternshipCsvHandler.rowsBatched").get() == batchedBefore + pending + 1
+                    && explicit.getSucceeded() == 1 && explicit.getItems().get(0).getMessage().contains("APPROVED, not PENDING")
+                    && explicit.getItems().get(1).getMessage().equals("Internship not found.")
+                    && Internship.findWithID(otherPending).getStatus() == InternshipStatus.REJECTED) {
+                passed("Approved " + pending + " pending internships of one company in one save; skipped items reported");
+            } else {
+                failed("Internship batch: " + byCompany.summary() + " of " + pending + ", explicit " + explicit.format());
+            }
+
+            List<CompanyRepresentative> pendingReps = UserRegistry.getInstance().getAllUsers().stream()
+                    .filter(u -> u instanceof CompanyRepresentative).map(u -> (CompanyRepresentative) u)
+                    .filter(r -> r.getApprovalStatus() == StaffApprovalStatus.PENDING)
+                    .collect(java.util.stream.Collectors.toList());
+            BatchResult reps = controller.approveRejectCompanyReps("all", false);
+            List<String> repLines = Files.readAllLines(new File(DataFiles.companyRepresentatives()).toPath());
+            boolean persisted = pendingReps.stream().allMatch(r -> repLines.stream()
+                    .anyMatch(l -> l.startsWith(r.getUserID() + ",") && l.endsWith(",Rejected")));
+            if (!pendingReps.isEmpty() && reps.getSucceeded() == pendingReps.size() && persisted) {
+                passed("Rejected all " + pendingReps.size() + " pending representatives with one rewrite of their file");
+            } else {
+                failed("Representative batch: " + reps.summary() + " of " + pendingReps.size() + ", persisted " + persisted);
+            }
+
+            ApplicationController applications = fixture.getApplicationController();
+            List<Application> requested = fixture.getPendingApplications().subList(0, 3);
+            for (Application application : requested) {
+                applications.withdrawApplication(application.getId(), application.getApplicant(), "Changed plans");
+            }
+            int stillPending = fixture.getPendingApplications().get(5).getId();
+            long appsBatchedBefore = metrics.counter("ApplicationCsvHandler.rowsBatched").get();
+            StringBuilder selection = new StringBuilder();
+            for (Application application : requested) selection.append(application.getId()).append(",");
+            BatchResult withdrawals = controller.approveRejectWithdrawals(selection + String.valueOf(stillPending), true);
+            fixture.getApplicationController().loadApplicationsFromCsv(fixture.getInternshipController());
+            boolean withdrawn = requested.stream().allMatch(a -> Application.getAllApplications().stream()
+                    .anyMatch(b -> b.getId() == a.getId() && b.getStatus() == ApplicationStatus.WITHDRAWN));
+            if (withdrawals.getSucceeded() == 3 && withdrawals.getFailed() == 1
+                    && withdrawals.getItems().get(3).getMessage().contains("not WITHDRAWAL_REQUESTED")
+                    && metrics.counter("ApplicationCsvHandler.rowsBatched").get() == appsBatchedBefore + 3 && withdrawn) {
+                passed("Approved 3 withdrawals in one save and reported the application without a request");
+            } else {
+                failed("Withdrawal batch: " + withdrawals.format() + ", persisted " + withdrawn);
+            }
+        });
+    }
+
+    private static void testCase44_StableAllocation() {
+        System.out.println("\nTest Case 44: Stable Allocation");
+        withFixture(300, "stable allocation", fixture -> {
+            List<Application> all = Application.getAllApplications();
+            java.util.Set<String> placed = new java.util.HashSet<>();
+            Map<Integer, Integer> slots = new HashMap<>();
+            for (Application a : all) {
+                Internship internship = a.getInternship();
+                slots.putIfAbsent(internship.getID(), internship.getNumSlots());
+                boolean requested = a.getStatus() == ApplicationStatus.WITHDRAWAL_REQUESTED;
+                if (a.getStatus() == ApplicationStatus.ACCEPTED || requested && a.getPreviousStatus() == ApplicationStatus.ACCEPTED) {
+                    placed.add(a.getApplicant().getUserID());
+                }
+                if (a.getStatus() == ApplicationStatus.ACCEPTED || requested && (a.getPreviousStatus() == ApplicationStatus.ACCEPTED
+                        || a.getPreviousStatus() == ApplicationStatus.SUCCESSFUL)) {
+                    slots.merge(internship.getID(), -1, Integer::sum);
+                }
+            }
+            List<Application> open = new java.util.ArrayList<>();
+            for (Application a : all) {
+                if ((a.getStatus() == ApplicationStatus.PENDING || a.getStatus() == ApplicationStatus.SUCCESSFUL)
+                        && !placed.contains(a.getApplicant().getUserID())) open.add(a);
+            }
+
+            // Random complete preferences and rankings over the open applications
+            java.util.Random random = new java.util.Random(44);
+            Map<String, List<Integer>> appliedTo = new HashMap<>();
+            Map<Integer, List<String>> applicants = new HashMap<>();
+            for (Application a : open) {
+                appliedTo.computeIfAbsent(a.getApplicant().getUserID(), k -> new java.util.ArrayList<>()).add(a.getInternship().getID());
+                applicants.computeIfAbsent(a.getInternship().getID(), k -> new java.util.ArrayList<>()).add(a.getApplicant().getUserID());
+            }
+            Map<String, Map<Integer, Integer>> preferences = new HashMap<>();
+            appliedTo.forEach((student, ids) -> {
+                java.util.Collections.shuffle(ids, random);
+                Map<Integer, Integer> ranks = new HashMap<>();
+                for (int k = 0; k < ids.size(); k++) ranks.put(ids.get(k), k + 1);
+                preferences.put(student, ranks);
+            });
+            Map<Integer, Map<String, Integer>> rankings = new HashMap<>();
+            applicants.forEach((internship, ids) -> {
+                java.util.Collections.shuffle(ids, random);
+                Map<String, Integer> ranks = new HashMap<>();
+                for (int k = 0; k < ids.size(); k++) ranks.put(ids.get(k), k + 1);
+                rankings.put(internship, ranks);
+            });
+
+            Map<Integer, ApplicationStatus> before = new HashMap<>();
+            for (Application a : all) before.put(a.getId(), a.getStatus());
+            utils.allocation.AllocationEngine sequential = new utils.allocation.AllocationEngine(1);
+            sequential.setPreferences(preferences);
+            sequential.setRankings(rankings);
+            utils.allocation.AllocationResult single = sequential.allocate(all);
+            utils.allocation.AllocationEngine parallel = new utils.allocation.AllocationEngine(4);
+            parallel.setPreferences(preferences);
+            parallel.setRankings(rankings);
+            utils.allocation.AllocationResult result = parallel.allocate(all);
+
+            Map<Integer, ApplicationStatus> proposed = new HashMap<>();
+            for (Application a : open) proposed.put(a.getId(), a.getStatus());
+            for (utils.allocation.ProposedTransition t : result.getTransitions()) proposed.put(t.getApplicationId(), t.getProposedStatus());
+            Map<String, Integer> matchOf = new HashMap<>();
+            Map<Integer, List<String>> matchedAt = new HashMap<>();
+            boolean oneEach = true;
+            for (Application a : open) {
+                if (proposed.get(a.getId()) != ApplicationStatus.SUCCESSFUL) continue;
+                oneEach &= matchOf.put(a.getApplicant().getUserID(), a.getInternship().getID()) == null;
+                matchedAt.computeIfAbsent(a.getInternship().getID(), k -> new java.util.ArrayList<>()).add(a.getApplicant().getUserID());
+            }
+            boolean withinSlots = matchedAt.entrySet().stream().allMatch(e -> e.getValue().size() <= Math.max(0, slots.get(e.getKey())));
+            int blocking = 0;
+            for (Application a : open) {
+                String student = a.getApplicant().getUserID();
+                int internship = a.getInternship().getID();
+                Integer match = matchOf.get(student);
+                if (match != null && preferences.get(student).get(match) <= preferences.get(student).get(internship)) continue;
+                List<String> holders = matchedAt.getOrDefault(internship, List.of());
+                int rank = rankings.get(internship).get(student);
+                if (holders.size() < Math.max(0, slots.get(internship))
+                        || holders.stream().anyMatch(h -> rankings.get(internship).get(h) > rank)) blocking++;
+            }
+            java.util.function.Function<utils.allocation.AllocationResult, List<String>> lines = r ->
+                    r.getTransitions().stream().map(utils.allocation.ProposedTransition::toCsvLine).collect(java.util.stream.Collectors.toList());
+            boolean unchanged = all.stream().allMatch(a -> a.getStatus() == before.get(a.getId()));
+            if (result.isStable() && blocking == 0 && oneEach && withinSlots && result.getMatched() == matchOf.size()
+                    && result.getStudents() == appliedTo.size() && lines.apply(single).equals(lines.apply(result))
+                    && result.getMatched() > 0 && result.getRounds() > 0 && unchanged) {
+                passed("Matched " + result.getMatched() + " of " + result.getStudents()
+                        + " students with no blocking pairs; 1 and 4 threads agree");
+            } else {
+                failed("Allocation: " + result.report() + ", independent blocking pairs " + blocking + ", one match each "
+                        + oneEach + ", within slots " + withinSlots);
+            }
+
+            // Placements accepted beyond an internship's slots leave it overfilled whatever the matching proposes
+            Internship crowded = open.get(0).getInternship();
+            List<Student> others = UserRegistry.getInstance().getAllUsers().stream()
+                    .filter(u -> u instanceof Student && !u.getUserID().equals(open.get(0).getApplicant().getUserID()))
+                    .map(u -> (Student) u).limit(crowded.getNumSlots() + 1L)
+                    .collect(java.util.stream.Collectors.toList());
+            for (Student other : others) {
+                new Application(crowded, other, java.time.LocalDateTime.now()).setStatus(ApplicationStatus.ACCEPTED);
+            }
+            utils.allocation.AllocationResult crowdedResult = sequential.allocate(Application.getAllApplications());
+            if (crowdedResult.getOverfilled() >= 1 && !crowdedResult.isStable()) {
+                passed("Internship with more accepted placements than slots reported as overfilled");
+            } else {
+                failed("Overfilled internship not reported: " + crowdedResult.report());
+            }
+
+            Path proposals = Files.createTempFile("allocation", ".csv");
+            try {
+                Path preferenceFile = Files.createTempFile("preferences", ".csv");
+                Files.write(preferenceFile, List.of("StudentID,InternshipID,Rank", "U1,2,zero"));
+                try {
+                    sequential.setPreferences(utils.allocation.AllocationEngine.readPreferences(preferenceFile));
+                    failed("Malformed preference row was accepted");
+                } catch (IllegalArgumentException e) {
+                    result.writeTransitions(proposals);
+                    List<String> written = Files.readAllLines(proposals);
+                    if (e.getMessage().contains("line 2") && written.size() == result.getTransitions().size() + 1
+                            && written.get(0).equals(utils.allocation.ProposedTransition.HEADER)) {
+                        passed("Rejected a malformed preference row and wrote " + result.getTransitions().size() + " proposals");
+                    } else {
+                        failed("Preference error '" + e.getMessage() + "', proposals file " + written.size() + " lines");
+                    }
+                } finally {
+                    Files.deleteIfExists(preferenceFile);
+                }
+            } finally {
+                Files.deleteIfExists(proposals);
+            }
+        });
+    }
 }
@@ -0,0 +1,510 @@
+package utils.allocation;
+
+import constant.ApplicationStatus;
+import constant.DataFiles;
+import constant.UserType;
+import controller.ApplicationController;
+import controller.InternshipController;
+import model.Application;
+import model.Internship;
+import utils.csv.CsvHandler;
+import utils.csv.UserCsvHandler;
+import utils.metrics.MetricsRegistry;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Computes a cohort-wide stable matching of students to internships over the open applications,
+ * as an alternative to reps confirming placements one at a time.
+ *
+ * <p>Only PENDING and SUCCESSFUL applications of students without an accepted placement take part.
+ * An internship's available slots are its {@code numSlots} less the slots held by accepted
+ * placements and by withdrawal requests still awaiting a decision. Students order their
+ * applications by the preference ranks given (lowest first) and reps order their applicants by
+ * the ranking given; applications without a rank come after the ranked ones, in application
+ * order. Ranks for internships a student did not apply for are ignored.
+ *
+ * <p>The matching uses student-proposing deferred acceptance in rounds. In each round every free
+ * student proposes to their next preference; the proposals are encoded as
+ * {@code internship << 32 | applicant rank}, sorted in parallel, and each internship merges its
+ * run of proposals with the students it holds in parallel, keeping the best up to its slots. The
+ * rejected students propose again in the next round. The result is the student-optimal stable
+ * matching, the same for any thread count. A parallel scan then counts blocking pairs to confirm it.
+ *
+ * <p>The outcome is a list of proposed transitions for staff to review, not applied: the matched
+ * application becomes SUCCESSFUL and every other open application of the student UNSUCCESSFUL.
+ * Each student thus holds at most one offer, so accepting it withdraws nothing.
+ *
+ * <p>Usage: {@code java -cp bin utils.allocation.AllocationEngine [--preferences=file]
+ * [--rankings=file] [--out=file] [--threads=n]}
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class AllocationEngine {
+    /** Registry receiving allocation metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    /** Rank of applications not listed in the preference or ranking file */
+    private static final int UNRANKED = Integer.MAX_VALUE;
+
+    private final int parallelism;
+    private Map<String, Map<Integer, Integer>> preferences = Collections.emptyMap();
+    private Map<Integer, Map<String, Integer>> rankings = Collections.emptyMap();
+
+    /**
+     * Creates an engine.
+     * @param parallelism number of worker threads
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public AllocationEngine(int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("Parallelism must be positive.");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates an engine using one worker per processor.
+     */
+    public AllocationEngine() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Sets the students' preferences.
+     * @param preferences rank of each internship ID per student ID, lower is preferred; null for application order
+     */
+    public void setPreferences(Map<String, Map<Integer, Integer>> preferences) {
+        this.preferences = preferences == null ? Collections.emptyMap() : preferences;
+    }
+
+    /**
+     * Sets the reps' rankings of their applicants.
+     * @param rankings rank of each student ID per internship ID, lower is preferred; null for application order
+     */
+    public void setRankings(Map<Integer, Map<String, Integer>> rankings) {
+        this.rankings = rankings == null ? Collections.emptyMap() : rankings;
+    }
+
+    /**
+     * Computes the stable matching over the given applications.
+     * @param applications all applications of the cohort, including closed ones
+     * @return the proposed transitions and the run's metrics
+     */
+    public AllocationResult allocate(List<Application> applications) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            // Parallel streams started from a pool task run on that pool
+            AllocationResult result = metrics.time("AllocationEngine.allocate",
+                    () -> pool.submit(() -> new Run(applications).execute()).join());
+            metrics.counter("AllocationEngine.proposals").add(result.getProposals());
+            metrics.counter("AllocationEngine.blockingPairs").add(result.getBlockingPairs());
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * State of one allocation, with students, internships and applications numbered from 0.
+     */
+    private final class Run {
+        private final List<Application> source;
+        private Application[] apps;
+        private int[] appStudent;
+        private int[] appInternship;
+        private String[] studentIds;
+        private int[] capacity;
+        /** Slots of each internship, and those already held by placements outside the matching */
+        private int[] numSlots;
+        private int[] heldOutside;
+        /** Applications grouped by student, each group in preference order */
+        private int[] studentStart;
+        private int[] studentApps;
+        /** Applications grouped by internship, each group in ranking order */
+        private int[] internshipStart;
+        private int[] internshipApps;
+        /** Position of each application in its internship's group */
+        private int[] rankAt;
+        /** Positions of the held applications per internship, best first */
+        private int[][] held;
+        private int[] heldCount;
+
+        Run(List<Application> source) {
+            this.source = source;
+        }
+
+        AllocationResult execute() {
+            long start = System.nanoTime();
+            preprocess();
+            long preprocessed = System.nanoTime();
+            int[] next = new int[studentIds.length];
+            int[] free = IntStream.range(0, studentIds.length).toArray();
+            int rounds = 0;
+            long proposals = 0;
+            while (true) {
+                long[] keys = Arrays.stream(free).parallel()
+                        .filter(s -> next[s] < studentStart[s + 1] - studentStart[s])
+                        .mapToLong(s -> {
+                            int app = studentApps[studentStart[s] + next[s]++];
+                            return (long) appInternship[app] << 32 | rankAt[app];
+                        })
+                        .toArray();
+                if (keys.length == 0) break;
+                rounds++;
+                proposals += keys.length;
+                Arrays.parallelSort(keys);
+                int[] runStart = runs(keys);
+                free = IntStream.range(0, runStart.length - 1).parallel()
+                        .flatMap(r -> IntStream.of(admit(keys, runStart[r], runStart[r + 1])))
+                        .toArray();
+            }
+            long matchedAt = System.nanoTime();
+
+            int[] matchedApp = new int[studentIds.length];
+            Arrays.fill(matchedApp, -1);
+            IntStream.range(0, capacity.length).parallel().forEach(i -> {
+                for (int k = 0; k < heldCount[i]; k++) {
+                    int app = internshipApps[internshipStart[i] + held[i][k]];
+                    matchedApp[appStudent[app]] = app;
+                }
+            });
+            long blockingPairs = IntStream.range(0, studentIds.length).parallel()
+                    .mapToLong(s -> blockingPairs(s, matchedApp[s])).sum();
+            // Checked from the proposed offers against the internships' own slots, not the held arrays
+            int[] offered = new int[capacity.length];
+            for (int app : matchedApp) {
+                if (app >= 0) offered[appInternship[app]]++;
+            }
+            int overfilled = (int) IntStream.range(0, capacity.length).parallel()
+                    .filter(i -> offered[i] + heldOutside[i] > numSlots[i]).count();
+            int[] position = IntStream.range(0, studentIds.length).parallel().map(s -> {
+                for (int k = studentStart[s]; k < studentStart[s + 1]; k++) {
+                    if (studentApps[k] == matchedApp[s]) return k - studentStart[s];
+                }
+                return -1;
+            }).toArray();
+            int matched = (int) Arrays.stream(position).parallel().filter(p -> p >= 0).count();
+            int firstChoice = (int) Arrays.stream(position).parallel().filter(p -> p == 0).count();
+            long rankSum = Arrays.stream(position).parallel().filter(p -> p >= 0).asLongStream().map(p -> p + 1).sum();
+            long available = Arrays.stream(capacity).asLongStream().sum();
+            List<ProposedTransition> transitions = IntStream.range(0, apps.length).parallel()
+                    .mapToObj(a -> {
+                        ApplicationStatus proposed = matchedApp[appStudent[a]] == a
+                                ? ApplicationStatus.SUCCESSFUL : ApplicationStatus.UNSUCCESSFUL;
+                        return apps[a].getStatus() == proposed ? null
+                                : new ProposedTransition(apps[a].getId(), studentIds[appStudent[a]],
+                                        apps[a].getInternship().getID(), apps[a].getStatus(), proposed);
+                    })
+                    .filter(t -> t != null)
+                    .sorted(Comparator.comparingInt(ProposedTransition::getApplicationId))
+                    .collect(Collectors.toList());
+            long verified = System.nanoTime();
+
+            return new AllocationResult(studentIds.length, capacity.length, apps.length, matched, firstChoice,
+                    rankSum, matched, available, rounds, proposals, blockingPairs, overfilled,
+                    preprocessed - start, matchedAt - preprocessed, verified - matchedAt, parallelism, transitions);
+        }
+
+        /**
+         * Snapshots the open applications, numbers students and internships, and orders each
+         * student's applications by preference and each internship's by ranking.
+         */
+        private void preprocess() {
+            Set<String> placed = new HashSet<>();
+            Map<Integer, Integer> heldElsewhere = new HashMap<>();
+            for (Application application : source) {
+                if (application.getInternship() == null || application.getApplicant() == null) continue;
+                ApplicationStatus status = application.getStatus();
+                ApplicationStatus previous = application.getPreviousStatus();
+                boolean requested = status == ApplicationStatus.WITHDRAWAL_REQUESTED;
+                if (status == ApplicationStatus.ACCEPTED || requested && previous == ApplicationStatus.ACCEPTED) {
+                    placed.add(application.getApplicant().getUserID());
+                }
+                if (status == ApplicationStatus.ACCEPTED || requested
+                        && (previous == ApplicationStatus.ACCEPTED || previous == ApplicationStatus.SUCCESSFUL)) {
+                    heldElsewhere.merge(application.getInternship().getID(), 1, Integer::sum);
+                }
+            }
+            List<Application> open = new ArrayList<>();
+            for (Application application : source) {
+                if (application.getInternship() == null || application.getApplicant() == null) continue;
+                ApplicationStatus status = application.getStatus();
+                if ((status == ApplicationStatus.PENDING || status == ApplicationStatus.SUCCESSFUL)
+                        && !placed.contains(application.getApplicant().getUserID())) {
+                    open.add(application);
+                }
+            }
+            apps = open.toArray(new Application[0]);
+            int n = apps.length;
+            appStudent = new int[n];
+            appInternship = new int[n];
+            Map<String, Integer> studentIndex = new HashMap<>();
+            Map<Integer, Integer> internshipIndex = new HashMap<>();
+            List<Internship> internships = new ArrayList<>();
+            for (int a = 0; a < n; a++) {
+                appStudent[a] = studentIndex.computeIfAbsent(apps[a].getApplicant().getUserID(), id -> studentIndex.size());
+                Internship internship = apps[a].getInternship();
+                Integer index = internshipIndex.get(internship.getID());
+                if (index == null) {
+                    index = internships.size();
+                    internshipIndex.put(internship.getID(), index);
+                    internships.add(internship);
+                }
+                appInternship[a] = index;
+            }
+            studentIds = new String[studentIndex.size()];
+            studentIndex.forEach((id, s) -> studentIds[s] = id);
+            capacity = new int[internships.size()];
+            numSlots = new int[capacity.length];
+            heldOutside = new int[capacity.length];
+            for (int i = 0; i < capacity.length; i++) {
+                Internship internship = internships.get(i);
+                numSlots[i] = internship.getNumSlots();
+                heldOutside[i] = heldElsewhere.getOrDefault(internship.getID(), 0);
+                capacity[i] = Math.max(0, numSlots[i] - heldOutside[i]);
+            }
+
+            // Order of application date then ID, the tie-break for unranked applications
+            Integer[] byDate = new Integer[n];
+            for (int a = 0; a < n; a++) byDate[a] = a;
+            Arrays.parallelSort(byDate, Comparator.<Integer, LocalDateTime>comparing(a -> apps[a].getDateApplied(),
+                    Comparator.nullsLast(Comparator.naturalOrder())).thenComparingInt(a -> apps[a].getId()));
+            int[] tieBreak = new int[n];
+            for (int k = 0; k < n; k++) tieBreak[byDate[k]] = k;
+            int[] preference = IntStream.range(0, n).parallel().map(a -> {
+                Map<Integer, Integer> ranks = preferences.get(studentIds[appStudent[a]]);
+                Integer rank = ranks == null ? null : ranks.get(apps[a].getInternship().getID());
+                return rank == null ? UNRANKED : rank;
+            }).toArray();
+            int[] ranking = IntStream.range(0, n).parallel().map(a -> {
+                Map<String, Integer> ranks = rankings.get(apps[a].getInternship().getID());
+                Integer rank = ranks == null ? null : ranks.get(studentIds[appStudent[a]]);
+                return rank == null ? UNRANKED : rank;
+            }).toArray();
+
+            studentStart = new int[studentIds.length + 1];
+            studentApps = group(appStudent, studentStart);
+            sortGroups(studentStart, studentApps, preference, tieBreak, byDate);
+            internshipStart = new int[capacity.length + 1];
+            internshipApps = group(appInternship, internshipStart);
+            sortGroups(internshipStart, internshipApps, ranking, tieBreak, byDate);
+            rankAt = new int[n];
+            IntStream.range(0, capacity.length).parallel().forEach(i -> {
+                for (int k = internshipStart[i]; k < internshipStart[i + 1]; k++) {
+                    rankAt[internshipApps[k]] = k - internshipStart[i];
+                }
+            });
+            held = new int[capacity.length][];
+            heldCount = new int[capacity.length];
+            for (int i = 0; i < capacity.length; i++) {
+                held[i] = new int[Math.min(capacity[i], internshipStart[i + 1] - internshipStart[i])];
+            }
+        }
+
+        /**
+         * Merges an internship's proposals, sorted by rank, with the applications it holds and
+         * keeps the best up to its slots.
+         * @return the students rejected, including any previously held
+         */
+        private int[] admit(long[] keys, int from, int to) {
+            int i = (int) (keys[from] >>> 32);
+            int[] kept = held[i];
+            int count = heldCount[i];
+            int[] merged = new int[count + to - from];
+            int h = 0;
+            int p = from;
+            for (int m = 0; m < merged.length; m++) {
+                int proposal = p < to ? (int) keys[p] : Integer.MAX_VALUE;
+                merged[m] = h < count && kept[h] < proposal ? kept[h++] : (int) keys[p++];
+            }
+            int keep = Math.min(kept.length, merged.length);
+            System.arraycopy(merged, 0, kept, 0, keep);
+            heldCount[i] = keep;
+            int[] rejected = new int[merged.length - keep];
+            for (int m = keep; m < merged.length; m++) {
+                rejected[m - keep] = appStudent[internshipApps[internshipStart[i] + merged[m]]];
+            }
+            return rejected;
+        }
+
+        /**
+         * Counts the internships a student prefers to their match that have a free slot or hold
+         * an applicant ranked below the student.
+         */
+        private long blockingPairs(int s, int matchedApp) {
+            long count = 0;
+            for (int k = studentStart[s]; k < studentStart[s + 1] && studentApps[k] != matchedApp; k++) {
+                int app = studentApps[k];
+                int i = appInternship[app];
+                if (heldCount[i] < capacity[i] || heldCount[i] > 0 && held[i][heldCount[i] - 1] > rankAt[app]) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Groups indices by key with a counting sort, keeping index order within a group.
+     * @param keys key of each index, from 0 to {@code start.length - 2}
+     * @param start filled with the start of each group, plus the total at the end
+     * @return the indices grouped by key
+     */
+    private static int[] group(int[] keys, int[] start) {
+        for (int key : keys) start[key + 1]++;
+        for (int g = 1; g < start.length; g++) start[g] += start[g - 1];
+        int[] fill = Arrays.copyOf(start, start.length - 1);
+        int[] members = new int[keys.length];
+        for (int index = 0; index < keys.length; index++) members[fill[keys[index]]++] = index;
+        return members;
+    }
+
+    /**
+     * Sorts every group by rank then tie-break, in parallel across groups. Each member is
+     * encoded as {@code rank << 32 | tie-break} so a group sorts as primitive longs.
+     */
+    private static void sortGroups(int[] start, int[] members, int[] rank, int[] tieBreak, Integer[] byTieBreak) {
+        IntStream.range(0, start.length - 1).parallel().forEach(g -> {
+            int from = start[g];
+            int size = start[g + 1] - from;
+            if (size < 2) return;
+            long[] keys = new long[size];
+            for (int k = 0; k < size; k++) {
+                int member = members[from + k];
+                keys[k] = (long) rank[member] << 32 | tieBreak[member];
+            }
+            Arrays.sort(keys);
+            for (int k = 0; k < size; k++) members[from + k] = byTieBreak[(int) keys[k]];
+        });
+    }
+
+    /**
+     * Finds where each internship's proposals start in the sorted keys.
+     * @return the run starts, plus the number of keys at the end
+     */
+    private static int[] runs(long[] keys) {
+        int[] starts = new int[keys.length + 1];
+        int count = 0;
+        for (int k = 0; k < keys.length; k++) {
+            if (k == 0 || keys[k] >>> 32 != keys[k - 1] >>> 32) starts[count++] = k;
+        }
+        starts[count++] = keys.length;
+        return Arrays.copyOf(starts, count);
+    }
+
+    /**
+     * Reads students' preferences from CSV rows {@code StudentID,InternshipID,Rank}; a header row
+     * starting with {@code StudentID} and blank lines are skipped.
+     * @param file the CSV file
+     * @return rank of each internship ID per student ID
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a row is malformed
+     */
+    public static Map<String, Map<Integer, Integer>> readPreferences(Path file) throws IOException {
+        Map<String, Map<Integer, Integer>> preferences = new HashMap<>();
+        readRanks(file, "StudentID", (fields, rank) -> preferences
+                .computeIfAbsent(fields[0].trim(), s -> new HashMap<>())
+                .put(Integer.parseInt(fields[1].trim()), rank));
+        return preferences;
+    }
+
+    /**
+     * Reads reps' rankings of their applicants from CSV rows {@code InternshipID,StudentID,Rank};
+     * a header row starting with {@code InternshipID} and blank lines are skipped.
+     * @param file the CSV file
+     * @return rank of each student ID per internship ID
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a row is malformed
+     */
+    public static Map<Integer, Map<String, Integer>> readRankings(Path file) throws IOException {
+        Map<Integer, Map<String, Integer>> rankings = new HashMap<>();
+        readRanks(file, "InternshipID", (fields, rank) -> rankings
+                .computeIfAbsent(Integer.parseInt(fields[0].trim()), i -> new HashMap<>())
+                .put(fields[1].trim(), rank));
+        return rankings;
+    }
+
+    /**
+     * Receives one row of a rank file.
+     */
+    private interface RankRow {
+        void accept(String[] fields, int rank);
+    }
+
+    private static void readRanks(Path file, String header, RankRow row) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                if (line.trim().isEmpty()) continue;
+                if (number == 1 && line.trim().regionMatches(true, 0, header, 0, header.length())) continue;
+                String[] fields = CsvHandler.splitCsvLine(line);
+                try {
+                    if (fields.length != 3) throw new IllegalArgumentException("expected 3 columns");
+                    int rank = Integer.parseInt(fields[2].trim());
+                    if (rank < 1) throw new IllegalArgumentException("rank must be at least 1");
+                    row.accept(fields, rank);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(file.getFileName() + " line " + number + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the data files, computes the allocation and writes the proposed transitions.
+     * Usage: {@code java -cp bin utils.allocation.AllocationEngine [--preferences=file] [--rankings=file]
+     * [--out=file] [--threads=n]}
+     *
+     * @param args optional preference and ranking files, output file (default allocation_proposals.csv)
+     *             and thread count (default one per processor)
+     * @throws IOException if the data cannot be loaded or the proposals cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                System.out.println("Usage: java -cp bin utils.allocation.AllocationEngine [--preferences=file]"
+                        + " [--rankings=file] [--out=file] [--threads=n]");
+                return;
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        int threads = options.containsKey("threads") ? Integer.parseInt(options.get("threads"))
+                : Runtime.getRuntime().availableProcessors();
+        UserCsvHandler users = UserCsvHandler.getInstance();
+        users.loadUsersFromCsv(DataFiles.students(), UserType.STUDENT, 6);
+        users.loadUsersFromCsv(DataFiles.staff(), UserType.STAFF, 6);
+        users.loadUsersFromCsv(DataFiles.companyRepresentatives(), UserType.COMPANY_REPRESENTATIVE, 8);
+        new ApplicationController().loadApplicationsFromCsv(new InternshipController());
+
+        AllocationEngine engine = new AllocationEngine(threads);
+        if (options.containsKey("preferences")) engine.setPreferences(readPreferences(Paths.get(options.get("preferences"))));
+        if (options.containsKey("rankings")) engine.setRankings(readRankings(Paths.get(options.get("rankings"))));
+        AllocationResult result = engine.allocate(Application.getAllApplications());
+        Path out = Paths.get(options.getOrDefault("out", "allocation_proposals.csv"));
+        result.writeTransitions(out);
+        result.report().forEach(System.out::println);
+        System.out.println("Proposals written to " + out);
+    }
+}
@@ -0,0 +1,171 @@
+package utils.allocation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of one allocation run: the proposed status transitions together with the size of
+ * the cohort, the quality and stability of the matching, and the time spent in each phase.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class AllocationResult {
+    private final int students;
+    private final int internships;
+    private final int applications;
+    private final int matched;
+    private final int firstChoice;
+    private final long rankSum;
+    private final long slotsFilled;
+    private final long slotsAvailable;
+    private final int rounds;
+    private final long proposals;
+    private final long blockingPairs;
+    private final int overfilled;
+    private final long preprocessNanos;
+    private final long matchNanos;
+    private final long verifyNanos;
+    private final int parallelism;
+    private final List<ProposedTransition> transitions;
+
+    AllocationResult(int students, int internships, int applications, int matched, int firstChoice, long rankSum,
+                     long slotsFilled, long slotsAvailable, int rounds, long proposals, long blockingPairs,
+                     int overfilled, long preprocessNanos, long matchNanos, long verifyNanos, int parallelism,
+                     List<ProposedTransition> transitions) {
+        this.students = students;
+        this.internships = internships;
+        this.applications = applications;
+        this.matched = matched;
+        this.firstChoice = firstChoice;
+        this.rankSum = rankSum;
+        this.slotsFilled = slotsFilled;
+        this.slotsAvailable = slotsAvailable;
+        this.rounds = rounds;
+        this.proposals = proposals;
+        this.blockingPairs = blockingPairs;
+        this.overfilled = overfilled;
+        this.preprocessNanos = preprocessNanos;
+        this.matchNanos = matchNanos;
+        this.verifyNanos = verifyNanos;
+        this.parallelism = parallelism;
+        this.transitions = transitions;
+    }
+
+    /** @return number of unplaced students with at least one open application */
+    public int getStudents() { return students; }
+
+    /** @return number of internships those students applied for */
+    public int getInternships() { return internships; }
+
+    /** @return number of open applications considered */
+    public int getApplications() { return applications; }
+
+    /** @return number of students matched to an internship */
+    public int getMatched() { return matched; }
+
+    /** @return number of students left without a match */
+    public int getUnmatched() { return students - matched; }
+
+    /** @return number of matched students who got their first preference */
+    public int getFirstChoice() { return firstChoice; }
+
+    /** @return average preference position of the matched internship, from 1, or 0 if nobody matched */
+    public double getAverageRank() { return matched == 0 ? 0 : (double) rankSum / matched; }
+
+    /** @return slots given to matched students */
+    public long getSlotsFilled() { return slotsFilled; }
+
+    /** @return slots open to the allocation, excluding slots held by accepted placements */
+    public long getSlotsAvailable() { return slotsAvailable; }
+
+    /** @return number of proposal rounds */
+    public int getRounds() { return rounds; }
+
+    /** @return total proposals made by students */
+    public long getProposals() { return proposals; }
+
+    /**
+     * Gets the number of blocking pairs: a student and an internship they applied for and prefer
+     * to their match, where the internship has a free slot or ranks the student above one of its matches.
+     * @return the count, 0 for a stable matching
+     */
+    public long getBlockingPairs() { return blockingPairs; }
+
+    /** @return number of internships matched beyond their available slots, 0 for a valid matching */
+    public int getOverfilled() { return overfilled; }
+
+    /** @return true if the matching has no blocking pairs and respects every internship's slots */
+    public boolean isStable() { return blockingPairs == 0 && overfilled == 0; }
+
+    /** @return time spent snapshotting and ordering preferences, in nanoseconds */
+    public long getPreprocessNanos() { return preprocessNanos; }
+
+    /** @return time spent in the proposal rounds, in nanoseconds */
+    public long getMatchNanos() { return matchNanos; }
+
+    /** @return time spent checking stability and building proposals, in nanoseconds */
+    public long getVerifyNanos() { return verifyNanos; }
+
+    /** @return number of worker threads used */
+    public int getParallelism() { return parallelism; }
+
+    /**
+     * Gets the proposed status changes in application ID order; applications whose status
+     * would not change are omitted.
+     * @return the proposals
+     */
+    public List<ProposedTransition> getTransitions() {
+        return Collections.unmodifiableList(transitions);
+    }
+
+    /** @return one-line summary */
+    public String summary() {
+        return String.format("Matched %d of %d students to %d internships in %d rounds, %s, in %.1f ms on %d threads",
+                matched, students, internships, rounds, isStable() ? "stable" : "NOT stable",
+                (preprocessNanos + matchNanos + verifyNanos) / 1e6, parallelism);
+    }
+
+    /**
+     * Formats the run's metrics for display.
+     * @return the summary followed by one line per metric
+     */
+    public List<String> report() {
+        List<String> lines = new ArrayList<>();
+        lines.add(summary());
+        lines.add(String.format("Applications considered: %d, proposals: %d", applications, proposals));
+        lines.add(String.format("Unmatched students: %d", getUnmatched()));
+        lines.add(String.format("First choice: %d (%.1f%% of matched), average preference: %.2f",
+                firstChoice, matched == 0 ? 0.0 : 100.0 * firstChoice / matched, getAverageRank()));
+        lines.add(String.format("Slots filled: %d of %d available", slotsFilled, slotsAvailable));
+        lines.add(String.format("Blocking pairs: %d, overfilled internships: %d", blockingPairs, overfilled));
+        lines.add(String.format("Time: preprocess %.1f ms, match %.1f ms, verify %.1f ms",
+                preprocessNanos / 1e6, matchNanos / 1e6, verifyNanos / 1e6));
+        lines.add(String.format("Proposed transitions: %d", transitions.size()));
+        return lines;
+    }
+
+    /**
+     * Writes the proposed transitions as CSV with a {@link ProposedTransition#HEADER} row.
+     * @param file the file to write; its directory is created if missing
+     * @throws IOException if the file cannot be written
+     */
+    public void writeTransitions(Path file) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write(ProposedTransition.HEADER);
+            out.newLine();
+            for (ProposedTransition transition : transitions) {
+                out.write(transition.toCsvLine());
+                out.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package utils.allocation;
+
+import constant.ApplicationStatus;
+
+/**
+ * A status change proposed by an allocation run for one application. Proposals are only
+ * written for review; they are not applied to the application.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class ProposedTransition {
+    /** Header of the proposals file */
+    public static final String HEADER = "ApplicationID,StudentID,InternshipID,CurrentStatus,ProposedStatus";
+
+    private final int applicationId;
+    private final String studentId;
+    private final int internshipId;
+    private final ApplicationStatus currentStatus;
+    private final ApplicationStatus proposedStatus;
+
+    ProposedTransition(int applicationId, String studentId, int internshipId,
+                       ApplicationStatus currentStatus, ApplicationStatus proposedStatus) {
+        this.applicationId = applicationId;
+        this.studentId = studentId;
+        this.internshipId = internshipId;
+        this.currentStatus = currentStatus;
+        this.proposedStatus = proposedStatus;
+    }
+
+    /** @return ID of the application */
+    public int getApplicationId() { return applicationId; }
+
+    /** @return user ID of the applicant */
+    public String getStudentId() { return studentId; }
+
+    /** @return ID of the internship applied for */
+    public int getInternshipId() { return internshipId; }
+
+    /** @return status of the application when the allocation ran */
+    public ApplicationStatus getCurrentStatus() { return currentStatus; }
+
+    /** @return status the allocation proposes */
+    public ApplicationStatus getProposedStatus() { return proposedStatus; }
+
+    /**
+     * Formats the proposal as a row of the proposals file.
+     * @return the columns of {@link #HEADER}, comma-separated
+     */
+    public String toCsvLine() {
+        return applicationId + "," + studentId + "," + internshipId + "," + currentStatus + "," + proposedStatus;
+    }
+}
@@ -0,0 +1,15 @@
+/**
+ * Cohort-wide allocation of students to internships.
+ *
+ * <ul>
+ *   <li>{@link utils.allocation.AllocationEngine} - Stable matching over the open applications from
+ *       student preferences and rep rankings, computed in parallel rounds of deferred acceptance</li>
+ *   <li>{@link utils.allocation.AllocationResult} - Runtime, quality and stability metrics of a run</li>
+ *   <li>{@link utils.allocation.ProposedTransition} - One application's proposed status change, for review</li>
+ * </ul>
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+package utils.allocation;
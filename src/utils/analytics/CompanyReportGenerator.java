@@ -0,0 +1,301 @@
+package utils.analytics;
+
+import constant.ApplicationStatus;
+import constant.DataFiles;
+import constant.UserType;
+import controller.ApplicationController;
+import controller.InternshipController;
+import model.Application;
+import model.Internship;
+import utils.csv.UserCsvHandler;
+import utils.formatter.ApplicationFormatter;
+import utils.formatter.InternshipFormatter;
+import utils.metrics.MetricsRegistry;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Writes an end-of-cycle report for every company, one file per company, in parallel.
+ *
+ * <p>Each report lists the company's postings, its applications with their applicants, the
+ * students who accepted a placement, and withdrawals with their reasons, rendered with the same
+ * row formats as the console views. The internships are grouped by company on the calling thread,
+ * copying each internship's application list, and the companies are then split recursively across
+ * a fork-join pool. Each leaf renders its companies and streams each report straight to its file,
+ * so no report is built in memory as a whole.
+ *
+ * <p>Rows are rendered without the shared render cache: a bulk run would evict the interactive
+ * views' rows, and every worker would contend on the cache lock.
+ *
+ * <p>Usage: {@code java -cp bin utils.analytics.CompanyReportGenerator <output dir> [threads]}
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class CompanyReportGenerator {
+    /** Registry receiving report metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    /** Separator between report sections */
+    private static final String RULE = "═".repeat(80);
+
+    private final Path directory;
+    private final int parallelism;
+
+    /**
+     * Summary of one run.
+     */
+    public static final class Result {
+        private final int companies;
+        private final int internships;
+        private final long bytes;
+        private final long elapsedNanos;
+        private final int parallelism;
+
+        Result(int companies, int internships, long bytes, long elapsedNanos, int parallelism) {
+            this.companies = companies;
+            this.internships = internships;
+            this.bytes = bytes;
+            this.elapsedNanos = elapsedNanos;
+            this.parallelism = parallelism;
+        }
+
+        /** @return number of reports written */
+        public int getCompanies() { return companies; }
+
+        /** @return number of internships covered */
+        public int getInternships() { return internships; }
+
+        /** @return total size of the reports in bytes */
+        public long getBytes() { return bytes; }
+
+        /** @return wall time of the run in nanoseconds */
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        /** @return number of worker threads used */
+        public int getParallelism() { return parallelism; }
+
+        /** @return one-line summary */
+        public String summary() {
+            return String.format("%d company reports (%d internships, %d KB) in %.1f ms on %d threads",
+                    companies, internships, bytes / 1024, elapsedNanos / 1e6, parallelism);
+        }
+    }
+
+    /**
+     * One company's share of the work, snapshotted on the calling thread.
+     */
+    private static final class CompanyWork {
+        final String company;
+        final Path file;
+        final List<Internship> internships = new ArrayList<>();
+        final List<Application> applications = new ArrayList<>();
+
+        CompanyWork(String company, Path file) {
+            this.company = company;
+            this.file = file;
+        }
+    }
+
+    /**
+     * Creates a generator.
+     * @param directory directory to write the reports to; created if missing
+     * @param parallelism number of worker threads
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public CompanyReportGenerator(Path directory, int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("Parallelism must be positive.");
+        this.directory = directory;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates a generator using one worker per processor.
+     * @param directory directory to write the reports to; created if missing
+     */
+    public CompanyReportGenerator(Path directory) {
+        this(directory, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Writes a report for every company with at least one internship currently loaded.
+     * @param progress called with (reports done, total) after each report, from worker threads; may be null
+     * @return summary of the run
+     * @throws IOException if the directory or a report cannot be written
+     */
+    public Result generate(BiConsumer<Integer, Integer> progress) throws IOException {
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            List<CompanyWork> work = partition(Internship.getAllInternships());
+            AtomicInteger done = new AtomicInteger();
+            AtomicLong bytes = new AtomicLong();
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                // Split down to a few companies per task so large companies do not leave threads idle
+                int leafSize = Math.max(1, work.size() / (parallelism * 8));
+                pool.invoke(new ReportTask(work, 0, work.size(), leafSize, done, bytes, progress));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                pool.shutdown();
+            }
+            int internships = work.stream().mapToInt(w -> w.internships.size()).sum();
+            metrics.counter("CompanyReportGenerator.reports").add(work.size());
+            return new Result(work.size(), internships, bytes.get(), System.nanoTime() - start, parallelism);
+        } finally {
+            metrics.histogram("CompanyReportGenerator.generate").record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Groups internships and copies of their application lists by company, choosing a unique file per company.
+     */
+    private List<CompanyWork> partition(List<Internship> internships) {
+        Map<String, CompanyWork> byCompany = new LinkedHashMap<>();
+        Set<String> fileNames = new HashSet<>();
+        for (Internship internship : internships) {
+            String company = internship.getCompanyName() == null ? "(none)" : internship.getCompanyName();
+            CompanyWork work = byCompany.computeIfAbsent(company, c -> {
+                String base = c.replaceAll("[^A-Za-z0-9._-]+", "_");
+                String name = base;
+                for (int n = 2; !fileNames.add(name.toLowerCase()); n++) name = base + "-" + n;
+                return new CompanyWork(c, directory.resolve(name + ".txt"));
+            });
+            work.internships.add(internship);
+            work.applications.addAll(internship.getApplications());
+        }
+        return new ArrayList<>(byCompany.values());
+    }
+
+    /**
+     * Renders a range of companies, splitting it in half until it is small enough.
+     */
+    private static final class ReportTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<CompanyWork> work;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final AtomicInteger done;
+        private final AtomicLong bytes;
+        private final BiConsumer<Integer, Integer> progress;
+
+        ReportTask(List<CompanyWork> work, int from, int to, int leafSize, AtomicInteger done, AtomicLong bytes,
+                   BiConsumer<Integer, Integer> progress) {
+            this.work = work;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.done = done;
+            this.bytes = bytes;
+            this.progress = progress;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > leafSize) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ReportTask(work, from, mid, leafSize, done, bytes, progress),
+                        new ReportTask(work, mid, to, leafSize, done, bytes, progress));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                CompanyWork company = work.get(i);
+                try {
+                    write(company);
+                    bytes.addAndGet(Files.size(company.file));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot write report " + company.file, e);
+                }
+                int completed = done.incrementAndGet();
+                if (progress != null) progress.accept(completed, work.size());
+            }
+        }
+    }
+
+    /**
+     * Streams one company's report to its file.
+     */
+    private static void write(CompanyWork company) throws IOException {
+        List<Application> accepted = new ArrayList<>();
+        List<Application> withdrawals = new ArrayList<>();
+        Set<String> applicants = new HashSet<>();
+        for (Application application : company.applications) {
+            applicants.add(application.getApplicant().getUserID());
+            if (application.getStatus() == ApplicationStatus.ACCEPTED) accepted.add(application);
+            if (application.getStatus() == ApplicationStatus.WITHDRAWN
+                    || application.getStatus() == ApplicationStatus.WITHDRAWAL_REQUESTED) {
+                withdrawals.add(application);
+            }
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(company.file, StandardCharsets.UTF_8)) {
+            out.write("END-OF-CYCLE REPORT: " + company.company + "\n");
+            out.write("Generated: " + LocalDateTime.now().withNano(0) + "\n");
+            out.write(RULE + "\n");
+            out.write("\nPOSTINGS (" + company.internships.size() + ")\n");
+            for (Internship internship : company.internships) {
+                out.write("  " + InternshipFormatter.renderRow(internship, true) + "\n");
+            }
+            out.write("\nAPPLICATIONS (" + company.applications.size() + " from " + applicants.size() + " students)\n");
+            for (Application application : company.applications) {
+                out.write("  " + ApplicationFormatter.renderRow(application) + "\n");
+            }
+            out.write("\nACCEPTED STUDENTS (" + accepted.size() + ")\n");
+            for (Application application : accepted) {
+                out.write("  " + ApplicationFormatter.renderRow(application) + "\n");
+            }
+            out.write("\nWITHDRAWALS (" + withdrawals.size() + ")\n");
+            for (Application application : withdrawals) {
+                out.write("  " + ApplicationFormatter.renderRow(application) + "\n");
+            }
+            out.write("\n" + RULE + "\n");
+        }
+    }
+
+    /**
+     * Loads the data files and writes every company's report.
+     * Usage: {@code java -cp bin utils.analytics.CompanyReportGenerator <output dir> [threads]}
+     *
+     * @param args output directory and optional thread count (default one per processor)
+     * @throws IOException if the data cannot be loaded or a report cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: java -cp bin utils.analytics.CompanyReportGenerator <output dir> [threads]");
+            return;
+        }
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        UserCsvHandler users = UserCsvHandler.getInstance();
+        users.loadUsersFromCsv(DataFiles.students(), UserType.STUDENT, 6);
+        users.loadUsersFromCsv(DataFiles.staff(), UserType.STAFF, 6);
+        users.loadUsersFromCsv(DataFiles.companyRepresentatives(), UserType.COMPANY_REPRESENTATIVE, 8);
+        new ApplicationController().loadApplicationsFromCsv(new InternshipController());
+
+        Result result = new CompanyReportGenerator(Paths.get(args[0]), threads).generate((done, total) -> {
+            if (done % Math.max(1, total / 20) == 0 || done.equals(total)) {
+                System.out.printf("\r  %d/%d reports", done, total);
+            }
+        });
+        System.out.println("\n" + result.summary());
+    }
+}
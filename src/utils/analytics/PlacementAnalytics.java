@@ -0,0 +1,357 @@
+package utils.analytics;
+
+import constant.ApplicationStatus;
+import constant.DataFiles;
+import model.Application;
+import model.Internship;
+import utils.event.ApplicationChanged;
+import utils.event.EventBus;
+import utils.event.InternshipChanged;
+import utils.metrics.MetricsRegistry;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Placement figures per company, major, level and internship, maintained incrementally.
+ *
+ * <p>The first report counts every internship and application once. After that the aggregates are
+ * updated from events: each {@link ApplicationChanged} moves one application from its old status to
+ * its new one in its internship's and groups' tallies, and each {@link InternshipChanged} marks the
+ * internship for a re-read of its company, major, level and slots before the next report. CSV
+ * reloads publish events only for rows that changed, so a report costs the number of groups plus
+ * the number of changes since the last one, never the number of applications.
+ *
+ * <p>Counts are by current status, so an application awaiting a withdrawal decision is counted as
+ * WITHDRAWAL_REQUESTED until staff decide. The aggregates are rebuilt when the data directory changes.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class PlacementAnalytics {
+    /** Singleton instance */
+    private static final PlacementAnalytics INSTANCE = new PlacementAnalytics();
+    /** Registry receiving rebuild metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    /** Number of application statuses */
+    private static final int STATUSES = ApplicationStatus.values().length;
+
+    /**
+     * How internships are grouped in a report.
+     */
+    public enum Dimension { COMPANY, MAJOR, LEVEL, INTERNSHIP }
+
+    /**
+     * Running totals for one group.
+     */
+    private static final class Tally {
+        final String label;
+        final long[] byStatus = new long[STATUSES];
+        long internships;
+        long slots;
+        long filled;
+
+        Tally(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * What the aggregates currently hold for one internship.
+     */
+    private static final class Tracked {
+        /** Group label per dimension; null until the internship has been read */
+        String[] labels;
+        long slots;
+        long filled;
+        final long[] byStatus = new long[STATUSES];
+
+        boolean hasApplications() {
+            for (long count : byStatus) if (count != 0) return true;
+            return false;
+        }
+    }
+
+    /**
+     * What the aggregates currently hold for one application.
+     */
+    private static final class Counted {
+        final int internshipId;
+        final ApplicationStatus status;
+
+        Counted(int internshipId, ApplicationStatus status) {
+            this.internshipId = internshipId;
+            this.status = status;
+        }
+    }
+
+    private final Map<Dimension, Map<String, Tally>> groups = new EnumMap<>(Dimension.class);
+    private final Map<Integer, Tracked> internships = new HashMap<>();
+    private final Map<Integer, Counted> applications = new HashMap<>();
+    /** Internships changed since the last report */
+    private final Set<Integer> dirty = ConcurrentHashMap.newKeySet();
+    /** Data directory the aggregates were built from; null until the first report */
+    private volatile String builtFrom;
+
+    private PlacementAnalytics() {
+        // Kept in report order, so reports need no sorting
+        for (Dimension dimension : Dimension.values()) {
+            groups.put(dimension, new TreeMap<>(dimension == Dimension.INTERNSHIP
+                    ? Comparator.comparingInt(PlacementAnalytics::leadingId).thenComparing(Comparator.naturalOrder())
+                    : Comparator.<String>naturalOrder()));
+        }
+        EventBus bus = EventBus.getInstance();
+        bus.subscribe(ApplicationChanged.class, this::applicationChanged);
+        bus.subscribe(InternshipChanged.class, e -> {
+            if (builtFrom != null) dirty.add(e.getInternshipId());
+        });
+    }
+
+    /**
+     * Get singleton instance.
+     * @return the singleton instance
+     */
+    public static PlacementAnalytics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the figures for every group of a dimension, ordered by group.
+     * @param dimension how to group internships
+     * @return one entry per group with at least one internship or application
+     */
+    public synchronized List<PlacementStats> report(Dimension dimension) {
+        refresh();
+        List<PlacementStats> rows = new ArrayList<>();
+        for (Tally t : groups.get(dimension).values()) {
+            rows.add(new PlacementStats(t.label, t.internships, t.byStatus, t.slots, t.filled));
+        }
+        return rows;
+    }
+
+    /**
+     * Formats one dimension's report as a text table, one line per group plus a total line.
+     * @param dimension how to group internships
+     * @return the table
+     */
+    public String formatReport(Dimension dimension) {
+        List<PlacementStats> rows = report(dimension);
+        String format = "%-40s %6s %6s %6s %6s %6s %6s %6s %6s%n";
+        StringBuilder out = new StringBuilder(String.format(format, dimension.name(), "Intern", "Apps",
+                "Offer", "Accept", "Withdr", "Slots", "Filled", "Fill%"));
+        long[] total = new long[7];
+        for (PlacementStats row : rows) {
+            String group = row.getGroup().length() > 40 ? row.getGroup().substring(0, 37) + "..." : row.getGroup();
+            long[] values = {row.getInternships(), row.getApplications(), row.getSuccessful(), row.getAccepted(),
+                    row.getWithdrawn(), row.getSlots(), row.getFilledSlots()};
+            for (int i = 0; i < values.length; i++) total[i] += values[i];
+            out.append(String.format(format, group, values[0], values[1], values[2], values[3], values[4],
+                    values[5], values[6], String.format(Locale.ROOT, "%.1f", row.getFillRatio() * 100)));
+        }
+        out.append(String.format(format, "TOTAL (" + rows.size() + " groups)", total[0], total[1], total[2],
+                total[3], total[4], total[5], total[6],
+                String.format(Locale.ROOT, "%.1f", total[5] == 0 ? 0.0 : 100.0 * total[6] / total[5])));
+        return out.toString();
+    }
+
+    /**
+     * Writes every dimension's report as CSV.
+     * @param path file to write
+     * @return number of rows written, excluding the header
+     * @throws IOException if the file cannot be written
+     */
+    public int exportCsv(String path) throws IOException {
+        try (Writer writer = new FileWriter(path)) {
+            return exportCsv(writer);
+        }
+    }
+
+    /**
+     * Writes every dimension's report as CSV.
+     * @param writer destination; not closed
+     * @return number of rows written, excluding the header
+     * @throws IOException if writing fails
+     */
+    public int exportCsv(Writer writer) throws IOException {
+        StringBuilder header = new StringBuilder("Dimension,Group,Internships,Applications");
+        for (ApplicationStatus status : ApplicationStatus.values()) header.append(',').append(status.name());
+        writer.write(header.append(",Slots,FilledSlots,FillRatio\n").toString());
+        int count = 0;
+        for (Dimension dimension : Dimension.values()) {
+            for (PlacementStats row : report(dimension)) {
+                StringBuilder line = new StringBuilder(dimension.name()).append(',').append(quote(row.getGroup()))
+                        .append(',').append(row.getInternships()).append(',').append(row.getApplications());
+                for (ApplicationStatus status : ApplicationStatus.values()) line.append(',').append(row.getCount(status));
+                line.append(',').append(row.getSlots()).append(',').append(row.getFilledSlots())
+                        .append(',').append(String.format(Locale.ROOT, "%.4f", row.getFillRatio())).append('\n');
+                writer.write(line.toString());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Builds the aggregates if needed, then applies internship changes since the last report.
+     */
+    private void refresh() {
+        String directory = DataFiles.dataDirectory();
+        if (!directory.equals(builtFrom)) {
+            rebuild();
+            builtFrom = directory;
+            return;
+        }
+        for (Integer id : new ArrayList<>(dirty)) {
+            dirty.remove(id);
+            reread(id, Internship.findWithID(id));
+        }
+    }
+
+    /**
+     * Counts everything currently loaded from scratch.
+     */
+    private void rebuild() {
+        for (Map<String, Tally> byGroup : groups.values()) byGroup.clear();
+        internships.clear();
+        applications.clear();
+        dirty.clear();
+        for (Internship internship : Internship.getAllInternships()) reread(internship.getID(), internship);
+        for (Application application : Application.getAllApplications()) {
+            move(application.getId(), new Counted(application.getInternship().getID(), application.getStatus()));
+        }
+        metrics.counter("PlacementAnalytics.rebuilds").increment();
+    }
+
+    /**
+     * Bus listener: moves an application to its new status. Ignored until the first report.
+     */
+    private synchronized void applicationChanged(ApplicationChanged e) {
+        if (builtFrom == null) return;
+        move(e.getApplicationId(), e.getStatus() == null ? null : new Counted(e.getInternshipId(), e.getStatus()));
+    }
+
+    /**
+     * Replaces what is counted for one application.
+     * @param id the application ID
+     * @param now its internship and status, or null if it no longer exists
+     */
+    private void move(int id, Counted now) {
+        Counted before = now == null ? applications.remove(id) : applications.put(id, now);
+        if (before != null) count(before, -1);
+        if (now != null) count(now, 1);
+    }
+
+    /**
+     * Adds or removes one application in its internship's tally and groups.
+     */
+    private void count(Counted application, int delta) {
+        Tracked tracked = internships.computeIfAbsent(application.internshipId, id -> {
+            // Not read yet: counted in its groups once the internship is seen
+            dirty.add(id);
+            return new Tracked();
+        });
+        int status = application.status.ordinal();
+        tracked.byStatus[status] += delta;
+        if (tracked.labels == null) return;
+        for (Dimension dimension : Dimension.values()) {
+            groups.get(dimension).get(tracked.labels[dimension.ordinal()]).byStatus[status] += delta;
+        }
+    }
+
+    /**
+     * Re-reads an internship's groups and slots, moving its totals between groups if they changed.
+     * @param id the internship ID
+     * @param internship the internship, or null if it no longer exists
+     */
+    private void reread(int id, Internship internship) {
+        Tracked tracked = internships.get(id);
+        if (internship == null) {
+            if (tracked == null) return;
+            detach(tracked);
+            if (tracked.hasApplications()) {
+                // Applications outlived it; keep counting them, under no group
+                tracked.labels = null;
+            } else {
+                internships.remove(id);
+            }
+            return;
+        }
+        if (tracked == null) {
+            tracked = new Tracked();
+            internships.put(id, tracked);
+        }
+        String[] labels = {label(internship.getCompanyName()), label(internship.getPreferredMajor()),
+                label(internship.getLevel()).toUpperCase(), id + " " + internship.getTitle()};
+        if (Arrays.equals(labels, tracked.labels) && tracked.slots == internship.getNumSlots()
+                && tracked.filled == internship.getFilledSlots()) {
+            return;
+        }
+        detach(tracked);
+        tracked.labels = labels;
+        tracked.slots = internship.getNumSlots();
+        tracked.filled = internship.getFilledSlots();
+        attach(tracked);
+    }
+
+    /**
+     * Adds an internship's totals to its groups.
+     */
+    private void attach(Tracked tracked) {
+        for (Dimension dimension : Dimension.values()) {
+            Tally tally = groups.get(dimension).computeIfAbsent(tracked.labels[dimension.ordinal()], Tally::new);
+            tally.internships++;
+            tally.slots += tracked.slots;
+            tally.filled += tracked.filled;
+            for (int s = 0; s < STATUSES; s++) tally.byStatus[s] += tracked.byStatus[s];
+        }
+    }
+
+    /**
+     * Removes an internship's totals from its groups, dropping groups left empty.
+     */
+    private void detach(Tracked tracked) {
+        if (tracked.labels == null) return;
+        for (Dimension dimension : Dimension.values()) {
+            Map<String, Tally> byGroup = groups.get(dimension);
+            Tally tally = byGroup.get(tracked.labels[dimension.ordinal()]);
+            tally.internships--;
+            tally.slots -= tracked.slots;
+            tally.filled -= tracked.filled;
+            for (int s = 0; s < STATUSES; s++) tally.byStatus[s] -= tracked.byStatus[s];
+            if (tally.internships == 0) byGroup.remove(tally.label);
+        }
+    }
+
+    private static String label(String value) {
+        return value == null || value.trim().isEmpty() ? "(none)" : value.trim();
+    }
+
+    private static int leadingId(String label) {
+        int space = label.indexOf(' ');
+        try {
+            return Integer.parseInt(space < 0 ? label : label.substring(0, space));
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private static String quote(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
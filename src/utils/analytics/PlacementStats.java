@@ -0,0 +1,65 @@
+package utils.analytics;
+
+import constant.ApplicationStatus;
+
+/**
+ * Snapshot of the placement figures for one group of internships: one company, major, level or
+ * internship. Application counts are by current status.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class PlacementStats {
+    private final String group;
+    private final long internships;
+    private final long[] byStatus;
+    private final long slots;
+    private final long filledSlots;
+
+    PlacementStats(String group, long internships, long[] byStatus, long slots, long filledSlots) {
+        this.group = group;
+        this.internships = internships;
+        this.byStatus = byStatus.clone();
+        this.slots = slots;
+        this.filledSlots = filledSlots;
+    }
+
+    /** @return the company, major, level, or internship ID and title */
+    public String getGroup() { return group; }
+
+    /** @return number of internships in the group */
+    public long getInternships() { return internships; }
+
+    /**
+     * Gets the number of the group's applications currently in a status.
+     * @param status the status
+     * @return the count
+     */
+    public long getCount(ApplicationStatus status) { return byStatus[status.ordinal()]; }
+
+    /** @return number of applications in any status */
+    public long getApplications() {
+        long total = 0;
+        for (long count : byStatus) total += count;
+        return total;
+    }
+
+    /** @return applications with an offer the student has not yet accepted */
+    public long getSuccessful() { return getCount(ApplicationStatus.SUCCESSFUL); }
+
+    /** @return accepted placements */
+    public long getAccepted() { return getCount(ApplicationStatus.ACCEPTED); }
+
+    /** @return withdrawn applications */
+    public long getWithdrawn() { return getCount(ApplicationStatus.WITHDRAWN); }
+
+    /** @return total slots of the group's internships */
+    public long getSlots() { return slots; }
+
+    /** @return filled slots of the group's internships */
+    public long getFilledSlots() { return filledSlots; }
+
+    /** @return filled slots as a fraction of slots (0 if there are no slots) */
+    public double getFillRatio() { return slots == 0 ? 0 : (double) filledSlots / slots; }
+}
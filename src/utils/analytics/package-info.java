@@ -0,0 +1,16 @@
+/**
+ * Placement reporting for career center staff.
+ *
+ * <ul>
+ *   <li>{@link utils.analytics.PlacementAnalytics} - Application counts by status, slots and fill
+ *       ratios per company, major, level and internship, kept up to date from change events</li>
+ *   <li>{@link utils.analytics.PlacementStats} - One group's figures in a report</li>
+ *   <li>{@link utils.analytics.CompanyReportGenerator} - End-of-cycle report per company, written in
+ *       parallel on a fork-join pool</li>
+ * </ul>
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+package utils.analytics;
@@ -0,0 +1,177 @@
+package utils.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded least-recently-used cache with hit, miss and eviction counters.
+ * Backed by an access-ordered LinkedHashMap; all operations are synchronized on the cache,
+ * while the counters can be read without locking.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class LruCache<K, V> {
+    /** Maximum number of entries kept */
+    private final int capacity;
+    /** Access-ordered entries, eldest evicted first */
+    private final LinkedHashMap<K, V> entries;
+    /** Number of lookups answered from the cache */
+    private final AtomicLong hits = new AtomicLong();
+    /** Number of lookups that had to compute a value */
+    private final AtomicLong misses = new AtomicLong();
+    /** Number of entries dropped to respect the capacity */
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Creates a cache holding at most {@code capacity} entries.
+     *
+     * @param capacity The maximum number of entries (must be positive)
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public LruCache(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Cache capacity must be positive.");
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > LruCache.this.capacity) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Looks up a value, recording a hit or miss.
+     *
+     * @param key The key to look up
+     * @return The cached value, or null if absent
+     */
+    public synchronized V get(K key) {
+        V value = entries.get(key);
+        if (value != null) hits.incrementAndGet();
+        else misses.incrementAndGet();
+        return value;
+    }
+
+    /**
+     * Looks up a value that is only usable if it passes a validity check
+     * (for example a version match). Invalid entries count as misses.
+     *
+     * @param key The key to look up
+     * @param valid Predicate deciding whether a cached value is still current
+     * @return The cached value, or null if absent or no longer valid
+     */
+    public synchronized V getIfValid(K key, Predicate<V> valid) {
+        V value = entries.get(key);
+        if (value != null && valid.test(value)) {
+            hits.incrementAndGet();
+            return value;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Stores a value, evicting the least recently used entry if the cache is full.
+     *
+     * @param key The key
+     * @param value The value (null values are not cached)
+     */
+    public synchronized void put(K key, V value) {
+        if (value != null) entries.put(key, value);
+    }
+
+    /**
+     * Returns the cached value for a key, computing and caching it on a miss.
+     * The supplier runs outside the lock so slow renders do not block other readers.
+     *
+     * @param key The key to look up
+     * @param loader Supplier computing the value on a miss
+     * @return The cached or freshly computed value
+     */
+    public V getOrCompute(K key, Supplier<V> loader) {
+        V value = get(key);
+        if (value != null) return value;
+        value = loader.get();
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Removes every entry whose key matches the predicate.
+     *
+     * @param keyPredicate Predicate selecting keys to remove
+     * @return The number of entries removed
+     */
+    public synchronized int invalidateIf(Predicate<K> keyPredicate) {
+        int before = entries.size();
+        entries.keySet().removeIf(keyPredicate);
+        return before - entries.size();
+    }
+
+    /**
+     * Removes all entries. Counters are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Gets the number of entries currently cached.
+     * @return the current size
+     */
+    public synchronized int size() { return entries.size(); }
+
+    /**
+     * Gets the maximum number of entries.
+     * @return the capacity
+     */
+    public int getCapacity() { return capacity; }
+
+    /**
+     * Gets the number of cache hits.
+     * @return the hit count
+     */
+    public long getHits() { return hits.get(); }
+
+    /**
+     * Gets the number of cache misses.
+     * @return the miss count
+     */
+    public long getMisses() { return misses.get(); }
+
+    /**
+     * Gets the number of capacity evictions.
+     * @return the eviction count
+     */
+    public long getEvictions() { return evictions.get(); }
+
+    /**
+     * Gets the fraction of lookups served from the cache.
+     * @return hit ratio between 0 and 1 (0 if there were no lookups)
+     */
+    public double getHitRatio() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    /**
+     * Gets a one-line summary of the cache counters.
+     * @return summary string
+     */
+    public String getStatsSummary() {
+        return String.format("size=%d/%d hits=%d misses=%d evictions=%d hitRatio=%.2f",
+                size(), capacity, getHits(), getMisses(), getEvictions(), getHitRatio());
+    }
+}
@@ -0,0 +1,152 @@
+package utils.cache;
+
+import utils.metrics.MetricsRegistry;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Shared cache of rendered rows and detail pages for versioned entities.
+ * Entries are keyed by (entity kind, entity ID, view mode) and tagged with the entity's
+ * modification version. A lookup only hits when the stored version equals the entity's
+ * current version, so any mutation invalidates the cached rendering automatically and the
+ * stale entry is replaced in place on the next render.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class RenderCache {
+    /** Default number of renderings kept */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /** Singleton instance */
+    private static final RenderCache INSTANCE = new RenderCache(DEFAULT_CAPACITY);
+    
+    static {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.registerGauge("RenderCache.hits", INSTANCE::getHits);
+        metrics.registerGauge("RenderCache.misses", INSTANCE::getMisses);
+        metrics.registerGauge("RenderCache.evictions", INSTANCE::getEvictions);
+        metrics.registerGauge("RenderCache.size", INSTANCE::size);
+    }
+
+    /** Underlying LRU storage */
+    private final LruCache<Key, Entry> cache;
+
+    /**
+     * Creates a render cache with the given capacity.
+     * @param capacity maximum number of renderings kept
+     */
+    public RenderCache(int capacity) {
+        this.cache = new LruCache<>(capacity);
+    }
+
+    /**
+     * Get singleton instance.
+     * @return the singleton instance
+     */
+    public static RenderCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the cached rendering for an entity, rendering and caching it if the entity
+     * has changed since it was last rendered in this mode.
+     *
+     * @param <T> The rendered type (String for rows/details, String[] for table rows)
+     * @param kind The entity kind (e.g. "Internship")
+     * @param id The entity ID
+     * @param version The entity's current modification version
+     * @param mode The view mode the rendering belongs to
+     * @param renderer Supplier producing the rendering on a miss
+     * @return The cached or freshly produced rendering
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrRender(String kind, int id, long version, String mode, Supplier<T> renderer) {
+        Key key = new Key(kind, id, mode);
+        Entry entry = cache.getIfValid(key, e -> e.version == version);
+        if (entry != null) return (T) entry.value;
+        T value = renderer.get();
+        cache.put(key, new Entry(version, value));
+        return value;
+    }
+
+    /**
+     * Drops all cached renderings (e.g. after a full reload from CSV).
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Gets the number of renderings served from the cache.
+     * @return the hit count
+     */
+    public long getHits() { return cache.getHits(); }
+
+    /**
+     * Gets the number of renderings that had to be produced.
+     * @return the miss count
+     */
+    public long getMisses() { return cache.getMisses(); }
+
+    /**
+     * Gets the number of renderings evicted to respect the capacity.
+     * @return the eviction count
+     */
+    public long getEvictions() { return cache.getEvictions(); }
+
+    /**
+     * Gets the number of renderings currently cached.
+     * @return the current size
+     */
+    public int size() { return cache.size(); }
+
+    /**
+     * Gets a one-line summary of the cache counters.
+     * @return summary string
+     */
+    public String getStatsSummary() { return cache.getStatsSummary(); }
+
+    /**
+     * Cache key: entity kind, entity ID and view mode.
+     */
+    private static final class Key {
+        private final String kind;
+        private final int id;
+        private final String mode;
+
+        Key(String kind, int id, String mode) {
+            this.kind = kind;
+            this.id = id;
+            this.mode = mode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return id == other.id && kind.equals(other.kind) && mode.equals(other.mode);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, id, mode);
+        }
+    }
+
+    /**
+     * Cached rendering tagged with the entity version it was produced from.
+     */
+    private static final class Entry {
+        private final long version;
+        private final Object value;
+
+        Entry(long version, Object value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
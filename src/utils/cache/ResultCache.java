@@ -0,0 +1,114 @@
+package utils.cache;
+
+import utils.metrics.MetricsRegistry;
+
+import java.util.function.Supplier;
+
+/**
+ * Shared cache of query results, such as filtered internship listings.
+ * Entries are keyed by a caller-built query key (user, query kind and filter settings) and
+ * tagged with the content version the result was computed from. A lookup only hits when the
+ * stored version equals the current one, so any change to the underlying data makes the
+ * cached result stale and it is recomputed on the next request.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class ResultCache {
+    /** Default number of results kept */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** Singleton instance */
+    private static final ResultCache INSTANCE = new ResultCache(DEFAULT_CAPACITY);
+
+    static {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.registerGauge("ResultCache.hits", INSTANCE::getHits);
+        metrics.registerGauge("ResultCache.misses", INSTANCE::getMisses);
+        metrics.registerGauge("ResultCache.evictions", INSTANCE::getEvictions);
+        metrics.registerGauge("ResultCache.size", INSTANCE::size);
+    }
+
+    /** Underlying LRU storage */
+    private final LruCache<String, Entry> cache;
+
+    /**
+     * Creates a result cache with the given capacity.
+     * @param capacity maximum number of results kept
+     */
+    public ResultCache(int capacity) {
+        this.cache = new LruCache<>(capacity);
+    }
+
+    /**
+     * Get singleton instance.
+     * @return the singleton instance
+     */
+    public static ResultCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the cached result of a query, computing and caching it if the data has changed
+     * since it was last computed. The query runs outside the cache lock.
+     *
+     * @param <T> The result type
+     * @param key The query key
+     * @param version The current content version of the data the query reads
+     * @param query Supplier computing the result on a miss
+     * @return The cached or freshly computed result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrCompute(String key, String version, Supplier<T> query) {
+        Entry entry = cache.getIfValid(key, e -> e.version.equals(version));
+        if (entry != null) return (T) entry.value;
+        T value = query.get();
+        cache.put(key, new Entry(version, value));
+        return value;
+    }
+
+    /**
+     * Drops all cached results.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Gets the number of queries answered from the cache.
+     * @return the hit count
+     */
+    public long getHits() { return cache.getHits(); }
+
+    /**
+     * Gets the number of queries that had to be computed.
+     * @return the miss count
+     */
+    public long getMisses() { return cache.getMisses(); }
+
+    /**
+     * Gets the number of results evicted to respect the capacity.
+     * @return the eviction count
+     */
+    public long getEvictions() { return cache.getEvictions(); }
+
+    /**
+     * Gets the number of results currently cached.
+     * @return the current size
+     */
+    public int size() { return cache.size(); }
+
+    /**
+     * Cached result with the content version it was computed from.
+     */
+    private static final class Entry {
+        private final String version;
+        private final Object value;
+
+        Entry(String version, Object value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
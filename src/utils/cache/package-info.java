@@ -0,0 +1,22 @@
+/**
+ * Caching utilities for rendered output.
+ * 
+ * <p>This package provides bounded in-memory caches:
+ * <ul>
+ *   <li>{@link utils.cache.LruCache} - Generic bounded LRU cache with hit/miss/eviction counters</li>
+ *   <li>{@link utils.cache.RenderCache} - Cache of formatted rows and detail pages keyed by entity, version and view mode</li>
+ *   <li>{@link utils.cache.ResultCache} - Cache of query results keyed by query and content version</li>
+ * </ul>
+ * 
+ * <p>Features:
+ * <ul>
+ *   <li>Automatic invalidation through entity modification versions</li>
+ *   <li>Bounded memory with least-recently-used eviction</li>
+ *   <li>Thread-safe access</li>
+ * </ul>
+ * 
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+package utils.cache;
@@ -0,0 +1,166 @@
+package utils.concurrent;
+
+import utils.metrics.Counter;
+import utils.metrics.LatencyHistogram;
+import utils.metrics.MetricsRegistry;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed pool of locks shared between keys by hash.
+ * Gives per-key mutual exclusion (e.g. per student) with bounded memory: two keys only
+ * contend if they happen to map to the same stripe, so operations on distinct keys
+ * almost always proceed in parallel.
+ *
+ * <p>Several keys can be locked together with {@link #lockAll(Collection)}. Stripes are always
+ * taken in ascending index order, so two multi-key lockers can never deadlock on each other.
+ *
+ * <p>Every acquisition is counted in the {@link MetricsRegistry} under
+ * {@code StripedLocks.<name>.acquired}; acquisitions that had to wait are counted under
+ * {@code StripedLocks.<name>.contended} and their wait time recorded in the
+ * {@code StripedLocks.<name>.wait} histogram.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class StripedLocks {
+    /** The lock stripes; length is a power of two */
+    private final ReentrantLock[] stripes;
+    /** Lock acquisitions */
+    private final Counter acquired;
+    /** Acquisitions that found the stripe held */
+    private final Counter contended;
+    /** Time spent waiting for held stripes */
+    private final LatencyHistogram waits;
+
+    /**
+     * Creates a pool of locks.
+     * @param name metrics name of this pool
+     * @param minStripes minimum number of stripes; rounded up to a power of two
+     * @throws IllegalArgumentException if minStripes is not positive
+     */
+    public StripedLocks(String name, int minStripes) {
+        if (minStripes <= 0) {
+            throw new IllegalArgumentException("Number of stripes must be positive.");
+        }
+        int size = Integer.highestOneBit(minStripes);
+        if (size < minStripes) size <<= 1;
+        stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        acquired = metrics.counter("StripedLocks." + name + ".acquired");
+        contended = metrics.counter("StripedLocks." + name + ".contended");
+        waits = metrics.histogram("StripedLocks." + name + ".wait");
+    }
+
+    /**
+     * Set of stripes held together; closing it releases them in reverse order.
+     */
+    public final class Held implements AutoCloseable {
+        /** Held stripe indices, ascending */
+        private final int[] indices;
+
+        private Held(int[] indices) {
+            this.indices = indices;
+        }
+
+        /**
+         * Checks whether a key is covered by the held stripes.
+         * @param key the key
+         * @return true if the key's stripe is held
+         */
+        public boolean covers(Object key) {
+            return Arrays.binarySearch(indices, indexFor(key)) >= 0;
+        }
+
+        /**
+         * Releases the stripes.
+         */
+        @Override
+        public void close() {
+            for (int i = indices.length - 1; i >= 0; i--) {
+                stripes[indices[i]].unlock();
+            }
+        }
+    }
+
+    /**
+     * Gets the lock guarding a key.
+     * @param key the key, e.g. a user ID
+     * @return the stripe for the key (the same lock for equal keys)
+     */
+    public ReentrantLock get(Object key) {
+        return stripes[indexFor(key)];
+    }
+
+    /**
+     * Locks the stripe of one key.
+     * @param key the key
+     * @return the held stripe, to be closed by the caller
+     */
+    public Held lock(Object key) {
+        int index = indexFor(key);
+        acquire(index);
+        return new Held(new int[]{index});
+    }
+
+    /**
+     * Locks the stripes of several keys in ascending stripe order.
+     * @param keys the keys; duplicates and keys sharing a stripe are locked once
+     * @return the held stripes, to be closed by the caller
+     */
+    public Held lockAll(Collection<?> keys) {
+        int[] indices = keys.stream().mapToInt(this::indexFor).sorted().distinct().toArray();
+        int taken = 0;
+        try {
+            for (int index : indices) {
+                acquire(index);
+                taken++;
+            }
+        } finally {
+            if (taken < indices.length) {
+                for (int i = taken - 1; i >= 0; i--) stripes[indices[i]].unlock();
+            }
+        }
+        return new Held(indices);
+    }
+
+    /**
+     * Acquires one stripe, recording contention.
+     */
+    private void acquire(int index) {
+        ReentrantLock lock = stripes[index];
+        acquired.increment();
+        if (lock.tryLock()) return;
+        contended.increment();
+        long start = System.nanoTime();
+        lock.lock();
+        waits.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Gets the stripe index of a key.
+     * @param key the key
+     * @return index in [0, {@link #size()})
+     */
+    public int indexFor(Object key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        h *= 0x85ebca6b;
+        h ^= (h >>> 13);
+        return h & (stripes.length - 1);
+    }
+
+    /**
+     * Gets the number of stripes.
+     * @return the stripe count
+     */
+    public int size() {
+        return stripes.length;
+    }
+}
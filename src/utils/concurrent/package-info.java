@@ -0,0 +1,13 @@
+/**
+ * Concurrency primitives shared by the controllers.
+ * 
+ * <ul>
+ *   <li>{@link utils.concurrent.StripedLocks} - Per-key locking over a fixed pool of locks, with ordered
+ *       multi-key acquisition for transitions spanning several entities and contention metrics</li>
+ * </ul>
+ * 
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+package utils.concurrent;
@@ -2,24 +2,74 @@ package utils.csv;
 
 import model.*;
 import constant.ApplicationStatus;
+import constant.DataFiles;
+import utils.event.ApplicationChanged;
+import utils.event.EventBus;
+import utils.metrics.MetricsRegistry;
+import utils.jfr.CsvLoadEvent;
+import utils.jfr.CsvSaveEvent;
+import utils.outbox.Outbox;
+import utils.outbox.OutboxRecord;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * CSV handler for Application model.
  * Implements CsvHandler interface for object-to-CSV conversion.
+ * File access is synchronized on the handler, so concurrent saves never lose each other's rows.
  */
 public class ApplicationCsvHandler implements CsvHandler<Application> {
     
+    /**
+     * Gets the CSV file backing this handler.
+     * @return the path under the current data directory
+     */
+    private static String filePath() {
+        return DataFiles.applications();
+    }
+    
+    /** Registry receiving load/save metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    
     /** Singleton instance */
     private static final ApplicationCsvHandler INSTANCE = new ApplicationCsvHandler();
     
+    /** Digest, internship and status of each application's row at the last load, to detect rows that changed between loads */
+    private Map<Integer, LoadedRow> loadedRows = new HashMap<>();
+    /** File the loaded rows were read from */
+    private String loadedRowsPath;
+
+    /**
+     * What a load remembers about one row.
+     */
+    private static final class LoadedRow {
+        final long digest;
+        final int internshipId;
+        final ApplicationStatus status;
+
+        LoadedRow(long digest, int internshipId, ApplicationStatus status) {
+            this.digest = digest;
+            this.internshipId = internshipId;
+            this.status = status;
+        }
+    }
+
     private ApplicationCsvHandler() {}
     
     /**
@@ -52,12 +102,24 @@ public class ApplicationCsvHandler implements CsvHandler<Application> {
      * Called from controllers/repositories (MVC compliance).
      */
     @Override
-    public void loadFromCsv() {
+    public synchronized void loadFromCsv() {
+        CsvLoadEvent event = new CsvLoadEvent();
+        event.begin();
+        int rowsRead = 0;
+        int rowsParsed = 0;
+        long digest = 0;
+        Map<Integer, LoadedRow> rows = new HashMap<>();
+        long start = System.nanoTime();
         try {
-            BufferedReader reader = new BufferedReader(new FileReader("sample_file/sample_applications.csv"));
+            BufferedReader reader = new BufferedReader(new FileReader(filePath()));
+            event.fileSize = new File(filePath()).length();
+            metrics.counter("ApplicationCsvHandler.bytesRead").add(event.fileSize);
             String line = reader.readLine();
+            digest = line == null ? 0 : digestLine(0, line);
             
             while ((line = reader.readLine()) != null && !line.trim().isEmpty()) {
+                rowsRead++;
+                digest = digestLine(digest, line);
                 try {
                     String[] cols = line.split(",");
                     if (cols.length >= 5) {
@@ -95,6 +157,9 @@ public class ApplicationCsvHandler implements CsvHandler<Application> {
                         }
                         Application application = Application.createForCsv(id, internship, student, dateApplied, status, previousStatus, withdrawalReason);
                         Application.getAllApplicationsList().add(application);
+                        rows.put(id, new LoadedRow(digestLine(0, line), internshipID, status));
+                        metrics.counter("ApplicationCsvHandler.rowsParsed").increment();
+                        rowsParsed++;
                         internship.getApplications().add(application);
                         student.getApplications().add(application);
                         int currentNextID = Application.getNextID();
@@ -109,7 +174,38 @@ public class ApplicationCsvHandler implements CsvHandler<Application> {
             reader.close();
         } catch (IOException e) {
             System.out.println("Error loading applications: " + e.getMessage());
+        } finally {
+            metrics.histogram("ApplicationCsvHandler.loadFromCsv").record(System.nanoTime() - start);
         }
+        event.entity = "Application";
+        event.file = filePath();
+        event.rowsParsed = rowsParsed;
+        event.rowsSkipped = rowsRead - rowsParsed;
+        ModificationClock.reloaded(ModificationClock.Partition.APPLICATIONS, digest);
+        publishChangedRows(rows);
+        event.commit();
+    }
+
+    /**
+     * Publishes an {@link ApplicationChanged} event for every application whose row was added, changed
+     * or removed since the previous load of the same file, so derived data can update just those.
+     * @param rows rows of the load that just finished
+     */
+    private void publishChangedRows(Map<Integer, LoadedRow> rows) {
+        Map<Integer, LoadedRow> previous = filePath().equals(loadedRowsPath) ? loadedRows : new HashMap<>();
+        List<ApplicationChanged> changed = new ArrayList<>();
+        rows.forEach((id, row) -> {
+            LoadedRow before = previous.get(id);
+            if (before == null || before.digest != row.digest) changed.add(new ApplicationChanged(id, row.internshipId, row.status));
+        });
+        previous.forEach((id, row) -> {
+            if (!rows.containsKey(id)) changed.add(new ApplicationChanged(id, row.internshipId, null));
+        });
+        loadedRows = rows;
+        loadedRowsPath = filePath();
+        EventBus bus = EventBus.getInstance();
+        for (ApplicationChanged e : changed) bus.publish(e);
+        metrics.counter("ApplicationCsvHandler.rowsChanged").add(changed.size());
     }
     
     /**
@@ -118,37 +214,128 @@ public class ApplicationCsvHandler implements CsvHandler<Application> {
      * @param application the application to save
      */
     @Override
-    public void saveToCsv(Application application) {
+    public synchronized void saveToCsv(Application application) {
+        CsvSaveEvent event = new CsvSaveEvent();
+        event.begin();
+        long start = System.nanoTime();
         try {
-            BufferedReader reader = new BufferedReader(new FileReader("sample_file/sample_applications.csv"));
-            List<String> lines = new ArrayList<>();
-            String line = reader.readLine();
-            lines.add(line);
-            boolean found = false;
-            while ((line = reader.readLine()) != null) {
-                if (!line.trim().isEmpty()) {
-                    String[] cols = line.split(",");
-                    if (cols.length > 0 && Integer.parseInt(cols[0]) == application.getId()) {
-                        lines.add(INSTANCE.formatCsvLine(application));
-                        found = true;
-                    } else {
-                        lines.add(line);
-                    }
-                }
-            }
-            if (!found) {
-                lines.add(INSTANCE.formatCsvLine(application));
-            }
-            reader.close();
-            FileWriter writer = new FileWriter("sample_file/sample_applications.csv");
-            for (String l : lines) {
-                writer.write(l + "\n");
-            }
-            writer.close();
+            rewrite(Collections.singletonMap(application.getId(), application), event);
         } catch (IOException e) {
             System.out.println("Error saving application to CSV: " + e.getMessage());
+        } finally {
+            metrics.histogram("ApplicationCsvHandler.saveToCsv").record(System.nanoTime() - start);
         }
+        event.entity = "Application";
+        event.file = filePath();
+        event.operation = "save";
+        event.recordId = application.getId();
+        event.commit();
+    }
+    
+    /**
+     * Save several applications with a single rewrite of the CSV file.
+     * Existing rows are replaced in place and new ones appended in the given order.
+     * Unlike single saves, a failed write is reported to the caller, which holds the only
+     * copy of applications that were never saved.
+     * @param applications the applications to save
+     * @throws IllegalStateException if the file cannot be written
+     */
+    @Override
+    public synchronized void saveAllToCsv(Collection<Application> applications) {
+        if (applications.isEmpty()) return;
+        CsvSaveEvent event = new CsvSaveEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            Map<Integer, Application> rows = new LinkedHashMap<>();
+            for (Application application : applications) {
+                rows.put(application.getId(), application);
+            }
+            rewrite(rows, event);
+            metrics.counter("ApplicationCsvHandler.rowsBatched").add(rows.size());
+        } catch (IOException e) {
+            throw new IllegalStateException("Error saving applications to CSV: " + e.getMessage(), e);
+        } finally {
+            metrics.histogram("ApplicationCsvHandler.saveAllToCsv").record(System.nanoTime() - start);
+        }
+        event.entity = "Application";
+        event.file = filePath();
+        event.operation = "saveAll";
+        event.recordId = -1;
+        event.commit();
+    }
+    
+    /**
+     * Rewrites the CSV file, replacing the rows of the given applications and appending
+     * those not yet present.
+     * Status changes into ACCEPTED or WITHDRAWN are appended to the {@link Outbox} first, in
+     * the same synchronized save: a crash in between may export a change that was not
+     * persisted, but never loses one that was.
+     * @param rows applications to write, keyed by ID
+     * @param event save event receiving byte and row counts
+     * @throws IOException if the file cannot be read or written
+     */
+    private void rewrite(Map<Integer, Application> rows, CsvSaveEvent event) throws IOException {
+        Map<Integer, Application> pending = new LinkedHashMap<>(rows);
+        BufferedReader reader = new BufferedReader(new FileReader(filePath()));
+        event.bytesRead = new File(filePath()).length();
+        metrics.counter("ApplicationCsvHandler.bytesRead").add(event.bytesRead);
+        List<String> lines = new ArrayList<>();
+        List<OutboxRecord> exported = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        String line = reader.readLine();
+        lines.add(line);
+        while ((line = reader.readLine()) != null) {
+            if (!line.trim().isEmpty()) {
+                String[] cols = line.split(",");
+                Application application = cols.length > 0 ? pending.remove(Integer.parseInt(cols[0])) : null;
+                if (application != null) {
+                    lines.add(INSTANCE.formatCsvLine(application));
+                    export(application, cols.length > 4 ? cols[4].trim() : null, now, exported);
+                } else {
+                    lines.add(line);
+                }
+            }
+        }
+        for (Application application : pending.values()) {
+            lines.add(INSTANCE.formatCsvLine(application));
+            export(application, null, now, exported);
+        }
+        reader.close();
+        Outbox.getInstance().append(exported);
+        FileWriter writer = new FileWriter(filePath());
+        for (String l : lines) {
+            writer.write(l + "\n");
+        }
+        writer.close();
+        event.bytesWritten = new File(filePath()).length();
+        event.rowsRewritten = lines.size() - 1;
+        metrics.counter("ApplicationCsvHandler.bytesWritten").add(event.bytesWritten);
+    }
+    
+    /**
+     * Adds an outbox record if saving the application changes its persisted status into an exported one.
+     * @param application the application being saved
+     * @param persistedStatus status currently in the file, or null for a new row
+     * @param now time of the save
+     * @param exported records to append
+     */
+    private static void export(Application application, String persistedStatus, LocalDateTime now,
+                               List<OutboxRecord> exported) {
+        if (!OutboxRecord.isExported(persistedStatus, application.getStatus())) return;
+        exported.add(new OutboxRecord(0, now, application.getId(), application.getInternship().getID(),
+                application.getApplicant().getUserID(), persistedStatus, application.getStatus()));
+    }
+    
+    /**
+     * Copies the application file as it stands between saves.
+     * Saves rewrite the file in place, so readers that stream it without holding the handler lock
+     * (such as exports) read a copy instead of a half-written file.
+     * @param target file to write the copy to; replaced if it exists
+     * @throws IOException if the file cannot be copied
+     */
+    public synchronized void snapshotTo(Path target) throws IOException {
+        Files.copy(Paths.get(filePath()), target, StandardCopyOption.REPLACE_EXISTING);
     }
     
 }
-
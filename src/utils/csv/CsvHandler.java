@@ -1,5 +1,9 @@
 package utils.csv;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Interface for converting objects to CSV format.
  * Implementations provide object-to-CSV serialization and deserialization logic.
@@ -20,6 +24,17 @@ public interface CsvHandler<T> {
      */
     void saveToCsv(T obj);
     
+    /**
+     * Save several objects to the CSV file.
+     * The default saves them one at a time; handlers override it to rewrite the file once.
+     * @param objects the objects to save
+     */
+    default void saveAllToCsv(Collection<T> objects) {
+        for (T obj : objects) {
+            saveToCsv(obj);
+        }
+    }
+    
     /**
      * Convert an object to CSV line format.
      * @param object the object to convert
@@ -41,4 +56,54 @@ public interface CsvHandler<T> {
         }
         return s;
     }
+
+    /**
+     * Folds one line into a running 64-bit content digest (FNV-1a over the characters).
+     * Loaders digest every line they read so a reload can tell whether the file changed.
+     * Default helper method for all CSV handlers.
+     * @param digest the digest so far (start from 0)
+     * @param line the line read
+     * @return the updated digest
+     */
+    default long digestLine(long digest, String line) {
+        long h = digest ^ 0xcbf29ce484222325L;
+        for (int i = 0; i < line.length(); i++) {
+            h = (h ^ line.charAt(i)) * 0x100000001b3L;
+        }
+        return (h ^ '\n') * 0x100000001b3L;
+    }
+
+    /**
+     * Splits a CSV line into its fields, honouring the double-quoted fields written by {@link #escapeCSV(String)}.
+     * Shared helper for readers of fields that may contain commas.
+     * @param line the line read
+     * @return the unquoted fields
+     */
+    static String[] splitCsvLine(String line) {
+        List<String> cols = new ArrayList<>();
+        StringBuilder col = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    col.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    col.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cols.add(col.toString());
+                col.setLength(0);
+            } else {
+                col.append(c);
+            }
+        }
+        cols.add(col.toString());
+        return cols.toArray(new String[0]);
+    }
 }
@@ -2,14 +2,29 @@ package utils.csv;
 
 import model.*;
 import constant.*;
+import utils.event.EventBus;
+import utils.event.InternshipChanged;
+import utils.metrics.MetricsRegistry;
+import utils.jfr.CsvLoadEvent;
+import utils.jfr.CsvSaveEvent;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * CSV handler for Internship model.
@@ -18,6 +33,7 @@ import java.util.List;
  * 
  * Follows Single Responsibility Principle - only handles CSV persistence for Internship objects.
  * Business logic (finding related objects) is handled by controllers.
+ * File access is synchronized on the handler, so concurrent saves never lose each other's rows.
  */
 public class InternshipCsvHandler implements CsvHandler<Internship>, CsvDeletable<Internship> {
     
@@ -44,9 +60,25 @@ public class InternshipCsvHandler implements CsvHandler<Internship>, CsvDeletabl
                 internship.getStatus());
     }
     
+    /**
+     * Gets the CSV file backing this handler.
+     * @return the path under the current data directory
+     */
+    private static String filePath() {
+        return DataFiles.internships();
+    }
+    
+    /** Registry receiving load/save metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    
     /** Singleton instance */
     private static final InternshipCsvHandler INSTANCE = new InternshipCsvHandler();
     
+    /** Digest of each internship's row at the last load, to detect rows that changed between loads */
+    private Map<Integer, Long> rowDigests = new HashMap<>();
+    /** File the row digests were read from */
+    private String rowDigestsPath;
+
     private InternshipCsvHandler() {}
     
     /**
@@ -62,12 +94,24 @@ public class InternshipCsvHandler implements CsvHandler<Internship>, CsvDeletabl
      * Called from controllers/repositories (MVC compliance).
      */
     @Override
-    public void loadFromCsv() {
+    public synchronized void loadFromCsv() {
+        CsvLoadEvent event = new CsvLoadEvent();
+        event.begin();
+        int rowsRead = 0;
+        int rowsParsed = 0;
+        long digest = 0;
+        Map<Integer, Long> loadedDigests = new HashMap<>();
+        long start = System.nanoTime();
         try {
-            BufferedReader reader = new BufferedReader(new FileReader("sample_file/sample_internships.csv"));
+            BufferedReader reader = new BufferedReader(new FileReader(filePath()));
+            event.fileSize = new File(filePath()).length();
+            metrics.counter("InternshipCsvHandler.bytesRead").add(event.fileSize);
             String line = reader.readLine();
+            digest = line == null ? 0 : digestLine(0, line);
             
             while ((line = reader.readLine()) != null && !line.trim().isEmpty()) {
+                rowsRead++;
+                digest = digestLine(digest, line);
                 String[] cols = line.split(",");
                 if (cols.length >= 12) {
                     int id = Integer.parseInt(cols[0]);
@@ -93,6 +137,9 @@ public class InternshipCsvHandler implements CsvHandler<Internship>, CsvDeletabl
                                                                    openDate, closeDate, company, creator, 
                                                                    numSlots, visible, status, filledSlots);
                     Internship.getInternshipsList().add(internship);
+                    loadedDigests.put(id, digestLine(0, line));
+                    metrics.counter("InternshipCsvHandler.rowsParsed").increment();
+                    rowsParsed++;
                 }
             }
             reader.close();
@@ -103,7 +150,37 @@ public class InternshipCsvHandler implements CsvHandler<Internship>, CsvDeletabl
             }
         } catch (IOException e) {
             System.out.println("Error loading internships: " + e.getMessage());
+        } finally {
+            metrics.histogram("InternshipCsvHandler.loadFromCsv").record(System.nanoTime() - start);
         }
+        event.entity = "Internship";
+        event.file = filePath();
+        event.rowsParsed = rowsParsed;
+        event.rowsSkipped = rowsRead - rowsParsed;
+        ModificationClock.reloaded(ModificationClock.Partition.INTERNSHIPS, digest);
+        publishChangedRows(loadedDigests);
+        event.commit();
+    }
+
+    /**
+     * Publishes an {@link InternshipChanged} event for every internship whose row was added, changed
+     * or removed since the previous load of the same file, so derived views can update just those.
+     * @param loadedDigests row digests of the load that just finished
+     */
+    private void publishChangedRows(Map<Integer, Long> loadedDigests) {
+        Map<Integer, Long> previous = filePath().equals(rowDigestsPath) ? rowDigests : new HashMap<>();
+        List<Integer> changed = new ArrayList<>();
+        loadedDigests.forEach((id, rowDigest) -> {
+            if (!rowDigest.equals(previous.get(id))) changed.add(id);
+        });
+        for (Integer id : previous.keySet()) {
+            if (!loadedDigests.containsKey(id)) changed.add(id);
+        }
+        rowDigests = loadedDigests;
+        rowDigestsPath = filePath();
+        EventBus bus = EventBus.getInstance();
+        for (int id : changed) bus.publish(new InternshipChanged(id));
+        metrics.counter("InternshipCsvHandler.rowsChanged").add(changed.size());
     }
     
     /**
@@ -112,36 +189,91 @@ public class InternshipCsvHandler implements CsvHandler<Internship>, CsvDeletabl
      * @param internship the internship to save
      */
     @Override
-    public void saveToCsv(Internship internship) {
+    public synchronized void saveToCsv(Internship internship) {
+        CsvSaveEvent event = new CsvSaveEvent();
+        event.begin();
+        long start = System.nanoTime();
         try {
-            BufferedReader reader = new BufferedReader(new FileReader("sample_file/sample_internships.csv"));
-            List<String> lines = new ArrayList<>();
-            String line = reader.readLine();
-            lines.add(line);
-            boolean found = false;
-            while ((line = reader.readLine()) != null) {
-                if (!line.trim().isEmpty()) {
-                    String[] cols = line.split(",");
-                    if (cols.length > 0 && Integer.parseInt(cols[0]) == internship.getID()) {
-                        lines.add(INSTANCE.formatCsvLine(internship));
-                        found = true;
-                    } else {
-                        lines.add(line);
-                    }
-                }
-            }
-            if (!found) {
-                lines.add(INSTANCE.formatCsvLine(internship));
-            }
-            reader.close();
-            FileWriter writer = new FileWriter("sample_file/sample_internships.csv");
-            for (String l : lines) {
-                writer.write(l + "\n");
-            }
-            writer.close();
+            rewrite(Collections.singletonMap(internship.getID(), internship), event);
         } catch (IOException e) {
             System.out.println("Error saving internship to CSV: " + e.getMessage());
+        } finally {
+            metrics.histogram("InternshipCsvHandler.saveToCsv").record(System.nanoTime() - start);
         }
+        event.entity = "Internship";
+        event.file = filePath();
+        event.operation = "save";
+        event.recordId = internship.getID();
+        event.commit();
+    }
+    
+    /**
+     * Save several internships with a single rewrite of the CSV file.
+     * Existing rows are replaced in place and new ones appended in the given order.
+     * Unlike single saves, a failed write is reported to the caller, so it can undo
+     * in-memory changes that never reached the file.
+     * @param internships the internships to save
+     * @throws IllegalStateException if the file cannot be written
+     */
+    @Override
+    public synchronized void saveAllToCsv(Collection<Internship> internships) {
+        if (internships.isEmpty()) return;
+        CsvSaveEvent event = new CsvSaveEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            Map<Integer, Internship> rows = new LinkedHashMap<>();
+            for (Internship internship : internships) {
+                rows.put(internship.getID(), internship);
+            }
+            rewrite(rows, event);
+            metrics.counter("InternshipCsvHandler.rowsBatched").add(rows.size());
+        } catch (IOException e) {
+            throw new IllegalStateException("Error saving internships to CSV: " + e.getMessage(), e);
+        } finally {
+            metrics.histogram("InternshipCsvHandler.saveAllToCsv").record(System.nanoTime() - start);
+        }
+        event.entity = "Internship";
+        event.file = filePath();
+        event.operation = "saveAll";
+        event.recordId = -1;
+        event.commit();
+    }
+    
+    /**
+     * Rewrites the CSV file, replacing the rows of the given internships and appending
+     * those not yet present.
+     * @param rows internships to write, keyed by ID
+     * @param event save event receiving byte and row counts
+     * @throws IOException if the file cannot be read or written
+     */
+    private void rewrite(Map<Integer, Internship> rows, CsvSaveEvent event) throws IOException {
+        Map<Integer, Internship> pending = new LinkedHashMap<>(rows);
+        BufferedReader reader = new BufferedReader(new FileReader(filePath()));
+        event.bytesRead = new File(filePath()).length();
+        metrics.counter("InternshipCsvHandler.bytesRead").add(event.bytesRead);
+        List<String> lines = new ArrayList<>();
+        String line = reader.readLine();
+        lines.add(line);
+        while ((line = reader.readLine()) != null) {
+            if (!line.trim().isEmpty()) {
+                String[] cols = line.split(",");
+                Internship internship = cols.length > 0 ? pending.remove(Integer.parseInt(cols[0])) : null;
+                lines.add(internship != null ? INSTANCE.formatCsvLine(internship) : line);
+            }
+        }
+        for (Internship internship : pending.values()) {
+            lines.add(INSTANCE.formatCsvLine(internship));
+        }
+        reader.close();
+        FileWriter writer = new FileWriter(filePath());
+        for (String l : lines) {
+            writer.write(l + "\n");
+        }
+        writer.close();
+        event.bytesWritten = new File(filePath()).length();
+        event.rowsRewritten = lines.size() - 1;
+        metrics.counter("InternshipCsvHandler.bytesWritten").add(event.bytesWritten);
     }
     
     /**
@@ -152,9 +284,14 @@ public class InternshipCsvHandler implements CsvHandler<Internship>, CsvDeletabl
      * @throws RuntimeException if file I/O fails
      */
     @Override
-    public void deleteFromCsv(int id) {
+    public synchronized void deleteFromCsv(int id) {
+        CsvSaveEvent event = new CsvSaveEvent();
+        event.begin();
+        long start = System.nanoTime();
         try {
-            BufferedReader reader = new BufferedReader(new FileReader("sample_file/sample_internships.csv"));
+            BufferedReader reader = new BufferedReader(new FileReader(filePath()));
+            event.bytesRead = new File(filePath()).length();
+            metrics.counter("InternshipCsvHandler.bytesRead").add(event.bytesRead);
             List<String> lines = new ArrayList<>();
             String line = reader.readLine();
             lines.add(line);
@@ -169,15 +306,35 @@ public class InternshipCsvHandler implements CsvHandler<Internship>, CsvDeletabl
             }
             reader.close();
             
-            FileWriter writer = new FileWriter("sample_file/sample_internships.csv");
+            FileWriter writer = new FileWriter(filePath());
             for (String l : lines) {
                 writer.write(l + "\n");
             }
             writer.close();
+            event.bytesWritten = new File(filePath()).length();
+            event.rowsRewritten = lines.size() - 1;
+            metrics.counter("InternshipCsvHandler.bytesWritten").add(event.bytesWritten);
         } catch (IOException e) {
             System.out.println("Error deleting internship from CSV: " + e.getMessage());
+        } finally {
+            metrics.histogram("InternshipCsvHandler.deleteFromCsv").record(System.nanoTime() - start);
         }
+        event.entity = "Internship";
+        event.file = filePath();
+        event.operation = "delete";
+        event.recordId = id;
+        event.commit();
+    }
+    
+    /**
+     * Copies the internship file as it stands between saves.
+     * Saves rewrite the file in place, so readers that stream it without holding the handler lock
+     * (such as exports) read a copy instead of a half-written file.
+     * @param target file to write the copy to; replaced if it exists
+     * @throws IOException if the file cannot be copied
+     */
+    public synchronized void snapshotTo(Path target) throws IOException {
+        Files.copy(Paths.get(filePath()), target, StandardCopyOption.REPLACE_EXISTING);
     }
     
 }
-
@@ -1,13 +1,23 @@
 package utils.csv;
 
 import model.*;
+import constant.DataFiles;
+import constant.UserType;
+import utils.factory.UserFactory;
+import utils.metrics.MetricsRegistry;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * CSV handler for User model persistence.
@@ -24,6 +34,8 @@ public class UserCsvHandler implements UserCsvHandlerInterface {
     
     /** Singleton instance */
     private static final UserCsvHandler INSTANCE = new UserCsvHandler();
+    /** Registry receiving load/save metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
     
     /**
      * Private constructor for singleton pattern.
@@ -40,6 +52,36 @@ public class UserCsvHandler implements UserCsvHandlerInterface {
         return INSTANCE;
     }
     
+    /**
+     * Load users of one type from a CSV file and register them in the UserRegistry.
+     * Skips the header row, blank lines and rows with fewer than {@code minCols} columns.
+     * 
+     * @param filename the CSV file path
+     * @param type the type of user stored in the file
+     * @param minCols minimum number of columns for a row to be accepted
+     * @return number of users successfully registered
+     * @throws IOException if the file cannot be read
+     */
+    @Override
+    public int loadUsersFromCsv(String filename, UserType type, int minCols) throws IOException {
+        long start = System.nanoTime();
+        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
+            metrics.counter("UserCsvHandler.bytesRead").add(new File(filename).length());
+            reader.readLine();
+            List<String[]> rows = reader.lines()
+                .filter(line -> !line.trim().isEmpty())
+                .map(UserCsvHandler::parseUserRow)
+                .filter(cols -> cols.length >= minCols)
+                .collect(Collectors.toList());
+            metrics.counter("UserCsvHandler.rowsParsed").add(rows.size());
+            return rows.stream()
+                .mapToInt(cols -> UserRegistry.getInstance().register(UserFactory.fromCsv(type, cols)) ? 1 : 0)
+                .sum();
+        } finally {
+            metrics.histogram("UserCsvHandler.loadUsersFromCsv").record(System.nanoTime() - start);
+        }
+    }
+    
     /**
      * Save a newly registered company representative to the CSV file.
      * Appends the new company rep to the end of the file.
@@ -49,8 +91,11 @@ public class UserCsvHandler implements UserCsvHandlerInterface {
      */
     @Override
     public void saveCompanyRepToCsv(CompanyRepresentative compRep) {
+        long start = System.nanoTime();
         try {
-            FileWriter writer = new FileWriter("sample_file/sample_company_representative_list.csv", true); // append mode
+            String filename = DataFiles.companyRepresentatives();
+            long sizeBefore = new File(filename).length();
+            FileWriter writer = new FileWriter(filename, true); // append mode
             String status = compRep.getApprovalStatus().toCsvString();
             writer.write(String.format("%s,%s,%s,%s,%s,%s,%s,%s\n",
                 compRep.getUserID(),
@@ -62,8 +107,11 @@ public class UserCsvHandler implements UserCsvHandlerInterface {
                 compRep.getPasswordForPersistence(),
                 status));
             writer.close();
+            metrics.counter("UserCsvHandler.bytesWritten").add(new File(filename).length() - sizeBefore);
         } catch (IOException e) {
             throw new RuntimeException("Error saving company representative to CSV: " + e.getMessage(), e);
+        } finally {
+            metrics.histogram("UserCsvHandler.saveCompanyRepToCsv").record(System.nanoTime() - start);
         }
     }
     
@@ -75,7 +123,45 @@ public class UserCsvHandler implements UserCsvHandlerInterface {
      * @throws RuntimeException if file I/O fails
      */
     public void updateCompanyRepStatusInCsv(CompanyRepresentative compRep) {
-        String newLine = String.format("%s,%s,%s,%s,%s,%s,%s,%s", 
+        long start = System.nanoTime();
+        try {
+            updateCsvLines(DataFiles.companyRepresentatives(),
+                    Collections.singletonMap(compRep.getUserID(), formatCompanyRepLine(compRep)));
+        } finally {
+            metrics.histogram("UserCsvHandler.updateCompanyRepStatusInCsv").record(System.nanoTime() - start);
+        }
+    }
+    
+    /**
+     * Update several company representatives' approval statuses with one rewrite of the CSV file.
+     * 
+     * @param compReps the company representatives to update
+     * @throws RuntimeException if file I/O fails
+     */
+    @Override
+    public void updateCompanyRepStatusesInCsv(Collection<CompanyRepresentative> compReps) {
+        if (compReps.isEmpty()) return;
+        long start = System.nanoTime();
+        try {
+            Map<String, String> newLines = new HashMap<>();
+            for (CompanyRepresentative compRep : compReps) {
+                newLines.put(compRep.getUserID(), formatCompanyRepLine(compRep));
+            }
+            updateCsvLines(DataFiles.companyRepresentatives(), newLines);
+            metrics.counter("UserCsvHandler.rowsBatched").add(newLines.size());
+        } finally {
+            metrics.histogram("UserCsvHandler.updateCompanyRepStatusesInCsv").record(System.nanoTime() - start);
+        }
+    }
+    
+    /**
+     * Formats a company representative's row of the CSV file.
+     * 
+     * @param compRep the company representative
+     * @return the CSV line
+     */
+    private static String formatCompanyRepLine(CompanyRepresentative compRep) {
+        return String.format("%s,%s,%s,%s,%s,%s,%s,%s", 
             compRep.getUserID(), 
             compRep.getName(),
             compRep.getCompanyName(), 
@@ -84,7 +170,6 @@ public class UserCsvHandler implements UserCsvHandlerInterface {
             compRep.getEmail(), 
             compRep.getPasswordForPersistence(), 
             compRep.getApprovalStatus().toCsvString());
-        updateCsvLine("sample_file/sample_company_representative_list.csv", compRep.getUserID(), newLine);
     }
     
     /**
@@ -96,29 +181,47 @@ public class UserCsvHandler implements UserCsvHandlerInterface {
      */
     @Override
     public void savePasswordChangeToCsv(User user) {
-        String filename = user.getCsvFilename();
-        updatePasswordInCsv(filename, user.getUserID(), user.getPasswordForPersistence());
+        long start = System.nanoTime();
+        try {
+            String filename = user.getCsvFilename();
+            updatePasswordInCsv(filename, user.getUserID(), user.getPasswordForPersistence());
+        } finally {
+            metrics.histogram("UserCsvHandler.savePasswordChangeToCsv").record(System.nanoTime() - start);
+        }
+    }
+    
+    /**
+     * Splits a user row with the shared CSV splitter and trims every field.
+     * 
+     * @param line The CSV line to parse
+     * @return The trimmed fields of the line
+     */
+    private static String[] parseUserRow(String line) {
+        String[] cols = CsvHandler.splitCsvLine(line);
+        for (int i = 0; i < cols.length; i++) cols[i] = cols[i].trim();
+        return cols;
     }
     
     /**
-     * Updates a specific line in a CSV file.
-     * Finds the line matching the user ID and replaces it with the new line content.
+     * Updates specific lines in a CSV file.
+     * Replaces each line whose user ID has a new line content.
      * 
      * @param filename the CSV file path
-     * @param userID the user ID to match
-     * @param newLine the new line content
+     * @param newLines the new line content by user ID
      * @throws RuntimeException if file I/O fails
      */
-    private void updateCsvLine(String filename, String userID, String newLine) {
+    private void updateCsvLines(String filename, Map<String, String> newLines) {
         try {
             List<String> lines = new ArrayList<>();
+            metrics.counter("UserCsvHandler.bytesRead").add(new File(filename).length());
             try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
                 lines.add(reader.readLine()); // header
-                reader.lines().forEach(line -> lines.add(line.split(",")[0].equals(userID) ? newLine : line));
+                reader.lines().forEach(line -> lines.add(newLines.getOrDefault(line.split(",")[0], line)));
             }
             try (FileWriter writer = new FileWriter(filename)) {
                 for (String l : lines) writer.write(l + "\n");
             }
+            metrics.counter("UserCsvHandler.bytesWritten").add(new File(filename).length());
         } catch (IOException e) {
             throw new RuntimeException("Error updating CSV: " + e.getMessage(), e);
         }
@@ -137,6 +240,7 @@ public class UserCsvHandler implements UserCsvHandlerInterface {
         try {
             List<String> lines = new ArrayList<>();
             String[] header = null;
+            metrics.counter("UserCsvHandler.bytesRead").add(new File(filename).length());
             try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
                 header = reader.readLine().split(",");
                 int passwordCol = java.util.Arrays.asList(header).indexOf("Password");
@@ -153,9 +257,9 @@ public class UserCsvHandler implements UserCsvHandlerInterface {
             try (FileWriter writer = new FileWriter(filename)) {
                 for (String l : lines) writer.write(l + "\n");
             }
+            metrics.counter("UserCsvHandler.bytesWritten").add(new File(filename).length());
         } catch (IOException e) {
             throw new RuntimeException("Error updating password in CSV: " + e.getMessage(), e);
         }
     }
 }
-
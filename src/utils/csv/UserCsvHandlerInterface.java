@@ -1,6 +1,10 @@
 package utils.csv;
 
 import model.*;
+import constant.UserType;
+
+import java.io.IOException;
+import java.util.Collection;
 
 /**
  * Interface for user CSV persistence operations.
@@ -28,6 +32,14 @@ public interface UserCsvHandlerInterface {
      */
     void updateCompanyRepStatusInCsv(CompanyRepresentative compRep);
     
+    /**
+     * Update several company reps' approval statuses with one rewrite of the CSV file.
+     * 
+     * @param compReps the company representatives to update
+     * @throws RuntimeException if file I/O fails
+     */
+    void updateCompanyRepStatusesInCsv(Collection<CompanyRepresentative> compReps);
+    
     /**
      * Save password changes to the appropriate CSV file based on user type.
      * 
@@ -35,5 +47,16 @@ public interface UserCsvHandlerInterface {
      * @throws RuntimeException if file I/O fails
      */
     void savePasswordChangeToCsv(User user);
+    
+    /**
+     * Load users of one type from a CSV file and register them in the UserRegistry.
+     * 
+     * @param filename the CSV file path
+     * @param type the type of user stored in the file
+     * @param minCols minimum number of columns for a row to be accepted
+     * @return number of users successfully registered
+     * @throws IOException if the file cannot be read
+     */
+    int loadUsersFromCsv(String filename, UserType type, int minCols) throws IOException;
 }
 
@@ -0,0 +1,53 @@
+package utils.event;
+
+import constant.ApplicationStatus;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An application was created, changed status, or differs in a reloaded CSV file.
+ * Unlike {@link ApplicationStatusChanged}, which notifies people about workflow steps, this event
+ * is for listeners that maintain derived data: it carries the application's current status (null
+ * if the application was removed) so they need not look it up. Nobody is notified.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class ApplicationChanged extends DomainEvent {
+    private final int applicationId;
+    private final int internshipId;
+    private final ApplicationStatus status;
+
+    /**
+     * Creates the event.
+     * @param applicationId the ID of the application that changed
+     * @param internshipId the ID of the internship applied for
+     * @param status the application's status now, or null if it was removed
+     */
+    public ApplicationChanged(int applicationId, int internshipId, ApplicationStatus status) {
+        this.applicationId = applicationId;
+        this.internshipId = internshipId;
+        this.status = status;
+    }
+
+    /** @return the application ID */
+    public int getApplicationId() { return applicationId; }
+
+    /** @return the internship ID */
+    public int getInternshipId() { return internshipId; }
+
+    /** @return the current status, or null if the application was removed */
+    public ApplicationStatus getStatus() { return status; }
+
+    @Override
+    public List<String> getRecipients() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public String describe() {
+        return "Application " + applicationId + (status == null ? " removed" : " is " + status);
+    }
+}
@@ -0,0 +1,72 @@
+package utils.event;
+
+import constant.ApplicationStatus;
+import model.Application;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An application moved from one status to another.
+ * The applicant is notified.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class ApplicationStatusChanged extends DomainEvent {
+    private final int applicationId;
+    private final int internshipId;
+    private final String internshipTitle;
+    private final String companyName;
+    private final String studentId;
+    private final ApplicationStatus from;
+    private final ApplicationStatus to;
+
+    /**
+     * Creates the event from the application's current state.
+     * @param application the application, already in its new status
+     * @param from the status before the change
+     */
+    public ApplicationStatusChanged(Application application, ApplicationStatus from) {
+        this.applicationId = application.getId();
+        this.internshipId = application.getInternship().getID();
+        this.internshipTitle = application.getInternship().getTitle();
+        this.companyName = application.getInternship().getCompanyName();
+        this.studentId = application.getApplicant().getUserID();
+        this.from = from;
+        this.to = application.getStatus();
+    }
+
+    /** @return the application ID */
+    public int getApplicationId() { return applicationId; }
+
+    /** @return the internship ID */
+    public int getInternshipId() { return internshipId; }
+
+    /** @return the internship title at the time of the change */
+    public String getInternshipTitle() { return internshipTitle; }
+
+    /** @return the company name */
+    public String getCompanyName() { return companyName; }
+
+    /** @return the applicant's user ID */
+    public String getStudentId() { return studentId; }
+
+    /** @return the status before the change */
+    public ApplicationStatus getFrom() { return from; }
+
+    /** @return the status after the change */
+    public ApplicationStatus getTo() { return to; }
+
+    @Override
+    public List<String> getRecipients() {
+        return Collections.singletonList(studentId);
+    }
+
+    @Override
+    public String describe() {
+        return "Application " + applicationId + " for " + internshipTitle + " (" + companyName + ") is now "
+                + to + " (was " + from + ")";
+    }
+}
@@ -0,0 +1,59 @@
+package utils.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Something that happened to a model entity, published on the {@link EventBus}.
+ * Events are immutable snapshots: they copy what they need from the entity when created,
+ * so they stay valid after the entity changes again or is replaced by a CSV reload.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public abstract class DomainEvent {
+    /** Source of event sequence numbers */
+    private static final AtomicLong sequences = new AtomicLong();
+
+    /** Position of this event in publication order */
+    private final long sequence = sequences.incrementAndGet();
+    /** When the event happened */
+    private final LocalDateTime occurredAt = LocalDateTime.now();
+
+    /**
+     * Gets the sequence number. Later events have larger numbers.
+     * @return the sequence number
+     */
+    public long getSequence() { return sequence; }
+
+    /**
+     * Gets the time the event happened.
+     * @return the timestamp
+     */
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+
+    /**
+     * Gets the event type name used in notifications and exports.
+     * @return the type name
+     */
+    public String getType() { return getClass().getSimpleName(); }
+
+    /**
+     * Gets the IDs of the users who should be notified.
+     * @return the recipient user IDs
+     */
+    public abstract List<String> getRecipients();
+
+    /**
+     * Describes the event for display to a recipient.
+     * @return one-line message
+     */
+    public abstract String describe();
+
+    @Override
+    public String toString() {
+        return "#" + sequence + " " + getType() + ": " + describe();
+    }
+}
@@ -0,0 +1,62 @@
+package utils.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Notifications of one user, collected for a session that polls at its own pace
+ * (a console menu loop, or an HTTP long-poll).
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class Inbox implements AutoCloseable {
+    /** Delivered events not yet taken */
+    private final LinkedBlockingQueue<DomainEvent> events = new LinkedBlockingQueue<>();
+    /** Subscription feeding this inbox */
+    private final EventBus.Subscription subscription;
+
+    /**
+     * Opens an inbox. Use {@link NotificationCenter#openInbox(String)}.
+     */
+    Inbox(NotificationCenter center, String userID) {
+        this.subscription = center.subscribe(userID, events::addAll);
+    }
+
+    /**
+     * Takes every notification received so far without waiting.
+     * @return the notifications, oldest first (empty if none)
+     */
+    public List<DomainEvent> drain() {
+        List<DomainEvent> batch = new ArrayList<>();
+        events.drainTo(batch);
+        return batch;
+    }
+
+    /**
+     * Waits until at least one notification arrives, then takes all received so far.
+     * @param timeout maximum time to wait
+     * @param unit unit of the timeout
+     * @return the notifications, oldest first (empty if the wait timed out)
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public List<DomainEvent> await(long timeout, TimeUnit unit) throws InterruptedException {
+        List<DomainEvent> batch = new ArrayList<>();
+        DomainEvent first = events.poll(timeout, unit);
+        if (first == null) return batch;
+        batch.add(first);
+        events.drainTo(batch);
+        return batch;
+    }
+
+    /**
+     * Stops collecting notifications. Events that arrive afterwards are kept for the next session.
+     */
+    @Override
+    public void close() {
+        subscription.close();
+    }
+}
@@ -0,0 +1,38 @@
+package utils.event;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An internship was created, changed, deleted, or differs in a reloaded CSV file.
+ * Carries only the ID: listeners that maintain derived data look the internship up again
+ * (it is absent if it was removed). Nobody is notified.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class InternshipChanged extends DomainEvent {
+    private final int internshipId;
+
+    /**
+     * Creates the event.
+     * @param internshipId the ID of the internship that changed
+     */
+    public InternshipChanged(int internshipId) {
+        this.internshipId = internshipId;
+    }
+
+    /** @return the internship ID */
+    public int getInternshipId() { return internshipId; }
+
+    @Override
+    public List<String> getRecipients() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public String describe() {
+        return "Internship " + internshipId + " changed";
+    }
+}
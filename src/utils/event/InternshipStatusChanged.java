@@ -0,0 +1,61 @@
+package utils.event;
+
+import constant.InternshipStatus;
+import model.Internship;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An internship moved from one status to another (e.g. approved or rejected by staff).
+ * The representative who created it is notified.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class InternshipStatusChanged extends DomainEvent {
+    private final int internshipId;
+    private final String title;
+    private final String creatorId;
+    private final InternshipStatus from;
+    private final InternshipStatus to;
+
+    /**
+     * Creates the event from the internship's current state.
+     * @param internship the internship, already in its new status
+     * @param from the status before the change
+     */
+    public InternshipStatusChanged(Internship internship, InternshipStatus from) {
+        this.internshipId = internship.getID();
+        this.title = internship.getTitle();
+        this.creatorId = internship.getCreator() == null ? null : internship.getCreator().getUserID();
+        this.from = from;
+        this.to = internship.getStatus();
+    }
+
+    /** @return the internship ID */
+    public int getInternshipId() { return internshipId; }
+
+    /** @return the internship title */
+    public String getTitle() { return title; }
+
+    /** @return the creating representative's user ID, or null if unknown */
+    public String getCreatorId() { return creatorId; }
+
+    /** @return the status before the change */
+    public InternshipStatus getFrom() { return from; }
+
+    /** @return the status after the change */
+    public InternshipStatus getTo() { return to; }
+
+    @Override
+    public List<String> getRecipients() {
+        return creatorId == null ? Collections.emptyList() : Collections.singletonList(creatorId);
+    }
+
+    @Override
+    public String describe() {
+        return "Internship " + internshipId + " (" + title + ") is now " + to + " (was " + from + ")";
+    }
+}
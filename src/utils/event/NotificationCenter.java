@@ -0,0 +1,189 @@
+package utils.event;
+
+import utils.metrics.MetricsRegistry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Routes domain events to the users they concern and delivers them in per-user batches.
+ *
+ * <p>Events from the {@link EventBus} are queued in each recipient's mailbox. A dispatcher thread
+ * flushes the mailboxes that received events once per batch window, so a burst of changes
+ * (e.g. a student accepting one offer and the other applications being withdrawn) reaches each
+ * session as one batch. While a user has no subscribed session, the most recent events are kept
+ * and handed to the next session that subscribes.
+ *
+ * <p>Metrics: {@code NotificationCenter.queued}, {@code .batches}, {@code .delivered},
+ * {@code .dropped} (counters).
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class NotificationCenter implements AutoCloseable {
+    /** Registry receiving notification metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    /** Default time events are collected before a batch is delivered */
+    public static final long DEFAULT_BATCH_MILLIS = 200;
+    /** Events kept per user while no session is subscribed */
+    public static final int MAX_PENDING = 100;
+
+    /** Singleton instance, subscribed to the shared bus */
+    private static final NotificationCenter INSTANCE = new NotificationCenter(EventBus.getInstance(), DEFAULT_BATCH_MILLIS);
+
+    /**
+     * Pending events and subscribed sessions of one user.
+     */
+    private static final class Mailbox {
+        final ArrayDeque<DomainEvent> pending = new ArrayDeque<>();
+        final List<Consumer<List<DomainEvent>>> sinks = new CopyOnWriteArrayList<>();
+    }
+
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    /** Users whose mailbox received events since the last flush */
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    /** Set while a flush is scheduled */
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService dispatcher;
+    private final long batchMillis;
+    /** Bus subscription feeding the mailboxes */
+    private final EventBus.Subscription busSubscription;
+
+    /**
+     * Creates a notification center listening to a bus.
+     * @param bus the bus to take events from
+     * @param batchMillis how long events are collected before delivery
+     */
+    public NotificationCenter(EventBus bus, long batchMillis) {
+        this.batchMillis = batchMillis;
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "notification-dispatcher");
+            t.setDaemon(true);
+            return t;
+        });
+        this.busSubscription = bus.subscribe(DomainEvent.class, this::enqueue);
+    }
+
+    /**
+     * Get singleton instance.
+     * @return the singleton instance
+     */
+    public static NotificationCenter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Subscribes a session to a user's notifications.
+     * Events kept while the user had no session are delivered immediately on the calling thread;
+     * later events arrive in batches on the dispatcher thread.
+     *
+     * @param userID the user
+     * @param sink receives each batch, oldest event first; must not block
+     * @return handle ending the subscription when closed
+     */
+    public EventBus.Subscription subscribe(String userID, Consumer<List<DomainEvent>> sink) {
+        Mailbox mailbox = mailboxes.computeIfAbsent(userID, k -> new Mailbox());
+        List<DomainEvent> backlog;
+        synchronized (mailbox) {
+            mailbox.sinks.add(sink);
+            backlog = takePending(mailbox);
+        }
+        if (!backlog.isEmpty()) deliver(backlog, Collections.singletonList(sink));
+        return () -> mailbox.sinks.remove(sink);
+    }
+
+    /**
+     * Opens an inbox collecting a user's notifications for polling.
+     * @param userID the user
+     * @return the inbox; close it when the session ends
+     */
+    public Inbox openInbox(String userID) {
+        return new Inbox(this, userID);
+    }
+
+    /**
+     * Delivers every pending batch now instead of waiting for the batch window.
+     */
+    public void flush() {
+        flushScheduled.set(false);
+        for (String userID : new ArrayList<>(dirty)) {
+            dirty.remove(userID);
+            Mailbox mailbox = mailboxes.get(userID);
+            if (mailbox == null) continue;
+            List<DomainEvent> batch;
+            synchronized (mailbox) {
+                if (mailbox.sinks.isEmpty()) continue;
+                batch = takePending(mailbox);
+            }
+            if (!batch.isEmpty()) deliver(batch, mailbox.sinks);
+        }
+    }
+
+    /**
+     * Stops listening to the bus and stops the dispatcher. Pending events are discarded.
+     */
+    @Override
+    public void close() {
+        busSubscription.close();
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * Bus listener: queues an event for each recipient and schedules a flush.
+     */
+    private void enqueue(DomainEvent event) {
+        if (event.getRecipients().isEmpty()) return;
+        for (String userID : event.getRecipients()) {
+            Mailbox mailbox = mailboxes.computeIfAbsent(userID, k -> new Mailbox());
+            synchronized (mailbox) {
+                if (mailbox.pending.size() >= MAX_PENDING) {
+                    mailbox.pending.removeFirst();
+                    metrics.counter("NotificationCenter.dropped").increment();
+                }
+                mailbox.pending.addLast(event);
+            }
+            metrics.counter("NotificationCenter.queued").increment();
+            dirty.add(userID);
+        }
+        if (flushScheduled.compareAndSet(false, true)) {
+            dispatcher.schedule(this::flush, batchMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Empties a mailbox. Caller must hold the mailbox lock.
+     */
+    private static List<DomainEvent> takePending(Mailbox mailbox) {
+        List<DomainEvent> batch = new ArrayList<>(mailbox.pending);
+        mailbox.pending.clear();
+        return batch;
+    }
+
+    /**
+     * Hands a batch to each sink, isolating failures.
+     */
+    private static void deliver(List<DomainEvent> batch, List<Consumer<List<DomainEvent>>> sinks) {
+        List<DomainEvent> view = Collections.unmodifiableList(batch);
+        for (Consumer<List<DomainEvent>> sink : sinks) {
+            try {
+                sink.accept(view);
+                metrics.counter("NotificationCenter.batches").increment();
+                metrics.counter("NotificationCenter.delivered").add(batch.size());
+            } catch (RuntimeException e) {
+                metrics.counter("EventBus.listenerErrors").increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+/**
+ * In-process domain events and per-user change notifications.
+ *
+ * <ul>
+ *   <li>{@link utils.event.EventBus} - Synchronous publish/subscribe bus fired by model changes</li>
+ *   <li>{@link utils.event.DomainEvent} - Immutable event snapshot:
+ *       {@link utils.event.ApplicationStatusChanged}, {@link utils.event.InternshipStatusChanged},
+ *       {@link utils.event.InternshipChanged}, {@link utils.event.ApplicationChanged}</li>
+ *   <li>{@link utils.event.NotificationCenter} - Per-user mailboxes delivering events in batches</li>
+ *   <li>{@link utils.event.Inbox} - Polling view of one user's notifications for a session</li>
+ * </ul>
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+package utils.event;
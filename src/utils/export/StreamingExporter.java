@@ -0,0 +1,416 @@
+package utils.export;
+
+import constant.ApplicationStatus;
+import constant.InternshipStatus;
+import utils.csv.ApplicationCsvHandler;
+import utils.csv.CsvHandler;
+import utils.csv.InternshipCsvHandler;
+import utils.metrics.MetricsRegistry;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams applications or internships from the data files as CSV or JSON lines, filtered by
+ * status and date, optionally gzip-compressed.
+ *
+ * <p>The export never loads the entities: the store file is copied under its handler's lock, so
+ * a concurrent save cannot be seen half-written, and the copy is then read one line at a time and
+ * each matching row written straight to a buffered output. Memory use is therefore fixed by the
+ * buffer sizes, however many rows the file holds. CSV output repeats the stored header and rows
+ * unchanged; JSON lines output writes one object per row with named, typed fields.
+ *
+ * <p>Usage: {@code java -cp bin utils.export.StreamingExporter <applications|internships> <output file|->
+ * [--format=csv|jsonl] [--status=S1,S2] [--from=yyyy-MM-dd] [--to=yyyy-MM-dd] [--gzip]}
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class StreamingExporter {
+    /** Registry receiving export metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    /** Size of the read and write buffers */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** JSON field names of an application row, in file column order */
+    private static final String[] APPLICATION_FIELDS =
+            {"id", "internshipId", "studentId", "dateApplied", "status", "previousStatus", "withdrawalReason"};
+    /** JSON types of an application row: s string, n number, b boolean */
+    private static final String APPLICATION_TYPES = "nnsssss";
+    /** JSON field names of an internship row, in file column order */
+    private static final String[] INTERNSHIP_FIELDS = {"id", "title", "description", "level", "major", "openDate",
+            "closeDate", "company", "creatorId", "visible", "slots", "filledSlots", "status"};
+    /** JSON types of an internship row */
+    private static final String INTERNSHIP_TYPES = "nssssssssbnns";
+
+    /**
+     * What to export.
+     */
+    public enum Entity {
+        /** Rows of the applications file; dates filter on the application date */
+        APPLICATIONS,
+        /** Rows of the internships file; dates filter on the application window */
+        INTERNSHIPS;
+
+        /**
+         * Parses an entity name.
+         * @param name "applications" or "internships", case-insensitive
+         * @return the entity
+         * @throws IllegalArgumentException if the name is unknown
+         */
+        public static Entity parse(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("Unknown export: " + name + " (expected applications or internships)");
+            }
+        }
+    }
+
+    /**
+     * Output format.
+     */
+    public enum Format {
+        /** The stored CSV header and rows */
+        CSV,
+        /** One JSON object per line */
+        JSONL;
+
+        /**
+         * Parses a format name.
+         * @param name "csv" or "jsonl", case-insensitive
+         * @return the format
+         * @throws IllegalArgumentException if the name is unknown
+         */
+        public static Format parse(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("Unknown export format: " + name + " (expected csv or jsonl)");
+            }
+        }
+    }
+
+    /**
+     * Summary of one export.
+     */
+    public static final class Result {
+        private final long rowsRead;
+        private final long rowsWritten;
+        private final long elapsedNanos;
+
+        Result(long rowsRead, long rowsWritten, long elapsedNanos) {
+            this.rowsRead = rowsRead;
+            this.rowsWritten = rowsWritten;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /** @return number of rows read from the store */
+        public long getRowsRead() { return rowsRead; }
+
+        /** @return number of rows that matched the filters and were written */
+        public long getRowsWritten() { return rowsWritten; }
+
+        /** @return wall time of the export in nanoseconds */
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        /** @return one-line summary */
+        public String summary() {
+            return String.format("%d of %d rows exported in %.1f ms", rowsWritten, rowsRead, elapsedNanos / 1e6);
+        }
+    }
+
+    private final Entity entity;
+    private final Format format;
+    private Set<String> statuses;
+    private LocalDate from;
+    private LocalDate to;
+    private boolean gzip;
+
+    /**
+     * Creates an exporter of every row; narrow it with the setters.
+     * @param entity what to export
+     * @param format output format
+     */
+    public StreamingExporter(Entity entity, Format format) {
+        this.entity = entity;
+        this.format = format;
+    }
+
+    /**
+     * Keeps only rows in one of the given statuses.
+     * @param statuses comma-separated status names (case-insensitive), or null for every status
+     * @throws IllegalArgumentException if a name is not a status of the exported entity
+     */
+    public void setStatuses(String statuses) {
+        if (statuses == null || statuses.trim().isEmpty()) {
+            this.statuses = null;
+            return;
+        }
+        Set<String> known = new HashSet<>();
+        for (Enum<?> status : entity == Entity.APPLICATIONS
+                ? EnumSet.allOf(ApplicationStatus.class) : EnumSet.allOf(InternshipStatus.class)) {
+            known.add(status.name());
+        }
+        Set<String> parsed = new HashSet<>();
+        for (String status : statuses.split(",")) {
+            String name = status.trim().toUpperCase(Locale.ROOT);
+            if (!known.contains(name)) throw new IllegalArgumentException("Unknown status: " + status.trim());
+            parsed.add(name);
+        }
+        this.statuses = parsed;
+    }
+
+    /**
+     * Keeps only applications made on or after a date, or internships opening on or after it.
+     * @param from the first date, or null for no lower bound
+     */
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    /**
+     * Keeps only applications made on or before a date, or internships closing on or before it.
+     * @param to the last date, or null for no upper bound
+     */
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    /**
+     * Compresses the output with gzip.
+     * @param gzip true to compress
+     */
+    public void setGzip(boolean gzip) {
+        this.gzip = gzip;
+    }
+
+    /**
+     * Exports to a file.
+     * @param target file to write; replaced if it exists
+     * @return summary of the export
+     * @throws IOException if the store cannot be read or the file cannot be written
+     */
+    public Result export(Path target) throws IOException {
+        try (OutputStream out = Files.newOutputStream(target)) {
+            return export(out);
+        }
+    }
+
+    /**
+     * Exports to a stream. The stream is flushed but not closed.
+     * @param out destination
+     * @return summary of the export
+     * @throws IOException if the store cannot be read or the stream cannot be written
+     */
+    public Result export(OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        long rowsRead = 0;
+        long rowsWritten = 0;
+        try {
+            Path snapshot = Files.createTempFile("export-", ".csv");
+            try {
+                if (entity == Entity.APPLICATIONS) {
+                    ApplicationCsvHandler.getInstance().snapshotTo(snapshot);
+                } else {
+                    InternshipCsvHandler.getInstance().snapshotTo(snapshot);
+                }
+                GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+                Writer writer = new BufferedWriter(new OutputStreamWriter(
+                        compressed != null ? compressed : out, StandardCharsets.UTF_8), BUFFER_SIZE);
+                try (BufferedReader reader = Files.newBufferedReader(snapshot, StandardCharsets.UTF_8)) {
+                    String line = reader.readLine();
+                    if (line != null && format == Format.CSV) writer.write(line + "\n");
+                    while ((line = reader.readLine()) != null) {
+                        if (line.trim().isEmpty()) continue;
+                        rowsRead++;
+                        String[] cols = parse(line);
+                        if (cols == null || !matches(cols)) continue;
+                        if (format == Format.CSV) {
+                            writer.write(line);
+                        } else {
+                            writeJson(writer, cols);
+                        }
+                        writer.write('\n');
+                        rowsWritten++;
+                    }
+                }
+                writer.flush();
+                if (compressed != null) compressed.finish();
+                out.flush();
+            } finally {
+                Files.deleteIfExists(snapshot);
+            }
+        } finally {
+            metrics.histogram("StreamingExporter.export." + entity.name().toLowerCase(Locale.ROOT))
+                    .record(System.nanoTime() - start);
+        }
+        metrics.counter("StreamingExporter.rowsWritten").add(rowsWritten);
+        return new Result(rowsRead, rowsWritten, System.nanoTime() - start);
+    }
+
+    /**
+     * Splits a row into its columns and normalizes the status, or returns null if the row is malformed.
+     */
+    private String[] parse(String line) {
+        String[] cols;
+        int statusColumn;
+        if (entity == Entity.APPLICATIONS) {
+            // The withdrawal reason is written unquoted as the last column and may contain commas
+            cols = line.split(",", APPLICATION_FIELDS.length);
+            statusColumn = 4;
+        } else {
+            cols = CsvHandler.splitCsvLine(line);
+            statusColumn = 12;
+        }
+        if (cols.length <= statusColumn) return null;
+        for (int i = 0; i < cols.length; i++) cols[i] = cols[i].trim();
+        if (entity == Entity.APPLICATIONS) {
+            // Older files still hold CONFIRMED, which the loader reads as SUCCESSFUL
+            for (int i = 4; i < Math.min(6, cols.length); i++) {
+                if (cols[i].equals("CONFIRMED")) cols[i] = ApplicationStatus.SUCCESSFUL.name();
+            }
+        }
+        return cols;
+    }
+
+    /**
+     * Applies the status and date filters to a parsed row.
+     */
+    private boolean matches(String[] cols) {
+        try {
+            if (entity == Entity.APPLICATIONS) {
+                if (statuses != null && !statuses.contains(cols[4])) return false;
+                if (from == null && to == null) return true;
+                LocalDate applied = LocalDate.parse(cols[3].substring(0, Math.min(10, cols[3].length())));
+                return (from == null || !applied.isBefore(from)) && (to == null || !applied.isAfter(to));
+            }
+            if (statuses != null && !statuses.contains(cols[12])) return false;
+            return (from == null || !LocalDate.parse(cols[5]).isBefore(from))
+                    && (to == null || !LocalDate.parse(cols[6]).isAfter(to));
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes a parsed row as one JSON object; empty columns become null.
+     */
+    private void writeJson(Writer writer, String[] cols) throws IOException {
+        String[] fields = entity == Entity.APPLICATIONS ? APPLICATION_FIELDS : INTERNSHIP_FIELDS;
+        String types = entity == Entity.APPLICATIONS ? APPLICATION_TYPES : INTERNSHIP_TYPES;
+        writer.write('{');
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write('"');
+            writer.write(fields[i]);
+            writer.write("\":");
+            String value = i < cols.length ? cols[i] : "";
+            char type = types.charAt(i);
+            if (value.isEmpty()) {
+                writer.write("null");
+            } else if (type == 'n' && isInteger(value)) {
+                // Re-printed from the parsed value, so "007" or "+7" come out as valid JSON 7
+                writer.write(Long.toString(Long.parseLong(value)));
+            } else if (type == 'b' && (value.equals("true") || value.equals("false"))) {
+                writer.write(value);
+            } else {
+                writeString(writer, value);
+            }
+        }
+        writer.write('}');
+    }
+
+    /**
+     * Tells whether a numeric column holds a whole number; anything else is written as a string.
+     */
+    private static boolean isInteger(String value) {
+        try {
+            Long.parseLong(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes a JSON string literal.
+     */
+    private static void writeString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': writer.write("\\\""); break;
+                case '\\': writer.write("\\\\"); break;
+                case '\n': writer.write("\\n"); break;
+                case '\r': writer.write("\\r"); break;
+                case '\t': writer.write("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+            }
+        }
+        writer.write('"');
+    }
+
+    /**
+     * Exports from the current data directory.
+     * Usage: {@code java -cp bin utils.export.StreamingExporter <applications|internships> <output file|->
+     * [--format=csv|jsonl] [--status=S1,S2] [--from=yyyy-MM-dd] [--to=yyyy-MM-dd] [--gzip]}
+     *
+     * @param args entity, output file ({@code -} for standard output) and options
+     * @throws IOException if the store cannot be read or the output cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: java -cp bin utils.export.StreamingExporter <applications|internships> <output file|->"
+                    + " [--format=csv|jsonl] [--status=S1,S2] [--from=yyyy-MM-dd] [--to=yyyy-MM-dd] [--gzip]");
+            return;
+        }
+        Entity entity = Entity.parse(args[0]);
+        Format format = Format.CSV;
+        String statuses = null;
+        LocalDate from = null;
+        LocalDate to = null;
+        boolean gzip = false;
+        for (int i = 2; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.startsWith("--format=")) format = Format.parse(arg.substring(9));
+            else if (arg.startsWith("--status=")) statuses = arg.substring(9);
+            else if (arg.startsWith("--from=")) from = LocalDate.parse(arg.substring(7));
+            else if (arg.startsWith("--to=")) to = LocalDate.parse(arg.substring(5));
+            else if (arg.equals("--gzip")) gzip = true;
+            else throw new IllegalArgumentException("Unknown option: " + arg);
+        }
+        StreamingExporter exporter = new StreamingExporter(entity, format);
+        exporter.setStatuses(statuses);
+        exporter.setFrom(from);
+        exporter.setTo(to);
+        exporter.setGzip(gzip);
+        if (args[1].equals("-")) {
+            exporter.export(System.out);
+        } else {
+            System.out.println(exporter.export(Paths.get(args[1])).summary());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * Bulk export of the data files.
+ *
+ * <ul>
+ *   <li>{@link utils.export.StreamingExporter} - Applications or internships as CSV or JSON lines,
+ *       filtered by status and date and optionally gzip-compressed, streamed row by row from a
+ *       snapshot of the store file in constant memory</li>
+ * </ul>
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+package utils.export;
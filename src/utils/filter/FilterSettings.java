@@ -217,6 +217,24 @@ public class FilterSettings {
         this.sortOrder = order; 
     }
     
+    /**
+     * Creates an independent copy of these settings.
+     * @return a copy with the same criteria and sort order
+     */
+    public FilterSettings copy() {
+        FilterSettings copy = new FilterSettings();
+        copy.statusFilter = statusFilter;
+        copy.statusFilterStr = statusFilterStr;
+        copy.majorFilter = majorFilter;
+        copy.levelFilter = levelFilter;
+        copy.openingDateFilter = openingDateFilter;
+        copy.closingDateFilter = closingDateFilter;
+        copy.companyFilter = companyFilter;
+        copy.keywordFilter = keywordFilter;
+        copy.sortOrder = sortOrder;
+        return copy;
+    }
+    
     /**
      * Checks if any filters are currently active.
      * 
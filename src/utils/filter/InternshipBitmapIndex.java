@@ -0,0 +1,327 @@
+package utils.filter;
+
+import constant.InternshipStatus;
+import model.Internship;
+import model.ModificationClock;
+import utils.index.CompressedBitmap;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compressed bitmap index over a snapshot of the internships, for multi-criteria filtering and facet counts.
+ *
+ * <p>Each internship in the snapshot gets a dense ordinal, and every distinct status, preferred major,
+ * level, company, visibility value and creator gets a {@link CompressedBitmap} of the ordinals that
+ * have it (text values are matched case-insensitively, like {@link InternshipFilter}; creators by user ID, also ignoring case). The equality criteria
+ * of a {@link FilterSettings} are then answered with bitmap ANDs, and the number of internships behind
+ * every option of every facet comes from intersection counts without materializing any list.
+ *
+ * <p>{@link #current()} keeps one shared index and rebuilds it when the internship partition of
+ * {@link ModificationClock} or the internship list generation changes, so results never reflect a
+ * stale status or a replaced object. Indexes are immutable once built and safe to share between threads.
+ * The rebuild is a full O(n) pass, even when a single internship changed: the partition version does
+ * not say which one. Under a steady stream of transitions, readers between two changes share one
+ * build, but each change costs a full rebuild on the next read.
+ *
+ * <p>The STATUS facet's FILLED option counts filled internships as {@link Internship#isFilled()} sees
+ * them, including approved internships with every slot taken, the same set a FILLED criterion matches.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class InternshipBitmapIndex {
+    /**
+     * Dimensions the index can count options for.
+     */
+    public enum Facet {
+        /** Internship status, plus the user-facing "AVAILABLE" (not filled) */
+        STATUS,
+        /** Preferred major */
+        MAJOR,
+        /** Level */
+        LEVEL,
+        /** Company name */
+        COMPANY,
+        /** "VISIBLE" or "HIDDEN" */
+        VISIBILITY
+    }
+
+    /** Shared index, replaced when the internships change */
+    private static volatile InternshipBitmapIndex current;
+
+    /** Internship list generation the index was built from */
+    private final long generation;
+    /** Internship partition version the index was built from */
+    private final long version;
+    /** Internship of each ordinal */
+    private final Internship[] ordinals;
+    /** Every ordinal */
+    private final CompressedBitmap all;
+    /** Ordinals of filled internships */
+    private final CompressedBitmap filled = new CompressedBitmap();
+    /** Ordinals of visible internships */
+    private final CompressedBitmap visible = new CompressedBitmap();
+    private final Map<InternshipStatus, CompressedBitmap> byStatus = new EnumMap<>(InternshipStatus.class);
+    private final Map<String, Value> byMajor = new HashMap<>();
+    private final Map<String, Value> byLevel = new HashMap<>();
+    private final Map<String, Value> byCompany = new HashMap<>();
+    private final Map<String, CompressedBitmap> byCreator = new HashMap<>();
+
+    /**
+     * Bitmap of one text value, with the spelling first seen for display.
+     */
+    private static final class Value {
+        final String name;
+        final CompressedBitmap bitmap = new CompressedBitmap();
+
+        Value(String name) {
+            this.name = name;
+        }
+    }
+
+    private InternshipBitmapIndex(List<Internship> internships, long generation, long version) {
+        this.generation = generation;
+        this.version = version;
+        this.ordinals = internships.toArray(new Internship[0]);
+        this.all = CompressedBitmap.range(ordinals.length);
+        for (InternshipStatus status : InternshipStatus.values()) byStatus.put(status, new CompressedBitmap());
+        for (int i = 0; i < ordinals.length; i++) {
+            Internship internship = ordinals[i];
+            byStatus.get(internship.getStatus()).add(i);
+            if (internship.isFilled()) filled.add(i);
+            if (internship.isVisible()) visible.add(i);
+            add(byMajor, internship.getPreferredMajor(), i);
+            add(byLevel, internship.getLevel(), i);
+            add(byCompany, internship.getCompanyName(), i);
+            if (internship.getCreator() != null) {
+                byCreator.computeIfAbsent(key(internship.getCreator().getUserID()), k -> new CompressedBitmap()).add(i);
+            }
+        }
+    }
+
+    /**
+     * Builds an index over a list of internships.
+     * @param internships the internships; their order gives the ordinals
+     * @return the index
+     */
+    public static InternshipBitmapIndex build(List<Internship> internships) {
+        return new InternshipBitmapIndex(internships, -1, -1);
+    }
+
+    /**
+     * Gets the shared index over all internships, rebuilding it if the internships changed since it was built.
+     * @return an index reflecting the current internships
+     */
+    public static InternshipBitmapIndex current() {
+        InternshipBitmapIndex index = current;
+        if (index != null && index.isCurrent()) return index;
+        synchronized (InternshipBitmapIndex.class) {
+            index = current;
+            if (index != null && index.isCurrent()) return index;
+            // Read the versions before the snapshot, so changes made while building trigger another rebuild
+            long generation = Internship.getListGeneration();
+            long version = ModificationClock.version(ModificationClock.Partition.INTERNSHIPS);
+            index = new InternshipBitmapIndex(Internship.getAllInternships(), generation, version);
+            current = index;
+            return index;
+        }
+    }
+
+    /**
+     * Tells whether the filter settings have any criterion the index can answer.
+     * @param settings the filter settings
+     * @return true if status, major, level or company is filtered
+     */
+    public static boolean isIndexed(FilterSettings settings) {
+        return statusCriterion(settings) != null || !isBlank(settings.getMajorFilter())
+                || !isBlank(settings.getLevelFilter()) || !isBlank(settings.getCompanyFilter());
+    }
+
+    /**
+     * Gets the number of internships in the index.
+     * @return the size
+     */
+    public int size() {
+        return ordinals.length;
+    }
+
+    /**
+     * Gets the internships matching the status, major, level and company criteria, in index order.
+     * Dates, keyword and sorting are left to {@link InternshipFilter#applyFilters(List, FilterSettings)}.
+     *
+     * @param settings the filter settings
+     * @return the matching internships
+     */
+    public List<Internship> select(FilterSettings settings) {
+        return select(settings, null);
+    }
+
+    /**
+     * Gets the internships created by a user and matching the status, major, level and company criteria.
+     * @param settings the filter settings
+     * @param creatorId user ID of the creator, or null for any creator
+     * @return the matching internships, in index order
+     */
+    public List<Internship> select(FilterSettings settings, String creatorId) {
+        CompressedBitmap matches = match(settings, null, creatorId);
+        List<Internship> result = new ArrayList<>(matches.getCardinality());
+        matches.forEach(i -> result.add(ordinals[i]));
+        return result;
+    }
+
+    /**
+     * Counts the internships matching the status, major, level and company criteria.
+     * @param settings the filter settings
+     * @return the number of matches
+     */
+    public int count(FilterSettings settings) {
+        return count(settings, null);
+    }
+
+    /**
+     * Counts the internships created by a user and matching the status, major, level and company criteria.
+     * @param settings the filter settings
+     * @param creatorId user ID of the creator, or null for any creator
+     * @return the number of matches
+     */
+    public int count(FilterSettings settings, String creatorId) {
+        return match(settings, null, creatorId).getCardinality();
+    }
+
+    /**
+     * Counts the internships behind every option of every facet. Each facet is counted with all the
+     * other criteria applied but its own ignored, so the counts show what choosing an option would give.
+     *
+     * @param settings the filter settings
+     * @return option counts by facet; options are sorted by name and include those with no matches
+     */
+    public Map<Facet, Map<String, Integer>> facetCounts(FilterSettings settings) {
+        Map<Facet, Map<String, Integer>> counts = new EnumMap<>(Facet.class);
+        for (Facet facet : Facet.values()) counts.put(facet, facetCounts(settings, facet));
+        return counts;
+    }
+
+    /**
+     * Counts the internships behind every option of one facet, with the other criteria applied.
+     * @param settings the filter settings
+     * @param facet the facet to count
+     * @return option counts, sorted by option name
+     */
+    public Map<String, Integer> facetCounts(FilterSettings settings, Facet facet) {
+        CompressedBitmap base = match(settings, facet, null);
+        Map<String, Integer> counts = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        switch (facet) {
+            case STATUS:
+                for (Map.Entry<InternshipStatus, CompressedBitmap> e : byStatus.entrySet()) {
+                    counts.put(e.getKey().name(), CompressedBitmap.andCardinality(base, e.getValue()));
+                }
+                // FILLED and AVAILABLE come from the bitmap match() uses for them, so counts equal results
+                int filledCount = CompressedBitmap.andCardinality(base, filled);
+                counts.put(InternshipStatus.FILLED.name(), filledCount);
+                counts.put("AVAILABLE", base.getCardinality() - filledCount);
+                break;
+            case MAJOR:
+                countValues(byMajor, base, counts);
+                break;
+            case LEVEL:
+                countValues(byLevel, base, counts);
+                break;
+            case COMPANY:
+                countValues(byCompany, base, counts);
+                break;
+            case VISIBILITY:
+                int shown = CompressedBitmap.andCardinality(base, visible);
+                counts.put("VISIBLE", shown);
+                counts.put("HIDDEN", base.getCardinality() - shown);
+                break;
+        }
+        return counts;
+    }
+
+    /**
+     * ANDs together the bitmaps of the indexed criteria.
+     * @param settings the filter settings
+     * @param ignored facet whose criterion to skip, or null
+     * @param creatorId creator's user ID to require, or null
+     */
+    private CompressedBitmap match(FilterSettings settings, Facet ignored, String creatorId) {
+        List<CompressedBitmap> parts = new ArrayList<>(5);
+        if (creatorId != null) {
+            CompressedBitmap created = byCreator.get(key(creatorId));
+            if (created == null) return new CompressedBitmap();
+            parts.add(created);
+        }
+        boolean notFilled = false;
+        if (ignored != Facet.STATUS) {
+            Object status = statusCriterion(settings);
+            if (status == Boolean.TRUE) {
+                parts.add(filled);
+            } else if (status == Boolean.FALSE) {
+                notFilled = true;
+            } else if (status != null) {
+                parts.add(byStatus.get((InternshipStatus) status));
+            }
+        }
+        if (ignored != Facet.MAJOR && !addValue(byMajor, settings.getMajorFilter(), parts)) return new CompressedBitmap();
+        if (ignored != Facet.LEVEL && !addValue(byLevel, settings.getLevelFilter(), parts)) return new CompressedBitmap();
+        if (ignored != Facet.COMPANY && !addValue(byCompany, settings.getCompanyFilter(), parts)) return new CompressedBitmap();
+
+        // Smallest first keeps the intermediate results small
+        parts.sort((a, b) -> Integer.compare(a.getCardinality(), b.getCardinality()));
+        CompressedBitmap result = parts.isEmpty() ? all : parts.get(0);
+        for (int i = 1; i < parts.size(); i++) result = CompressedBitmap.and(result, parts.get(i));
+        return notFilled ? CompressedBitmap.andNot(result, filled) : result;
+    }
+
+    /**
+     * Gets the status criterion the way {@link InternshipFilter} reads it.
+     * @return TRUE for filled, FALSE for available (not filled), an InternshipStatus, or null for none
+     */
+    private static Object statusCriterion(FilterSettings settings) {
+        String statusStr = settings.getStatusFilterStr();
+        if (statusStr != null && statusStr.equalsIgnoreCase("AVAILABLE")) return Boolean.FALSE;
+        if (statusStr != null && statusStr.equalsIgnoreCase("FILLED")) return Boolean.TRUE;
+        return settings.getStatusFilter();
+    }
+
+    /**
+     * Adds the bitmap of a text criterion to the parts to AND.
+     * @return false if the criterion is set but matches nothing
+     */
+    private static boolean addValue(Map<String, Value> values, String criterion, List<CompressedBitmap> parts) {
+        if (isBlank(criterion)) return true;
+        Value value = values.get(key(criterion));
+        if (value == null) return false;
+        parts.add(value.bitmap);
+        return true;
+    }
+
+    private static void countValues(Map<String, Value> values, CompressedBitmap base, Map<String, Integer> counts) {
+        for (Value value : values.values()) counts.put(value.name, CompressedBitmap.andCardinality(base, value.bitmap));
+    }
+
+    private static void add(Map<String, Value> values, String name, int ordinal) {
+        if (name == null) return;
+        values.computeIfAbsent(key(name), k -> new Value(name)).bitmap.add(ordinal);
+    }
+
+    private boolean isCurrent() {
+        return generation == Internship.getListGeneration()
+                && version == ModificationClock.version(ModificationClock.Partition.INTERNSHIPS);
+    }
+
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
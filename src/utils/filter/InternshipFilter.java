@@ -2,6 +2,7 @@ package utils.filter;
 
 import model.Internship;
 import constant.InternshipStatus;
+import utils.jfr.FilterEvent;
 
 import java.time.LocalDate;
 import java.util.Comparator;
@@ -35,9 +36,45 @@ public class InternshipFilter {
     @SuppressWarnings("unchecked")
     public static List<?> applyFilters(List<?> internships, FilterSettings settings) {
         List<Internship> typedInternships = (List<Internship>) internships;
-        Stream<Internship> stream = typedInternships.stream();
+        FilterEvent event = new FilterEvent();
+        event.begin();
+        Stream<Internship> stream = filter(typedInternships.stream(), settings);
         
-        // Apply filters
+        // Convert to list for sorting
+        List<Internship> filtered = stream.collect(Collectors.toList());
+        
+        // Apply sorting (default: alphabetical by company)
+        List<Internship> sorted = applySorting(filtered, settings.getSortOrder());
+        event.end();
+        if (event.shouldCommit()) {
+            event.criteria = settings.getFilterSummary();
+            event.sortOrder = settings.getSortOrder();
+            event.inputSize = typedInternships.size();
+            event.resultSize = sorted.size();
+            event.commit();
+        }
+        return (List<?>) sorted;
+    }
+    
+    /**
+     * Tells whether one internship passes every filter criterion (sorting aside).
+     * 
+     * @param internship The internship to test
+     * @param settings Filter settings to apply
+     * @return true if the internship would be in the filtered list
+     */
+    static boolean matches(Internship internship, FilterSettings settings) {
+        return filter(Stream.of(internship), settings).findAny().isPresent();
+    }
+    
+    /**
+     * Applies every filter criterion to a stream of internships.
+     * 
+     * @param stream The stream of internships to filter
+     * @param settings Filter settings to apply
+     * @return Filtered stream
+     */
+    private static Stream<Internship> filter(Stream<Internship> stream, FilterSettings settings) {
         if (settings.getStatusFilterStr() != null && 
             (settings.getStatusFilterStr().equalsIgnoreCase("AVAILABLE") || 
              settings.getStatusFilterStr().equalsIgnoreCase("FILLED"))) {
@@ -50,13 +87,7 @@ public class InternshipFilter {
         stream = applyOpeningDateFilter(stream, settings.getOpeningDateFilter());
         stream = applyClosingDateFilter(stream, settings.getClosingDateFilter());
         stream = applyCompanyFilter(stream, settings.getCompanyFilter());
-        stream = applyKeywordFilter(stream, settings.getKeywordFilter());
-        
-        // Convert to list for sorting
-        List<Internship> filtered = stream.collect(Collectors.toList());
-        
-        // Apply sorting (default: alphabetical by company)
-        return (List<?>) applySorting(filtered, settings.getSortOrder());
+        return applyKeywordFilter(stream, settings.getKeywordFilter());
     }
     
     /**
@@ -234,6 +265,31 @@ public class InternshipFilter {
     }
     
     
+    /**
+     * Gets the values an internship is ordered by under a sort order, most significant first.
+     * Comparing these keys element by element gives the same order as {@link #applySorting}.
+     * 
+     * @param internship The internship
+     * @param sortOrder The sort order, as for {@link #applySorting}
+     * @return The sort key values
+     */
+    static Comparable<?>[] sortKey(Internship internship, String sortOrder) {
+        switch (sortOrder.toUpperCase()) {
+            case "ID":
+                return new Comparable<?>[]{internship.getID()};
+            case "CLOSING_DATE":
+                return new Comparable<?>[]{internship.getCloseDate()};
+            case "OPENING_DATE":
+                return new Comparable<?>[]{internship.getOpenDate()};
+            case "LEVEL":
+                return new Comparable<?>[]{internship.getLevel(), internship.getTitle()};
+            case "COMPANY":
+            case "ALPHABETICAL":
+            default:
+                return new Comparable<?>[]{internship.getCompanyName(), internship.getTitle()};
+        }
+    }
+    
     /**
      * Get available filter options for level.
      * @return array of level filter options
@@ -0,0 +1,186 @@
+package utils.filter;
+
+import model.Internship;
+import utils.metrics.MetricsRegistry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A user's named filter with a materialized, sorted result set.
+ *
+ * <p>The first {@link #open()} runs the filter over every internship in scope. After that the
+ * result set is maintained incrementally: {@link SavedFilters} passes on the ID of every internship
+ * that changes, and the next open re-checks only those, inserting, removing or repositioning each
+ * one in the sorted set. Opening therefore costs the size of the result plus the number of
+ * changes since the last open, not the size of the catalog.
+ *
+ * <p>Entries keep a copy of the values they are sorted by, so an internship whose sort values
+ * change can still be found and moved. Internships that compare equal are ordered by ID.
+ *
+ * <p>A changed internship that cannot be found may be mid-reload rather than deleted, so its entry
+ * is kept (but not returned) and re-checked on the next open; only if it is still missing then is
+ * it removed. Opening under the reload lock, as the controllers do, avoids the case altogether.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class SavedFilter {
+    /** Registry receiving refresh metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+
+    private final String ownerId;
+    private final String name;
+    private final String creatorId;
+    private final FilterSettings settings;
+
+    /** IDs of internships changed since the result set was last brought up to date */
+    private final Set<Integer> changed = ConcurrentHashMap.newKeySet();
+    /** IDs of changed internships that were missing at the last open, re-checked at the next */
+    private final Set<Integer> missing = new HashSet<>();
+    /** Result set in display order; null until first opened */
+    private TreeSet<Entry> sorted;
+    /** Result set entries by internship ID */
+    private final Map<Integer, Entry> entries = new HashMap<>();
+
+    /**
+     * Internship in the result set, with the sort values it was inserted under.
+     */
+    private static final class Entry implements Comparable<Entry> {
+        final int id;
+        final Comparable<?>[] key;
+
+        Entry(int id, Comparable<?>[] key) {
+            this.id = id;
+            this.key = key;
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public int compareTo(Entry other) {
+            for (int i = 0; i < key.length; i++) {
+                Comparable a = key[i], b = other.key[i];
+                if (a == null || b == null) {
+                    if (a != b) return a == null ? -1 : 1;
+                    continue;
+                }
+                int c = a.compareTo(b);
+                if (c != 0) return c;
+            }
+            return Integer.compare(id, other.id);
+        }
+    }
+
+    /**
+     * Creates a saved filter. The result set is built on first open.
+     * @param ownerId user ID of the owner
+     * @param name filter name, unique per owner
+     * @param settings criteria and sort order; copied
+     * @param creatorId only internships created by this user are in scope, or null for all internships
+     */
+    SavedFilter(String ownerId, String name, FilterSettings settings, String creatorId) {
+        this.ownerId = ownerId;
+        this.name = name;
+        this.settings = settings.copy();
+        this.creatorId = creatorId;
+    }
+
+    /** @return user ID of the owner */
+    public String getOwnerId() { return ownerId; }
+
+    /** @return the filter name */
+    public String getName() { return name; }
+
+    /** @return user ID whose internships are in scope, or null for all */
+    public String getCreatorId() { return creatorId; }
+
+    /** @return a copy of the criteria and sort order */
+    public FilterSettings getSettings() { return settings.copy(); }
+
+    /**
+     * Records that an internship changed, so the next open re-checks it.
+     * Called on the publishing thread; only records the ID.
+     * @param internshipId the internship ID
+     */
+    void changed(int internshipId) {
+        changed.add(internshipId);
+    }
+
+    /**
+     * Gets the internships matching the filter, in its sort order.
+     * @return the current result set
+     */
+    public synchronized List<Internship> open() {
+        if (sorted == null) {
+            sorted = new TreeSet<>();
+            // Changes during the initial scan are re-checked on the next open
+            changed.clear();
+            for (Internship internship : Internship.getAllInternships()) {
+                update(internship.getID(), internship);
+            }
+            metrics.counter("SavedFilter.materialized").increment();
+        } else if (!changed.isEmpty()) {
+            int count = 0;
+            for (Integer id : new ArrayList<>(changed)) {
+                changed.remove(id);
+                Internship internship = Internship.findWithID(id);
+                if (internship == null && missing.add(id)) {
+                    // Possibly mid-reload: keep the entry and look again next time
+                    changed.add(id);
+                    continue;
+                }
+                missing.remove(id);
+                update(id, internship);
+                count++;
+            }
+            metrics.counter("SavedFilter.rechecked").add(count);
+        }
+        List<Internship> result = new ArrayList<>(sorted.size());
+        for (Entry entry : sorted) {
+            Internship internship = Internship.findWithID(entry.id);
+            // Absent only while the internships are being reloaded
+            if (internship != null) result.add(internship);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the size of the result set as of the last open.
+     * @return the number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Brings one internship's entry up to date: inserts, removes or repositions it.
+     * @param id the internship ID
+     * @param internship the internship, or null if it no longer exists
+     */
+    private void update(int id, Internship internship) {
+        Entry old = entries.get(id);
+        boolean inScope = internship != null
+                && (creatorId == null || (internship.getCreator() != null && creatorId.equals(internship.getCreator().getUserID())));
+        if (!inScope || !InternshipFilter.matches(internship, settings)) {
+            if (old != null) {
+                sorted.remove(old);
+                entries.remove(id);
+            }
+            return;
+        }
+        Entry entry = new Entry(id, InternshipFilter.sortKey(internship, settings.getSortOrder()));
+        if (old != null) {
+            if (old.compareTo(entry) == 0) return;
+            sorted.remove(old);
+        }
+        sorted.add(entry);
+        entries.put(id, entry);
+    }
+}
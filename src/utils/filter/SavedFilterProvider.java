@@ -0,0 +1,41 @@
+package utils.filter;
+
+import java.util.List;
+
+/**
+ * Interface for controllers whose users can save and reopen named filters.
+ * Follows Interface Segregation Principle - only provides saved-filter operations.
+ * 
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public interface SavedFilterProvider {
+    /**
+     * Gets the names of the current user's saved filters.
+     * @return sorted filter names
+     */
+    List<String> getSavedFilterNames();
+
+    /**
+     * Saves the current filter settings under a name, replacing any filter of that name.
+     * @param name filter name
+     * @throws IllegalArgumentException if the name is blank or contains a comma
+     */
+    void saveFilter(String name);
+
+    /**
+     * Opens a saved filter.
+     * @param name filter name
+     * @return matching internships in the filter's sort order
+     * @throws IllegalArgumentException if there is no filter of that name
+     */
+    List<?> openSavedFilter(String name);
+
+    /**
+     * Deletes a saved filter.
+     * @param name filter name
+     * @throws IllegalArgumentException if there is no filter of that name
+     */
+    void deleteSavedFilter(String name);
+}
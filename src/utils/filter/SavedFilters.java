@@ -0,0 +1,222 @@
+package utils.filter;
+
+import constant.DataFiles;
+import model.Internship;
+import utils.event.ApplicationStatusChanged;
+import utils.event.EventBus;
+import utils.event.InternshipChanged;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of every user's saved filters, persisted in {@link DataFiles#savedFilters()}.
+ *
+ * <p>Subscribes to {@link InternshipChanged} and {@link ApplicationStatusChanged} and forwards
+ * the internship ID to each {@link SavedFilter}, which re-checks it on its next open. Internship
+ * CSV reloads publish events only for rows that actually changed, so reloading unchanged data
+ * costs the saved filters nothing.
+ *
+ * <p>Definitions are read lazily and re-read when the data directory changes. Result sets live in
+ * memory only and are rebuilt on the first open after a restart.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class SavedFilters {
+    /** Singleton instance */
+    private static final SavedFilters INSTANCE = new SavedFilters();
+    /** Header row of the definitions file */
+    private static final String HEADER = "Owner,Name,Creator,Status,Major,Level,OpeningDate,ClosingDate,Company,Keyword,Sort";
+
+    /** Filters by owner, then by lowercased name */
+    private final Map<String, Map<String, SavedFilter>> byOwner = new ConcurrentHashMap<>();
+    /** Definitions file the filters were read from; null until loaded */
+    private String loadedPath;
+
+    private SavedFilters() {
+        EventBus bus = EventBus.getInstance();
+        bus.subscribe(InternshipChanged.class, e -> changed(e.getInternshipId()));
+        bus.subscribe(ApplicationStatusChanged.class, e -> changed(e.getInternshipId()));
+    }
+
+    /**
+     * Get singleton instance.
+     * @return the singleton instance
+     */
+    public static SavedFilters getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Saves a filter, replacing any filter of the same name for the same owner.
+     * @param ownerId user ID of the owner
+     * @param name filter name
+     * @param settings criteria and sort order; copied
+     * @param creatorId only internships created by this user are in scope, or null for all internships
+     * @return the saved filter
+     * @throws IllegalArgumentException if the name is blank or a name or text value contains a comma
+     */
+    public synchronized SavedFilter save(String ownerId, String name, FilterSettings settings, String creatorId) {
+        if (name == null || name.trim().isEmpty()) throw new IllegalArgumentException("Filter name cannot be empty.");
+        name = name.trim();
+        for (String value : new String[]{name, settings.getStatusFilterStr(), settings.getMajorFilter(),
+                settings.getLevelFilter(), settings.getCompanyFilter(), settings.getKeywordFilter()}) {
+            if (value != null && value.contains(",")) {
+                throw new IllegalArgumentException("Saved filter names and values cannot contain commas.");
+            }
+        }
+        load();
+        SavedFilter filter = new SavedFilter(ownerId, name, settings, creatorId);
+        byOwner.computeIfAbsent(ownerId, k -> new ConcurrentHashMap<>()).put(name.toLowerCase(), filter);
+        write();
+        return filter;
+    }
+
+    /**
+     * Gets the names of a user's saved filters, sorted.
+     * @param ownerId user ID of the owner
+     * @return the filter names
+     */
+    public synchronized List<String> getNames(String ownerId) {
+        load();
+        List<String> names = new ArrayList<>();
+        Map<String, SavedFilter> filters = byOwner.get(ownerId);
+        if (filters != null) filters.values().forEach(f -> names.add(f.getName()));
+        names.sort(String.CASE_INSENSITIVE_ORDER);
+        return names;
+    }
+
+    /**
+     * Gets a saved filter by name (case-insensitive).
+     * @param ownerId user ID of the owner
+     * @param name filter name
+     * @return the filter
+     * @throws IllegalArgumentException if the user has no filter of that name
+     */
+    public synchronized SavedFilter get(String ownerId, String name) {
+        load();
+        Map<String, SavedFilter> filters = byOwner.get(ownerId);
+        SavedFilter filter = filters == null || name == null ? null : filters.get(name.trim().toLowerCase());
+        if (filter == null) throw new IllegalArgumentException("No saved filter named: " + name);
+        return filter;
+    }
+
+    /**
+     * Opens a saved filter. Controllers open it inside
+     * {@link controller.interfaces.ApplicationControllerInterface#reloadAndRead}, so no reload runs meanwhile.
+     * @param ownerId user ID of the owner
+     * @param name filter name
+     * @return the matching internships in the filter's sort order
+     * @throws IllegalArgumentException if the user has no filter of that name
+     */
+    public List<Internship> open(String ownerId, String name) {
+        // Opening does not hold the registry lock; each filter synchronizes itself
+        return get(ownerId, name).open();
+    }
+
+    /**
+     * Deletes a saved filter.
+     * @param ownerId user ID of the owner
+     * @param name filter name
+     * @throws IllegalArgumentException if the user has no filter of that name
+     */
+    public synchronized void delete(String ownerId, String name) {
+        SavedFilter filter = get(ownerId, name);
+        byOwner.get(ownerId).remove(filter.getName().toLowerCase());
+        write();
+    }
+
+    /**
+     * Forwards an internship change to every saved filter.
+     */
+    private void changed(int internshipId) {
+        for (Map<String, SavedFilter> filters : byOwner.values()) {
+            for (SavedFilter filter : filters.values()) filter.changed(internshipId);
+        }
+    }
+
+    /**
+     * Reads the definitions file if it has not been read from the current data directory.
+     */
+    private void load() {
+        String path = DataFiles.savedFilters();
+        if (path.equals(loadedPath)) return;
+        byOwner.clear();
+        loadedPath = path;
+        File file = new File(path);
+        if (!file.exists()) return;
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                String[] cols = line.split(",", -1);
+                if (cols.length != 11) continue;
+                FilterSettings settings = new FilterSettings();
+                settings.setStatusFilterStr(blankToNull(cols[3]));
+                settings.setMajorFilter(blankToNull(cols[4]));
+                settings.setLevelFilter(blankToNull(cols[5]));
+                settings.setOpeningDateFilter(cols[6].isEmpty() ? null : LocalDate.parse(cols[6]));
+                settings.setClosingDateFilter(cols[7].isEmpty() ? null : LocalDate.parse(cols[7]));
+                settings.setCompanyFilter(blankToNull(cols[8]));
+                settings.setKeywordFilter(blankToNull(cols[9]));
+                if (!cols[10].isEmpty()) settings.setSortOrder(cols[10]);
+                byOwner.computeIfAbsent(cols[0], k -> new ConcurrentHashMap<>())
+                        .put(cols[1].toLowerCase(), new SavedFilter(cols[0], cols[1], settings, blankToNull(cols[2])));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read saved filters: " + path, e);
+        }
+    }
+
+    /**
+     * Rewrites the definitions file through a temporary file.
+     */
+    private void write() {
+        Path target = new File(loadedPath).toPath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            try (FileWriter writer = new FileWriter(temp.toFile())) {
+                writer.write(HEADER + "\n");
+                for (Map<String, SavedFilter> filters : byOwner.values()) {
+                    for (SavedFilter f : filters.values()) {
+                        FilterSettings s = f.getSettings();
+                        writer.write(String.join(",", f.getOwnerId(), f.getName(), nullToBlank(f.getCreatorId()),
+                                nullToBlank(s.getStatusFilterStr()), nullToBlank(s.getMajorFilter()),
+                                nullToBlank(s.getLevelFilter()), nullToBlank(s.getOpeningDateFilter()),
+                                nullToBlank(s.getClosingDateFilter()), nullToBlank(s.getCompanyFilter()),
+                                nullToBlank(s.getKeywordFilter()), nullToBlank(s.getSortOrder())) + "\n");
+                    }
+                }
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write saved filters: " + loadedPath, e);
+        }
+    }
+
+    private static String blankToNull(String s) {
+        return s.isEmpty() ? null : s;
+    }
+
+    private static String nullToBlank(Object o) {
+        return o == null ? "" : o.toString();
+    }
+}
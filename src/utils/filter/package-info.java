@@ -5,6 +5,11 @@
  * <ul>
  *   <li>{@link utils.filter.InternshipFilter} - Filter and sort internships by multiple criteria</li>
  *   <li>{@link utils.filter.FilterSettings} - Encapsulate filter configuration state</li>
+ *   <li>{@link utils.filter.InternshipBitmapIndex} - Bitmap index answering status, major, level and
+ *       company criteria and counting internships per filter option</li>
+ *   <li>{@link utils.filter.SavedFilters} - Named per-user filters whose result sets
+ *       ({@link utils.filter.SavedFilter}) are updated from internship change events</li>
+ *   <li>{@link utils.filter.SavedFilterProvider} - Saved-filter operations offered by controllers</li>
  * </ul>
  * 
  * <p>Supported filters:
@@ -28,6 +33,7 @@
  * <p>Features:
  * <ul>
  *   <li>Persistent filter state across menu navigation</li>
+ *   <li>Saved filters that open without rescanning every internship</li>
  *   <li>Multiple filters applied simultaneously</li>
  *   <li>Clear/reset filter functionality</li>
  * </ul>
@@ -1,6 +1,7 @@
 package utils.formatter;
 
 import model.*;
+import utils.cache.RenderCache;
 import java.util.List;
 import java.util.Scanner;
 import java.util.function.Function;
@@ -10,6 +11,7 @@ import view.TableView; // Import TableView for table display
  * Default implementation for application formatting.
  * Provides flexible formatting options for displaying application details.
  * Can be extended for different formatting styles.
+ * Rows and detail pages are cached in {@link RenderCache} keyed by the application's render version.
  */
 public class ApplicationFormatter implements Formatter {
     
@@ -17,6 +19,9 @@ public class ApplicationFormatter implements Formatter {
     // Additional derived columns: Student (name from StudentID), Internship, Company (from internship)
     /** Standard table headers for application display */
     public static final String[] HEADERS = new String[]{"#", "ID", "Student ID", "Student", "Internship", "Company", "Status", "Date"};
+    /** Entity kind used for render cache keys */
+    private static final String CACHE_KIND = "Application";
+    
     /** Whether to show detailed internship information */
     private boolean showInternshipDetails;
     /** Optional header text for the display */
@@ -97,6 +102,17 @@ public class ApplicationFormatter implements Formatter {
      * @return Formatted row string
      */
     public static String formatAsRow(Application application) {
+        return RenderCache.getInstance().getOrRender(CACHE_KIND, application.getId(), application.getRenderVersion(),
+                "row", () -> renderRow(application));
+    }
+    
+    /**
+     * Renders a single list row without consulting the cache.
+     * Used directly by bulk output, where caching every row would only evict the interactive views' rows.
+     * @param application The application to format
+     * @return Formatted row string
+     */
+    public static String renderRow(Application application) {
         String reasonText = "";
         if (application.getWithdrawalReason() != null && !application.getWithdrawalReason().isEmpty()) {
             reasonText = " | Reason: " + application.getWithdrawalReason();
@@ -121,8 +137,9 @@ public class ApplicationFormatter implements Formatter {
      * @return Formatted details string
      */
     public static String formatDetails(Application application, String header, boolean showInternshipDetails) {
-        ApplicationFormatter formatter = new ApplicationFormatter(header, showInternshipDetails);
-        return formatter.format(application);
+        return RenderCache.getInstance().getOrRender(CACHE_KIND, application.getId(), application.getRenderVersion(),
+                "details:" + showInternshipDetails + ":" + header,
+                () -> new ApplicationFormatter(header, showInternshipDetails).format(application));
     }
     
     /**
@@ -153,6 +170,25 @@ public class ApplicationFormatter implements Formatter {
      * @return Array of cell values
      */
     public static String[] formatTableRowFromObject(Object applicationObject, int displayNumber) {
+        if (applicationObject instanceof Application) {
+            Application application = (Application) applicationObject;
+            String[] cached = RenderCache.getInstance().getOrRender(CACHE_KIND, application.getId(),
+                    application.getRenderVersion(), "table", () -> renderTableRow(applicationObject, 0));
+            // Cached template is shared - copy before filling in the display number
+            String[] row = cached.clone();
+            row[0] = String.valueOf(displayNumber);
+            return row;
+        }
+        return renderTableRow(applicationObject, displayNumber);
+    }
+    
+    /**
+     * Renders a table row using reflection without consulting the cache.
+     * @param applicationObject The application object to format
+     * @param displayNumber The row number to display (1-based)
+     * @return Array of cell values
+     */
+    private static String[] renderTableRow(Object applicationObject, int displayNumber) {
         try {
             int id = (Integer) applicationObject.getClass().getMethod("getId").invoke(applicationObject);
             Object applicant = applicationObject.getClass().getMethod("getApplicant").invoke(applicationObject);
@@ -1,6 +1,7 @@
 package utils.formatter;
 
 import model.Internship;
+import utils.cache.RenderCache;
 import utils.filter.FilterSettings;
 import java.util.List;
 import java.util.Scanner;
@@ -11,6 +12,7 @@ import view.TableView; // Import TableView for table display
  * Default implementation for internship formatting.
  * Provides flexible formatting options for displaying internship details.
  * Can be extended for different formatting styles.
+ * Rows and detail pages are cached in {@link RenderCache} keyed by internship version.
  */
 public class InternshipFormatter implements Formatter {
     
@@ -21,6 +23,9 @@ public class InternshipFormatter implements Formatter {
     /** Table headers with status and visibility columns */
     public static final String[] HEADERS_WITH_STATUS = new String[]{"#", "ID", "Title", "Level", "Major", "Company", "Slots", "Staff Approval Status", "Visible", "Unsettled Applications"};
     
+    /** Entity kind used for render cache keys */
+    private static final String CACHE_KIND = "Internship";
+    
     /** Whether to show visibility status */
     private boolean showVisible;
     /** Optional header text for display */
@@ -69,6 +74,18 @@ public class InternshipFormatter implements Formatter {
      * @return formatted row string
      */
     public static String formatAsRow(Internship i, boolean showStatus) {
+        return RenderCache.getInstance().getOrRender(CACHE_KIND, i.getID(), i.getVersion(),
+                showStatus ? "row-status" : "row", () -> renderRow(i, showStatus));
+    }
+    
+    /**
+     * Renders a single-line row string without consulting the cache.
+     * Used directly by bulk output, where caching every row would only evict the interactive views' rows.
+     * @param i the internship to format
+     * @param showStatus whether to include status and visibility
+     * @return formatted row string
+     */
+    public static String renderRow(Internship i, boolean showStatus) {
         if (showStatus) {
             long pendingCount = i.getPendingApplicationsCount();
             String pendingInfo = pendingCount > 0 ? " | Pending: " + pendingCount : "";
@@ -89,7 +106,8 @@ public class InternshipFormatter implements Formatter {
      * @return formatted details string
      */
     public static String formatDetails(Internship i, String header, boolean showVisible) {
-        return new InternshipFormatter(header, showVisible).format(i);
+        return RenderCache.getInstance().getOrRender(CACHE_KIND, i.getID(), i.getVersion(),
+                "details:" + showVisible + ":" + header, () -> new InternshipFormatter(header, showVisible).format(i));
     }
     
     /**
@@ -110,6 +128,26 @@ public class InternshipFormatter implements Formatter {
      * @return formatted array of strings for table display
      */
     public static String[] formatTableRowFromObject(Object internshipObject, int displayNumber, boolean showStatus) {
+        if (internshipObject instanceof Internship) {
+            Internship i = (Internship) internshipObject;
+            String[] cached = RenderCache.getInstance().getOrRender(CACHE_KIND, i.getID(), i.getVersion(),
+                    showStatus ? "table-status" : "table", () -> renderTableRow(internshipObject, 0, showStatus));
+            // Cached template is shared - copy before filling in the display number
+            String[] row = cached.clone();
+            row[0] = String.valueOf(displayNumber);
+            return row;
+        }
+        return renderTableRow(internshipObject, displayNumber, showStatus);
+    }
+    
+    /**
+     * Renders a table row using reflection without consulting the cache.
+     * @param internshipObject the internship object to format
+     * @param displayNumber the display number for the row
+     * @param showStatus whether to include status and visibility columns
+     * @return formatted array of strings for table display
+     */
+    private static String[] renderTableRow(Object internshipObject, int displayNumber, boolean showStatus) {
         try {
             int id = (Integer) internshipObject.getClass().getMethod("getID").invoke(internshipObject);
             String title = (String) internshipObject.getClass().getMethod("getTitle").invoke(internshipObject);
@@ -0,0 +1,521 @@
+package utils.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of non-negative integers in the style of Roaring bitmaps.
+ *
+ * <p>Values are split by their upper 16 bits into chunks of 65536. Each chunk is stored in a
+ * container chosen by its density: a sorted array of the lower 16 bits while it holds at most
+ * 4096 values (8KB or less), otherwise a fixed 8KB bitset. Set operations work chunk by chunk
+ * and pick the algorithm for each pair of container kinds, so sparse sets stay small and
+ * intersections of dense sets are plain word-wise ANDs.
+ *
+ * <p>Instances are mutable through {@link #add(int)} and not thread-safe; the set operations
+ * return new bitmaps and never modify their arguments.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class CompressedBitmap {
+    /** Largest array container; one value more and a bitset is smaller */
+    private static final int ARRAY_MAX = 4096;
+
+    /** Upper 16 bits of each chunk, ascending */
+    private char[] keys = new char[4];
+    /** Container of each chunk, parallel to {@link #keys} */
+    private Container[] containers = new Container[4];
+    /** Number of chunks */
+    private int size;
+
+    /**
+     * Creates an empty bitmap.
+     */
+    public CompressedBitmap() {}
+
+    /**
+     * Creates a bitmap of {@code 0 .. count-1}.
+     * @param count number of values
+     * @return the bitmap
+     */
+    public static CompressedBitmap range(int count) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < count; i++) bitmap.add(i);
+        return bitmap;
+    }
+
+    /**
+     * Adds a value. Adding in ascending order is the fast path.
+     * @param value the value; must not be negative
+     * @throws IllegalArgumentException if the value is negative
+     */
+    public void add(int value) {
+        if (value < 0) throw new IllegalArgumentException("Negative value: " + value);
+        char high = (char) (value >>> 16);
+        int i = size > 0 && keys[size - 1] == high ? size - 1 : Arrays.binarySearch(keys, 0, size, high);
+        if (i < 0) {
+            i = -i - 1;
+            insert(i, high, new ArrayContainer());
+        }
+        containers[i] = containers[i].add((char) value);
+    }
+
+    /**
+     * Tells whether a value is present.
+     * @param value the value
+     * @return true if present
+     */
+    public boolean contains(int value) {
+        if (value < 0) return false;
+        int i = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    /**
+     * Gets the number of values.
+     * @return the cardinality
+     */
+    public int getCardinality() {
+        int total = 0;
+        for (int i = 0; i < size; i++) total += containers[i].cardinality();
+        return total;
+    }
+
+    /**
+     * Tells whether the bitmap has no values.
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Calls an action for every value in ascending order.
+     * @param action the action
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) containers[i].forEach(keys[i] << 16, action);
+    }
+
+    /**
+     * Gets the values in ascending order.
+     * @return the values
+     */
+    public int[] toArray() {
+        int[] values = new int[getCardinality()];
+        int[] n = {0};
+        forEach(v -> values[n[0]++] = v);
+        return values;
+    }
+
+    /**
+     * Intersects two bitmaps.
+     * @param a first bitmap
+     * @param b second bitmap
+     * @return values in both
+     */
+    public static CompressedBitmap and(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0, j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                result.append(a.keys[i], a.containers[i].and(b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Unites two bitmaps.
+     * @param a first bitmap
+     * @param b second bitmap
+     * @return values in either
+     */
+    public static CompressedBitmap or(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0, j = 0;
+        while (i < a.size || j < b.size) {
+            if (j >= b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                result.append(a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (i >= a.size || a.keys[i] > b.keys[j]) {
+                result.append(b.keys[j], b.containers[j].copy());
+                j++;
+            } else {
+                result.append(a.keys[i], a.containers[i].or(b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Subtracts one bitmap from another.
+     * @param a bitmap to subtract from
+     * @param b values to remove
+     * @return values in {@code a} but not in {@code b}
+     */
+    public static CompressedBitmap andNot(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < a.size; i++) {
+            while (j < b.size && b.keys[j] < a.keys[i]) j++;
+            if (j < b.size && b.keys[j] == a.keys[i]) {
+                result.append(a.keys[i], a.containers[i].andNot(b.containers[j]));
+            } else {
+                result.append(a.keys[i], a.containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts the values in both bitmaps without building the intersection.
+     * @param a first bitmap
+     * @param b second bitmap
+     * @return the size of the intersection
+     */
+    public static int andCardinality(CompressedBitmap a, CompressedBitmap b) {
+        int total = 0;
+        int i = 0, j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                total += a.containers[i].andCardinality(b.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Appends a chunk after all existing ones, skipping empty containers.
+     */
+    private void append(char high, Container container) {
+        if (container.cardinality() == 0) return;
+        insert(size, high, container);
+    }
+
+    /**
+     * Inserts a chunk at a position, growing the arrays as needed.
+     */
+    private void insert(int index, char high, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = high;
+        containers[index] = container;
+        size++;
+    }
+
+    /**
+     * Set of the lower 16 bits of the values in one chunk.
+     */
+    private abstract static class Container {
+        /** Adds a value, returning the container to use from now on (it may change kind) */
+        abstract Container add(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        abstract Container andNot(Container other);
+
+        abstract int andCardinality(Container other);
+
+        abstract void forEach(int high, IntConsumer action);
+
+        abstract Container copy();
+    }
+
+    /**
+     * Sparse chunk: sorted array of values.
+     */
+    private static final class ArrayContainer extends Container {
+        char[] values;
+        int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            int i = cardinality > 0 && values[cardinality - 1] < value
+                    ? -cardinality - 1 : Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) return this;
+            if (cardinality == ARRAY_MAX) return toBitmap().add(value);
+            i = -i - 1;
+            if (cardinality == values.length) values = Arrays.copyOf(values, Math.min(ARRAY_MAX, cardinality * 2));
+            System.arraycopy(values, i, values, i + 1, cardinality - i);
+            values[i] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] out = new char[cardinality];
+            int n = 0;
+            if (other instanceof ArrayContainer) {
+                ArrayContainer o = (ArrayContainer) other;
+                int i = 0, j = 0;
+                while (i < cardinality && j < o.cardinality) {
+                    if (values[i] < o.values[j]) i++;
+                    else if (values[i] > o.values[j]) j++;
+                    else {
+                        out[n++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) out[n++] = values[i];
+                }
+            }
+            return new ArrayContainer(out, n);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer) return other.or(this);
+            ArrayContainer o = (ArrayContainer) other;
+            char[] out = new char[cardinality + o.cardinality];
+            int n = 0, i = 0, j = 0;
+            while (i < cardinality || j < o.cardinality) {
+                if (j >= o.cardinality || (i < cardinality && values[i] < o.values[j])) out[n++] = values[i++];
+                else if (i >= cardinality || values[i] > o.values[j]) out[n++] = o.values[j++];
+                else {
+                    out[n++] = values[i++];
+                    j++;
+                }
+            }
+            ArrayContainer merged = new ArrayContainer(out, n);
+            return n > ARRAY_MAX ? merged.toBitmap() : merged;
+        }
+
+        @Override
+        Container andNot(Container other) {
+            char[] out = new char[cardinality];
+            int n = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) out[n++] = values[i];
+            }
+            return new ArrayContainer(out, n);
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            int n = 0;
+            if (other instanceof ArrayContainer) {
+                ArrayContainer o = (ArrayContainer) other;
+                int i = 0, j = 0;
+                while (i < cardinality && j < o.cardinality) {
+                    if (values[i] < o.values[j]) i++;
+                    else if (values[i] > o.values[j]) j++;
+                    else {
+                        n++;
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) n++;
+                }
+            }
+            return n;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) action.accept(high | values[i]);
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+        }
+
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) bitmap.add(values[i]);
+            return bitmap;
+        }
+    }
+
+    /**
+     * Dense chunk: one bit per possible value.
+     */
+    private static final class BitmapContainer extends Container {
+        final long[] words;
+        int cardinality;
+
+        BitmapContainer() {
+            this(new long[1024], 0);
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            long before = words[value >>> 6];
+            long after = before | (1L << value);
+            if (before != after) {
+                words[value >>> 6] = after;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) return other.and(this);
+            long[] o = ((BitmapContainer) other).words;
+            long[] out = new long[1024];
+            int n = 0;
+            for (int i = 0; i < 1024; i++) {
+                out[i] = words[i] & o[i];
+                n += Long.bitCount(out[i]);
+            }
+            return shrink(out, n);
+        }
+
+        @Override
+        Container or(Container other) {
+            long[] out = words.clone();
+            int n = cardinality;
+            if (other instanceof ArrayContainer) {
+                ArrayContainer o = (ArrayContainer) other;
+                for (int i = 0; i < o.cardinality; i++) {
+                    char v = o.values[i];
+                    long before = out[v >>> 6];
+                    out[v >>> 6] = before | (1L << v);
+                    if (before != out[v >>> 6]) n++;
+                }
+            } else {
+                long[] o = ((BitmapContainer) other).words;
+                n = 0;
+                for (int i = 0; i < 1024; i++) {
+                    out[i] |= o[i];
+                    n += Long.bitCount(out[i]);
+                }
+            }
+            return new BitmapContainer(out, n);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            long[] out = words.clone();
+            int n = cardinality;
+            if (other instanceof ArrayContainer) {
+                ArrayContainer o = (ArrayContainer) other;
+                for (int i = 0; i < o.cardinality; i++) {
+                    char v = o.values[i];
+                    long before = out[v >>> 6];
+                    out[v >>> 6] = before & ~(1L << v);
+                    if (before != out[v >>> 6]) n--;
+                }
+            } else {
+                long[] o = ((BitmapContainer) other).words;
+                n = 0;
+                for (int i = 0; i < 1024; i++) {
+                    out[i] &= ~o[i];
+                    n += Long.bitCount(out[i]);
+                }
+            }
+            return shrink(out, n);
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            if (other instanceof ArrayContainer) return other.andCardinality(this);
+            long[] o = ((BitmapContainer) other).words;
+            int n = 0;
+            for (int i = 0; i < 1024; i++) n += Long.bitCount(words[i] & o[i]);
+            return n;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < 1024; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        /**
+         * Wraps a result, converting it to an array container when that is smaller.
+         */
+        private static Container shrink(long[] words, int cardinality) {
+            if (cardinality > ARRAY_MAX) return new BitmapContainer(words, cardinality);
+            char[] values = new char[cardinality];
+            int n = 0;
+            for (int i = 0; i < 1024; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[n++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package utils.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+/**
+ * Index of items that are active over a closed date interval, such as internships between their
+ * opening and closing dates.
+ *
+ * <p>Intervals are kept in a treap ordered by start date (then ID) in which every node also
+ * stores the latest end date in its subtree. A stabbing query ("which intervals contain this
+ * date?") skips every subtree whose latest end date is before the date and stops at the first
+ * start date after it, so it runs in O(log n + k) expected time for k results. Start-range
+ * queries walk the same treap; end-range queries use a second, end-ordered tree.
+ *
+ * <p>Every node also stores its subtree size, so start-range counts take O(log n) without
+ * collecting the items. Items are identified by an integer ID; adding an ID again moves it. All methods are
+ * synchronized. Results are in start-date order ({@link #endingOnOrBefore} in end-date order).
+ *
+ * @param <T> the indexed item type
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class DateIntervalIndex<T> {
+
+    /**
+     * Treap node holding one interval.
+     */
+    private static final class Node<T> {
+        final long key;
+        final long end;
+        final int priority;
+        final T value;
+        long maxEnd;
+        int size = 1;
+        Node<T> left;
+        Node<T> right;
+
+        Node(long key, long end, int priority, T value) {
+            this.key = key;
+            this.end = end;
+            this.priority = priority;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+
+    /** Random treap priorities; fixed seed keeps shapes reproducible */
+    private final SplittableRandom random = new SplittableRandom(0x5EED);
+    /** Nodes by ID */
+    private final Map<Integer, Node<T>> byId = new HashMap<>();
+    /** Items by (end day, ID) */
+    private final TreeMap<Long, T> byEnd = new TreeMap<>();
+    private Node<T> root;
+
+    /**
+     * Adds an item, or moves it if its ID is already indexed.
+     * @param id the item's ID
+     * @param start first day of the interval
+     * @param end last day of the interval (inclusive)
+     * @param value the item
+     */
+    public synchronized void add(int id, LocalDate start, LocalDate end, T value) {
+        Node<T> existing = byId.get(id);
+        if (existing != null) removeNode(id, existing);
+        Node<T> node = new Node<>(key(start.toEpochDay(), id), end.toEpochDay(), random.nextInt(), value);
+        root = insert(root, node);
+        byId.put(id, node);
+        byEnd.put(key(node.end, id), value);
+    }
+
+    /**
+     * Removes an item, provided the ID is still indexed for that same item.
+     * @param id the item's ID
+     * @param value the item expected under the ID
+     * @return true if the item was removed
+     */
+    public synchronized boolean remove(int id, T value) {
+        Node<T> existing = byId.get(id);
+        if (existing == null || existing.value != value) return false;
+        removeNode(id, existing);
+        return true;
+    }
+
+    /**
+     * Moves an item to a new interval, provided the ID is still indexed for that same item.
+     * @param id the item's ID
+     * @param start new first day
+     * @param end new last day (inclusive)
+     * @param value the item expected under the ID
+     */
+    public synchronized void update(int id, LocalDate start, LocalDate end, T value) {
+        if (remove(id, value)) add(id, start, end, value);
+    }
+
+    /**
+     * Removes every item.
+     */
+    public synchronized void clear() {
+        root = null;
+        byId.clear();
+        byEnd.clear();
+    }
+
+    /**
+     * Gets the number of indexed items.
+     * @return the size
+     */
+    public synchronized int size() {
+        return byId.size();
+    }
+
+    /**
+     * Finds the items whose interval contains a date.
+     * @param date the date
+     * @return items with start &lt;= date &lt;= end
+     */
+    public synchronized List<T> containing(LocalDate date) {
+        List<T> result = new ArrayList<>();
+        stab(root, date.toEpochDay(), result);
+        return result;
+    }
+
+    /**
+     * Finds the items starting on or after a date.
+     * @param date the earliest start
+     * @return items with start &gt;= date
+     */
+    public synchronized List<T> startingOnOrAfter(LocalDate date) {
+        List<T> result = new ArrayList<>();
+        collectFrom(root, key(date.toEpochDay(), 0), result);
+        return result;
+    }
+
+    /**
+     * Counts the items starting on or after a date, without collecting them.
+     * @param date the earliest start
+     * @return the number of items with start &gt;= date
+     */
+    public synchronized int countStartingOnOrAfter(LocalDate date) {
+        long fromKey = key(date.toEpochDay(), 0);
+        int count = 0;
+        for (Node<T> node = root; node != null; ) {
+            if (node.key >= fromKey) {
+                count += 1 + size(node.right);
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the items ending on or before a date, without copying them.
+     * @param date the latest end
+     * @return the number of items with end &lt;= date
+     */
+    public synchronized int countEndingOnOrBefore(LocalDate date) {
+        return byEnd.headMap(key(date.toEpochDay() + 1, 0), false).size();
+    }
+
+    /**
+     * Finds the items ending on or before a date.
+     * @param date the latest end
+     * @return items with end &lt;= date
+     */
+    public synchronized List<T> endingOnOrBefore(LocalDate date) {
+        return new ArrayList<>(byEnd.headMap(key(date.toEpochDay() + 1, 0), false).values());
+    }
+
+    /**
+     * Combines a day and an ID into one sort key ordered by day, then ID.
+     */
+    private static long key(long day, int id) {
+        return (day << 32) | (id & 0xffffffffL);
+    }
+
+    /**
+     * Removes an indexed node from both trees.
+     */
+    private void removeNode(int id, Node<T> node) {
+        root = delete(root, node.key);
+        byId.remove(id);
+        byEnd.remove(key(node.end, id));
+    }
+
+    /**
+     * Collects the intervals containing a day, pruning subtrees that end before it.
+     */
+    private static <T> void stab(Node<T> node, long day, List<T> out) {
+        if (node == null || node.maxEnd < day) return;
+        stab(node.left, day, out);
+        if ((node.key >> 32) > day) return;
+        if (node.end >= day) out.add(node.value);
+        stab(node.right, day, out);
+    }
+
+    /**
+     * Collects the nodes with a key of at least {@code fromKey}, in key order.
+     */
+    private static <T> void collectFrom(Node<T> node, long fromKey, List<T> out) {
+        if (node == null) return;
+        if (node.key >= fromKey) {
+            collectFrom(node.left, fromKey, out);
+            out.add(node.value);
+        }
+        collectFrom(node.right, fromKey, out);
+    }
+
+    /**
+     * Inserts a node by key, rotating it up while its priority is higher than its parent's.
+     */
+    private static <T> Node<T> insert(Node<T> node, Node<T> added) {
+        if (node == null) return added;
+        if (added.key < node.key) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) node = rotateRight(node);
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) node = rotateLeft(node);
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * Deletes the node with a key by merging its children in its place.
+     */
+    private static <T> Node<T> delete(Node<T> node, long key) {
+        if (node == null) return null;
+        if (key < node.key) {
+            node.left = delete(node.left, key);
+        } else if (key > node.key) {
+            node.right = delete(node.right, key);
+        } else {
+            node = merge(node.left, node.right);
+            if (node == null) return null;
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * Joins two treaps where every key in {@code a} is below every key in {@code b}.
+     */
+    private static <T> Node<T> merge(Node<T> a, Node<T> b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    /**
+     * Rotates the left child up.
+     */
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * Rotates the right child up.
+     */
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * Recomputes a node's subtree end and size from its children.
+     */
+    private static <T> void update(Node<T> node) {
+        long max = node.end;
+        if (node.left != null && node.left.maxEnd > max) max = node.left.maxEnd;
+        if (node.right != null && node.right.maxEnd > max) max = node.right.maxEnd;
+        node.maxEnd = max;
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,15 @@
+/**
+ * In-memory secondary indexes over loaded entities.
+ *
+ * <ul>
+ *   <li>{@link utils.index.DateIntervalIndex} - Interval treap answering "open on", "opens after"
+ *       and "closes before" date queries in time proportional to the result</li>
+ *   <li>{@link utils.index.CompressedBitmap} - Roaring-style compressed integer set with fast
+ *       AND, OR, AND-NOT and intersection counts</li>
+ * </ul>
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+package utils.index;
@@ -0,0 +1,29 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted when the application controller reloads internships
+ * and applications from CSV. Nested CSV load events appear inside its time span.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+@Name("internship.ApplicationReload")
+@Label("Application Reload")
+@Category({"Internship Placement", "Persistence"})
+@Description("Full reload of internships and applications from CSV")
+public class ApplicationReloadEvent extends Event {
+    /** Number of internships in memory after the reload */
+    @Label("Internships Loaded")
+    public int internshipsLoaded;
+
+    /** Number of applications in memory after the reload */
+    @Label("Applications Loaded")
+    public int applicationsLoaded;
+}
@@ -0,0 +1,43 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted for every full CSV load.
+ * The stack trace shows which user action triggered the reload.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+@Name("internship.CsvLoad")
+@Label("CSV Load")
+@Category({"Internship Placement", "Persistence"})
+@Description("Full read of a CSV file into memory")
+public class CsvLoadEvent extends Event {
+    /** Entity type being loaded */
+    @Label("Entity")
+    public String entity;
+
+    /** Path of the CSV file */
+    @Label("File")
+    public String file;
+
+    /** Size of the file when it was read */
+    @Label("File Size")
+    @DataAmount
+    public long fileSize;
+
+    /** Number of rows turned into model objects */
+    @Label("Rows Parsed")
+    public int rowsParsed;
+
+    /** Number of rows skipped because they could not be parsed or resolved */
+    @Label("Rows Skipped")
+    public int rowsSkipped;
+}
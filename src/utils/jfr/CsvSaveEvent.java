@@ -0,0 +1,52 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted for every CSV save or delete.
+ * Each one rewrites the whole file, so {@code rowsRewritten} shows the cost of a single-record change.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+@Name("internship.CsvSave")
+@Label("CSV Save")
+@Category({"Internship Placement", "Persistence"})
+@Description("Rewrite of a CSV file to persist a single record change")
+public class CsvSaveEvent extends Event {
+    /** Entity type being saved */
+    @Label("Entity")
+    public String entity;
+
+    /** Path of the CSV file */
+    @Label("File")
+    public String file;
+
+    /** Operation performed: save, saveAll or delete */
+    @Label("Operation")
+    public String operation;
+
+    /** ID of the record that changed, or -1 for a batch save */
+    @Label("Record ID")
+    public int recordId;
+
+    /** Number of rows written back to the file */
+    @Label("Rows Rewritten")
+    public int rowsRewritten;
+
+    /** Bytes read before rewriting */
+    @Label("Bytes Read")
+    @DataAmount
+    public long bytesRead;
+
+    /** Size of the file after rewriting */
+    @Label("Bytes Written")
+    @DataAmount
+    public long bytesWritten;
+}
@@ -0,0 +1,36 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted for every internship filter-and-sort pass.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+@Name("internship.Filter")
+@Label("Internship Filter")
+@Category({"Internship Placement", "Query"})
+@Description("Application of FilterSettings to an internship list")
+public class FilterEvent extends Event {
+    /** Human-readable summary of the active criteria */
+    @Label("Criteria")
+    public String criteria;
+
+    /** Sort order applied */
+    @Label("Sort Order")
+    public String sortOrder;
+
+    /** Number of internships before filtering */
+    @Label("Input Size")
+    public int inputSize;
+
+    /** Number of internships returned */
+    @Label("Result Size")
+    public int resultSize;
+}
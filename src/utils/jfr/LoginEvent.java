@@ -0,0 +1,38 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted for every authentication attempt.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+@Name("internship.Login")
+@Label("Login")
+@Category({"Internship Placement", "Session"})
+@Description("User authentication attempt")
+@StackTrace(false)
+public class LoginEvent extends Event {
+    /** User ID entered */
+    @Label("User ID")
+    public String userId;
+
+    /** Resolved user type, empty if the user was not found */
+    @Label("User Type")
+    public String userType;
+
+    /** Whether authentication succeeded */
+    @Label("Success")
+    public boolean success;
+
+    /** Reason for failure, empty on success */
+    @Label("Failure Reason")
+    public String failureReason;
+}
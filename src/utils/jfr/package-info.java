@@ -0,0 +1,20 @@
+/**
+ * Java Flight Recorder events for domain-level profiling.
+ * 
+ * <p>This package defines custom {@code jdk.jfr} events emitted on hot paths:
+ * <ul>
+ *   <li>{@link utils.jfr.CsvLoadEvent} - Full CSV loads (file size, rows parsed/skipped)</li>
+ *   <li>{@link utils.jfr.CsvSaveEvent} - CSV rewrites for single-record saves and deletes</li>
+ *   <li>{@link utils.jfr.ApplicationReloadEvent} - Controller-driven reloads of internships and applications</li>
+ *   <li>{@link utils.jfr.FilterEvent} - Internship filter passes (criteria, input and result size)</li>
+ *   <li>{@link utils.jfr.LoginEvent} - Authentication attempts</li>
+ * </ul>
+ * 
+ * <p>The bundled {@code internship-profile.jfc} settings file enables all of these events together
+ * with JDK file I/O events. Events cost almost nothing when no recording is running.
+ * 
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+package utils.jfr;
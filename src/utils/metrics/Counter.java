@@ -0,0 +1,38 @@
+package utils.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic counter backed by a LongAdder so concurrent increments do not contend.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class Counter {
+    /** Accumulated count */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Increments the counter by one.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Increments the counter by the given amount.
+     * @param delta the amount to add (ignored if negative)
+     */
+    public void add(long delta) {
+        if (delta > 0) count.add(delta);
+    }
+
+    /**
+     * Gets the current count.
+     * @return the count
+     */
+    public long get() {
+        return count.sum();
+    }
+}
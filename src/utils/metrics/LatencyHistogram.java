@@ -0,0 +1,138 @@
+package utils.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets.
+ * Each power-of-two range is split into {@value #SUB_BUCKETS} linear sub-buckets, giving
+ * a relative error of at most 12.5% for any recorded value while using a fixed array of
+ * atomic counters. Recording never blocks and never allocates.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class LatencyHistogram {
+    /** Bits used for linear sub-buckets within a power of two */
+    private static final int SUB_BUCKET_BITS = 3;
+    /** Number of linear sub-buckets per power of two */
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Total bucket count, enough for any non-negative long value */
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /** Per-bucket counts */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    /** Number of recorded values */
+    private final LongAdder count = new LongAdder();
+    /** Sum of recorded values */
+    private final LongAdder sum = new LongAdder();
+    /** Largest recorded value */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency value in nanoseconds. Negative values are recorded as zero.
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Takes a point-in-time snapshot of the histogram.
+     * Concurrent recordings may or may not be included.
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        long maxValue = max.get();
+        return new Snapshot(total, total == 0 ? 0 : sum.sum() / Math.max(1, count.sum()),
+                percentile(counts, total, 0.50, maxValue),
+                percentile(counts, total, 0.95, maxValue),
+                percentile(counts, total, 0.99, maxValue),
+                maxValue);
+    }
+
+    /**
+     * Maps a value to its bucket.
+     * @param value non-negative value
+     * @return bucket index
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Gets the largest value that falls into a bucket.
+     * @param index bucket index
+     * @return inclusive upper bound of the bucket
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /**
+     * Finds the value at the given quantile, capped at the observed maximum.
+     */
+    private static long percentile(long[] counts, long total, double quantile, long maxValue) {
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(bucketUpperBound(i), maxValue);
+        }
+        return maxValue;
+    }
+
+    /**
+     * Immutable summary of a histogram. All values are in nanoseconds.
+     */
+    public static final class Snapshot {
+        private final long count;
+        private final long mean;
+        private final long p50;
+        private final long p95;
+        private final long p99;
+        private final long max;
+
+        Snapshot(long count, long mean, long p50, long p95, long p99, long max) {
+            this.count = count;
+            this.mean = mean;
+            this.p50 = p50;
+            this.p95 = p95;
+            this.p99 = p99;
+            this.max = max;
+        }
+
+        /** @return number of recorded values */
+        public long getCount() { return count; }
+        /** @return mean value in nanoseconds */
+        public long getMean() { return mean; }
+        /** @return median in nanoseconds */
+        public long getP50() { return p50; }
+        /** @return 95th percentile in nanoseconds */
+        public long getP95() { return p95; }
+        /** @return 99th percentile in nanoseconds */
+        public long getP99() { return p99; }
+        /** @return maximum in nanoseconds */
+        public long getMax() { return max; }
+    }
+}
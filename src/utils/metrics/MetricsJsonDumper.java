@@ -0,0 +1,105 @@
+package utils.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically writes the metrics registry as JSON to a local file.
+ * Each dump is written to a temporary file and moved into place, so readers never see
+ * a partially written file. Runs on a single daemon thread.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class MetricsJsonDumper {
+    /** System property naming the dump file; dumping is disabled when unset */
+    public static final String FILE_PROPERTY = "metrics.file";
+    /** System property for the dump interval in seconds */
+    public static final String INTERVAL_PROPERTY = "metrics.intervalSeconds";
+    /** Default dump interval in seconds */
+    public static final long DEFAULT_INTERVAL_SECONDS = 60;
+
+    /** Registry being dumped */
+    private final MetricsRegistry registry;
+    /** Target file */
+    private final Path target;
+    /** Scheduler thread */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a dumper for the given registry and file. Call {@link #start(long)} to begin.
+     * @param registry the registry to dump
+     * @param target the JSON file to write
+     */
+    public MetricsJsonDumper(MetricsRegistry registry, Path target) {
+        this.registry = registry;
+        this.target = target;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "metrics-dumper");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Starts a dumper configured from the {@value #FILE_PROPERTY} and {@value #INTERVAL_PROPERTY}
+     * system properties, if a file was given.
+     * @return the running dumper, or null if dumping is not configured
+     */
+    public static MetricsJsonDumper startFromSystemProperties() {
+        String file = System.getProperty(FILE_PROPERTY);
+        if (file == null || file.trim().isEmpty()) return null;
+        long interval = Long.getLong(INTERVAL_PROPERTY, DEFAULT_INTERVAL_SECONDS);
+        MetricsJsonDumper dumper = new MetricsJsonDumper(MetricsRegistry.getInstance(), Path.of(file.trim()));
+        dumper.start(interval);
+        return dumper;
+    }
+
+    /**
+     * Starts dumping at a fixed interval.
+     * @param intervalSeconds seconds between dumps (must be positive)
+     */
+    public void start(long intervalSeconds) {
+        if (intervalSeconds <= 0) throw new IllegalArgumentException("Dump interval must be positive.");
+        scheduler.scheduleAtFixedRate(this::dumpQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Writes the current metrics to the target file immediately.
+     * @throws IOException if the file cannot be written
+     */
+    public void dump() throws IOException {
+        Path absolute = target.toAbsolutePath();
+        Path dir = absolute.getParent();
+        if (dir != null) Files.createDirectories(dir);
+        Path tmp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        Files.write(tmp, registry.toJson().getBytes(StandardCharsets.UTF_8));
+        Files.move(tmp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Stops the dumper after writing one final dump.
+     */
+    public void stop() {
+        scheduler.shutdown();
+        dumpQuietly();
+    }
+
+    /**
+     * Dumps, reporting failures on the console instead of killing the scheduler thread.
+     */
+    private void dumpQuietly() {
+        try {
+            dump();
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Warning: Could not write metrics to " + target + ": " + e.getMessage());
+        }
+    }
+}
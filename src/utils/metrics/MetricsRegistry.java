@@ -0,0 +1,202 @@
+package utils.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide registry of named counters, gauges and latency histograms.
+ * Metrics are created on first use and live for the lifetime of the application.
+ * Names follow the pattern {@code Component.operation[.detail]}.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class MetricsRegistry {
+    /** Singleton instance */
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    /** Named counters */
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    /** Named latency histograms */
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    /** Named gauges, sampled when a report is produced */
+    private final Map<String, Supplier<Number>> gauges = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {}
+
+    /**
+     * Get singleton instance.
+     * @return the singleton instance
+     */
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets or creates a counter.
+     * @param name the metric name
+     * @return the counter
+     */
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, n -> new Counter());
+    }
+
+    /**
+     * Gets or creates a latency histogram.
+     * @param name the metric name
+     * @return the histogram
+     */
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, n -> new LatencyHistogram());
+    }
+
+    /**
+     * Registers (or replaces) a gauge whose value is sampled on demand.
+     * @param name the metric name
+     * @param value supplier of the current value
+     */
+    public void registerGauge(String name, Supplier<Number> value) {
+        gauges.put(name, value);
+    }
+
+    /**
+     * Runs an operation and records its elapsed time in the named histogram,
+     * whether it returns or throws.
+     * @param <T> the result type
+     * @param name the operation name
+     * @param operation the operation to time
+     * @return the operation's result
+     */
+    public <T> T time(String name, Supplier<T> operation) {
+        long start = System.nanoTime();
+        try {
+            return operation.get();
+        } finally {
+            histogram(name).record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs an operation without a result and records its elapsed time in the named histogram,
+     * whether it returns or throws.
+     * @param name the operation name
+     * @param operation the operation to time
+     */
+    public void time(String name, Runnable operation) {
+        long start = System.nanoTime();
+        try {
+            operation.run();
+        } finally {
+            histogram(name).record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Gets a sorted copy of all counter values.
+     * @return counter name to value
+     */
+    public Map<String, Long> getCounterValues() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.get()));
+        return values;
+    }
+
+    /**
+     * Gets a sorted copy of all gauge values.
+     * Gauges that fail to sample are omitted.
+     * @return gauge name to value
+     */
+    public Map<String, Number> getGaugeValues() {
+        Map<String, Number> values = new TreeMap<>();
+        gauges.forEach((name, gauge) -> {
+            try {
+                Number value = gauge.get();
+                if (value != null) values.put(name, value);
+            } catch (RuntimeException e) {
+                // A broken gauge should not break reporting
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Gets sorted snapshots of all histograms.
+     * @return histogram name to snapshot
+     */
+    public Map<String, LatencyHistogram.Snapshot> getHistogramSnapshots() {
+        Map<String, LatencyHistogram.Snapshot> values = new TreeMap<>();
+        histograms.forEach((name, histogram) -> values.put(name, histogram.snapshot()));
+        return values;
+    }
+
+    /**
+     * Formats all metrics as a human-readable report.
+     * Latencies are shown in microseconds.
+     * @return the report text
+     */
+    public String formatReport() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("  %-52s %8s %10s %10s %10s %10s %10s%n",
+                "Operation", "Count", "Mean(us)", "p50(us)", "p95(us)", "p99(us)", "Max(us)"));
+        getHistogramSnapshots().forEach((name, s) -> sb.append(String.format(
+                "  %-52s %8d %10.1f %10.1f %10.1f %10.1f %10.1f%n", name, s.getCount(),
+                s.getMean() / 1000.0, s.getP50() / 1000.0, s.getP95() / 1000.0, s.getP99() / 1000.0, s.getMax() / 1000.0)));
+        Map<String, Long> counterValues = getCounterValues();
+        if (!counterValues.isEmpty()) {
+            sb.append("\n  Counters:\n");
+            counterValues.forEach((name, value) -> sb.append(String.format("    %-50s %d%n", name, value)));
+        }
+        Map<String, Number> gaugeValues = getGaugeValues();
+        if (!gaugeValues.isEmpty()) {
+            sb.append("\n  Gauges:\n");
+            gaugeValues.forEach((name, value) -> sb.append(String.format("    %-50s %s%n", name, value)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Serializes all metrics as a JSON object.
+     * Latencies are in nanoseconds.
+     * @return the JSON text
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder("{\n  \"timestamp\": \"").append(java.time.Instant.now()).append("\",\n");
+        sb.append("  \"counters\": {");
+        appendEntries(sb, getCounterValues());
+        sb.append("},\n  \"gauges\": {");
+        appendEntries(sb, getGaugeValues());
+        sb.append("},\n  \"histograms\": {");
+        boolean first = true;
+        for (Map.Entry<String, LatencyHistogram.Snapshot> e : getHistogramSnapshots().entrySet()) {
+            LatencyHistogram.Snapshot s = e.getValue();
+            sb.append(first ? "\n" : ",\n");
+            sb.append(String.format("    \"%s\": {\"count\": %d, \"meanNanos\": %d, \"p50Nanos\": %d, \"p95Nanos\": %d, \"p99Nanos\": %d, \"maxNanos\": %d}",
+                    escapeJson(e.getKey()), s.getCount(), s.getMean(), s.getP50(), s.getP95(), s.getP99(), s.getMax()));
+            first = false;
+        }
+        sb.append(first ? "}\n}\n" : "\n  }\n}\n");
+        return sb.toString();
+    }
+
+    /**
+     * Appends name/value pairs to a JSON object body.
+     */
+    private static void appendEntries(StringBuilder sb, Map<String, ? extends Number> values) {
+        boolean first = true;
+        for (Map.Entry<String, ? extends Number> e : values.entrySet()) {
+            if (!first) sb.append(", ");
+            sb.append('"').append(escapeJson(e.getKey())).append("\": ").append(e.getValue());
+            first = false;
+        }
+    }
+
+    /**
+     * Escapes quotes and backslashes for JSON string values.
+     */
+    private static String escapeJson(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
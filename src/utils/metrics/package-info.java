@@ -0,0 +1,23 @@
+/**
+ * Lightweight in-process metrics.
+ * 
+ * <p>This package provides operational visibility without external dependencies:
+ * <ul>
+ *   <li>{@link utils.metrics.MetricsRegistry} - Singleton registry of named metrics</li>
+ *   <li>{@link utils.metrics.Counter} - Contention-free monotonic counter</li>
+ *   <li>{@link utils.metrics.LatencyHistogram} - Lock-free log-linear histogram (p50/p95/p99/max)</li>
+ *   <li>{@link utils.metrics.MetricsJsonDumper} - Periodic JSON export to a local file</li>
+ * </ul>
+ * 
+ * <p>Coverage:
+ * <ul>
+ *   <li>Every public operation of InternshipController, ApplicationController and LoginController</li>
+ *   <li>CSV loads and saves: operations, bytes read/written, rows parsed</li>
+ *   <li>Render cache hit/miss gauges</li>
+ * </ul>
+ * 
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+package utils.metrics;
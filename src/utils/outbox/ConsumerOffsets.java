@@ -0,0 +1,94 @@
+package utils.outbox;
+
+import constant.DataFiles;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Committed outbox positions of named consumers, stored as {@code Consumer,Offset} rows.
+ * A consumer's offset is the last record it has fully delivered; it resumes after it.
+ * Commits replace the file atomically, so a crash leaves either the old or the new offset.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class ConsumerOffsets {
+    /** Singleton instance */
+    private static final ConsumerOffsets INSTANCE = new ConsumerOffsets();
+
+    private ConsumerOffsets() {}
+
+    /**
+     * Get singleton instance.
+     * @return the singleton instance
+     */
+    public static ConsumerOffsets getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets a consumer's committed offset.
+     * @param consumer the consumer name
+     * @return the last delivered offset (0 if the consumer has never committed)
+     * @throws IOException if the file cannot be read
+     */
+    public synchronized long get(String consumer) throws IOException {
+        return readAll().getOrDefault(consumer, 0L);
+    }
+
+    /**
+     * Commits a consumer's offset.
+     * @param consumer the consumer name
+     * @param offset the last delivered offset
+     * @throws IllegalArgumentException if the name is blank or contains a comma
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void commit(String consumer, long offset) throws IOException {
+        if (consumer == null || consumer.trim().isEmpty() || consumer.contains(",")) {
+            throw new IllegalArgumentException("Invalid consumer name: " + consumer);
+        }
+        Map<String, Long> offsets = readAll();
+        offsets.put(consumer, offset);
+        Path target = new File(DataFiles.outboxOffsets()).toPath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileWriter writer = new FileWriter(temp.toFile())) {
+            writer.write("Consumer,Offset\n");
+            for (Map.Entry<String, Long> e : offsets.entrySet()) {
+                writer.write(e.getKey() + "," + e.getValue() + "\n");
+            }
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads every committed offset.
+     */
+    private Map<String, Long> readAll() throws IOException {
+        Map<String, Long> offsets = new LinkedHashMap<>();
+        File file = new File(DataFiles.outboxOffsets());
+        if (!file.exists()) return offsets;
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                String[] cols = line.split(",");
+                if (cols.length == 2) offsets.put(cols[0], Long.parseLong(cols[1].trim()));
+            }
+        }
+        return offsets;
+    }
+}
@@ -0,0 +1,58 @@
+package utils.outbox;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Sink appending each record as one JSON object per line to a local file, which downstream
+ * systems can tail as a simple queue. Each batch is written and forced to disk before the
+ * relay commits its offset.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class JsonLinesSink implements OutboxSink {
+    private final String path;
+
+    /**
+     * Creates a sink.
+     * @param path file to append to; created if missing
+     */
+    public JsonLinesSink(String path) {
+        this.path = path;
+    }
+
+    @Override
+    public void deliver(List<OutboxRecord> batch) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (OutboxRecord r : batch) {
+            sb.append("{\"offset\":").append(r.getOffset())
+                    .append(",\"type\":\"").append(r.getType())
+                    .append("\",\"occurredAt\":\"").append(r.getOccurredAt())
+                    .append("\",\"applicationId\":").append(r.getApplicationId())
+                    .append(",\"internshipId\":").append(r.getInternshipId())
+                    .append(",\"studentId\":\"").append(escape(r.getStudentId()))
+                    .append("\",\"from\":\"").append(r.getFromStatus())
+                    .append("\",\"to\":\"").append(r.getToStatus())
+                    .append("\"}\n");
+        }
+        try (FileOutputStream out = new FileOutputStream(path, true);
+             Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            writer.write(sb.toString());
+            writer.flush();
+            out.getFD().sync();
+        }
+    }
+
+    /**
+     * Escapes quotes and backslashes in a JSON string value.
+     */
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
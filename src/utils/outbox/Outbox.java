@@ -0,0 +1,170 @@
+package utils.outbox;
+
+import constant.DataFiles;
+import utils.metrics.MetricsRegistry;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Append-only file of placement events waiting to be exported to downstream systems.
+ *
+ * <p>Records are appended by {@link utils.csv.ApplicationCsvHandler} inside the same locked
+ * save that persists the status change, just before the application file is replaced: a
+ * persisted ACCEPTED or WITHDRAWN status therefore always has its record. A crash between the
+ * two writes can leave a record for a change that was not saved, so consumers must tolerate
+ * events for states that were later retried; records are never lost.
+ *
+ * <p>Each record gets the next offset (1, 2, ...). Consumers read forward from the last offset
+ * they committed, see {@link OutboxRelay}. Lines are only read once complete, so a relay in
+ * another process can follow the file while it is being appended to.
+ *
+ * <p>Metrics: {@code Outbox.appended} (counter).
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class Outbox {
+    /** Registry receiving outbox metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    /** Largest chunk read per call */
+    private static final int READ_CHUNK = 1 << 20;
+
+    /** Singleton instance */
+    private static final Outbox INSTANCE = new Outbox();
+
+    /** File the cached positions below refer to */
+    private String path;
+    /** Offset of the last record in the file */
+    private long lastOffset;
+    /** File size after the last record was scanned or appended */
+    private long scannedSize;
+    /** Offset of the record ending at {@link #hintPosition}, for sequential reads */
+    private long hintOffset = -1;
+    /** Byte position just after the record {@link #hintOffset} */
+    private long hintPosition;
+
+    private Outbox() {}
+
+    /**
+     * Get singleton instance.
+     * @return the singleton instance
+     */
+    public static Outbox getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Appends records, assigning consecutive offsets.
+     * @param records records to append (their offsets are ignored)
+     * @return the appended records with their offsets
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized List<OutboxRecord> append(List<OutboxRecord> records) throws IOException {
+        if (records.isEmpty()) return Collections.emptyList();
+        refresh();
+        List<OutboxRecord> appended = new ArrayList<>(records.size());
+        StringBuilder lines = new StringBuilder();
+        for (OutboxRecord record : records) {
+            OutboxRecord positioned = record.at(++lastOffset);
+            appended.add(positioned);
+            lines.append(positioned.toCsvLine()).append('\n');
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+        try (FileOutputStream out = new FileOutputStream(path, true)) {
+            out.write(bytes);
+        }
+        scannedSize += bytes.length;
+        metrics.counter("Outbox.appended").add(records.size());
+        return appended;
+    }
+
+    /**
+     * Reads the records after an offset.
+     * @param afterOffset the last offset already consumed (0 for the beginning)
+     * @param max maximum number of records returned
+     * @return up to {@code max} records in offset order (empty if there are none yet)
+     * @throws IOException if the file cannot be read
+     */
+    public synchronized List<OutboxRecord> read(long afterOffset, int max) throws IOException {
+        refresh();
+        List<OutboxRecord> records = new ArrayList<>();
+        File file = new File(path);
+        if (!file.exists()) return records;
+        long position = afterOffset == hintOffset ? hintPosition : 0;
+        try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+            long size = in.length();
+            while (records.size() < max && position < size) {
+                byte[] chunk = new byte[(int) Math.min(READ_CHUNK, size - position)];
+                in.seek(position);
+                in.readFully(chunk);
+                int start = 0;
+                for (int i = 0; i < chunk.length && records.size() < max; i++) {
+                    if (chunk[i] != '\n') continue;
+                    OutboxRecord record = OutboxRecord.parse(new String(chunk, start, i - start, StandardCharsets.UTF_8));
+                    start = i + 1;
+                    if (record.getOffset() > afterOffset) {
+                        records.add(record);
+                        hintOffset = record.getOffset();
+                        hintPosition = position + start;
+                    }
+                }
+                if (start == 0) break; // incomplete line still being written
+                position += start;
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Gets the offset of the last appended record.
+     * @return the last offset (0 if the outbox is empty)
+     * @throws IOException if the file cannot be read
+     */
+    public synchronized long getLastOffset() throws IOException {
+        refresh();
+        return lastOffset;
+    }
+
+    /**
+     * Re-resolves the file for the current data directory and picks up records appended by
+     * other processes since the last scan.
+     */
+    private void refresh() throws IOException {
+        String current = DataFiles.outbox();
+        if (!current.equals(path)) {
+            path = current;
+            lastOffset = 0;
+            scannedSize = 0;
+            hintOffset = -1;
+        }
+        File file = new File(path);
+        long size = file.exists() ? file.length() : 0;
+        if (size < scannedSize) {
+            // Replaced by a shorter file: start over
+            lastOffset = 0;
+            scannedSize = 0;
+            hintOffset = -1;
+        }
+        if (size == scannedSize) return;
+        try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+            byte[] tail = new byte[(int) (size - scannedSize)];
+            in.seek(scannedSize);
+            in.readFully(tail);
+            int start = 0;
+            for (int i = 0; i < tail.length; i++) {
+                if (tail[i] != '\n') continue;
+                lastOffset = OutboxRecord.parse(new String(tail, start, i - start, StandardCharsets.UTF_8)).getOffset();
+                start = i + 1;
+            }
+            scannedSize += start;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package utils.outbox;
+
+import constant.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One placement event in the outbox: an application reaching ACCEPTED or WITHDRAWN.
+ * Stored as one CSV line: {@code offset,occurredAt,type,applicationId,internshipId,studentId,fromStatus,toStatus}.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class OutboxRecord {
+    /** Event type of an application reaching ACCEPTED */
+    public static final String PLACEMENT_ACCEPTED = "PLACEMENT_ACCEPTED";
+    /** Event type of an application reaching WITHDRAWN */
+    public static final String APPLICATION_WITHDRAWN = "APPLICATION_WITHDRAWN";
+
+    private final long offset;
+    private final LocalDateTime occurredAt;
+    private final String type;
+    private final int applicationId;
+    private final int internshipId;
+    private final String studentId;
+    private final String fromStatus;
+    private final ApplicationStatus toStatus;
+
+    /**
+     * Creates a record.
+     * @param offset position in the outbox (assigned on append; 0 before)
+     * @param occurredAt when the change was persisted
+     * @param applicationId the application
+     * @param internshipId the internship applied to
+     * @param studentId the applicant
+     * @param fromStatus persisted status before the change (empty for a new application)
+     * @param toStatus the new status, ACCEPTED or WITHDRAWN
+     */
+    public OutboxRecord(long offset, LocalDateTime occurredAt, int applicationId, int internshipId,
+                        String studentId, String fromStatus, ApplicationStatus toStatus) {
+        this.offset = offset;
+        this.occurredAt = occurredAt;
+        this.type = typeOf(toStatus);
+        this.applicationId = applicationId;
+        this.internshipId = internshipId;
+        this.studentId = studentId;
+        this.fromStatus = fromStatus == null ? "" : fromStatus;
+        this.toStatus = toStatus;
+    }
+
+    /**
+     * Tells whether persisting a status change must produce an outbox record.
+     * @param fromStatus persisted status before the change (null or empty for a new application)
+     * @param toStatus status being persisted
+     * @return true for a change into ACCEPTED or WITHDRAWN
+     */
+    public static boolean isExported(String fromStatus, ApplicationStatus toStatus) {
+        return (toStatus == ApplicationStatus.ACCEPTED || toStatus == ApplicationStatus.WITHDRAWN)
+                && !toStatus.name().equals(fromStatus);
+    }
+
+    private static String typeOf(ApplicationStatus status) {
+        if (status == ApplicationStatus.ACCEPTED) return PLACEMENT_ACCEPTED;
+        if (status == ApplicationStatus.WITHDRAWN) return APPLICATION_WITHDRAWN;
+        throw new IllegalArgumentException("Status is not exported: " + status);
+    }
+
+    /**
+     * Returns a copy with the offset assigned by the outbox.
+     * @param offset the offset
+     * @return the positioned record
+     */
+    OutboxRecord at(long offset) {
+        return new OutboxRecord(offset, occurredAt, applicationId, internshipId, studentId, fromStatus, toStatus);
+    }
+
+    /**
+     * Formats the record as a CSV line.
+     * @return the line, without line terminator
+     */
+    String toCsvLine() {
+        return offset + "," + occurredAt + "," + type + "," + applicationId + "," + internshipId + ","
+                + studentId + "," + fromStatus + "," + toStatus;
+    }
+
+    /**
+     * Parses a CSV line written by {@link #toCsvLine()}.
+     * @param line the line
+     * @return the record
+     * @throws IllegalArgumentException if the line is malformed
+     */
+    static OutboxRecord parse(String line) {
+        String[] cols = line.split(",", -1);
+        if (cols.length != 8) throw new IllegalArgumentException("Malformed outbox line: " + line);
+        return new OutboxRecord(Long.parseLong(cols[0]), LocalDateTime.parse(cols[1]), Integer.parseInt(cols[3]),
+                Integer.parseInt(cols[4]), cols[5], cols[6], ApplicationStatus.valueOf(cols[7]));
+    }
+
+    /** @return position in the outbox, starting at 1 */
+    public long getOffset() { return offset; }
+
+    /** @return when the change was persisted */
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+
+    /** @return {@link #PLACEMENT_ACCEPTED} or {@link #APPLICATION_WITHDRAWN} */
+    public String getType() { return type; }
+
+    /** @return the application ID */
+    public int getApplicationId() { return applicationId; }
+
+    /** @return the internship ID */
+    public int getInternshipId() { return internshipId; }
+
+    /** @return the applicant's user ID */
+    public String getStudentId() { return studentId; }
+
+    /** @return persisted status before the change (empty for a new application) */
+    public String getFromStatus() { return fromStatus; }
+
+    /** @return the new status */
+    public ApplicationStatus getToStatus() { return toStatus; }
+
+    @Override
+    public String toString() {
+        return toCsvLine();
+    }
+}
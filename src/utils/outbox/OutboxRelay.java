@@ -0,0 +1,190 @@
+package utils.outbox;
+
+import utils.metrics.MetricsRegistry;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background relay delivering outbox records to a sink in offset order.
+ *
+ * <p>The relay reads up to a batch of records after the consumer's committed offset, hands
+ * them to the {@link OutboxSink}, and only then commits the batch's last offset. A failed
+ * delivery is retried with the same batch after an exponential backoff (up to 30 seconds),
+ * so delivery is at least once and never out of order. It runs on its own daemon thread, or
+ * in a separate process through {@link #main(String[])}, and never on an interactive request.
+ *
+ * <p>Each consumer name must be served by one relay at a time.
+ *
+ * <p>Metrics: {@code OutboxRelay.delivered}, {@code .batches}, {@code .failures} (counters),
+ * {@code OutboxRelay.<consumer>.lag} (gauge, records not yet delivered) and
+ * {@code OutboxRelay.deliver} (batch delivery latency).
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public class OutboxRelay implements AutoCloseable {
+    /** Registry receiving relay metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    /** First retry delay after a failed delivery */
+    private static final long INITIAL_BACKOFF_MILLIS = 100;
+    /** Longest retry delay */
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private final String consumer;
+    private final OutboxSink sink;
+    private final int batchSize;
+    private final long pollMillis;
+    private final Outbox outbox = Outbox.getInstance();
+    private final ConsumerOffsets offsets = ConsumerOffsets.getInstance();
+    private Thread thread;
+    private volatile boolean closed;
+    /** Last committed offset, or -1 before it has been read */
+    private volatile long committed = -1;
+    /** Records appended but not yet delivered, as of the last poll */
+    private volatile long lag;
+
+    /**
+     * Creates a relay delivering batches of up to 500 records and polling every 200ms when idle.
+     * @param consumer name under which the offset is committed
+     * @param sink destination of the records
+     */
+    public OutboxRelay(String consumer, OutboxSink sink) {
+        this(consumer, sink, 500, 200);
+    }
+
+    /**
+     * Creates a relay. Call {@link #start()} to run it in the background.
+     * @param consumer name under which the offset is committed
+     * @param sink destination of the records
+     * @param batchSize maximum records per delivery
+     * @param pollMillis how long to wait for new records once caught up
+     * @throws IllegalArgumentException if the batch size or poll interval is not positive
+     */
+    public OutboxRelay(String consumer, OutboxSink sink, int batchSize, long pollMillis) {
+        if (batchSize <= 0 || pollMillis <= 0) {
+            throw new IllegalArgumentException("Batch size and poll interval must be positive.");
+        }
+        this.consumer = consumer;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.pollMillis = pollMillis;
+        metrics.registerGauge("OutboxRelay." + consumer + ".lag", () -> lag);
+    }
+
+    /**
+     * Starts relaying on a daemon thread.
+     * @throws IllegalStateException if the relay is already running or closed
+     */
+    public synchronized void start() {
+        if (thread != null || closed) throw new IllegalStateException("Relay is already started or closed.");
+        thread = new Thread(this::loop, "outbox-relay-" + consumer);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Delivers the next batch, if any, and commits its offset.
+     * @return the number of records delivered
+     * @throws Exception if reading the outbox, delivering or committing failed;
+     *         nothing is committed and the same batch is read again next time
+     */
+    public synchronized int relayOnce() throws Exception {
+        if (committed < 0) committed = offsets.get(consumer);
+        List<OutboxRecord> batch = outbox.read(committed, batchSize);
+        if (!batch.isEmpty()) {
+            long start = System.nanoTime();
+            try {
+                sink.deliver(batch);
+            } finally {
+                metrics.histogram("OutboxRelay.deliver").record(System.nanoTime() - start);
+            }
+            long last = batch.get(batch.size() - 1).getOffset();
+            offsets.commit(consumer, last);
+            committed = last;
+            metrics.counter("OutboxRelay.batches").increment();
+            metrics.counter("OutboxRelay.delivered").add(batch.size());
+        }
+        lag = Math.max(0, outbox.getLastOffset() - committed);
+        return batch.size();
+    }
+
+    /**
+     * Gets the last committed offset.
+     * @return the offset (0 if nothing has been delivered)
+     * @throws Exception if the offsets file cannot be read
+     */
+    public long getCommittedOffset() throws Exception {
+        long known = committed;
+        return known >= 0 ? known : offsets.get(consumer);
+    }
+
+    /**
+     * Stops the background thread after the delivery in progress, if any.
+     */
+    @Override
+    public void close() {
+        Thread running;
+        synchronized (this) {
+            closed = true;
+            running = thread;
+        }
+        if (running == null) return;
+        running.interrupt();
+        try {
+            running.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Relay thread: delivers until caught up, then polls; backs off after failures.
+     */
+    private void loop() {
+        long backoff = INITIAL_BACKOFF_MILLIS;
+        while (!closed) {
+            long sleep;
+            try {
+                int delivered = relayOnce();
+                backoff = INITIAL_BACKOFF_MILLIS;
+                sleep = delivered < batchSize ? pollMillis : 0;
+            } catch (Exception e) {
+                metrics.counter("OutboxRelay.failures").increment();
+                sleep = backoff;
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            }
+            if (sleep == 0) continue;
+            try {
+                TimeUnit.MILLISECONDS.sleep(sleep);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Runs a relay appending the outbox of the current data directory to a JSON lines file
+     * until the process is stopped.
+     * Usage: {@code java -cp bin utils.outbox.OutboxRelay <output.jsonl> [consumer]}
+     *
+     * @param args output file and optional consumer name (default {@code jsonl})
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("Usage: java -cp bin utils.outbox.OutboxRelay <output.jsonl> [consumer]");
+            return;
+        }
+        String consumer = args.length > 1 ? args[1] : "jsonl";
+        OutboxRelay relay = new OutboxRelay(consumer, new JsonLinesSink(args[0]));
+        relay.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(relay::close));
+        System.out.println("Relaying outbox to " + args[0] + " as consumer '" + consumer + "'");
+        try {
+            relay.thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
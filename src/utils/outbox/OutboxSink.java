@@ -0,0 +1,25 @@
+package utils.outbox;
+
+import java.util.List;
+
+/**
+ * Destination the {@link OutboxRelay} delivers outbox records to.
+ *
+ * <p>Delivery is at least once: after a failure or a crash before the offset is committed,
+ * the same records are delivered again. Implementations should use
+ * {@link OutboxRecord#getOffset()} to discard duplicates where that matters.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+@FunctionalInterface
+public interface OutboxSink {
+    /**
+     * Delivers a batch of records in offset order.
+     * Returning normally means every record in the batch has been accepted.
+     * @param batch the records, never empty
+     * @throws Exception if the batch was not (fully) accepted; it will be retried
+     */
+    void deliver(List<OutboxRecord> batch) throws Exception;
+}
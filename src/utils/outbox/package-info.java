@@ -0,0 +1,16 @@
+/**
+ * Transactional outbox exporting placement events to downstream systems.
+ *
+ * <p>When an application's persisted status becomes ACCEPTED or WITHDRAWN,
+ * {@link utils.csv.ApplicationCsvHandler} appends an {@link utils.outbox.OutboxRecord} to the
+ * {@link utils.outbox.Outbox} within the same save, before the application file is replaced.
+ * An {@link utils.outbox.OutboxRelay} delivers the records in order and in batches to an
+ * {@link utils.outbox.OutboxSink}, committing each consumer's position in
+ * {@link utils.outbox.ConsumerOffsets} after every successful batch (at-least-once delivery).
+ * {@link utils.outbox.JsonLinesSink} writes them to a local file queue.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+package utils.outbox;
@@ -7,9 +7,21 @@
  * <ul>
  *   <li>{@link utils.csv} - CSV serialization (CsvHandler interface, ApplicationCsvHandler, InternshipCsvHandler)</li>
  *   <li>{@link utils.formatter} - Display formatting (ApplicationFormatter, InternshipFormatter, UserFormatter, TableFormatter, FilterFormatter, ViewFormatter)</li>
- *   <li>{@link utils.filter} - Filtering and sorting (InternshipFilter, FilterSettings)</li>
+ *   <li>{@link utils.filter} - Filtering and sorting (InternshipFilter, FilterSettings, InternshipBitmapIndex, SavedFilters)</li>
  *   <li>{@link utils.validation} - Input validation (ValidationHelper)</li>
  *   <li>{@link utils.factory} - Object creation (UserFactory)</li>
+ *   <li>{@link utils.cache} - Rendered output and query result caching (LruCache, RenderCache, ResultCache)</li>
+ *   <li>{@link utils.metrics} - Counters, latency histograms and JSON metrics dumps (MetricsRegistry)</li>
+ *   <li>{@link utils.jfr} - Java Flight Recorder events and recording profile</li>
+ *   <li>{@link utils.concurrent} - Striped per-key locks for concurrent controller operations</li>
+ *   <li>{@link utils.event} - Domain event bus and batched per-user change notifications</li>
+ *   <li>{@link utils.outbox} - Transactional outbox and relay exporting placement events</li>
+ *   <li>{@link utils.schedule} - Deadline scheduler and simulated clock</li>
+ *   <li>{@link utils.index} - In-memory secondary indexes (date interval index, compressed bitmaps)</li>
+ *   <li>{@link utils.query} - Staff query language, index-selecting planner and EXPLAIN</li>
+ *   <li>{@link utils.analytics} - Incrementally maintained placement figures and parallel end-of-cycle company reports</li>
+ *   <li>{@link utils.export} - Streaming CSV and JSON lines export of applications and internships</li>
+ *   <li>{@link utils.allocation} - Cohort-wide stable matching of students to internships, proposed for review</li>
  * </ul>
  * 
  * <h2>Design patterns:</h2>
@@ -0,0 +1,85 @@
+package utils.query;
+
+/**
+ * One {@code field operator value} comparison of a {@link Query}.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class Condition {
+    /**
+     * Comparison operators, with the symbol each is written as.
+     */
+    public enum Operator {
+        EQ("="), NE("!="), LT("<"), LE("<="), GT(">"), GE(">="),
+        /** Case-insensitive substring match on text fields */
+        CONTAINS("~");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * Gets the symbol the operator is written as.
+         * @return the symbol
+         */
+        public String getSymbol() {
+            return symbol;
+        }
+
+        /**
+         * Finds the operator written as a symbol.
+         * @param symbol the symbol
+         * @return the operator
+         * @throws IllegalArgumentException if no operator has the symbol
+         */
+        public static Operator fromSymbol(String symbol) {
+            for (Operator op : values()) {
+                if (op.symbol.equals(symbol)) return op;
+            }
+            throw new IllegalArgumentException("Unknown operator '" + symbol + "'.");
+        }
+    }
+
+    private final String field;
+    private final Operator operator;
+    private final String value;
+
+    /**
+     * Creates a condition.
+     * @param field field name, as written
+     * @param operator comparison operator
+     * @param value value, as written (unquoted)
+     */
+    public Condition(String field, Operator operator, String value) {
+        this.field = field;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    /**
+     * Gets the field name.
+     * @return the field name, as written
+     */
+    public String getField() { return field; }
+
+    /**
+     * Gets the comparison operator.
+     * @return the operator
+     */
+    public Operator getOperator() { return operator; }
+
+    /**
+     * Gets the value.
+     * @return the value, as written (unquoted)
+     */
+    public String getValue() { return value; }
+
+    @Override
+    public String toString() {
+        return field + " " + operator.getSymbol() + " " + (value.matches("[\\w.@-]+") ? value : "'" + value + "'");
+    }
+}
@@ -0,0 +1,81 @@
+package utils.query;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parsed staff query: the entity to search, conditions that must all hold, and optional
+ * ordering and row limit. Built by {@link QueryParser} and run by {@link QueryEngine}.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class Query {
+    /**
+     * Entities a query can search.
+     */
+    public enum Entity { INTERNSHIPS, APPLICATIONS }
+
+    private final Entity entity;
+    private final List<Condition> conditions;
+    private final String orderBy;
+    private final boolean descending;
+    private final int limit;
+    private final boolean explain;
+
+    /**
+     * Creates a query.
+     * @param entity entity to search
+     * @param conditions conditions joined by AND
+     * @param orderBy field to sort by, or null to keep index order
+     * @param descending true to sort descending
+     * @param limit maximum rows to return, or -1 for no limit
+     * @param explain true to report the plan and statistics instead of the rows
+     */
+    public Query(Entity entity, List<Condition> conditions, String orderBy, boolean descending, int limit,
+                 boolean explain) {
+        this.entity = entity;
+        this.conditions = Collections.unmodifiableList(conditions);
+        this.orderBy = orderBy;
+        this.descending = descending;
+        this.limit = limit;
+        this.explain = explain;
+    }
+
+    /**
+     * Gets the entity to search.
+     * @return the entity
+     */
+    public Entity getEntity() { return entity; }
+
+    /**
+     * Gets the conditions, all of which must hold.
+     * @return the conditions
+     */
+    public List<Condition> getConditions() { return conditions; }
+
+    /**
+     * Gets the field to sort by.
+     * @return the field, or null to keep index order
+     */
+    public String getOrderBy() { return orderBy; }
+
+    /**
+     * Tells whether to sort descending.
+     * @return true if descending
+     */
+    public boolean isDescending() { return descending; }
+
+    /**
+     * Gets the maximum number of rows to return.
+     * @return the limit, or -1 for none
+     */
+    public int getLimit() { return limit; }
+
+    /**
+     * Tells whether to report the plan instead of the rows.
+     * @return true for EXPLAIN
+     */
+    public boolean isExplain() { return explain; }
+}
@@ -0,0 +1,329 @@
+package utils.query;
+
+import constant.InternshipStatus;
+import model.Application;
+import model.Internship;
+import model.Student;
+import model.User;
+import model.UserRegistry;
+import utils.filter.FilterSettings;
+import utils.filter.InternshipBitmapIndex;
+import utils.metrics.MetricsRegistry;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Plans and runs staff queries over the loaded internships and applications.
+ *
+ * <p>Every condition is compiled to a predicate on a {@link QueryField}. The planner then lists the
+ * access paths the conditions allow, each with a row estimate taken from index counts and sizes,
+ * and builds only the one expected to produce the fewest rows:
+ * <ul>
+ *   <li>Internships: ID lookup ({@code id =}), the {@link InternshipBitmapIndex} for equality on
+ *       {@code status}, {@code major}, {@code level}, {@code company} and {@code creator} (its
+ *       intersection count is exact), the date index for {@code opens >=/>} and {@code closes <=/<},
+ *       or a full scan. The index's FILLED bitmap also holds approved internships with every slot
+ *       taken, so {@code status = FILLED} narrows the candidates but is still checked on each.</li>
+ *   <li>Applications: the internship's applications ({@code internship =}), the student's
+ *       applications ({@code student =}), or a full scan.</li>
+ * </ul>
+ * The conditions the chosen path answers are dropped; the rest are checked on each candidate,
+ * which is then sorted and limited.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class QueryEngine {
+    /** Registry receiving query timings */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+
+    /** Internship fields by lower-case name, including aliases */
+    private static final Map<String, QueryField<Internship>> INTERNSHIP_FIELDS = fields(List.of(
+            new QueryField<>("id", QueryField.Type.INTEGER, Internship::getID),
+            new QueryField<>("title", QueryField.Type.TEXT, Internship::getTitle),
+            new QueryField<>("description", QueryField.Type.TEXT, Internship::getDescription),
+            new QueryField<>("status", QueryField.Type.TEXT, i -> i.getStatus().name()),
+            new QueryField<>("major", QueryField.Type.TEXT, Internship::getPreferredMajor),
+            new QueryField<>("level", QueryField.Type.TEXT, Internship::getLevel),
+            new QueryField<>("company", QueryField.Type.TEXT, Internship::getCompanyName),
+            new QueryField<>("creator", QueryField.Type.TEXT,
+                    i -> i.getCreator() == null ? null : i.getCreator().getUserID()),
+            new QueryField<>("opens", QueryField.Type.DATE, Internship::getOpenDate),
+            new QueryField<>("closes", QueryField.Type.DATE, Internship::getCloseDate),
+            new QueryField<>("slots", QueryField.Type.INTEGER, Internship::getNumSlots),
+            new QueryField<>("filledSlots", QueryField.Type.INTEGER, Internship::getFilledSlots),
+            new QueryField<>("filled", QueryField.Type.BOOLEAN, Internship::isFilled),
+            new QueryField<>("visible", QueryField.Type.BOOLEAN, Internship::isVisible)),
+            Map.of("opendate", "opens", "closedate", "closes", "preferredmajor", "major"));
+
+    /** Application fields by lower-case name, including aliases */
+    private static final Map<String, QueryField<Application>> APPLICATION_FIELDS = fields(List.of(
+            new QueryField<>("id", QueryField.Type.INTEGER, Application::getId),
+            new QueryField<>("status", QueryField.Type.TEXT, a -> a.getStatus().name()),
+            new QueryField<>("student", QueryField.Type.TEXT, a -> a.getApplicant().getUserID()),
+            new QueryField<>("studentName", QueryField.Type.TEXT, a -> a.getApplicant().getName()),
+            new QueryField<>("internship", QueryField.Type.INTEGER, a -> a.getInternship().getID()),
+            new QueryField<>("title", QueryField.Type.TEXT, a -> a.getInternship().getTitle()),
+            new QueryField<>("company", QueryField.Type.TEXT, a -> a.getInternship().getCompanyName()),
+            new QueryField<>("applied", QueryField.Type.DATE, a -> a.getDateApplied().toLocalDate())),
+            Map.of("internshipid", "internship", "studentid", "student", "dateapplied", "applied"));
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private QueryEngine() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Parses, plans and runs a query.
+     * @param text the query text (see {@link QueryParser})
+     * @return the rows, plan and statistics
+     * @throws IllegalArgumentException if the query is invalid
+     */
+    public static QueryResult execute(String text) {
+        return execute(QueryParser.parse(text));
+    }
+
+    /**
+     * Plans and runs a query.
+     * @param query the query
+     * @return the rows, plan and statistics
+     * @throws IllegalArgumentException if a field, operator or value is invalid
+     */
+    public static QueryResult execute(Query query) {
+        return metrics.time("QueryEngine.execute", () -> {
+            long start = System.nanoTime();
+            if (query.getEntity() == Query.Entity.APPLICATIONS) {
+                Map<Condition, Predicate<Application>> predicates = compile(query, APPLICATION_FIELDS);
+                return run(query, APPLICATION_FIELDS, predicates, applicationPaths(query), start);
+            }
+            Map<Condition, Predicate<Internship>> predicates = compile(query, INTERNSHIP_FIELDS);
+            return run(query, INTERNSHIP_FIELDS, predicates, internshipPaths(query), start);
+        });
+    }
+
+    /**
+     * Gets the field names a query on an entity can use.
+     * @param entity the entity
+     * @return the field names
+     */
+    public static List<String> getFieldNames(Query.Entity entity) {
+        Map<String, ? extends QueryField<?>> fields = entity == Query.Entity.APPLICATIONS ? APPLICATION_FIELDS : INTERNSHIP_FIELDS;
+        return fields.values().stream().map(QueryField::getName).distinct().collect(Collectors.toList());
+    }
+
+    /**
+     * Way of producing candidate rows, its row estimate, and the conditions it answers exactly.
+     * Rows are only produced for the chosen path.
+     */
+    private static final class AccessPath<T> {
+        final String description;
+        final int estimate;
+        final Supplier<List<T>> rows;
+        final List<Condition> covered;
+
+        AccessPath(String description, int estimate, Supplier<List<T>> rows, List<Condition> covered) {
+            this.description = description;
+            this.estimate = estimate;
+            this.rows = rows;
+            this.covered = covered;
+        }
+    }
+
+    /**
+     * Picks the access path with the lowest estimate, builds its rows, filters, sorts and limits.
+     */
+    private static <T> QueryResult run(Query query, Map<String, QueryField<T>> fields,
+                                       Map<Condition, Predicate<T>> predicates, List<AccessPath<T>> paths, long start) {
+        AccessPath<T> best = paths.get(0);
+        for (AccessPath<T> path : paths) {
+            if (path.estimate < best.estimate) best = path;
+        }
+        List<String> alternatives = new ArrayList<>();
+        for (AccessPath<T> path : paths) {
+            if (path != best) alternatives.add(path.description + " (est. " + path.estimate + " rows)");
+        }
+        List<T> candidates = best.rows.get();
+
+        Set<Condition> covered = Collections.newSetFromMap(new IdentityHashMap<>());
+        covered.addAll(best.covered);
+        List<Condition> residual = new ArrayList<>();
+        Predicate<T> filter = row -> true;
+        for (Map.Entry<Condition, Predicate<T>> entry : predicates.entrySet()) {
+            if (covered.contains(entry.getKey())) continue;
+            residual.add(entry.getKey());
+            filter = filter.and(entry.getValue());
+        }
+
+        List<T> rows = new ArrayList<>();
+        for (T row : candidates) {
+            if (filter.test(row)) rows.add(row);
+        }
+        String order = null;
+        if (query.getOrderBy() != null) {
+            QueryField<T> field = field(fields, query.getOrderBy(), query.getEntity());
+            Comparator<T> comparator = field.comparator();
+            rows.sort(query.isDescending() ? comparator.reversed() : comparator);
+            order = field.getName() + (query.isDescending() ? " desc" : " asc");
+        }
+        if (query.getLimit() >= 0 && rows.size() > query.getLimit()) {
+            rows = new ArrayList<>(rows.subList(0, query.getLimit()));
+        }
+        QueryPlan plan = new QueryPlan(best.description, best.estimate, alternatives, residual, order, query.getLimit());
+        return new QueryResult(rows, plan, candidates.size(), System.nanoTime() - start);
+    }
+
+    /**
+     * Lists the internship access paths the query's conditions allow, full scan last.
+     */
+    private static List<AccessPath<Internship>> internshipPaths(Query query) {
+        List<AccessPath<Internship>> paths = new ArrayList<>();
+        FilterSettings settings = new FilterSettings();
+        String creator = null;
+        List<Condition> indexed = new ArrayList<>();
+        List<Condition> indexCovered = new ArrayList<>();
+        Set<String> indexedFields = new HashSet<>();
+        for (Condition c : query.getConditions()) {
+            String name = field(INTERNSHIP_FIELDS, c.getField(), query.getEntity()).getName();
+            Condition.Operator op = c.getOperator();
+            String value = c.getValue();
+            if (name.equals("id") && op == Condition.Operator.EQ) {
+                Internship internship = Internship.findWithID(Integer.parseInt(value));
+                List<Internship> rows = internship == null ? List.of() : List.of(internship);
+                paths.add(new AccessPath<>("id lookup (" + c + ")", rows.size(), () -> rows, List.of(c)));
+            } else if (op == Condition.Operator.EQ && !value.trim().isEmpty() && indexedFields.add(name)
+                    && addIndexed(settings, name, value)) {
+                if (name.equals("creator")) creator = value;
+                indexed.add(c);
+                // The FILLED bitmap is a superset of status = FILLED, so that condition stays in the filter
+                if (!(name.equals("status") && value.trim().equalsIgnoreCase(InternshipStatus.FILLED.name()))) {
+                    indexCovered.add(c);
+                }
+            } else if (name.equals("opens") && (op == Condition.Operator.GE || op == Condition.Operator.GT)) {
+                LocalDate date = LocalDate.parse(value);
+                LocalDate from = op == Condition.Operator.GT ? date.plusDays(1) : date;
+                paths.add(new AccessPath<>("date index (" + c + ")", Internship.countOpeningOnOrAfter(from),
+                        () -> Internship.getOpeningOnOrAfter(from), List.of(c)));
+            } else if (name.equals("closes") && (op == Condition.Operator.LE || op == Condition.Operator.LT)) {
+                LocalDate date = LocalDate.parse(value);
+                LocalDate until = op == Condition.Operator.LT ? date.minusDays(1) : date;
+                paths.add(new AccessPath<>("date index (" + c + ")", Internship.countClosingOnOrBefore(until),
+                        () -> Internship.getClosingOnOrBefore(until), List.of(c)));
+            }
+        }
+        if (!indexed.isEmpty()) {
+            String conditions = indexed.stream().map(Condition::toString).collect(Collectors.joining(", "));
+            InternshipBitmapIndex index = InternshipBitmapIndex.current();
+            String creatorId = creator;
+            paths.add(new AccessPath<>("bitmap index (" + conditions + ")", index.count(settings, creatorId),
+                    () -> index.select(settings, creatorId), indexCovered));
+        }
+        paths.add(new AccessPath<>("full scan", Internship.getInternshipsList().size(),
+                Internship::getAllInternships, List.of()));
+        return paths;
+    }
+
+    /**
+     * Adds an equality condition to the bitmap index criteria, if the index has that field.
+     * @return true if the index answers the condition
+     */
+    private static boolean addIndexed(FilterSettings settings, String field, String value) {
+        switch (field) {
+            case "status":
+                try {
+                    settings.setStatusFilter(InternshipStatus.valueOf(value.toUpperCase(Locale.ROOT)));
+                    return true;
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+            case "major":
+                settings.setMajorFilter(value);
+                return true;
+            case "level":
+                settings.setLevelFilter(value);
+                return true;
+            case "company":
+                settings.setCompanyFilter(value);
+                return true;
+            case "creator":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Lists the application access paths the query's conditions allow, full scan last.
+     */
+    private static List<AccessPath<Application>> applicationPaths(Query query) {
+        List<AccessPath<Application>> paths = new ArrayList<>();
+        for (Condition c : query.getConditions()) {
+            if (c.getOperator() != Condition.Operator.EQ) continue;
+            String name = field(APPLICATION_FIELDS, c.getField(), query.getEntity()).getName();
+            if (name.equals("internship")) {
+                Internship internship = Internship.findWithID(Integer.parseInt(c.getValue()));
+                paths.add(new AccessPath<>("internship's applications (" + c + ")",
+                        internship == null ? 0 : internship.getApplications().size(),
+                        () -> internship == null ? List.of() : new ArrayList<>(internship.getApplications()), List.of(c)));
+            } else if (name.equals("student")) {
+                User user = UserRegistry.getInstance().findById(c.getValue());
+                // IDs compare case-insensitively, so only an exact registry hit answers the condition
+                if (user instanceof Student) {
+                    Student student = (Student) user;
+                    paths.add(new AccessPath<>("student's applications (" + c + ")", student.getApplications().size(),
+                            () -> new ArrayList<>(student.getApplications()), List.of(c)));
+                }
+            }
+        }
+        paths.add(new AccessPath<>("full scan", Application.getAllApplicationsList().size(),
+                Application::getAllApplications, List.of()));
+        return paths;
+    }
+
+    /**
+     * Compiles every condition, validating fields, operators and values.
+     */
+    private static <T> Map<Condition, Predicate<T>> compile(Query query, Map<String, QueryField<T>> fields) {
+        Map<Condition, Predicate<T>> predicates = new LinkedHashMap<>();
+        for (Condition condition : query.getConditions()) {
+            predicates.put(condition, field(fields, condition.getField(), query.getEntity()).compile(condition));
+        }
+        if (query.getOrderBy() != null) field(fields, query.getOrderBy(), query.getEntity());
+        return predicates;
+    }
+
+    /**
+     * Looks up a field by name or alias, ignoring case.
+     * @throws IllegalArgumentException if the entity has no such field
+     */
+    private static <T> QueryField<T> field(Map<String, QueryField<T>> fields, String name, Query.Entity entity) {
+        QueryField<T> field = fields.get(name.toLowerCase(Locale.ROOT));
+        if (field == null) {
+            throw new IllegalArgumentException("Unknown field '" + name + "' for " + entity.name().toLowerCase()
+                    + ". Fields: " + String.join(", ", getFieldNames(entity)) + ".");
+        }
+        return field;
+    }
+
+    private static <T> Map<String, QueryField<T>> fields(List<QueryField<T>> fields, Map<String, String> aliases) {
+        Map<String, QueryField<T>> byName = new LinkedHashMap<>();
+        for (QueryField<T> field : fields) byName.put(field.getName().toLowerCase(Locale.ROOT), field);
+        aliases.forEach((alias, name) -> byName.put(alias, byName.get(name)));
+        return byName;
+    }
+}
@@ -0,0 +1,134 @@
+package utils.query;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Queryable field of an entity: its name, value type and accessor.
+ * Compiles {@link Condition}s on the field to predicates and provides its sort order.
+ *
+ * @param <T> the entity type
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+final class QueryField<T> {
+    /**
+     * Value types; text compares case-insensitively.
+     */
+    enum Type { INTEGER, TEXT, DATE, BOOLEAN }
+
+    private final String name;
+    private final Type type;
+    private final Function<T, ?> getter;
+
+    /**
+     * Creates a field.
+     * @param name field name used in queries
+     * @param type value type
+     * @param getter accessor returning an Integer, String, LocalDate or Boolean (or null)
+     */
+    QueryField(String name, Type type, Function<T, ?> getter) {
+        this.name = name;
+        this.type = type;
+        this.getter = getter;
+    }
+
+    /**
+     * Gets the field name.
+     * @return the name used in queries
+     */
+    String getName() { return name; }
+
+    /**
+     * Gets the value type.
+     * @return the type
+     */
+    Type getType() { return type; }
+
+    /**
+     * Parses a condition value as this field's type.
+     * @throws IllegalArgumentException if the value does not fit the type
+     */
+    Object parse(String value) {
+        switch (type) {
+            case INTEGER:
+                try {
+                    return Integer.parseInt(value);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("'" + name + "' needs a whole number, not '" + value + "'.");
+                }
+            case DATE:
+                try {
+                    return LocalDate.parse(value);
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException("'" + name + "' needs a date in YYYY-MM-DD format, not '" + value + "'.");
+                }
+            case BOOLEAN:
+                if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("yes")) return Boolean.TRUE;
+                if (value.equalsIgnoreCase("false") || value.equalsIgnoreCase("no")) return Boolean.FALSE;
+                throw new IllegalArgumentException("'" + name + "' needs true or false, not '" + value + "'.");
+            default:
+                return value;
+        }
+    }
+
+    /**
+     * Compiles a condition on this field.
+     * A missing (null) value only satisfies {@code !=}.
+     *
+     * @param condition the condition
+     * @return predicate accepting the entities that satisfy it
+     * @throws IllegalArgumentException if the operator or value does not fit the field
+     */
+    Predicate<T> compile(Condition condition) {
+        Condition.Operator op = condition.getOperator();
+        if (op == Condition.Operator.CONTAINS) {
+            if (type != Type.TEXT) throw new IllegalArgumentException("'~' only applies to text fields, not '" + name + "'.");
+            String needle = condition.getValue().toLowerCase(Locale.ROOT);
+            return e -> {
+                Object v = getter.apply(e);
+                return v != null && v.toString().toLowerCase(Locale.ROOT).contains(needle);
+            };
+        }
+        if (type == Type.BOOLEAN && op != Condition.Operator.EQ && op != Condition.Operator.NE) {
+            throw new IllegalArgumentException("'" + name + "' only supports = and !=.");
+        }
+        Object value = parse(condition.getValue());
+        return e -> {
+            Object v = getter.apply(e);
+            if (v == null) return op == Condition.Operator.NE;
+            int c = compare(v, value);
+            switch (op) {
+                case EQ: return c == 0;
+                case NE: return c != 0;
+                case LT: return c < 0;
+                case LE: return c <= 0;
+                case GT: return c > 0;
+                default: return c >= 0;
+            }
+        };
+    }
+
+    /**
+     * Gets the sort order of this field, with missing values last.
+     * @return comparator of entities by this field
+     */
+    Comparator<T> comparator() {
+        return (a, b) -> {
+            Object x = getter.apply(a), y = getter.apply(b);
+            if (x == null || y == null) return x == null ? (y == null ? 0 : 1) : -1;
+            return compare(x, y);
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compare(Object a, Object b) {
+        if (type == Type.TEXT) return a.toString().compareToIgnoreCase(b.toString());
+        return ((Comparable) a).compareTo(b);
+    }
+}
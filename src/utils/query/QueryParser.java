@@ -0,0 +1,163 @@
+package utils.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the staff query language.
+ *
+ * <pre>
+ * [EXPLAIN] [INTERNSHIPS | APPLICATIONS] [WHERE] field op value [AND field op value ...]
+ *           [ORDER BY field [ASC | DESC]] [LIMIT n]
+ * </pre>
+ *
+ * Operators are {@code = != < <= > >= ~} ({@code ~} is a case-insensitive substring match).
+ * Values containing spaces or operator characters are quoted with {@code '} or {@code "}.
+ * Keywords are case-insensitive and the entity defaults to internships, so
+ * {@code status=PENDING and company='Acme Pte' and closes<2026-12-01 order by closes} is a complete query.
+ * Field names are checked when the query is planned, since they depend on the entity.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class QueryParser {
+    /** Characters that start an operator */
+    private static final String OPERATOR_CHARS = "=!<>~";
+
+    private final List<String> tokens;
+    /** Whether each token was quoted, so quoted keywords stay values */
+    private final List<Boolean> quoted;
+    private int position;
+
+    private QueryParser(String text) {
+        this.tokens = new ArrayList<>();
+        this.quoted = new ArrayList<>();
+        tokenize(text);
+    }
+
+    /**
+     * Parses a query.
+     * @param text the query text
+     * @return the parsed query
+     * @throws IllegalArgumentException if the text is not a valid query
+     */
+    public static Query parse(String text) {
+        if (text == null || text.trim().isEmpty()) throw new IllegalArgumentException("Query is empty.");
+        return new QueryParser(text).query();
+    }
+
+    private Query query() {
+        boolean explain = acceptKeyword("explain");
+        Query.Entity entity = Query.Entity.INTERNSHIPS;
+        if (acceptKeyword("internships") || acceptKeyword("internship")) {
+            entity = Query.Entity.INTERNSHIPS;
+        } else if (acceptKeyword("applications") || acceptKeyword("application")) {
+            entity = Query.Entity.APPLICATIONS;
+        }
+        acceptKeyword("where");
+
+        List<Condition> conditions = new ArrayList<>();
+        if (!atEnd() && !isKeyword("order") && !isKeyword("limit")) {
+            do {
+                conditions.add(condition());
+            } while (acceptKeyword("and"));
+        }
+
+        String orderBy = null;
+        boolean descending = false;
+        if (acceptKeyword("order")) {
+            expectKeyword("by");
+            orderBy = word("field name after ORDER BY");
+            if (!acceptKeyword("asc")) descending = acceptKeyword("desc");
+        }
+
+        int limit = -1;
+        if (acceptKeyword("limit")) {
+            String value = word("row count after LIMIT");
+            try {
+                limit = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                limit = 0;
+            }
+            if (limit <= 0) throw new IllegalArgumentException("LIMIT must be a positive whole number.");
+        }
+
+        if (!atEnd()) {
+            throw new IllegalArgumentException("Expected AND, ORDER BY or LIMIT near '" + tokens.get(position) + "'.");
+        }
+        return new Query(entity, conditions, orderBy, descending, limit, explain);
+    }
+
+    private Condition condition() {
+        String field = word("field name");
+        if (atEnd() || quoted.get(position) || OPERATOR_CHARS.indexOf(tokens.get(position).charAt(0)) < 0) {
+            throw new IllegalArgumentException("Expected an operator after '" + field + "'.");
+        }
+        Condition.Operator operator = Condition.Operator.fromSymbol(tokens.get(position++));
+        if (atEnd()) throw new IllegalArgumentException("Expected a value after '" + field + " " + operator.getSymbol() + "'.");
+        return new Condition(field, operator, tokens.get(position++));
+    }
+
+    private String word(String expected) {
+        if (atEnd() || (!quoted.get(position) && OPERATOR_CHARS.indexOf(tokens.get(position).charAt(0)) >= 0)) {
+            throw new IllegalArgumentException("Expected " + expected + ".");
+        }
+        return tokens.get(position++);
+    }
+
+    private boolean isKeyword(String keyword) {
+        return !atEnd() && !quoted.get(position) && tokens.get(position).equalsIgnoreCase(keyword);
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        if (!isKeyword(keyword)) return false;
+        position++;
+        return true;
+    }
+
+    private void expectKeyword(String keyword) {
+        if (!acceptKeyword(keyword)) throw new IllegalArgumentException("Expected '" + keyword.toUpperCase() + "'.");
+    }
+
+    private boolean atEnd() {
+        return position >= tokens.size();
+    }
+
+    /**
+     * Splits the text into words, quoted strings and operators.
+     */
+    private void tokenize(String text) {
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '\'' || c == '"') {
+                int end = text.indexOf(c, i + 1);
+                if (end < 0) throw new IllegalArgumentException("Unterminated quoted value starting at position " + (i + 1) + ".");
+                add(text.substring(i + 1, end), true);
+                i = end + 1;
+            } else if (OPERATOR_CHARS.indexOf(c) >= 0) {
+                int end = i + 1;
+                if (end < text.length() && text.charAt(end) == '=' && c != '=' && c != '~') end++;
+                add(text.substring(i, end), false);
+                i = end;
+            } else {
+                int end = i;
+                while (end < text.length() && !Character.isWhitespace(text.charAt(end))
+                        && OPERATOR_CHARS.indexOf(text.charAt(end)) < 0
+                        && text.charAt(end) != '\'' && text.charAt(end) != '"') {
+                    end++;
+                }
+                add(text.substring(i, end), false);
+                i = end;
+            }
+        }
+    }
+
+    private void add(String token, boolean isQuoted) {
+        tokens.add(token);
+        quoted.add(isQuoted);
+    }
+}
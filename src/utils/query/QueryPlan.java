@@ -0,0 +1,80 @@
+package utils.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Plan chosen for a {@link Query}: the access path that produces candidate rows, the conditions
+ * still checked on each candidate, and the ordering and limit applied afterwards.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class QueryPlan {
+    private final String access;
+    private final long estimatedRows;
+    private final List<String> alternatives;
+    private final List<Condition> filter;
+    private final String order;
+    private final int limit;
+
+    /**
+     * Creates a plan description.
+     * @param access description of the chosen access path
+     * @param estimatedRows rows the access path was expected to produce
+     * @param alternatives other access paths considered, with their estimates
+     * @param filter conditions checked on every candidate
+     * @param order ordering description, or null for access path order
+     * @param limit row limit, or -1 for none
+     */
+    QueryPlan(String access, long estimatedRows, List<String> alternatives, List<Condition> filter,
+              String order, int limit) {
+        this.access = access;
+        this.estimatedRows = estimatedRows;
+        this.alternatives = Collections.unmodifiableList(alternatives);
+        this.filter = Collections.unmodifiableList(filter);
+        this.order = order;
+        this.limit = limit;
+    }
+
+    /**
+     * Gets the chosen access path.
+     * @return description such as {@code bitmap index (status = PENDING)}
+     */
+    public String getAccess() { return access; }
+
+    /**
+     * Gets the number of rows the chosen access path was expected to produce.
+     * @return the estimate
+     */
+    public long getEstimatedRows() { return estimatedRows; }
+
+    /**
+     * Gets the conditions checked on every candidate row.
+     * @return the residual conditions
+     */
+    public List<Condition> getFilter() { return filter; }
+
+    /**
+     * Describes the plan, one step per line.
+     * @return the plan lines
+     */
+    public List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        lines.add("Access:     " + access + " (est. " + estimatedRows + " rows)");
+        StringBuilder conditions = new StringBuilder();
+        for (Condition condition : filter) {
+            if (conditions.length() > 0) conditions.append(" AND ");
+            conditions.append(condition);
+        }
+        lines.add("Filter:     " + (filter.isEmpty() ? "none" : conditions));
+        lines.add("Order:      " + (order == null ? "access path order" : order));
+        lines.add("Limit:      " + (limit < 0 ? "none" : String.valueOf(limit)));
+        for (int i = 0; i < alternatives.size(); i++) {
+            lines.add((i == 0 ? "Considered: " : "            ") + alternatives.get(i));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,69 @@
+package utils.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Rows returned by a {@link Query}, with the plan that produced them and execution statistics.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class QueryResult {
+    private final List<?> rows;
+    private final QueryPlan plan;
+    private final int rowsExamined;
+    private final long elapsedNanos;
+
+    QueryResult(List<?> rows, QueryPlan plan, int rowsExamined, long elapsedNanos) {
+        this.rows = Collections.unmodifiableList(rows);
+        this.plan = plan;
+        this.rowsExamined = rowsExamined;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the matching rows, ordered and limited as the query asked.
+     * @return Internship or Application objects
+     */
+    public List<?> getRows() { return rows; }
+
+    /**
+     * Gets the plan the query ran with.
+     * @return the plan
+     */
+    public QueryPlan getPlan() { return plan; }
+
+    /**
+     * Gets the number of candidate rows the filter examined.
+     * @return rows examined
+     */
+    public int getRowsExamined() { return rowsExamined; }
+
+    /**
+     * Gets the time taken to plan and run the query.
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    /**
+     * Summarizes the execution statistics on one line.
+     * @return e.g. {@code Rows examined: 12, returned: 3, time: 0.214 ms}
+     */
+    public String summary() {
+        return String.format("Rows examined: %d, returned: %d, time: %.3f ms",
+                rowsExamined, rows.size(), elapsedNanos / 1_000_000.0);
+    }
+
+    /**
+     * Describes the plan followed by the execution statistics, as shown for EXPLAIN.
+     * @return the plan lines and summary
+     */
+    public List<String> explain() {
+        List<String> lines = new ArrayList<>(plan.describe());
+        lines.add(summary());
+        return lines;
+    }
+}
@@ -0,0 +1,18 @@
+/**
+ * Ad-hoc query language for staff over internships and applications.
+ *
+ * <ul>
+ *   <li>{@link utils.query.QueryParser} - Parses query text into a {@link utils.query.Query}</li>
+ *   <li>{@link utils.query.QueryEngine} - Compiles conditions to predicates, picks the most selective
+ *       access path (ID lookup, bitmap index, date index or scan) and runs the query</li>
+ *   <li>{@link utils.query.QueryPlan} / {@link utils.query.QueryResult} - Chosen plan, rows examined
+ *       and time, as printed for EXPLAIN</li>
+ * </ul>
+ *
+ * <p>Example: {@code EXPLAIN status=PENDING and company='Acme Pte' and closes<2026-12-01 order by closes}
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+package utils.query;
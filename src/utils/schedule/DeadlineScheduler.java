@@ -0,0 +1,289 @@
+package utils.schedule;
+
+import utils.metrics.MetricsRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs keyed tasks when their deadline passes, on a single scheduler thread.
+ *
+ * <p>Tasks are kept in a priority queue ordered by due time. Scheduling a key that already has a
+ * task replaces it (and is a no-op when the due time is unchanged), so callers can simply
+ * re-register every deadline after a CSV reload. Replaced and cancelled tasks are dropped lazily
+ * when they reach the head of the queue.
+ *
+ * <p>Time comes from a {@link Clock}, so tests can use a {@link SimulatedClock} and call
+ * {@link #runDue()} instead of starting the thread. Due tasks run one at a time, whether from the
+ * thread or from {@link #runDue()}; a task that throws is counted and skipped.
+ *
+ * <p>The scheduler also serves the current business date through {@link #today()}, cached until
+ * the next midnight of the clock's zone instead of being derived from the system clock on every
+ * call.
+ *
+ * <p>Metrics: {@code DeadlineScheduler.pending} (gauge), {@code .fired}, {@code .failures} (counters).
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class DeadlineScheduler implements AutoCloseable {
+    /** Registry receiving scheduler metrics */
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    /** Longest the thread sleeps before re-reading the clock, so clock changes are noticed */
+    private static final long MAX_WAIT_MILLIS = 1000;
+
+    /** Singleton instance on the system clock */
+    private static final DeadlineScheduler INSTANCE = new DeadlineScheduler(Clock.systemDefaultZone());
+
+    static {
+        metrics.registerGauge("DeadlineScheduler.pending", INSTANCE::size);
+    }
+
+    /**
+     * Scheduled task.
+     */
+    private static final class Task {
+        final String key;
+        final Instant due;
+        final long sequence;
+        final Runnable action;
+        boolean cancelled;
+
+        Task(String key, Instant due, long sequence, Runnable action) {
+            this.key = key;
+            this.due = due;
+            this.sequence = sequence;
+            this.action = action;
+        }
+    }
+
+    /**
+     * Business date with the clock readings it is valid for.
+     */
+    private static final class Day {
+        final LocalDate date;
+        final long startMillis;
+        final long endMillis;
+
+        Day(Clock clock) {
+            ZoneId zone = clock.getZone();
+            this.date = LocalDate.now(clock);
+            this.startMillis = date.atStartOfDay(zone).toInstant().toEpochMilli();
+            this.endMillis = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+    }
+
+    /** Tasks by due time, then scheduling order; may contain cancelled tasks */
+    private final PriorityQueue<Task> queue = new PriorityQueue<>(
+            Comparator.comparing((Task t) -> t.due).thenComparingLong(t -> t.sequence));
+    /** Live task of each key */
+    private final Map<String, Task> tasks = new HashMap<>();
+    /** Held while due tasks run, so they never run concurrently */
+    private final ReentrantLock runLock = new ReentrantLock();
+    private long sequence;
+    private volatile Clock clock;
+    private volatile Day day;
+    private Thread thread;
+    private volatile boolean closed;
+
+    /**
+     * Creates a scheduler. Call {@link #start()} to run tasks in the background.
+     * @param clock source of the current time
+     */
+    public DeadlineScheduler(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Get singleton instance.
+     * @return the scheduler used by the application
+     */
+    public static DeadlineScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the clock.
+     * @return the current time source
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Replaces the clock, e.g. with a {@link SimulatedClock} in tests.
+     * @param clock the new time source
+     */
+    public synchronized void setClock(Clock clock) {
+        this.clock = clock;
+        this.day = null;
+        notifyAll();
+    }
+
+    /**
+     * Gets the current date in the clock's zone.
+     * @return today's date
+     */
+    public LocalDate today() {
+        Clock c = clock;
+        Day d = day;
+        long now = c.millis();
+        if (d == null || now < d.startMillis || now >= d.endMillis) {
+            d = new Day(c);
+            day = d;
+        }
+        return d.date;
+    }
+
+    /**
+     * Gets the first instant of a date in the clock's zone.
+     * @param date the date
+     * @return midnight at the start of the date
+     */
+    public Instant startOf(LocalDate date) {
+        return date.atStartOfDay(clock.getZone()).toInstant();
+    }
+
+    /**
+     * Schedules a task, replacing any task with the same key.
+     * @param key identifies the deadline
+     * @param due when to run the task
+     * @param action the task
+     * @return false if the key was already scheduled at the same time (nothing changed)
+     */
+    public synchronized boolean schedule(String key, Instant due, Runnable action) {
+        Task existing = tasks.get(key);
+        if (existing != null && existing.due.equals(due)) return false;
+        if (existing != null) existing.cancelled = true;
+        Task task = new Task(key, due, sequence++, action);
+        tasks.put(key, task);
+        queue.add(task);
+        if (queue.size() > 2 * tasks.size() + 64) queue.removeIf(t -> t.cancelled);
+        if (queue.peek() == task) notifyAll();
+        return true;
+    }
+
+    /**
+     * Cancels a task.
+     * @param key identifies the deadline
+     * @return true if a task was pending
+     */
+    public synchronized boolean cancel(String key) {
+        Task task = tasks.remove(key);
+        if (task == null) return false;
+        task.cancelled = true;
+        return true;
+    }
+
+    /**
+     * Gets the number of pending tasks.
+     * @return tasks scheduled and not yet run or cancelled
+     */
+    public synchronized int size() {
+        return tasks.size();
+    }
+
+    /**
+     * Runs every task whose deadline has passed, in due order, on the calling thread.
+     * @return the number of tasks run
+     */
+    public int runDue() {
+        runLock.lock();
+        try {
+            int run = 0;
+            for (Task task = pollDue(); task != null; task = pollDue()) {
+                try {
+                    task.action.run();
+                } catch (RuntimeException e) {
+                    metrics.counter("DeadlineScheduler.failures").increment();
+                }
+                metrics.counter("DeadlineScheduler.fired").increment();
+                run++;
+            }
+            return run;
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * Starts the scheduler thread, unless it is already running.
+     */
+    public synchronized void start() {
+        if (thread != null) return;
+        closed = false;
+        thread = new Thread(this::loop, "deadline-scheduler");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the scheduler thread. Pending tasks are kept.
+     */
+    @Override
+    public void close() {
+        Thread running;
+        synchronized (this) {
+            closed = true;
+            running = thread;
+            thread = null;
+            notifyAll();
+        }
+        if (running == null) return;
+        try {
+            running.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Removes and returns the earliest due task, or null if none is due.
+     */
+    private synchronized Task pollDue() {
+        Task head = liveHead();
+        if (head == null || head.due.isAfter(clock.instant())) return null;
+        queue.poll();
+        tasks.remove(head.key);
+        return head;
+    }
+
+    /**
+     * Drops cancelled tasks from the head of the queue. Caller must hold the monitor.
+     */
+    private Task liveHead() {
+        while (!queue.isEmpty() && queue.peek().cancelled) queue.poll();
+        return queue.peek();
+    }
+
+    /**
+     * Scheduler thread: runs due tasks, then sleeps until the next deadline.
+     */
+    private void loop() {
+        while (!closed) {
+            runDue();
+            synchronized (this) {
+                if (closed) return;
+                Task head = liveHead();
+                long wait = MAX_WAIT_MILLIS;
+                if (head != null) {
+                    wait = Math.max(1, Math.min(wait, Duration.between(clock.instant(), head.due).toMillis()));
+                }
+                try {
+                    wait(wait);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package utils.schedule;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * Clock that only moves when told to, for testing time-driven behaviour such as
+ * internship open/close deadlines without waiting for real days to pass.
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+public final class SimulatedClock extends Clock {
+    private final ZoneId zone;
+    private volatile Instant now;
+
+    /**
+     * Creates a clock stopped at an instant.
+     * @param start the initial time
+     * @param zone the time zone
+     */
+    public SimulatedClock(Instant start, ZoneId zone) {
+        this.now = start;
+        this.zone = zone;
+    }
+
+    /**
+     * Moves the clock forward.
+     * @param amount how far to move; must not be negative
+     * @throws IllegalArgumentException if the amount is negative
+     */
+    public synchronized void advance(Duration amount) {
+        if (amount.isNegative()) throw new IllegalArgumentException("Cannot move the clock backwards.");
+        now = now.plus(amount);
+    }
+
+    /**
+     * Sets the clock to an instant.
+     * @param instant the new time
+     */
+    public void set(Instant instant) {
+        now = instant;
+    }
+
+    @Override
+    public ZoneId getZone() { return zone; }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new SimulatedClock(now, zone);
+    }
+
+    @Override
+    public Instant instant() { return now; }
+}
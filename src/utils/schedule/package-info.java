@@ -0,0 +1,14 @@
+/**
+ * Time-driven work: deadline scheduling and a replaceable clock.
+ *
+ * <ul>
+ *   <li>{@link utils.schedule.DeadlineScheduler} - Priority-queue scheduler of keyed deadlines on a single thread,
+ *       and the cached business date</li>
+ *   <li>{@link utils.schedule.SimulatedClock} - Manually advanced clock for tests</li>
+ * </ul>
+ *
+ * @author NTU SC2002 Group
+ * @version 1.0
+ * @since 2025-11-16
+ */
+package utils.schedule;
@@ -41,6 +41,7 @@ public abstract class BaseView {
         Map<Integer, MenuOption> options = initializeMenuOptions();
         do {
             try {
+                showNotifications();
                 MenuOption selected = showMenuDialog(options);
                 if (selected != null && selected.getOnSelCallback() != null) {
                     selected.getOnSelCallback().run();
@@ -53,6 +54,13 @@ public abstract class BaseView {
         } while (loginStatusChecker.get());
     }
     
+    /**
+     * Shows updates that arrived since the menu was last displayed.
+     * Does nothing by default; overridden by views whose users receive notifications.
+     */
+    protected void showNotifications() {
+    }
+    
     /**
      * Displays the initial view of internships for the user.
      */
@@ -601,7 +609,42 @@ public abstract class BaseView {
                                          Supplier<List<?>> getAllInternships) {
         handleFilterMenu(filterSettings, getAllInternships.get(), getAllInternships, getFilterOptionsProvider().getStatusFilterOptions());
     }
-    
+
+    /**
+     * Lists the user's saved filters and lets them open, save or delete one.
+     * Saving stores the current filter settings under a name.
+     *
+     * @param provider Controller managing the user's saved filters
+     * @param detailGetter Function to get internship details
+     * @param showStatus Whether to show status column
+     */
+    protected void handleSavedFilters(SavedFilterProvider provider,
+                                      Function<Integer, String> detailGetter, boolean showStatus) {
+        while (true) {
+            List<String> names = provider.getSavedFilterNames();
+            displayList("SAVED FILTERS", names.isEmpty() ? names
+                    : java.util.stream.IntStream.range(0, names.size())
+                        .mapToObj(i -> String.format("  [%d] %s", i + 1, names.get(i)))
+                        .collect(java.util.stream.Collectors.toList()),
+                "No saved filters.");
+            String input = promptString("\n  Number to open, S to save current filters, D to delete, blank to go back: ");
+            if (input.isEmpty()) return;
+            if (input.equalsIgnoreCase("S")) {
+                String name = promptString("  Filter name: ");
+                handleAction(() -> provider.saveFilter(name), "Filter saved.");
+            } else if (input.equalsIgnoreCase("D")) {
+                int idx = parseInt(promptString("  Number to delete: "), 0) - 1;
+                if (idx >= 0 && idx < names.size()) handleAction(() -> provider.deleteSavedFilter(names.get(idx)), "Filter deleted.");
+            } else {
+                int idx = parseInt(input, 0) - 1;
+                if (idx < 0 || idx >= names.size()) continue;
+                handleAction(() -> displayPaginatedInternshipTable(names.get(idx).toUpperCase(),
+                    provider.openSavedFilter(names.get(idx)), "No internships match this filter.",
+                    detailGetter, null, null, null, showStatus));
+            }
+        }
+    }
+
     /**
      * Handles editing the user's profile.
      * Displays current profile and prompts for field edits.
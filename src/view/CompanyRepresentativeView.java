@@ -153,6 +153,8 @@ public class CompanyRepresentativeView extends BaseView {
         options.put(7, new MenuOption("toggle internship visibility", this::handleToggleVisibility));
         options.put(8, new MenuOption("view applications for an internship", this::handleViewApplications));
         options.put(9, new MenuOption("confirm student placement", this::handleConfirmPlacement));
+        options.put(10, new MenuOption("saved filters", () -> handleSavedFilters(controller, controller::getInternshipDetails, true)));
+        options.put(11, new MenuOption("import internships from a file", this::handleImportInternships));
         options.put(0, new MenuOption("log out", controller::logout));
         return options;
     }
@@ -211,6 +213,18 @@ public class CompanyRepresentativeView extends BaseView {
     
 
 
+    /**
+     * Creates internships from a CSV file of postings and shows which were imported or rejected.
+     */
+    private void handleImportInternships() {
+        displayCenteredHeader("IMPORT INTERNSHIPS");
+        System.out.println("  One posting per line: Title,Description,Level,Major,OpenDate,CloseDate,Slots");
+        String path = promptString("  File to import (blank to cancel): ");
+        if (path.isEmpty()) return;
+        handleAction(() -> controller.importInternships(path).forEach(line -> System.out.println("  " + line)));
+        waitForEnter();
+    }
+
     /**
      * Handles the creation of a new internship listing.
      * Prompts for all required fields including title, description, level, major,
@@ -1,5 +1,6 @@
 package view;
 
+import controller.interfaces.BatchResult;
 import controller.StaffController;
 import java.util.HashMap;
 import java.util.Map;
@@ -70,6 +71,13 @@ public class StaffView extends BaseView {
         options.put(5, new MenuOption("approve/reject student withdrawal", this::handleApproveRejectWithdrawal));
         options.put(6, new MenuOption("approve/reject internship listing", this::handleApproveRejectInternship));
         options.put(7, new MenuOption("list internship opportunities", this::handleListInternshipOpportunities));
+        options.put(8, new MenuOption("view system metrics", this::handleViewMetrics));
+        options.put(9, new MenuOption("run query", this::handleRunQuery));
+        options.put(10, new MenuOption("saved filters", () -> handleSavedFilters(controller, controller::getInternshipDetails, true)));
+        options.put(11, new MenuOption("placement report", this::handlePlacementReport));
+        options.put(12, new MenuOption("generate end-of-cycle company reports", this::handleCompanyReports));
+        options.put(13, new MenuOption("batch approvals", this::handleBatchApprovals));
+        options.put(14, new MenuOption("propose stable allocation", this::handleAllocation));
         options.put(0, new MenuOption("log out", controller::logout));
         return options;
     }
@@ -166,6 +174,31 @@ public class StaffView extends BaseView {
     }
 
 
+
+    /**
+     * Approves or rejects a selection of internships, company representatives or withdrawal
+     * requests in one batch and shows the outcome for each.
+     */
+    private void handleBatchApprovals() {
+        String[] kinds = {"Internship listings", "Company representatives", "Withdrawal requests"};
+        displayCenteredHeader("BATCH APPROVALS");
+        for (int i = 0; i < kinds.length; i++) System.out.printf("  [%d] %s%n", i + 1, kinds[i]);
+        int kind = parseInt(promptString("\n  Item type (blank to go back): "), 0);
+        if (kind < 1 || kind > kinds.length) return;
+        String action = promptString("  (A)pprove or (R)eject: ").toUpperCase();
+        if (!action.equals("A") && !action.equals("R")) return;
+        boolean approve = action.equals("A");
+        System.out.println("  Select comma-separated IDs, ALL for every pending item, or company=<name>.");
+        String selection = promptString("  Selection: ");
+        if (selection.isEmpty()) return;
+        handleAction(() -> {
+            BatchResult result = kind == 1 ? controller.updateInternshipApprovals(selection, approve)
+                    : kind == 2 ? controller.approveRejectCompanyReps(selection, approve)
+                    : controller.approveRejectWithdrawals(selection, approve);
+            result.format().forEach(line -> System.out.println("  " + line));
+        });
+        waitForEnter();
+    }
     
     /**
      * Displays paginated list of all internship opportunities.
@@ -178,6 +211,87 @@ public class StaffView extends BaseView {
             controller.getFilterSettings(), null, null, true);
     }
     
+    /**
+     * Displays operation latency percentiles, counters and gauges.
+     */
+    private void handleViewMetrics() {
+        displayCenteredHeader("SYSTEM METRICS");
+        System.out.println(controller.getMetricsReport());
+        waitForEnter();
+    }
+    
+    /**
+     * Shows placement figures grouped by company, major, level or internship, and optionally exports them.
+     */
+    private void handlePlacementReport() {
+        String[] groupings = {"COMPANY", "MAJOR", "LEVEL", "INTERNSHIP"};
+        while (true) {
+            displayCenteredHeader("PLACEMENT REPORT");
+            for (int i = 0; i < groupings.length; i++) System.out.printf("  [%d] By %s%n", i + 1, groupings[i].toLowerCase());
+            String input = promptString("\n  Grouping number, E to export all as CSV, blank to go back: ");
+            if (input.isEmpty()) return;
+            if (input.equalsIgnoreCase("E")) {
+                String path = promptString("  Export file (default placement_report.csv): ");
+                handleActionWithMessage(() -> controller.exportPlacementReport(path.isEmpty() ? "placement_report.csv" : path));
+                continue;
+            }
+            int idx = parseInt(input, 0) - 1;
+            if (idx < 0 || idx >= groupings.length) continue;
+            handleAction(() -> System.out.print(controller.getPlacementReport(groupings[idx])));
+            waitForEnter();
+        }
+    }
+
+    /**
+     * Writes one end-of-cycle report per company to a directory, showing progress as they complete.
+     */
+    private void handleCompanyReports() {
+        displayCenteredHeader("END-OF-CYCLE COMPANY REPORTS");
+        String input = promptString("  Output directory (default reports): ");
+        String directory = input.isEmpty() ? "reports" : input;
+        handleActionWithMessage(() -> {
+            String summary = controller.generateCompanyReports(directory, (done, total) -> {
+                if (done % Math.max(1, total / 20) == 0 || done.equals(total)) {
+                    synchronized (System.out) {
+                        System.out.printf("\r  %d/%d reports", done, total);
+                    }
+                }
+            });
+            return "\n  " + summary;
+        });
+    }
+
+    /**
+     * Computes a stable allocation from optional preference and ranking files and prints its
+     * metrics; the proposed transitions are written to a file for review.
+     */
+    private void handleAllocation() {
+        displayCenteredHeader("PROPOSE STABLE ALLOCATION");
+        System.out.println("  Leave a file blank to order by application date instead.");
+        String preferences = promptString("  Student preferences CSV (StudentID,InternshipID,Rank): ");
+        String rankings = promptString("  Rep rankings CSV (InternshipID,StudentID,Rank): ");
+        String input = promptString("  Output file (default allocation_proposals.csv): ");
+        String output = input.isEmpty() ? "allocation_proposals.csv" : input;
+        handleAction(() -> controller.runAllocation(preferences, rankings, output)
+                .forEach(line -> System.out.println("  " + line)));
+    }
+
+    /**
+     * Prompts for ad-hoc queries and prints their results until a blank line is entered.
+     * Prefixing a query with EXPLAIN prints the chosen plan, rows examined and time instead of the rows.
+     */
+    private void handleRunQuery() {
+        displayCenteredHeader("RUN QUERY");
+        System.out.println("  Example: status=PENDING and company='Acme Pte' and closes<2026-12-01 order by closes");
+        System.out.println("  Start with APPLICATIONS to query applications, or EXPLAIN to see the plan.");
+        controller.getQueryFields().forEach(line -> System.out.println("  " + line));
+        while (true) {
+            String text = promptString("\n  Query (blank to go back): ");
+            if (text.isEmpty()) return;
+            handleAction(() -> controller.runQuery(text).forEach(line -> System.out.println("  " + line)));
+        }
+    }
+
     /**
      * Gets the filter options provider from the controller.
      * @return The controller as FilterOptionsProvider
@@ -41,6 +41,20 @@ public class StudentView extends BaseView {
             controller::getInternshipDetails, this::handleApplyToInternship, "apply");
     }
     
+    /**
+     * Shows application status changes pushed since the menu was last displayed,
+     * so the student does not have to reopen the applications view to notice them.
+     */
+    @Override
+    protected void showNotifications() {
+        java.util.List<String> notifications = controller.takeNotifications();
+        if (notifications.isEmpty()) return;
+        System.out.println("\n🔔 " + notifications.size() + " update" + (notifications.size() == 1 ? "" : "s") + ":");
+        for (String message : notifications) {
+            System.out.println("  • " + message);
+        }
+    }
+    
     /**
      * Handles the application to a specific internship.
      * Creates an application through the controller and displays success/error messages.